@@ -0,0 +1,68 @@
+package com.coopcredit.credit.benchmark;
+
+import com.coopcredit.credit.domain.amortizacion.CalculadoraCuota;
+import com.coopcredit.credit.domain.model.SolicitudCredito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cuota mensual: cálculo rápido de {@link CalculadoraCuota} frente al cálculo de
+ * referencia en BigDecimal, con la distribución de solicitudes de producción y con
+ * plazos largos, donde (1 + i)^n en BigDecimal es más costoso.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalculadoraCuotaBenchmark {
+
+    /**
+     * 0 usa el plazo de cada solicitud; otro valor fija el plazo de todas.
+     */
+    @Param({"0", "360"})
+    private int plazoFijo;
+
+    private SolicitudCredito[] solicitudes;
+    private int indice;
+
+    @Setup
+    public void setUp() {
+        solicitudes = DistribucionSolicitudes.generar();
+    }
+
+    private SolicitudCredito siguiente() {
+        SolicitudCredito solicitud = solicitudes[indice];
+        indice = (indice + 1) & (DistribucionSolicitudes.TAMANO - 1);
+        return solicitud;
+    }
+
+    private int plazo(SolicitudCredito solicitud) {
+        return plazoFijo == 0 ? solicitud.getPlazoMeses() : plazoFijo;
+    }
+
+    @Benchmark
+    public BigDecimal cuotaMensual() {
+        SolicitudCredito solicitud = siguiente();
+        return CalculadoraCuota.cuotaMensual(solicitud.getMonto(), solicitud.getTasaPropuesta(), plazo(solicitud));
+    }
+
+    @Benchmark
+    public BigDecimal cuotaMensualExacta() {
+        SolicitudCredito solicitud = siguiente();
+        return CalculadoraCuota.cuotaMensualExacta(solicitud.getMonto(), solicitud.getTasaPropuesta(), plazo(solicitud));
+    }
+}
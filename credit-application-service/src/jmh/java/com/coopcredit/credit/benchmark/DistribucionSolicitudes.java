@@ -0,0 +1,91 @@
+package com.coopcredit.credit.benchmark;
+
+import com.coopcredit.credit.domain.model.Afiliado;
+import com.coopcredit.credit.domain.model.EstadoAfiliado;
+import com.coopcredit.credit.domain.model.EstadoSolicitud;
+import com.coopcredit.credit.domain.model.SolicitudCredito;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Random;
+
+/**
+ * Genera solicitudes con distribuciones similares a las de producción, con semilla
+ * fija para que las corridas sean comparables entre sí:
+ * <ul>
+ *   <li>Salario: log-normal con mediana de $3.500.000, entre 1 y 30 millones.</li>
+ *   <li>Monto: entre 0,5 y 7 salarios (una parte excede el máximo de 5), en múltiplos de $100.000.</li>
+ *   <li>Plazo: 6 a 72 meses, concentrado en 12, 24 y 36.</li>
+ *   <li>Tasa anual: normal con media 16% y desviación 4%, entre 0% y 32% (1% de tasas en cero).</li>
+ * </ul>
+ */
+final class DistribucionSolicitudes {
+
+    static final int TAMANO = 1024;
+
+    private static final int[] PLAZOS = {6, 12, 18, 24, 36, 48, 60, 72};
+    private static final int[] PESOS_PLAZO = {5, 20, 10, 25, 20, 10, 7, 3};
+    private static final long SEMILLA = 20240601L;
+
+    private DistribucionSolicitudes() {
+    }
+
+    static SolicitudCredito[] generar() {
+        Random random = new Random(SEMILLA);
+        SolicitudCredito[] solicitudes = new SolicitudCredito[TAMANO];
+        for (int i = 0; i < TAMANO; i++) {
+            BigDecimal salario = salario(random);
+            Afiliado afiliado = new Afiliado((long) i + 1, String.valueOf(100_000_000L + i), "Afiliado " + i,
+                    salario, LocalDate.now().minusMonths(6 + random.nextInt(120)), EstadoAfiliado.ACTIVO);
+
+            SolicitudCredito solicitud = new SolicitudCredito();
+            solicitud.setId((long) i + 1);
+            solicitud.setAfiliado(afiliado);
+            solicitud.setMonto(monto(random, salario));
+            solicitud.setPlazoMeses(plazo(random));
+            solicitud.setTasaPropuesta(tasa(random));
+            solicitud.setFechaSolicitud(LocalDateTime.now().minusDays(random.nextInt(365)));
+            solicitud.setEstado(EstadoSolicitud.PENDIENTE);
+            solicitud.setVersion(0L);
+            solicitudes[i] = solicitud;
+        }
+        return solicitudes;
+    }
+
+    private static BigDecimal salario(Random random) {
+        double valor = 3_500_000 * Math.exp(0.6 * random.nextGaussian());
+        return BigDecimal.valueOf(Math.min(30_000_000, Math.max(1_000_000, valor)))
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal monto(Random random, BigDecimal salario) {
+        double multiplo = 0.5 + 6.5 * random.nextDouble();
+        long monto = Math.round(salario.doubleValue() * multiplo / 100_000) * 100_000;
+        return BigDecimal.valueOf(Math.max(100_000, monto)).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static int plazo(Random random) {
+        int total = 0;
+        for (int peso : PESOS_PLAZO) {
+            total += peso;
+        }
+        int valor = random.nextInt(total);
+        for (int i = 0; i < PLAZOS.length; i++) {
+            valor -= PESOS_PLAZO[i];
+            if (valor < 0) {
+                return PLAZOS[i];
+            }
+        }
+        return PLAZOS[PLAZOS.length - 1];
+    }
+
+    private static BigDecimal tasa(Random random) {
+        if (random.nextInt(100) == 0) {
+            return BigDecimal.ZERO.setScale(2);
+        }
+        double tasa = 16 + 4 * random.nextGaussian();
+        return BigDecimal.valueOf(Math.min(32, Math.max(0, tasa))).setScale(2, RoundingMode.HALF_UP);
+    }
+}
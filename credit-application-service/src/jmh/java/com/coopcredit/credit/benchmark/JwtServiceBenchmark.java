@@ -0,0 +1,73 @@
+package com.coopcredit.credit.benchmark;
+
+import com.coopcredit.credit.infrastructure.config.JwtService;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de verificar un JWT por request, con y sin la caché de tokens verificados.
+ * Se rotan 256 tokens distintos, como varios usuarios activos a la vez.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final int TOKENS = 256;
+    private static final String SECRET =
+            "VGVzdFNlY3JldEtleUZvckpXVFRva2VuR2VuZXJhdGlvbkFuZFZhbGlkYXRpb25UZXN0MTIzNDU2Nzg5MA==";
+
+    /**
+     * Entradas de la caché de tokens verificados (0 = sin caché).
+     */
+    @Param({"0", "10000"})
+    public long cacheMaxEntradas;
+
+    private JwtService jwtService;
+    private String[] tokens;
+    private int indice;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", TimeUnit.HOURS.toMillis(24));
+        ReflectionTestUtils.setField(jwtService, "cacheMaxEntradas", cacheMaxEntradas);
+
+        tokens = new String[TOKENS];
+        for (int i = 0; i < TOKENS; i++) {
+            tokens[i] = jwtService.generateToken("usuario" + i, List.of("ROLE_AFILIADO"), (long) i + 1);
+        }
+    }
+
+    @Benchmark
+    public Claims validarToken() {
+        String token = tokens[indice];
+        indice = (indice + 1) & (TOKENS - 1);
+        return jwtService.validarToken(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        int i = indice;
+        indice = (indice + 1) & (TOKENS - 1);
+        return jwtService.generateToken("usuario" + i, List.of("ROLE_AFILIADO"), (long) i + 1);
+    }
+}
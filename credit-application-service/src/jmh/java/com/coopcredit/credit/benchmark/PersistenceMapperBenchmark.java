@@ -0,0 +1,67 @@
+package com.coopcredit.credit.benchmark;
+
+import com.coopcredit.credit.domain.model.EvaluacionRiesgo;
+import com.coopcredit.credit.domain.model.NivelRiesgo;
+import com.coopcredit.credit.domain.model.SolicitudCredito;
+import com.coopcredit.credit.infrastructure.adapter.out.persistence.entity.SolicitudCreditoEntity;
+import com.coopcredit.credit.infrastructure.adapter.out.persistence.mapper.PersistenceMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de las conversiones dominio/entidad de una solicitud con afiliado y evaluación.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersistenceMapperBenchmark {
+
+    private final PersistenceMapper mapper = new PersistenceMapper();
+    private SolicitudCredito[] solicitudes;
+    private SolicitudCreditoEntity[] entidades;
+    private int indice;
+
+    @Setup
+    public void setUp() {
+        solicitudes = DistribucionSolicitudes.generar();
+        entidades = new SolicitudCreditoEntity[solicitudes.length];
+        for (int i = 0; i < solicitudes.length; i++) {
+            // La mitad de las solicitudes ya fue evaluada
+            if (i % 2 == 0) {
+                solicitudes[i].aprobar(new EvaluacionRiesgo((long) i + 1, 720, NivelRiesgo.BAJO,
+                        "Historial crediticio favorable", true, "Cumple todas las políticas",
+                        new BigDecimal("0.2150"), LocalDateTime.now()));
+            }
+            entidades[i] = mapper.toEntity(solicitudes[i]);
+        }
+    }
+
+    @Benchmark
+    public SolicitudCreditoEntity solicitudToEntity() {
+        SolicitudCredito solicitud = solicitudes[indice];
+        indice = (indice + 1) & (DistribucionSolicitudes.TAMANO - 1);
+        return mapper.toEntity(solicitud);
+    }
+
+    @Benchmark
+    public SolicitudCredito solicitudToDomain() {
+        SolicitudCreditoEntity entidad = entidades[indice];
+        indice = (indice + 1) & (DistribucionSolicitudes.TAMANO - 1);
+        return mapper.toDomain(entidad);
+    }
+}
@@ -0,0 +1,112 @@
+package com.coopcredit.credit.benchmark;
+
+import com.coopcredit.credit.application.service.PoliticasCreditoService;
+import com.coopcredit.credit.domain.model.SolicitudCredito;
+import com.coopcredit.credit.domain.policy.CreditPolicyEvaluator;
+import com.coopcredit.credit.domain.policy.PolicyEvaluationResult;
+import com.coopcredit.credit.domain.policy.PolicySnapshot;
+import com.coopcredit.credit.domain.policy.PolicySnapshotHolder;
+import com.coopcredit.credit.domain.policy.impl.MontoMaximoSalarioPolicy;
+import com.coopcredit.credit.domain.policy.impl.RelacionCuotaIngresoPolicy;
+import com.coopcredit.credit.domain.policy.impl.RiesgoExternoPolicy;
+import com.coopcredit.credit.domain.policy.rule.RuleCompiler;
+import com.coopcredit.credit.domain.policy.rule.RuleDefinition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de CPU y asignación de la evaluación de políticas internas por solicitud.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PoliticasCreditoBenchmark {
+
+    private SolicitudCredito[] solicitudes;
+    private PoliticasCreditoService politicasService;
+    private RelacionCuotaIngresoPolicy relacionCuotaIngresoPolicy;
+    private CreditPolicyEvaluator evaluator;
+    private CreditPolicyEvaluator evaluatorConReglas;
+    private int indice;
+
+    @Setup
+    public void setUp() {
+        solicitudes = DistribucionSolicitudes.generar();
+
+        PolicySnapshotHolder politicas = new PolicySnapshotHolder(
+                new PolicySnapshot(0, new BigDecimal("0.40"), 5, 6));
+        politicasService = new PoliticasCreditoService(politicas);
+
+        relacionCuotaIngresoPolicy = new RelacionCuotaIngresoPolicy(politicas);
+        MontoMaximoSalarioPolicy montoMaximoPolicy = new MontoMaximoSalarioPolicy(politicas);
+
+        evaluator = new CreditPolicyEvaluator(List.of(
+                relacionCuotaIngresoPolicy, montoMaximoPolicy, new RiesgoExternoPolicy()));
+
+        evaluatorConReglas = new CreditPolicyEvaluator(List.of(
+                relacionCuotaIngresoPolicy, montoMaximoPolicy, new RiesgoExternoPolicy()));
+        evaluatorConReglas.setRulePolicies(new RuleCompiler().compileAll(reglas(36)));
+    }
+
+    private static List<RuleDefinition> reglas(int cantidad) {
+        List<RuleDefinition> reglas = new ArrayList<>(cantidad);
+        for (int i = 0; i < cantidad; i++) {
+            reglas.add(switch (i % 3) {
+                case 0 -> new RuleDefinition("PlazoMaximo" + i, 100 + i, null,
+                        "plazoMeses <= " + (60 + i), "Plazo excedido");
+                case 1 -> new RuleDefinition("MontoPorAntiguedad" + i, 100 + i, "mesesAntiguedad < 12",
+                        "monto <= salario * " + (3 + i % 4), "Monto excedido para la antigüedad");
+                default -> new RuleDefinition("RelacionCuota" + i, 100 + i, "monto > 10000000",
+                        "relacionCuotaIngreso <= 0.3" + (i % 10) + " or tasaPropuesta < 1.5", "Cuota excedida");
+            });
+        }
+        return reglas;
+    }
+
+    private SolicitudCredito siguiente() {
+        SolicitudCredito solicitud = solicitudes[indice];
+        indice = (indice + 1) & (DistribucionSolicitudes.TAMANO - 1);
+        return solicitud;
+    }
+
+    @Benchmark
+    public BigDecimal calcularCuotaMensual() {
+        SolicitudCredito solicitud = siguiente();
+        return politicasService.calcularCuotaMensual(
+                solicitud.getMonto(), solicitud.getTasaPropuesta(), solicitud.getPlazoMeses());
+    }
+
+    @Benchmark
+    public PolicyEvaluationResult relacionCuotaIngresoEvaluate() {
+        SolicitudCredito solicitud = siguiente();
+        return relacionCuotaIngresoPolicy.evaluate(solicitud, solicitud.getAfiliado());
+    }
+
+    @Benchmark
+    public List<PolicyEvaluationResult> evaluateAll() {
+        SolicitudCredito solicitud = siguiente();
+        return evaluator.evaluateAll(solicitud, solicitud.getAfiliado());
+    }
+
+    @Benchmark
+    public List<PolicyEvaluationResult> evaluateAllConReglas() {
+        SolicitudCredito solicitud = siguiente();
+        return evaluatorConReglas.evaluateAll(solicitud, solicitud.getAfiliado());
+    }
+}
@@ -0,0 +1,16 @@
+package com.coopcredit.credit.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ErrorImportacionDTO {
+    private Integer fila;
+    private String documento;
+    private String mensaje;
+}
@@ -0,0 +1,26 @@
+package com.coopcredit.credit.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EvaluacionMasivaDTO {
+    private String jobId;
+    private String estado;
+    private Integer total;
+    private Integer procesadas;
+    private Integer aprobadas;
+    private Integer rechazadas;
+    private Integer fallidas;
+    private LocalDateTime fechaInicio;
+    private LocalDateTime fechaFin;
+    private List<ResultadoEvaluacionDTO> resultados;
+}
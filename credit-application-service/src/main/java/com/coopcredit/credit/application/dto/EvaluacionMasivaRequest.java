@@ -0,0 +1,24 @@
+package com.coopcredit.credit.application.dto;
+
+import com.coopcredit.credit.domain.model.EstadoSolicitud;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Solicitud de evaluación masiva.
+ * Se indica una lista explícita de IDs o un estado para seleccionar las solicitudes.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EvaluacionMasivaRequest {
+
+    // Opcional: IDs de las solicitudes a evaluar
+    private List<Long> solicitudIds;
+
+    // Opcional: evaluar todas las solicitudes en este estado (normalmente PENDIENTE)
+    private EstadoSolicitud estado;
+}
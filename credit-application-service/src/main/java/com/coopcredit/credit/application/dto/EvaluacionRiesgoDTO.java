@@ -22,4 +22,5 @@ public class EvaluacionRiesgoDTO {
     private String motivo;
     private BigDecimal relacionCuotaIngreso;
     private LocalDateTime fechaEvaluacion;
+    private Long versionPoliticas;
 }
@@ -0,0 +1,25 @@
+package com.coopcredit.credit.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento pendiente de la outbox. El {@code id} es estable entre reintentos: los
+ * consumidores lo usan para descartar duplicados (la entrega es al menos una vez).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventoSalida {
+    private Long id;
+    private String tipo;
+    private Long agregadoId;
+    private String payload;
+    private LocalDateTime fechaCreacion;
+    private int intentos;
+}
@@ -0,0 +1,35 @@
+package com.coopcredit.credit.application.dto;
+
+import com.coopcredit.credit.domain.model.EstadoSolicitud;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Contenido del evento publicado cuando una solicitud queda APROBADA o RECHAZADA.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventoSolicitudEvaluada {
+
+    public static final String TIPO = "SOLICITUD_EVALUADA";
+
+    private Long solicitudId;
+    private Long afiliadoId;
+    private String afiliadoDocumento;
+    private EstadoSolicitud estado;
+    private BigDecimal monto;
+    private Integer plazoMeses;
+    private BigDecimal tasaPropuesta;
+    private Integer score;
+    private String nivelRiesgo;
+    private String motivo;
+    private Long versionPoliticas;
+    private LocalDateTime fechaEvaluacion;
+}
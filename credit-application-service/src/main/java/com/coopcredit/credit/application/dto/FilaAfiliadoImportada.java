@@ -0,0 +1,26 @@
+package com.coopcredit.credit.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Fila leída de un archivo de importación de afiliados.
+ * Si la fila no se pudo interpretar, {@code datos} es null y {@code error} explica por qué.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FilaAfiliadoImportada {
+    private int numero;
+    private CrearAfiliadoRequest datos;
+    private String error;
+
+    public static FilaAfiliadoImportada valida(int numero, CrearAfiliadoRequest datos) {
+        return new FilaAfiliadoImportada(numero, datos, null);
+    }
+
+    public static FilaAfiliadoImportada invalida(int numero, String error) {
+        return new FilaAfiliadoImportada(numero, null, error);
+    }
+}
@@ -0,0 +1,16 @@
+package com.coopcredit.credit.application.dto;
+
+/**
+ * Orden del listado paginado de solicitudes.
+ */
+public enum OrdenSolicitudes {
+    /**
+     * Por ID ascendente (orden de creación).
+     */
+    ID,
+
+    /**
+     * Por fecha de solicitud descendente (más recientes primero), desempatando por ID.
+     */
+    FECHA_SOLICITUD
+}
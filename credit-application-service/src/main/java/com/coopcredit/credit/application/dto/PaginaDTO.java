@@ -0,0 +1,43 @@
+package com.coopcredit.credit.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de un listado con paginación por cursor (keyset).
+ * {@code siguiente} es el ID del último elemento de la página, que se envía como
+ * {@code after} para pedir la página siguiente; es null en la última página.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaginaDTO<T> {
+
+    public static final int LIMITE_POR_DEFECTO = 50;
+    public static final int LIMITE_MAXIMO = 500;
+
+    private List<T> items;
+    private Long siguiente;
+
+    /**
+     * Ajusta el límite pedido al rango [1, LIMITE_MAXIMO].
+     */
+    public static int normalizarLimite(int limite) {
+        return Math.max(1, Math.min(limite, LIMITE_MAXIMO));
+    }
+
+    /**
+     * Construye la página a partir de hasta {@code limite + 1} filas: la fila extra
+     * solo indica que hay una página siguiente y no se retorna.
+     */
+    public static <E, T> PaginaDTO<T> de(List<E> filas, int limite, Function<E, Long> id, Function<E, T> mapper) {
+        boolean hayMas = filas.size() > limite;
+        List<E> pagina = hayMas ? filas.subList(0, limite) : filas;
+        List<T> items = pagina.stream().map(mapper).toList();
+        return new PaginaDTO<>(items, hayMas ? id.apply(pagina.get(limite - 1)) : null);
+    }
+}
@@ -0,0 +1,16 @@
+package com.coopcredit.credit.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResultadoEvaluacionDTO {
+    private Long solicitudId;
+    private String resultado;
+    private String detalle;
+}
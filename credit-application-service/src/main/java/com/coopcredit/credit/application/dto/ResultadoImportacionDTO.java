@@ -0,0 +1,25 @@
+package com.coopcredit.credit.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Reporte de una importación masiva de afiliados. {@code errores} incluye hasta el
+ * máximo configurado; {@code erroresOmitidos} cuenta los que no se listan.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResultadoImportacionDTO {
+    private Integer totalFilas;
+    private Integer importadas;
+    private Integer rechazadas;
+    private Long duracionMs;
+    private List<ErrorImportacionDTO> errores;
+    private Integer erroresOmitidos;
+}
@@ -0,0 +1,31 @@
+package com.coopcredit.credit.application.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Fila plana de la exportación de solicitudes (solicitud, afiliado y evaluación).
+ * Los campos de evaluación son null si la solicitud no ha sido evaluada.
+ *
+ * La exportación reutiliza una sola instancia para todas las filas: quien la
+ * consume debe escribirla de inmediato y no conservar la referencia.
+ */
+@Data
+public class SolicitudExportada {
+    private long id;
+    private long afiliadoId;
+    private String afiliadoDocumento;
+    private String afiliadoNombre;
+    private BigDecimal monto;
+    private int plazoMeses;
+    private BigDecimal tasaPropuesta;
+    private LocalDateTime fechaSolicitud;
+    private String estado;
+    private Integer score;
+    private String nivelRiesgo;
+    private Boolean aprobado;
+    private BigDecimal relacionCuotaIngreso;
+    private LocalDateTime fechaEvaluacion;
+}
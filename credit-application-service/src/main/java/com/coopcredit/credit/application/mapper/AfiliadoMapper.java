@@ -3,18 +3,39 @@ package com.coopcredit.credit.application.mapper;
 import com.coopcredit.credit.application.dto.AfiliadoDTO;
 import com.coopcredit.credit.application.dto.CrearAfiliadoRequest;
 import com.coopcredit.credit.domain.model.Afiliado;
+import com.coopcredit.credit.domain.policy.PolicySnapshotHolder;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.springframework.beans.factory.annotation.Autowired;
 
+/**
+ * Clase abstracta (en lugar de interfaz) para que {@code puedeRecibirCredito} use la
+ * antigüedad mínima de los parámetros de política vigentes.
+ */
 @Mapper(componentModel = "spring")
-public interface AfiliadoMapper {
+public abstract class AfiliadoMapper {
+
+    @Autowired
+    protected PolicySnapshotHolder politicas;
 
     @Mapping(target = "mesesAntiguedad", expression = "java(afiliado.getMesesAntiguedad())")
-    @Mapping(target = "puedeRecibirCredito", expression = "java(afiliado.puedeRecibirCredito())")
-    AfiliadoDTO toDTO(Afiliado afiliado);
+    @Mapping(target = "puedeRecibirCredito",
+            expression = "java(afiliado.puedeRecibirCredito(politicas.current().getAntiguedadMinimaMeses()))")
+    public abstract AfiliadoDTO toDTO(Afiliado afiliado);
+
+    /**
+     * Completa los campos calculados de un afiliado leído como proyección (sin pasar
+     * por el dominio), con las mismas reglas que {@link #toDTO(Afiliado)}.
+     */
+    public AfiliadoDTO completarCalculados(AfiliadoDTO dto) {
+        dto.setMesesAntiguedad(Afiliado.mesesAntiguedad(dto.getFechaAfiliacion()));
+        dto.setPuedeRecibirCredito(Afiliado.puedeRecibirCredito(dto.getEstado(), dto.getFechaAfiliacion(),
+                politicas.current().getAntiguedadMinimaMeses()));
+        return dto;
+    }
 
     @Mapping(target = "id", ignore = true)
-    Afiliado toDomain(CrearAfiliadoRequest request);
+    public abstract Afiliado toDomain(CrearAfiliadoRequest request);
 
-    Afiliado toDomain(AfiliadoDTO dto);
+    public abstract Afiliado toDomain(AfiliadoDTO dto);
 }
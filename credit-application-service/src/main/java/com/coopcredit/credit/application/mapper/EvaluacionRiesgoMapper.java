@@ -3,11 +3,14 @@ package com.coopcredit.credit.application.mapper;
 import com.coopcredit.credit.application.dto.EvaluacionRiesgoDTO;
 import com.coopcredit.credit.domain.model.EvaluacionRiesgo;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface EvaluacionRiesgoMapper {
 
     EvaluacionRiesgoDTO toDTO(EvaluacionRiesgo evaluacion);
 
+    // withVersionPoliticas no es un setter: crea una copia con la versión de políticas
+    @Mapping(target = "withVersionPoliticas", ignore = true)
     EvaluacionRiesgo toDomain(EvaluacionRiesgoDTO dto);
 }
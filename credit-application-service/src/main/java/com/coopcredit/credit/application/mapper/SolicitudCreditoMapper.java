@@ -13,6 +13,12 @@ public interface SolicitudCreditoMapper {
     @Mapping(source = "afiliado.documento", target = "afiliadoDocumento")
     SolicitudCreditoDTO toDTO(SolicitudCredito solicitud);
 
+    /**
+     * El DTO no expone la versión de bloqueo optimista: la solicitud resultante queda sin
+     * versión y no sirve para una escritura versionada. Las escrituras parten de la
+     * solicitud leída del repositorio, que sí la trae.
+     */
     @Mapping(target = "afiliado", ignore = true)
+    @Mapping(target = "version", ignore = true)
     SolicitudCredito toDomain(SolicitudCreditoDTO dto);
 }
@@ -5,4 +5,9 @@ import com.coopcredit.credit.application.dto.LoginRequest;
 
 public interface AutenticarUsuarioUseCase {
     AuthResponse autenticar(LoginRequest request);
+
+    /**
+     * Revoca el token indicado hasta su expiración.
+     */
+    void cerrarSesion(String token);
 }
@@ -1,6 +1,7 @@
 package com.coopcredit.credit.application.port.in;
 
 import com.coopcredit.credit.application.dto.AfiliadoDTO;
+import com.coopcredit.credit.application.dto.PaginaDTO;
 
 import java.util.List;
 
@@ -10,4 +11,10 @@ public interface ConsultarAfiliadoUseCase {
     AfiliadoDTO obtenerPorDocumento(String documento);
 
     List<AfiliadoDTO> listarTodos();
+
+    /**
+     * Lista una página de afiliados a partir del cursor {@code despuesDe} (ID del
+     * último afiliado de la página anterior, o null para la primera).
+     */
+    PaginaDTO<AfiliadoDTO> listarPagina(Long despuesDe, int limite);
 }
@@ -0,0 +1,12 @@
+package com.coopcredit.credit.application.port.in;
+
+import com.coopcredit.credit.domain.amortizacion.PlanAmortizacion;
+
+public interface ConsultarAmortizacionUseCase {
+
+    /**
+     * Plan de pagos de la solicitud según su monto, tasa propuesta y plazo.
+     * Las filas se generan al recorrer el plan.
+     */
+    PlanAmortizacion obtenerPlan(Long solicitudId);
+}
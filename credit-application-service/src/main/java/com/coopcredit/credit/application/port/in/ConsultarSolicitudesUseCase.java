@@ -1,5 +1,7 @@
 package com.coopcredit.credit.application.port.in;
 
+import com.coopcredit.credit.application.dto.OrdenSolicitudes;
+import com.coopcredit.credit.application.dto.PaginaDTO;
 import com.coopcredit.credit.application.dto.SolicitudCreditoDTO;
 import com.coopcredit.credit.domain.model.EstadoSolicitud;
 
@@ -10,6 +12,12 @@ public interface ConsultarSolicitudesUseCase {
 
     List<SolicitudCreditoDTO> listarTodas();
 
+    /**
+     * Lista una página de solicitudes a partir del cursor {@code despuesDe} (ID de la
+     * última solicitud de la página anterior, o null para la primera).
+     */
+    PaginaDTO<SolicitudCreditoDTO> listarPagina(Long despuesDe, int limite, OrdenSolicitudes orden);
+
     List<SolicitudCreditoDTO> listarPorAfiliado(Long afiliadoId);
 
     List<SolicitudCreditoDTO> listarPorEstado(EstadoSolicitud estado);
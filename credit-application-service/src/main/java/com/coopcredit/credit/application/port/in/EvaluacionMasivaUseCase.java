@@ -0,0 +1,10 @@
+package com.coopcredit.credit.application.port.in;
+
+import com.coopcredit.credit.application.dto.EvaluacionMasivaDTO;
+import com.coopcredit.credit.application.dto.EvaluacionMasivaRequest;
+
+public interface EvaluacionMasivaUseCase {
+    EvaluacionMasivaDTO iniciar(EvaluacionMasivaRequest request);
+
+    EvaluacionMasivaDTO consultar(String jobId);
+}
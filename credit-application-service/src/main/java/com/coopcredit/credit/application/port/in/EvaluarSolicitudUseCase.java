@@ -4,4 +4,12 @@ import com.coopcredit.credit.application.dto.SolicitudCreditoDTO;
 
 public interface EvaluarSolicitudUseCase {
     SolicitudCreditoDTO evaluar(Long solicitudId);
+
+    /**
+     * Evalúa la solicitud una sola vez por clave de idempotencia: si la clave ya se usó
+     * para la solicitud, retorna el resultado almacenado sin volver a evaluarla.
+     *
+     * @param claveIdempotencia valor del encabezado Idempotency-Key (puede ser null)
+     */
+    SolicitudCreditoDTO evaluar(Long solicitudId, String claveIdempotencia);
 }
@@ -0,0 +1,14 @@
+package com.coopcredit.credit.application.port.in;
+
+import com.coopcredit.credit.application.dto.SolicitudExportada;
+
+import java.util.function.Consumer;
+
+public interface ExportarSolicitudesUseCase {
+
+    /**
+     * Exporta todas las solicitudes, fila por fila, al consumidor dado.
+     * La instancia entregada se reutiliza entre filas.
+     */
+    void exportar(Consumer<SolicitudExportada> consumidor);
+}
@@ -0,0 +1,16 @@
+package com.coopcredit.credit.application.port.in;
+
+import com.coopcredit.credit.application.dto.FilaAfiliadoImportada;
+import com.coopcredit.credit.application.dto.ResultadoImportacionDTO;
+
+import java.util.Iterator;
+
+public interface ImportarAfiliadosUseCase {
+
+    /**
+     * Importa los afiliados a medida que se leen las filas, por lotes.
+     * Cada lote se guarda en su propia transacción: un error en una fila no
+     * impide importar las demás.
+     */
+    ResultadoImportacionDTO importar(Iterator<FilaAfiliadoImportada> filas);
+}
@@ -2,6 +2,7 @@ package com.coopcredit.credit.application.port.out;
 
 import com.coopcredit.credit.domain.model.Afiliado;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
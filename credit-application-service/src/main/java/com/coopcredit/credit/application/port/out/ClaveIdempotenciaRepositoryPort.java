@@ -0,0 +1,19 @@
+package com.coopcredit.credit.application.port.out;
+
+import java.util.Optional;
+
+/**
+ * Puerto de salida para las claves de idempotencia de las evaluaciones.
+ */
+public interface ClaveIdempotenciaRepositoryPort {
+
+    /**
+     * Solicitud evaluada con la clave, o vacío si la clave no se ha usado.
+     */
+    Optional<Long> buscarSolicitud(String clave);
+
+    /**
+     * Registra la clave de una evaluación completada.
+     */
+    void registrar(String clave, Long solicitudId);
+}
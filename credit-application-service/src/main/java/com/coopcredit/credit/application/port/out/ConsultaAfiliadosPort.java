@@ -0,0 +1,23 @@
+package com.coopcredit.credit.application.port.out;
+
+import com.coopcredit.credit.application.dto.AfiliadoDTO;
+
+import java.util.List;
+
+/**
+ * Puerto de salida para los listados de afiliados (lado de lectura).
+ *
+ * SOLID - ISP: Separado de {@link AfiliadoRepositoryPort}. Retorna los campos
+ * almacenados; los calculados ({@code mesesAntiguedad}, {@code puedeRecibirCredito})
+ * los completa {@code AfiliadoMapper.completarCalculados}.
+ */
+public interface ConsultaAfiliadosPort {
+
+    List<AfiliadoDTO> listarTodos();
+
+    /**
+     * Lista hasta {@code limite} afiliados con ID mayor que {@code despuesDe}, ordenados
+     * por ID (paginación keyset). Con {@code despuesDe} null retorna la primera página.
+     */
+    List<AfiliadoDTO> listarPagina(Long despuesDe, int limite);
+}
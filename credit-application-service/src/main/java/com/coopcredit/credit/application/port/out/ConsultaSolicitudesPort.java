@@ -0,0 +1,28 @@
+package com.coopcredit.credit.application.port.out;
+
+import com.coopcredit.credit.application.dto.OrdenSolicitudes;
+import com.coopcredit.credit.application.dto.SolicitudCreditoDTO;
+import com.coopcredit.credit.domain.model.EstadoSolicitud;
+
+import java.util.List;
+
+/**
+ * Puerto de salida para los listados de solicitudes (lado de lectura).
+ *
+ * SOLID - ISP: Separado de {@link SolicitudCreditoRepositoryPort}; los listados retornan
+ * directamente el DTO de respuesta, sin entidades JPA ni objetos de dominio intermedios.
+ */
+public interface ConsultaSolicitudesPort {
+
+    List<SolicitudCreditoDTO> listarTodas();
+
+    /**
+     * Lista hasta {@code limite} solicitudes posteriores a la solicitud {@code despuesDe}
+     * en el orden dado (paginación keyset). Con {@code despuesDe} null retorna la primera página.
+     */
+    List<SolicitudCreditoDTO> listarPagina(Long despuesDe, int limite, OrdenSolicitudes orden);
+
+    List<SolicitudCreditoDTO> listarPorAfiliado(Long afiliadoId);
+
+    List<SolicitudCreditoDTO> listarPorEstado(EstadoSolicitud estado);
+}
@@ -0,0 +1,37 @@
+package com.coopcredit.credit.application.port.out;
+
+import com.coopcredit.credit.application.dto.EventoSalida;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Puerto de salida para leer y confirmar los eventos de la outbox.
+ * Los eventos se registran junto con el cambio que los origina
+ * (ver {@link SolicitudCreditoRepositoryPort#guardarEvaluada}).
+ */
+public interface EventoSalidaRepositoryPort {
+
+    /**
+     * Reserva hasta {@code limite} eventos pendientes, en orden de inserción, durante
+     * {@code duracion}. Los eventos reservados por otro relay se omiten; una reserva
+     * vencida se considera abandonada y se reemplaza.
+     */
+    List<EventoSalida> reservarPendientes(int limite, Duration duracion);
+
+    /**
+     * Marca los eventos como publicados: no se vuelven a entregar.
+     */
+    void marcarPublicados(List<Long> ids);
+
+    /**
+     * Registra un intento de publicación fallido; los eventos siguen pendientes
+     * y se libera su reserva.
+     */
+    void registrarIntentoFallido(List<Long> ids);
+
+    /**
+     * Cantidad de eventos pendientes de publicar.
+     */
+    long contarPendientes();
+}
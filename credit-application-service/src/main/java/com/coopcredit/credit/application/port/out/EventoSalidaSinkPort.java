@@ -0,0 +1,19 @@
+package com.coopcredit.credit.application.port.out;
+
+import com.coopcredit.credit.application.dto.EventoSalida;
+
+import java.util.List;
+
+/**
+ * Puerto de salida hacia el destino de los eventos (archivo, webhook o broker en memoria).
+ *
+ * SOLID - OCP: Un destino nuevo es otra implementación, sin cambiar el relay.
+ */
+public interface EventoSalidaSinkPort {
+
+    /**
+     * Publica un lote de eventos. Debe retornar solo cuando el destino los confirmó;
+     * cualquier excepción hace que el lote completo se reintente.
+     */
+    void publicar(List<EventoSalida> eventos);
+}
@@ -0,0 +1,17 @@
+package com.coopcredit.credit.application.port.out;
+
+import com.coopcredit.credit.application.dto.SolicitudExportada;
+
+import java.util.function.Consumer;
+
+/**
+ * Puerto de salida para recorrer todas las solicitudes sin cargarlas en memoria.
+ */
+public interface ExportacionSolicitudesPort {
+
+    /**
+     * Entrega cada solicitud, ordenada por ID, al consumidor a medida que se lee.
+     * La instancia entregada se reutiliza entre filas.
+     */
+    void recorrerTodas(Consumer<SolicitudExportada> consumidor);
+}
@@ -0,0 +1,24 @@
+package com.coopcredit.credit.application.port.out;
+
+import com.coopcredit.credit.domain.model.Afiliado;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Puerto de salida para la carga masiva de afiliados, sin pasar por el contexto
+ * de persistencia.
+ */
+public interface ImportacionAfiliadosPort {
+
+    /**
+     * Documentos de la colección que ya están registrados (una sola consulta).
+     */
+    Set<String> buscarDocumentosExistentes(Collection<String> documentos);
+
+    /**
+     * Inserta los afiliados en una transacción, con inserciones por lotes.
+     */
+    void insertarLote(List<Afiliado> afiliados);
+}
@@ -0,0 +1,16 @@
+package com.coopcredit.credit.application.port.out;
+
+import com.coopcredit.credit.domain.policy.PolicySnapshot;
+
+import java.util.Optional;
+
+/**
+ * Puerto de salida para los parámetros versionados de las políticas de crédito.
+ */
+public interface ParametrosPoliticaRepositoryPort {
+
+    /**
+     * Parámetros de mayor versión almacenados, o vacío si no hay ninguno.
+     */
+    Optional<PolicySnapshot> buscarUltimaVersion();
+}
@@ -0,0 +1,16 @@
+package com.coopcredit.credit.application.port.out;
+
+import com.coopcredit.credit.domain.policy.rule.RuleDefinition;
+
+import java.util.List;
+
+/**
+ * Puerto de salida para las reglas de crédito declarativas.
+ */
+public interface ReglaCreditoRepositoryPort {
+
+    /**
+     * Reglas activas, ordenadas por prioridad.
+     */
+    List<RuleDefinition> buscarActivas();
+}
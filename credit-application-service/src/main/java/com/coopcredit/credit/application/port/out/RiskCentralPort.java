@@ -1,6 +1,8 @@
 package com.coopcredit.credit.application.port.out;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Puerto de salida para comunicación con servicio externo de evaluación de
@@ -18,6 +20,66 @@ public interface RiskCentralPort {
      */
     RiskEvaluationResponse evaluarRiesgo(String documento, BigDecimal monto, Integer plazo);
 
+    /**
+     * Variante asíncrona de {@link #evaluarRiesgo(String, BigDecimal, Integer)}.
+     * Por defecto ejecuta la llamada bloqueante en el hilo invocador; los adaptadores
+     * con cliente HTTP no bloqueante la sobrescriben.
+     *
+     * @param documento documento del solicitante
+     * @param monto     monto solicitado
+     * @param plazo     plazo en meses
+     * @return futuro con la respuesta de score y nivel de riesgo
+     */
+    default CompletableFuture<RiskEvaluationResponse> evaluarRiesgoAsync(String documento, BigDecimal monto,
+            Integer plazo) {
+        try {
+            return CompletableFuture.completedFuture(evaluarRiesgo(documento, monto, plazo));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Evalúa el riesgo de varias solicitudes en una sola consulta al servicio externo.
+     * Por defecto realiza una consulta por solicitud; los adaptadores HTTP usan el
+     * endpoint de lotes.
+     *
+     * @param solicitudes solicitudes a evaluar
+     * @return respuestas en el mismo orden de las solicitudes
+     */
+    default List<RiskEvaluationResponse> evaluarRiesgoBatch(List<RiskEvaluationRequest> solicitudes) {
+        return solicitudes.stream()
+                .map(s -> evaluarRiesgo(s.getDocumento(), s.getMonto(), s.getPlazo()))
+                .toList();
+    }
+
+    /**
+     * Clase interna para una solicitud de evaluación de riesgo.
+     */
+    class RiskEvaluationRequest {
+        private final String documento;
+        private final BigDecimal monto;
+        private final Integer plazo;
+
+        public RiskEvaluationRequest(String documento, BigDecimal monto, Integer plazo) {
+            this.documento = documento;
+            this.monto = monto;
+            this.plazo = plazo;
+        }
+
+        public String getDocumento() {
+            return documento;
+        }
+
+        public BigDecimal getMonto() {
+            return monto;
+        }
+
+        public Integer getPlazo() {
+            return plazo;
+        }
+    }
+
     /**
      * Clase interna para la respuesta de evaluación de riesgo.
      */
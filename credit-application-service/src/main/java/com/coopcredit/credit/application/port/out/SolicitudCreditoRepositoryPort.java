@@ -3,19 +3,50 @@ package com.coopcredit.credit.application.port.out;
 import com.coopcredit.credit.domain.model.EstadoSolicitud;
 import com.coopcredit.credit.domain.model.SolicitudCredito;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
 public interface SolicitudCreditoRepositoryPort {
     SolicitudCredito guardar(SolicitudCredito solicitud);
 
-    Optional<SolicitudCredito> buscarPorId(Long id);
+    /**
+     * Guarda una solicitud APROBADA o RECHAZADA y registra su evento de resultado
+     * en la outbox, en la misma transacción.
+     */
+    SolicitudCredito guardarEvaluada(SolicitudCredito solicitud);
+
+    /**
+     * Como {@link #guardarEvaluada(SolicitudCredito)}, y registra además la clave de
+     * idempotencia de la evaluación en la misma transacción: la clave existe si y solo
+     * si el resultado quedó guardado.
+     */
+    SolicitudCredito guardarEvaluada(SolicitudCredito solicitud, String claveIdempotencia);
 
-    List<SolicitudCredito> listarTodas();
+    /**
+     * Guarda un lote de solicitudes evaluadas y sus eventos en una sola transacción.
+     */
+    List<SolicitudCredito> guardarEvaluadas(List<SolicitudCredito> solicitudes);
 
-    List<SolicitudCredito> listarPorAfiliado(Long afiliadoId);
+    Optional<SolicitudCredito> buscarPorId(Long id);
 
-    List<SolicitudCredito> listarPorEstado(EstadoSolicitud estado);
+    /**
+     * Lista solo los IDs de las solicitudes en un estado, sin cargar sus relaciones.
+     */
+    List<Long> listarIdsPorEstado(EstadoSolicitud estado);
+
+    /**
+     * Reserva la evaluación de una solicitud PENDIENTE con una actualización condicional.
+     * Una reserva anterior a {@code duracion} se considera abandonada y se reemplaza.
+     *
+     * @return true si esta operación obtuvo la reserva
+     */
+    boolean reservarEvaluacion(Long id, Duration duracion);
+
+    /**
+     * Libera la reserva de una solicitud que sigue PENDIENTE (la evaluación falló).
+     */
+    void liberarEvaluacion(Long id);
 
     void eliminar(Long id);
 }
@@ -2,11 +2,13 @@ package com.coopcredit.credit.application.service;
 
 import com.coopcredit.credit.application.dto.AfiliadoDTO;
 import com.coopcredit.credit.application.dto.CrearAfiliadoRequest;
+import com.coopcredit.credit.application.dto.PaginaDTO;
 import com.coopcredit.credit.application.mapper.AfiliadoMapper;
 import com.coopcredit.credit.application.port.in.ActualizarAfiliadoUseCase;
 import com.coopcredit.credit.application.port.in.ConsultarAfiliadoUseCase;
 import com.coopcredit.credit.application.port.in.CrearAfiliadoUseCase;
 import com.coopcredit.credit.application.port.out.AfiliadoRepositoryPort;
+import com.coopcredit.credit.application.port.out.ConsultaAfiliadosPort;
 import com.coopcredit.credit.domain.exception.AfiliadoNoEncontradoException;
 import com.coopcredit.credit.domain.exception.DocumentoDuplicadoException;
 import com.coopcredit.credit.domain.model.Afiliado;
@@ -30,10 +32,13 @@ public class AfiliadoService implements CrearAfiliadoUseCase, ActualizarAfiliado
 
     private final AfiliadoRepositoryPort afiliadoRepository;
     private final AfiliadoMapper afiliadoMapper;
+    private final ConsultaAfiliadosPort consultaAfiliados;
 
-    public AfiliadoService(AfiliadoRepositoryPort afiliadoRepository, AfiliadoMapper afiliadoMapper) {
+    public AfiliadoService(AfiliadoRepositoryPort afiliadoRepository, AfiliadoMapper afiliadoMapper,
+            ConsultaAfiliadosPort consultaAfiliados) {
         this.afiliadoRepository = afiliadoRepository;
         this.afiliadoMapper = afiliadoMapper;
+        this.consultaAfiliados = consultaAfiliados;
     }
 
     @Override
@@ -107,8 +112,19 @@ public class AfiliadoService implements CrearAfiliadoUseCase, ActualizarAfiliado
     public List<AfiliadoDTO> listarTodos() {
         log.debug("Listando todos los afiliados");
 
-        return afiliadoRepository.listarTodos().stream()
-                .map(afiliadoMapper::toDTO)
+        return consultaAfiliados.listarTodos().stream()
+                .map(afiliadoMapper::completarCalculados)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaDTO<AfiliadoDTO> listarPagina(Long despuesDe, int limite) {
+        int limiteNormalizado = PaginaDTO.normalizarLimite(limite);
+        log.debug("Listando afiliados después de ID: {}, límite: {}", despuesDe, limiteNormalizado);
+
+        // Una fila extra indica si existe página siguiente sin ejecutar un COUNT
+        List<AfiliadoDTO> filas = consultaAfiliados.listarPagina(despuesDe, limiteNormalizado + 1);
+        return PaginaDTO.de(filas, limiteNormalizado, AfiliadoDTO::getId, afiliadoMapper::completarCalculados);
+    }
 }
@@ -0,0 +1,41 @@
+package com.coopcredit.credit.application.service;
+
+import com.coopcredit.credit.application.port.in.ConsultarAmortizacionUseCase;
+import com.coopcredit.credit.application.port.out.SolicitudCreditoRepositoryPort;
+import com.coopcredit.credit.domain.amortizacion.PlanAmortizacion;
+import com.coopcredit.credit.domain.exception.SolicitudNoEncontradaException;
+import com.coopcredit.credit.domain.model.SolicitudCredito;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Servicio de aplicación para el plan de pagos de una solicitud.
+ *
+ * El plan depende solo de monto, tasa y plazo: la cuota sale de la tabla de factores
+ * de {@link com.coopcredit.credit.domain.amortizacion.CalculadoraCuota} y las filas
+ * se generan al recorrerlo, fuera de la transacción.
+ */
+@Service
+public class AmortizacionService implements ConsultarAmortizacionUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(AmortizacionService.class);
+
+    private final SolicitudCreditoRepositoryPort solicitudRepository;
+
+    public AmortizacionService(SolicitudCreditoRepositoryPort solicitudRepository) {
+        this.solicitudRepository = solicitudRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PlanAmortizacion obtenerPlan(Long solicitudId) {
+        log.debug("Consultando plan de amortización de la solicitud ID: {}", solicitudId);
+
+        SolicitudCredito solicitud = solicitudRepository.buscarPorId(solicitudId)
+                .orElseThrow(() -> new SolicitudNoEncontradaException(solicitudId));
+
+        return PlanAmortizacion.de(solicitud.getMonto(), solicitud.getTasaPropuesta(), solicitud.getPlazoMeses());
+    }
+}
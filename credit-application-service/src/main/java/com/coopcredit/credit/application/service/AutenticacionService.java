@@ -11,6 +11,8 @@ import com.coopcredit.credit.domain.exception.AfiliadoNoEncontradoException;
 import com.coopcredit.credit.domain.model.Afiliado;
 import com.coopcredit.credit.domain.model.Usuario;
 import com.coopcredit.credit.infrastructure.config.JwtService;
+import com.coopcredit.credit.infrastructure.config.TokenDenylist;
+import io.jsonwebtoken.Claims;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -34,17 +36,20 @@ public class AutenticacionService implements RegistrarUsuarioUseCase, Autenticar
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final TokenDenylist tokenDenylist;
 
     public AutenticacionService(UsuarioRepositoryPort usuarioRepository,
             AfiliadoRepositoryPort afiliadoRepository,
             PasswordEncoder passwordEncoder,
             JwtService jwtService,
-            AuthenticationManager authenticationManager) {
+            AuthenticationManager authenticationManager,
+            TokenDenylist tokenDenylist) {
         this.usuarioRepository = usuarioRepository;
         this.afiliadoRepository = afiliadoRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtService = jwtService;
         this.authenticationManager = authenticationManager;
+        this.tokenDenylist = tokenDenylist;
     }
 
     @Override
@@ -78,7 +83,7 @@ public class AutenticacionService implements RegistrarUsuarioUseCase, Autenticar
         Usuario usuarioGuardado = usuarioRepository.guardar(usuario);
 
         // Generar token
-        String token = jwtService.generateToken(usuarioGuardado.getUsername());
+        String token = generarToken(usuarioGuardado);
 
         log.info("Usuario registrado exitosamente: {}", usuarioGuardado.getUsername());
 
@@ -98,10 +103,28 @@ public class AutenticacionService implements RegistrarUsuarioUseCase, Autenticar
                 .orElseThrow(() -> new RuntimeException("Usuario no encontrado"));
 
         // Generar token
-        String token = jwtService.generateToken(usuario.getUsername());
+        String token = generarToken(usuario);
 
         log.info("Usuario autenticado exitosamente: {}", usuario.getUsername());
 
         return new AuthResponse(token, usuario.getUsername(), usuario.getEmail());
     }
+
+    @Override
+    public void cerrarSesion(String token) {
+        Claims claims = jwtService.validarToken(token);
+        tokenDenylist.revocar(claims.getId(), claims.getExpiration());
+        log.info("Sesión cerrada para usuario: {}", claims.getSubject());
+    }
+
+    /**
+     * Genera el token con roles y afiliado como claims, para que las peticiones
+     * posteriores se autentiquen sin consultar la base de datos.
+     */
+    private String generarToken(Usuario usuario) {
+        return jwtService.generateToken(
+                usuario.getUsername(),
+                usuario.getRoles().stream().map(Enum::name).toList(),
+                usuario.getAfiliado() != null ? usuario.getAfiliado().getId() : null);
+    }
 }
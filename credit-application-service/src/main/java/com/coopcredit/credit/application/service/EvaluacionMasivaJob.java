@@ -0,0 +1,156 @@
+package com.coopcredit.credit.application.service;
+
+import com.coopcredit.credit.domain.model.SolicitudCredito;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Estado en memoria de un proceso de evaluación masiva.
+ * Los hilos de trabajo registran el resultado de cada solicitud y encolan
+ * las solicitudes evaluadas hasta que se escriben por lotes.
+ */
+class EvaluacionMasivaJob {
+
+    enum Estado {
+        EN_PROCESO,
+        COMPLETADO
+    }
+
+    enum ResultadoItem {
+        EN_COLA,
+        APROBADO,
+        RECHAZADO,
+        ERROR
+    }
+
+    /**
+     * Resultado de una solicitud dentro del proceso.
+     */
+    static final class Item {
+        private final ResultadoItem resultado;
+        private final String detalle;
+
+        Item(ResultadoItem resultado, String detalle) {
+            this.resultado = resultado;
+            this.detalle = detalle;
+        }
+
+        ResultadoItem getResultado() {
+            return resultado;
+        }
+
+        String getDetalle() {
+            return detalle;
+        }
+    }
+
+    private static final Item EN_COLA = new Item(ResultadoItem.EN_COLA, null);
+
+    private final String id;
+    private final List<Long> solicitudIds;
+    private final Map<Long, Item> resultados = new ConcurrentHashMap<>();
+    private final Queue<SolicitudCredito> pendientesEscritura = new ConcurrentLinkedQueue<>();
+    // Medición de tiempo de cada solicitud evaluada hasta que se guarda
+    private final Map<Long, Timer.Sample> mediciones = new ConcurrentHashMap<>();
+    private final AtomicInteger siguiente = new AtomicInteger();
+    private final LocalDateTime fechaInicio;
+    private volatile LocalDateTime fechaFin;
+    private volatile Estado estado;
+
+    EvaluacionMasivaJob(String id, List<Long> solicitudIds) {
+        this.id = id;
+        this.solicitudIds = List.copyOf(solicitudIds);
+        this.fechaInicio = LocalDateTime.now();
+        this.estado = Estado.EN_PROCESO;
+    }
+
+    void registrarResultado(Long solicitudId, ResultadoItem resultado, String detalle) {
+        resultados.put(solicitudId, new Item(resultado, detalle));
+    }
+
+    /**
+     * Toma el siguiente ID por evaluar, o null si ya se tomaron todos.
+     */
+    Long siguienteSolicitud() {
+        int indice = siguiente.getAndIncrement();
+        return indice < solicitudIds.size() ? solicitudIds.get(indice) : null;
+    }
+
+    void encolarEscritura(SolicitudCredito solicitud, Timer.Sample medicion) {
+        if (medicion != null) {
+            mediciones.put(solicitud.getId(), medicion);
+        }
+        pendientesEscritura.add(solicitud);
+    }
+
+    Timer.Sample quitarMedicion(Long solicitudId) {
+        return mediciones.remove(solicitudId);
+    }
+
+    int getPendientesEscritura() {
+        return pendientesEscritura.size();
+    }
+
+    /**
+     * Extrae como máximo {@code maximo} solicitudes pendientes de escritura.
+     */
+    List<SolicitudCredito> drenarPendientes(int maximo) {
+        List<SolicitudCredito> lote = new ArrayList<>();
+        SolicitudCredito solicitud;
+        while (lote.size() < maximo && (solicitud = pendientesEscritura.poll()) != null) {
+            lote.add(solicitud);
+        }
+        return lote;
+    }
+
+    void finalizar() {
+        this.fechaFin = LocalDateTime.now();
+        this.estado = Estado.COMPLETADO;
+    }
+
+    boolean finalizadoAntesDe(LocalDateTime limite) {
+        return estado == Estado.COMPLETADO && fechaFin.isBefore(limite);
+    }
+
+    Item getResultado(Long solicitudId) {
+        return resultados.getOrDefault(solicitudId, EN_COLA);
+    }
+
+    long contar(ResultadoItem resultado) {
+        return resultados.values().stream()
+                .filter(item -> item.getResultado() == resultado)
+                .count();
+    }
+
+    String getId() {
+        return id;
+    }
+
+    List<Long> getSolicitudIds() {
+        return solicitudIds;
+    }
+
+    int getProcesadas() {
+        return resultados.size();
+    }
+
+    LocalDateTime getFechaInicio() {
+        return fechaInicio;
+    }
+
+    LocalDateTime getFechaFin() {
+        return fechaFin;
+    }
+
+    Estado getEstado() {
+        return estado;
+    }
+}
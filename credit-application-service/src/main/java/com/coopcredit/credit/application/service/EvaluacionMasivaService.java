@@ -0,0 +1,306 @@
+package com.coopcredit.credit.application.service;
+
+import com.coopcredit.credit.application.dto.EvaluacionMasivaDTO;
+import com.coopcredit.credit.application.dto.EvaluacionMasivaRequest;
+import com.coopcredit.credit.application.dto.ResultadoEvaluacionDTO;
+import com.coopcredit.credit.application.port.in.EvaluacionMasivaUseCase;
+import com.coopcredit.credit.application.port.out.SolicitudCreditoRepositoryPort;
+import com.coopcredit.credit.domain.exception.EvaluacionMasivaNoEncontradaException;
+import com.coopcredit.credit.domain.exception.EvaluacionesMasivasSaturadasException;
+import com.coopcredit.credit.domain.model.EstadoSolicitud;
+import com.coopcredit.credit.domain.model.SolicitudCredito;
+import com.coopcredit.credit.infrastructure.metrics.CreditApplicationMetrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Servicio de aplicación para evaluar solicitudes de crédito de forma masiva.
+ *
+ * Las evaluaciones se reparten en un pool de hilos acotado (del mismo tamaño que el
+ * límite de concurrencia hacia Risk Central) y los resultados se escriben por lotes.
+ * El proceso se consulta por su ID mientras avanza.
+ *
+ * Cada proceso envía al pool a lo sumo {@code concurrencia} tareas, que toman los IDs
+ * pendientes uno a uno, en lugar de una tarea por solicitud. Con el límite de procesos
+ * en curso, la cola del pool queda acotada a {@code max-procesos-activos x concurrencia}.
+ */
+@Service
+public class EvaluacionMasivaService implements EvaluacionMasivaUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(EvaluacionMasivaService.class);
+
+    private final EvaluarSolicitudService evaluarSolicitudService;
+    private final SolicitudCreditoRepositoryPort solicitudRepository;
+    private final CreditApplicationMetrics metrics;
+    private final ExecutorService executor;
+    private final int tamanoLote;
+    private final int maxSolicitudes;
+    private final long retencionMinutos;
+    private final int concurrencia;
+    private final int maxProcesosActivos;
+
+    private final Map<String, EvaluacionMasivaJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicInteger procesosActivos = new AtomicInteger();
+
+    public EvaluacionMasivaService(EvaluarSolicitudService evaluarSolicitudService,
+            SolicitudCreditoRepositoryPort solicitudRepository,
+            CreditApplicationMetrics metrics,
+            @Value("${coopcredit.evaluacion-masiva.concurrencia:10}") int concurrencia,
+            @Value("${coopcredit.evaluacion-masiva.tamano-lote:50}") int tamanoLote,
+            @Value("${coopcredit.evaluacion-masiva.max-solicitudes:10000}") int maxSolicitudes,
+            @Value("${coopcredit.evaluacion-masiva.retencion-minutos:60}") long retencionMinutos,
+            @Value("${coopcredit.evaluacion-masiva.max-procesos-activos:2}") int maxProcesosActivos) {
+        this.evaluarSolicitudService = evaluarSolicitudService;
+        this.solicitudRepository = solicitudRepository;
+        this.metrics = metrics;
+        this.executor = new ThreadPoolExecutor(concurrencia, concurrencia, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxProcesosActivos * concurrencia),
+                new CustomizableThreadFactory("evaluacion-masiva-"));
+        this.tamanoLote = tamanoLote;
+        this.maxSolicitudes = maxSolicitudes;
+        this.retencionMinutos = retencionMinutos;
+        this.concurrencia = concurrencia;
+        this.maxProcesosActivos = maxProcesosActivos;
+    }
+
+    @Override
+    public EvaluacionMasivaDTO iniciar(EvaluacionMasivaRequest request) {
+        List<Long> solicitudIds = resolverSolicitudes(request);
+
+        if (solicitudIds.size() > maxSolicitudes) {
+            throw new IllegalArgumentException(String.format(
+                    "La evaluación masiva admite máximo %d solicitudes (recibidas: %d)",
+                    maxSolicitudes, solicitudIds.size()));
+        }
+
+        purgarJobsFinalizados();
+        reservarProceso();
+
+        EvaluacionMasivaJob job = new EvaluacionMasivaJob(UUID.randomUUID().toString(), solicitudIds);
+        jobs.put(job.getId(), job);
+
+        log.info("Iniciando evaluación masiva {} con {} solicitudes", job.getId(), solicitudIds.size());
+
+        CompletableFuture<?>[] tareas;
+        try {
+            tareas = IntStream.range(0, Math.min(concurrencia, solicitudIds.size()))
+                    .mapToObj(i -> CompletableFuture.runAsync(() -> procesarSiguientes(job), executor))
+                    .toArray(CompletableFuture[]::new);
+        } catch (RuntimeException e) {
+            // Solo si el pool se está deteniendo: la cola admite todas las tareas de los procesos permitidos
+            procesosActivos.decrementAndGet();
+            jobs.remove(job.getId());
+            throw e;
+        }
+
+        CompletableFuture.allOf(tareas).whenComplete((resultado, error) -> {
+            // Escribir lo que quede en cola por debajo del tamaño de lote
+            try {
+                escribirLote(job, job.drenarPendientes(Integer.MAX_VALUE));
+            } finally {
+                // Liberar el cupo antes de publicar el proceso como completado
+                procesosActivos.decrementAndGet();
+                job.finalizar();
+            }
+            log.info("Evaluación masiva {} completada - Aprobadas: {}, Rechazadas: {}, Fallidas: {}",
+                    job.getId(),
+                    job.contar(EvaluacionMasivaJob.ResultadoItem.APROBADO),
+                    job.contar(EvaluacionMasivaJob.ResultadoItem.RECHAZADO),
+                    job.contar(EvaluacionMasivaJob.ResultadoItem.ERROR));
+        });
+
+        return toDTO(job);
+    }
+
+    @Override
+    public EvaluacionMasivaDTO consultar(String jobId) {
+        EvaluacionMasivaJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new EvaluacionMasivaNoEncontradaException(jobId);
+        }
+        return toDTO(job);
+    }
+
+    @PreDestroy
+    public void detener() {
+        executor.shutdown();
+    }
+
+    /**
+     * Ocupa un cupo de proceso en curso o rechaza el proceso si no quedan cupos.
+     */
+    private void reservarProceso() {
+        int activos;
+        do {
+            activos = procesosActivos.get();
+            if (activos >= maxProcesosActivos) {
+                throw new EvaluacionesMasivasSaturadasException(maxProcesosActivos);
+            }
+        } while (!procesosActivos.compareAndSet(activos, activos + 1));
+    }
+
+    /**
+     * Determina las solicitudes a evaluar: IDs explícitos o filtro por estado.
+     */
+    private List<Long> resolverSolicitudes(EvaluacionMasivaRequest request) {
+        if (request.getSolicitudIds() != null && !request.getSolicitudIds().isEmpty()) {
+            // Eliminar duplicados conservando el orden recibido
+            return new ArrayList<>(new LinkedHashSet<>(request.getSolicitudIds()));
+        }
+        if (request.getEstado() != null) {
+            if (request.getEstado() != EstadoSolicitud.PENDIENTE) {
+                throw new IllegalArgumentException("Solo se pueden evaluar solicitudes en estado PENDIENTE");
+            }
+            return solicitudRepository.listarIdsPorEstado(request.getEstado());
+        }
+        throw new IllegalArgumentException("Debe indicar solicitudIds o estado para la evaluación masiva");
+    }
+
+    /**
+     * Tarea del pool: evalúa solicitudes del proceso hasta que no queden IDs por tomar.
+     */
+    private void procesarSiguientes(EvaluacionMasivaJob job) {
+        Long solicitudId;
+        while ((solicitudId = job.siguienteSolicitud()) != null) {
+            procesar(job, solicitudId);
+        }
+    }
+
+    /**
+     * Evalúa una solicitud y dispara la escritura cuando se completa un lote.
+     * El tiempo de evaluación se mide como en la evaluación individual: desde la lectura
+     * hasta que el resultado queda guardado.
+     */
+    private void procesar(EvaluacionMasivaJob job, Long solicitudId) {
+        Timer.Sample medicion = metrics.iniciarMedicionTiempo();
+        try {
+            SolicitudCredito evaluada = evaluarSolicitudService.prepararEvaluacion(solicitudId);
+            job.encolarEscritura(evaluada, medicion);
+        } catch (Exception e) {
+            log.warn("Evaluación masiva {} - Error en solicitud {}: {}", job.getId(), solicitudId, e.getMessage());
+            job.registrarResultado(solicitudId, EvaluacionMasivaJob.ResultadoItem.ERROR, e.getMessage());
+            return;
+        }
+
+        if (job.getPendientesEscritura() >= tamanoLote) {
+            escribirLote(job, job.drenarPendientes(tamanoLote));
+        }
+    }
+
+    /**
+     * Guarda un lote de solicitudes evaluadas y registra su resultado.
+     * Si el lote falla (p. ej. una solicitud fue modificada concurrentemente),
+     * se reintenta solicitud por solicitud para aislar solo las que fallan.
+     */
+    private void escribirLote(EvaluacionMasivaJob job, List<SolicitudCredito> lote) {
+        if (lote.isEmpty()) {
+            return;
+        }
+
+        try {
+            solicitudRepository.guardarEvaluadas(lote);
+        } catch (RuntimeException e) {
+            log.warn("Evaluación masiva {} - Error guardando lote de {} solicitudes, se guardarán individualmente: {}",
+                    job.getId(), lote.size(), e.getMessage());
+            lote.forEach(solicitud -> guardarIndividual(job, solicitud));
+            return;
+        }
+
+        lote.forEach(solicitud -> registrarGuardada(job, solicitud));
+        log.debug("Evaluación masiva {} - Lote de {} solicitudes guardado", job.getId(), lote.size());
+    }
+
+    private void guardarIndividual(EvaluacionMasivaJob job, SolicitudCredito solicitud) {
+        try {
+            solicitudRepository.guardarEvaluada(solicitud);
+        } catch (RuntimeException e) {
+            log.warn("Evaluación masiva {} - Error guardando solicitud {}: {}",
+                    job.getId(), solicitud.getId(), e.getMessage());
+            liberarReserva(solicitud.getId());
+            job.quitarMedicion(solicitud.getId());
+            job.registrarResultado(solicitud.getId(), EvaluacionMasivaJob.ResultadoItem.ERROR,
+                    "Error al guardar la evaluación: " + e.getMessage());
+            return;
+        }
+        registrarGuardada(job, solicitud);
+    }
+
+    private void liberarReserva(Long solicitudId) {
+        try {
+            solicitudRepository.liberarEvaluacion(solicitudId);
+        } catch (RuntimeException e) {
+            // La reserva vence por tiempo
+            log.warn("No se pudo liberar la reserva de la solicitud {}: {}", solicitudId, e.getMessage());
+        }
+    }
+
+    private void registrarGuardada(EvaluacionMasivaJob job, SolicitudCredito solicitud) {
+        Timer.Sample medicion = job.quitarMedicion(solicitud.getId());
+        if (medicion != null) {
+            metrics.finalizarMedicionEvaluacion(medicion);
+        }
+        if (solicitud.getEstado() == EstadoSolicitud.APROBADO) {
+            metrics.incrementarSolicitudesAprobadas();
+            job.registrarResultado(solicitud.getId(), EvaluacionMasivaJob.ResultadoItem.APROBADO, null);
+        } else {
+            metrics.incrementarSolicitudesRechazadas();
+            job.registrarResultado(solicitud.getId(), EvaluacionMasivaJob.ResultadoItem.RECHAZADO,
+                    solicitud.getEvaluacion().getMotivo());
+        }
+    }
+
+    /**
+     * Elimina de memoria los procesos finalizados hace más del tiempo de retención.
+     */
+    private void purgarJobsFinalizados() {
+        LocalDateTime limite = LocalDateTime.now().minusMinutes(retencionMinutos);
+        jobs.values().removeIf(job -> job.finalizadoAntesDe(limite));
+    }
+
+    private EvaluacionMasivaDTO toDTO(EvaluacionMasivaJob job) {
+        List<ResultadoEvaluacionDTO> resultados = job.getSolicitudIds().stream()
+                .map(id -> {
+                    EvaluacionMasivaJob.Item item = job.getResultado(id);
+                    return ResultadoEvaluacionDTO.builder()
+                            .solicitudId(id)
+                            .resultado(item.getResultado().name())
+                            .detalle(item.getDetalle())
+                            .build();
+                })
+                .collect(Collectors.toList());
+
+        return EvaluacionMasivaDTO.builder()
+                .jobId(job.getId())
+                .estado(job.getEstado().name())
+                .total(job.getSolicitudIds().size())
+                .procesadas(job.getProcesadas())
+                .aprobadas((int) job.contar(EvaluacionMasivaJob.ResultadoItem.APROBADO))
+                .rechazadas((int) job.contar(EvaluacionMasivaJob.ResultadoItem.RECHAZADO))
+                .fallidas((int) job.contar(EvaluacionMasivaJob.ResultadoItem.ERROR))
+                .fechaInicio(job.getFechaInicio())
+                .fechaFin(job.getFechaFin())
+                .resultados(resultados)
+                .build();
+    }
+}
@@ -3,30 +3,58 @@ package com.coopcredit.credit.application.service;
 import com.coopcredit.credit.application.dto.SolicitudCreditoDTO;
 import com.coopcredit.credit.application.mapper.SolicitudCreditoMapper;
 import com.coopcredit.credit.application.port.in.EvaluarSolicitudUseCase;
+import com.coopcredit.credit.application.port.out.ClaveIdempotenciaRepositoryPort;
 import com.coopcredit.credit.application.port.out.RiskCentralPort;
 import com.coopcredit.credit.application.port.out.SolicitudCreditoRepositoryPort;
 import com.coopcredit.credit.domain.exception.AfiliadoInactivoException;
 import com.coopcredit.credit.domain.exception.AntiguedadInsuficienteException;
+import com.coopcredit.credit.domain.exception.EvaluacionEnCursoException;
 import com.coopcredit.credit.domain.exception.SolicitudNoEncontradaException;
 import com.coopcredit.credit.domain.model.*;
+import com.coopcredit.credit.domain.policy.CreditPolicyEvaluator;
+import com.coopcredit.credit.domain.policy.PolicyEvaluationContext;
+import com.coopcredit.credit.domain.policy.PolicyEvaluationReport;
+import com.coopcredit.credit.domain.policy.PolicySnapshot;
+import com.coopcredit.credit.domain.policy.PolicySnapshotHolder;
 import com.coopcredit.credit.infrastructure.metrics.CreditApplicationMetrics;
 import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.List;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Servicio de aplicación para evaluar solicitudes de crédito.
  * Este es el caso de uso principal que integra la evaluación de riesgo externa
  * con las políticas de crédito internas.
+ *
+ * La evaluación no abre una transacción propia: se ejecuta en tres fases para no
+ * retener una conexión del pool durante la llamada a Risk Central.
+ * 1. Lectura corta de solo lectura (solicitud + afiliado en una consulta).
+ * 2. Llamada remota sin transacción (incluye los reintentos del circuit breaker).
+ * 3. Escritura corta protegida por la versión optimista de la solicitud.
+ *
+ * Cada evaluación lee una sola vez los parámetros de política vigentes y registra
+ * su versión en la {@link EvaluacionRiesgo}.
+ *
+ * Una solicitud se evalúa una sola vez aunque lleguen peticiones concurrentes:
+ * - En la instancia, las peticiones simultáneas por el mismo ID comparten el resultado
+ *   de la primera (single-flight).
+ * - Entre instancias, la solicitud se reserva con una actualización condicional antes
+ *   de consultar Risk Central; quien no obtiene la reserva recibe
+ *   {@link EvaluacionEnCursoException} sin consultar el servicio externo.
+ * - Con clave de idempotencia, un reintento retorna el resultado almacenado. La clave
+ *   se guarda en la misma transacción que el resultado.
  */
 @Service
-@Transactional
 public class EvaluarSolicitudService implements EvaluarSolicitudUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(EvaluarSolicitudService.class);
@@ -34,29 +62,156 @@ public class EvaluarSolicitudService implements EvaluarSolicitudUseCase {
     private final SolicitudCreditoRepositoryPort solicitudRepository;
     private final RiskCentralPort riskCentralPort;
     private final PoliticasCreditoService politicasService;
+    private final CreditPolicyEvaluator policyEvaluator;
+    private final PolicySnapshotHolder politicas;
     private final SolicitudCreditoMapper solicitudMapper;
     private final CreditApplicationMetrics metrics;
+    private final ClaveIdempotenciaRepositoryPort claveRepository;
+    private final Duration reserva;
+
+    // Evaluaciones en curso en esta instancia, por ID de solicitud
+    private final ConcurrentMap<Long, CompletableFuture<SolicitudCreditoDTO>> enCurso = new ConcurrentHashMap<>();
 
     public EvaluarSolicitudService(SolicitudCreditoRepositoryPort solicitudRepository,
             RiskCentralPort riskCentralPort,
             PoliticasCreditoService politicasService,
+            CreditPolicyEvaluator policyEvaluator,
+            PolicySnapshotHolder politicas,
             SolicitudCreditoMapper solicitudMapper,
-            CreditApplicationMetrics metrics) {
+            CreditApplicationMetrics metrics,
+            ClaveIdempotenciaRepositoryPort claveRepository,
+            @Value("${coopcredit.evaluacion-solicitud.reserva:2m}") Duration reserva) {
         this.solicitudRepository = solicitudRepository;
         this.riskCentralPort = riskCentralPort;
         this.politicasService = politicasService;
+        this.policyEvaluator = policyEvaluator;
+        this.politicas = politicas;
         this.solicitudMapper = solicitudMapper;
         this.metrics = metrics;
+        this.claveRepository = claveRepository;
+        this.reserva = reserva;
     }
 
     @Override
     public SolicitudCreditoDTO evaluar(Long solicitudId) {
+        return evaluar(solicitudId, null);
+    }
+
+    @Override
+    public SolicitudCreditoDTO evaluar(Long solicitudId, String claveIdempotencia) {
+        if (claveIdempotencia != null) {
+            Optional<SolicitudCreditoDTO> almacenada = buscarResultadoAlmacenado(solicitudId, claveIdempotencia);
+            if (almacenada.isPresent()) {
+                log.info("Evaluación de solicitud ID: {} ya registrada con la clave de idempotencia", solicitudId);
+                return almacenada.get();
+            }
+        }
+
+        return evaluarUnaVez(solicitudId, claveIdempotencia);
+    }
+
+    private Optional<SolicitudCreditoDTO> buscarResultadoAlmacenado(Long solicitudId, String claveIdempotencia) {
+        if (claveIdempotencia.isBlank() || claveIdempotencia.length() > 100) {
+            throw new IllegalArgumentException("La clave de idempotencia debe tener entre 1 y 100 caracteres");
+        }
+        return claveRepository.buscarSolicitud(claveIdempotencia).map(evaluada -> {
+            if (!evaluada.equals(solicitudId)) {
+                throw new IllegalArgumentException(
+                        "La clave de idempotencia ya se usó para la solicitud " + evaluada);
+            }
+            return solicitudRepository.buscarPorId(solicitudId)
+                    .map(solicitudMapper::toDTO)
+                    .orElseThrow(() -> new SolicitudNoEncontradaException(solicitudId));
+        });
+    }
+
+    /**
+     * Ejecuta la evaluación, o espera la que ya está en curso en esta instancia
+     * para la misma solicitud y retorna su mismo resultado (o su misma excepción).
+     */
+    private SolicitudCreditoDTO evaluarUnaVez(Long solicitudId, String claveIdempotencia) {
+        CompletableFuture<SolicitudCreditoDTO> propia = new CompletableFuture<>();
+        CompletableFuture<SolicitudCreditoDTO> existente = enCurso.putIfAbsent(solicitudId, propia);
+        if (existente != null) {
+            log.info("Solicitud ID: {} ya en evaluación, se espera su resultado", solicitudId);
+            SolicitudCreditoDTO resultado = esperar(existente);
+            if (claveIdempotencia != null) {
+                // El resultado ya lo confirmó la otra petición; esta clave solo apunta a él
+                claveRepository.registrar(claveIdempotencia, solicitudId);
+            }
+            return resultado;
+        }
+
+        try {
+            SolicitudCreditoDTO resultado = evaluarYGuardar(solicitudId, claveIdempotencia);
+            propia.complete(resultado);
+            return resultado;
+        } catch (RuntimeException e) {
+            propia.completeExceptionally(e);
+            throw e;
+        } finally {
+            enCurso.remove(solicitudId, propia);
+        }
+    }
+
+    private static SolicitudCreditoDTO esperar(CompletableFuture<SolicitudCreditoDTO> evaluacion) {
+        try {
+            return evaluacion.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
+    private SolicitudCreditoDTO evaluarYGuardar(Long solicitudId, String claveIdempotencia) {
         log.info("Iniciando evaluación de solicitud ID: {}", solicitudId);
         
         // Iniciar medición de tiempo
         Timer.Sample sample = metrics.iniciarMedicionTiempo();
 
-        // 1. Buscar la solicitud
+        // Fases 1 y 2: lectura, validaciones, reserva, riesgo externo y políticas
+        SolicitudCredito solicitud = prepararEvaluacion(solicitudId);
+
+        // Fase 3: guardar solicitud actualizada (con evaluación), su evento de resultado y la
+        // clave de idempotencia en la misma transacción; guardarla también libera la reserva.
+        // Si otra operación la modificó desde la lectura, falla por conflicto de versión.
+        SolicitudCredito solicitudActualizada;
+        try {
+            solicitudActualizada = claveIdempotencia != null
+                    ? solicitudRepository.guardarEvaluada(solicitud, claveIdempotencia)
+                    : solicitudRepository.guardarEvaluada(solicitud);
+        } catch (RuntimeException e) {
+            liberarReserva(solicitudId);
+            throw e;
+        }
+
+        if (solicitudActualizada.getEstado() == EstadoSolicitud.APROBADO) {
+            metrics.incrementarSolicitudesAprobadas();
+        } else {
+            metrics.incrementarSolicitudesRechazadas();
+        }
+
+        log.info("Evaluación completada para solicitud ID: {}", solicitudId);
+        
+        // Finalizar medición de tiempo
+        metrics.finalizarMedicionEvaluacion(sample);
+
+        return solicitudMapper.toDTO(solicitudActualizada);
+    }
+
+    /**
+     * Evalúa una solicitud sin persistir el resultado.
+     * La solicitud retornada queda APROBADA o RECHAZADA con su evaluación asociada
+     * y conserva la versión leída; el llamador decide cuándo guardarla
+     * (individualmente o por lotes). La solicitud queda reservada hasta que se guarde
+     * o venza la reserva; si la evaluación falla, la reserva se libera.
+     *
+     * @throws EvaluacionEnCursoException si otra evaluación ya reservó la solicitud
+     */
+    public SolicitudCredito prepararEvaluacion(Long solicitudId) {
+        // 1. Buscar la solicitud (lectura corta, sin transacción abierta después)
         SolicitudCredito solicitud = solicitudRepository.buscarPorId(solicitudId)
                 .orElseThrow(() -> new SolicitudNoEncontradaException(solicitudId));
 
@@ -67,6 +222,7 @@ public class EvaluarSolicitudService implements EvaluarSolicitudUseCase {
         }
 
         Afiliado afiliado = solicitud.getAfiliado();
+        PolicySnapshot parametros = politicas.current();
 
         // 3. Validar que el afiliado esté activo
         if (!afiliado.estaActivo()) {
@@ -74,103 +230,88 @@ public class EvaluarSolicitudService implements EvaluarSolicitudUseCase {
         }
 
         // 4. Validar antigüedad mínima
-        if (!afiliado.tieneAntiguedadMinima()) {
+        if (!afiliado.tieneAntiguedadMinima(parametros.getAntiguedadMinimaMeses())) {
             throw new AntiguedadInsuficienteException(
                     afiliado.getMesesAntiguedad(),
-                    politicasService.getAntiguedadMinimaMeses());
+                    parametros.getAntiguedadMinimaMeses());
+        }
+
+        // 5. Reservar la solicitud: solo una evaluación consulta Risk Central
+        if (!solicitudRepository.reservarEvaluacion(solicitudId, reserva)) {
+            throw new EvaluacionEnCursoException(solicitudId);
         }
 
         log.info("Consultando evaluación de riesgo externa para documento: {}", afiliado.getDocumento());
 
-        // 5. Consultar servicio externo de riesgo
-        RiskCentralPort.RiskEvaluationResponse riskResponse = riskCentralPort.evaluarRiesgo(
-                afiliado.getDocumento(),
-                solicitud.getMonto(),
-                solicitud.getPlazoMeses());
+        EvaluacionRiesgo evaluacion;
+        try {
+            // 6. Consultar servicio externo de riesgo (sin transacción ni conexión retenida)
+            RiskCentralPort.RiskEvaluationResponse riskResponse = riskCentralPort.evaluarRiesgo(
+                    afiliado.getDocumento(),
+                    solicitud.getMonto(),
+                    solicitud.getPlazoMeses());
 
-        log.info("Respuesta de riesgo externo - Score: {}, Nivel: {}",
-                riskResponse.getScore(), riskResponse.getNivelRiesgo());
+            log.info("Respuesta de riesgo externo - Score: {}, Nivel: {}",
+                    riskResponse.getScore(), riskResponse.getNivelRiesgo());
 
-        // 6. Aplicar políticas internas
-        EvaluacionRiesgo evaluacion = aplicarPoliticasInternas(solicitud, afiliado, riskResponse);
+            // 7. Aplicar políticas internas
+            evaluacion = aplicarPoliticasInternas(solicitud, afiliado, riskResponse, parametros);
+        } catch (RuntimeException e) {
+            liberarReserva(solicitudId);
+            throw e;
+        }
 
-        // 7. Actualizar estado de la solicitud según evaluación
+        // 8. Actualizar estado de la solicitud según evaluación
         if (evaluacion.getAprobado()) {
             solicitud.aprobar(evaluacion);
-            metrics.incrementarSolicitudesAprobadas();
             log.info("Solicitud APROBADA - ID: {}", solicitudId);
         } else {
             solicitud.rechazar(evaluacion);
-            metrics.incrementarSolicitudesRechazadas();
             log.info("Solicitud RECHAZADA - ID: {}, Motivo: {}", solicitudId, evaluacion.getMotivo());
         }
 
-        // 8. Guardar solicitud actualizada (con evaluación)
-        SolicitudCredito solicitudActualizada = solicitudRepository.guardar(solicitud);
-
-        log.info("Evaluación completada para solicitud ID: {}", solicitudId);
-        
-        // Finalizar medición de tiempo
-        metrics.finalizarMedicionEvaluacion(sample);
+        return solicitud;
+    }
 
-        return solicitudMapper.toDTO(solicitudActualizada);
+    /**
+     * Libera la reserva tras un fallo para que la solicitud pueda evaluarse de nuevo.
+     * Si no se puede liberar, la reserva vence por tiempo.
+     */
+    private void liberarReserva(Long solicitudId) {
+        try {
+            solicitudRepository.liberarEvaluacion(solicitudId);
+        } catch (RuntimeException e) {
+            log.warn("No se pudo liberar la reserva de la solicitud ID: {}: {}", solicitudId, e.getMessage());
+        }
     }
 
     /**
-     * Aplica las políticas de crédito internas y genera la evaluación final.
+     * Aplica las políticas de crédito internas con {@link CreditPolicyEvaluator}
+     * (una sola pasada) y genera la evaluación final.
      */
     private EvaluacionRiesgo aplicarPoliticasInternas(SolicitudCredito solicitud,
             Afiliado afiliado,
-            RiskCentralPort.RiskEvaluationResponse riskResponse) {
+            RiskCentralPort.RiskEvaluationResponse riskResponse,
+            PolicySnapshot parametros) {
 
-        List<String> motivosRechazo = new ArrayList<>();
-        boolean aprobado = true;
+        NivelRiesgo nivelRiesgo = NivelRiesgo.valueOf(riskResponse.getNivelRiesgo());
+        PolicyEvaluationContext contexto = PolicyEvaluationContext.of(solicitud, afiliado)
+                .withExternalRisk(nivelRiesgo, riskResponse.getScore())
+                .withSnapshot(parametros);
 
-        // Calcular cuota mensual
-        BigDecimal cuotaMensual = politicasService.calcularCuotaMensual(
-                solicitud.getMonto(),
-                solicitud.getTasaPropuesta(),
-                solicitud.getPlazoMeses());
+        PolicyEvaluationReport reporte = policyEvaluator.evaluate(contexto);
 
-        // Calcular relación cuota/ingreso
+        // La cuota ya calculada por las políticas se reutiliza para la relación guardada
         BigDecimal relacionCuotaIngreso = politicasService.calcularRelacionCuotaIngreso(
-                cuotaMensual,
+                contexto.getCuotaMensual(),
                 afiliado.getSalario());
 
         log.debug("Cuota mensual calculada: {}, Relación cuota/ingreso: {}",
-                cuotaMensual, relacionCuotaIngreso);
-
-        // Política 1: Relación cuota/ingreso
-        if (!politicasService.cumpleRelacionCuotaIngreso(relacionCuotaIngreso)) {
-            aprobado = false;
-            motivosRechazo.add(String.format(
-                    "Relación cuota/ingreso excede el máximo permitido (%.2f%% > %.2f%%)",
-                    relacionCuotaIngreso.multiply(BigDecimal.valueOf(100)),
-                    politicasService.getRelacionCuotaIngresoMaxima().multiply(BigDecimal.valueOf(100))));
-        }
-
-        // Política 2: Monto máximo según salario
-        if (!politicasService.cumpleMontoMaximo(solicitud.getMonto(), afiliado.getSalario())) {
-            aprobado = false;
-            BigDecimal montoMaximo = afiliado.getSalario()
-                    .multiply(BigDecimal.valueOf(politicasService.getMultiplicadorSalarioMontoMaximo()));
-            motivosRechazo.add(String.format(
-                    "El monto solicitado excede el máximo según salario ($%,.2f > $%,.2f)",
-                    solicitud.getMonto(),
-                    montoMaximo));
-        }
-
-        // Política 3: Score mínimo (ejemplo: rechazar si es ALTO riesgo)
-        NivelRiesgo nivelRiesgo = NivelRiesgo.valueOf(riskResponse.getNivelRiesgo());
-        if (nivelRiesgo == NivelRiesgo.ALTO) {
-            aprobado = false;
-            motivosRechazo.add("Score de riesgo crediticio ALTO (" + riskResponse.getScore() + "). " +
-                    "No cumple con el perfil de riesgo aceptable.");
-        }
+                contexto.getCuotaMensual(), relacionCuotaIngreso);
 
         // Crear evaluación de riesgo usando factory methods (SOLID - LSP: Value Object inmutable)
         EvaluacionRiesgo evaluacion;
-        if (aprobado) {
+        if (reporte.isApproved()) {
             evaluacion = EvaluacionRiesgo.aprobada(
                     riskResponse.getScore(),
                     nivelRiesgo,
@@ -182,11 +323,11 @@ public class EvaluarSolicitudService implements EvaluarSolicitudUseCase {
                     riskResponse.getScore(),
                     nivelRiesgo,
                     riskResponse.getDetalle(),
-                    String.join(" | ", motivosRechazo),
+                    String.join(" | ", reporte.getFailureReasons()),
                     relacionCuotaIngreso
             );
         }
 
-        return evaluacion;
+        return evaluacion.withVersionPoliticas(parametros.getVersion());
     }
 }
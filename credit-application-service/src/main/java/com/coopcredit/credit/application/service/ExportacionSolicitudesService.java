@@ -0,0 +1,41 @@
+package com.coopcredit.credit.application.service;
+
+import com.coopcredit.credit.application.dto.SolicitudExportada;
+import com.coopcredit.credit.application.port.in.ExportarSolicitudesUseCase;
+import com.coopcredit.credit.application.port.out.ExportacionSolicitudesPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+
+/**
+ * Servicio de aplicación para la exportación completa de solicitudes.
+ *
+ * La lectura ocurre en una transacción de solo lectura: el cursor del servidor
+ * solo se mantiene abierto dentro de una transacción.
+ */
+@Service
+public class ExportacionSolicitudesService implements ExportarSolicitudesUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportacionSolicitudesService.class);
+
+    private final ExportacionSolicitudesPort exportacionPort;
+
+    public ExportacionSolicitudesService(ExportacionSolicitudesPort exportacionPort) {
+        this.exportacionPort = exportacionPort;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportar(Consumer<SolicitudExportada> consumidor) {
+        log.info("Iniciando exportación de solicitudes");
+        long[] filas = {0};
+        exportacionPort.recorrerTodas(fila -> {
+            consumidor.accept(fila);
+            filas[0]++;
+        });
+        log.info("Exportación de solicitudes finalizada: {} filas", filas[0]);
+    }
+}
@@ -0,0 +1,176 @@
+package com.coopcredit.credit.application.service;
+
+import com.coopcredit.credit.application.dto.CrearAfiliadoRequest;
+import com.coopcredit.credit.application.dto.ErrorImportacionDTO;
+import com.coopcredit.credit.application.dto.FilaAfiliadoImportada;
+import com.coopcredit.credit.application.dto.ResultadoImportacionDTO;
+import com.coopcredit.credit.application.mapper.AfiliadoMapper;
+import com.coopcredit.credit.application.port.in.ImportarAfiliadosUseCase;
+import com.coopcredit.credit.application.port.out.ImportacionAfiliadosPort;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Servicio de aplicación para la importación masiva de afiliados.
+ *
+ * Las filas se validan a medida que se leen (mismas reglas que {@code POST /api/afiliados})
+ * y se agrupan en lotes. Por lote se ejecuta una sola consulta de documentos existentes
+ * y una inserción por lotes, en lugar de una consulta y un INSERT por afiliado.
+ * La memoria usada depende del tamaño del lote, no del archivo (salvo el conjunto de
+ * documentos ya leídos, que detecta repetidos dentro del mismo archivo).
+ */
+@Service
+public class ImportacionAfiliadosService implements ImportarAfiliadosUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportacionAfiliadosService.class);
+
+    private final ImportacionAfiliadosPort importacionPort;
+    private final AfiliadoMapper afiliadoMapper;
+    private final Validator validator;
+    private final int tamanoLote;
+    private final int maxErrores;
+
+    public ImportacionAfiliadosService(ImportacionAfiliadosPort importacionPort,
+            AfiliadoMapper afiliadoMapper,
+            Validator validator,
+            @Value("${coopcredit.importacion.tamano-lote:1000}") int tamanoLote,
+            @Value("${coopcredit.importacion.max-errores:1000}") int maxErrores) {
+        this.importacionPort = importacionPort;
+        this.afiliadoMapper = afiliadoMapper;
+        this.validator = validator;
+        this.tamanoLote = tamanoLote;
+        this.maxErrores = maxErrores;
+    }
+
+    @Override
+    public ResultadoImportacionDTO importar(Iterator<FilaAfiliadoImportada> filas) {
+        long inicio = System.nanoTime();
+        Reporte reporte = new Reporte(maxErrores);
+        Set<String> documentosLeidos = new HashSet<>();
+        List<FilaAfiliadoImportada> lote = new ArrayList<>(tamanoLote);
+
+        while (filas.hasNext()) {
+            FilaAfiliadoImportada fila = filas.next();
+            reporte.totalFilas++;
+
+            String error = validar(fila);
+            if (error != null) {
+                reporte.rechazar(fila, error);
+                continue;
+            }
+            if (!documentosLeidos.add(fila.getDatos().getDocumento())) {
+                reporte.rechazar(fila, "Documento repetido en el archivo");
+                continue;
+            }
+
+            lote.add(fila);
+            if (lote.size() == tamanoLote) {
+                procesarLote(lote, reporte);
+                lote.clear();
+            }
+        }
+        procesarLote(lote, reporte);
+
+        long duracionMs = (System.nanoTime() - inicio) / 1_000_000;
+        log.info("Importación de afiliados finalizada - Filas: {}, Importadas: {}, Rechazadas: {}, Duración: {} ms",
+                reporte.totalFilas, reporte.importadas, reporte.rechazadas, duracionMs);
+        return reporte.toDTO(duracionMs);
+    }
+
+    private String validar(FilaAfiliadoImportada fila) {
+        if (fila.getError() != null) {
+            return fila.getError();
+        }
+        Set<ConstraintViolation<CrearAfiliadoRequest>> violaciones = validator.validate(fila.getDatos());
+        if (violaciones.isEmpty()) {
+            return null;
+        }
+        return violaciones.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    /**
+     * Descarta los documentos ya registrados (una consulta) e inserta el resto (un lote).
+     */
+    private void procesarLote(List<FilaAfiliadoImportada> lote, Reporte reporte) {
+        if (lote.isEmpty()) {
+            return;
+        }
+
+        Set<String> existentes = importacionPort.buscarDocumentosExistentes(lote.stream()
+                .map(fila -> fila.getDatos().getDocumento())
+                .toList());
+
+        List<FilaAfiliadoImportada> nuevas = new ArrayList<>(lote.size());
+        for (FilaAfiliadoImportada fila : lote) {
+            if (existentes.contains(fila.getDatos().getDocumento())) {
+                reporte.rechazar(fila, "Ya existe un afiliado con documento " + fila.getDatos().getDocumento());
+            } else {
+                nuevas.add(fila);
+            }
+        }
+        if (nuevas.isEmpty()) {
+            return;
+        }
+
+        try {
+            importacionPort.insertarLote(nuevas.stream()
+                    .map(fila -> afiliadoMapper.toDomain(fila.getDatos()))
+                    .toList());
+            reporte.importadas += nuevas.size();
+        } catch (RuntimeException e) {
+            // P. ej. otro proceso registró uno de los documentos después de la consulta
+            log.warn("No se pudo guardar un lote de {} afiliados (filas {} a {}): {}", nuevas.size(),
+                    nuevas.get(0).getNumero(), nuevas.get(nuevas.size() - 1).getNumero(), e.getMessage());
+            nuevas.forEach(fila -> reporte.rechazar(fila, "No se pudo guardar el lote: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Contadores y errores de una importación en curso.
+     */
+    private static final class Reporte {
+
+        private final int maxErrores;
+        private final List<ErrorImportacionDTO> errores = new ArrayList<>();
+        private int totalFilas;
+        private int importadas;
+        private int rechazadas;
+
+        private Reporte(int maxErrores) {
+            this.maxErrores = maxErrores;
+        }
+
+        private void rechazar(FilaAfiliadoImportada fila, String mensaje) {
+            rechazadas++;
+            if (errores.size() < maxErrores) {
+                String documento = fila.getDatos() != null ? fila.getDatos().getDocumento() : null;
+                errores.add(new ErrorImportacionDTO(fila.getNumero(), documento, mensaje));
+            }
+        }
+
+        private ResultadoImportacionDTO toDTO(long duracionMs) {
+            return ResultadoImportacionDTO.builder()
+                    .totalFilas(totalFilas)
+                    .importadas(importadas)
+                    .rechazadas(rechazadas)
+                    .duracionMs(duracionMs)
+                    .errores(errores)
+                    .erroresOmitidos(rechazadas - errores.size())
+                    .build();
+        }
+    }
+}
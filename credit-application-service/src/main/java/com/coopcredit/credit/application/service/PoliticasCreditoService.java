@@ -1,6 +1,7 @@
 package com.coopcredit.credit.application.service;
 
-import org.springframework.beans.factory.annotation.Value;
+import com.coopcredit.credit.domain.amortizacion.CalculadoraCuota;
+import com.coopcredit.credit.domain.policy.PolicySnapshotHolder;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -8,44 +9,24 @@ import java.math.RoundingMode;
 
 /**
  * Servicio para evaluación de políticas de crédito internas.
+ * Los umbrales se leen de los parámetros de política vigentes ({@link PolicySnapshotHolder}).
  */
 @Service
 public class PoliticasCreditoService {
 
-    @Value("${coopcredit.politicas.relacion-cuota-ingreso-maxima:0.40}")
-    private BigDecimal relacionCuotaIngresoMaxima;
+    private final PolicySnapshotHolder politicas;
 
-    @Value("${coopcredit.politicas.multiplicador-salario-monto-maximo:5}")
-    private int multiplicadorSalarioMontoMaximo;
-
-    @Value("${coopcredit.politicas.antiguedad-minima-meses:6}")
-    private int antiguedadMinimaMeses;
+    public PoliticasCreditoService(PolicySnapshotHolder politicas) {
+        this.politicas = politicas;
+    }
 
     /**
      * Calcula la cuota mensual usando la fórmula de amortización francesa.
+     *
+     * @see CalculadoraCuota#cuotaMensual
      */
     public BigDecimal calcularCuotaMensual(BigDecimal monto, BigDecimal tasaAnual, Integer plazoMeses) {
-        if (plazoMeses == 0) {
-            return monto;
-        }
-
-        // Convertir tasa anual a mensual
-        BigDecimal tasaMensual = tasaAnual.divide(BigDecimal.valueOf(100), 10, RoundingMode.HALF_UP)
-                .divide(BigDecimal.valueOf(12), 10, RoundingMode.HALF_UP);
-
-        if (tasaMensual.compareTo(BigDecimal.ZERO) == 0) {
-            return monto.divide(BigDecimal.valueOf(plazoMeses), 2, RoundingMode.HALF_UP);
-        }
-
-        // Fórmula: C = M * [i * (1 + i)^n] / [(1 + i)^n - 1]
-        BigDecimal unoPlusTasa = BigDecimal.ONE.add(tasaMensual);
-        BigDecimal potencia = unoPlusTasa.pow(plazoMeses);
-
-        BigDecimal numerador = tasaMensual.multiply(potencia);
-        BigDecimal denominador = potencia.subtract(BigDecimal.ONE);
-
-        return monto.multiply(numerador.divide(denominador, 10, RoundingMode.HALF_UP))
-                .setScale(2, RoundingMode.HALF_UP);
+        return CalculadoraCuota.cuotaMensual(monto, tasaAnual, plazoMeses);
     }
 
     /**
@@ -62,35 +43,34 @@ public class PoliticasCreditoService {
      * Valida que la relación cuota/ingreso no exceda el máximo permitido.
      */
     public boolean cumpleRelacionCuotaIngreso(BigDecimal relacionCuotaIngreso) {
-        return relacionCuotaIngreso.compareTo(relacionCuotaIngresoMaxima) <= 0;
+        return relacionCuotaIngreso.compareTo(getRelacionCuotaIngresoMaxima()) <= 0;
     }
 
     /**
      * Valida que el monto no exceda el máximo según el salario del afiliado.
      */
     public boolean cumpleMontoMaximo(BigDecimal monto, BigDecimal salario) {
-        BigDecimal montoMaximo = salario.multiply(BigDecimal.valueOf(multiplicadorSalarioMontoMaximo));
-        return monto.compareTo(montoMaximo) <= 0;
+        return monto.compareTo(politicas.current().montoMaximo(salario)) <= 0;
     }
 
     /**
      * Valida que el afiliado tenga la antigüedad mínima requerida.
      */
     public boolean cumpleAntiguedadMinima(long mesesAntiguedad) {
-        return mesesAntiguedad >= antiguedadMinimaMeses;
+        return mesesAntiguedad >= getAntiguedadMinimaMeses();
     }
 
     // Getters para las políticas configurables
 
     public BigDecimal getRelacionCuotaIngresoMaxima() {
-        return relacionCuotaIngresoMaxima;
+        return politicas.current().getRelacionCuotaIngresoMaxima();
     }
 
     public int getMultiplicadorSalarioMontoMaximo() {
-        return multiplicadorSalarioMontoMaximo;
+        return politicas.current().getMultiplicadorSalarioMontoMaximo();
     }
 
     public int getAntiguedadMinimaMeses() {
-        return antiguedadMinimaMeses;
+        return politicas.current().getAntiguedadMinimaMeses();
     }
 }
@@ -0,0 +1,168 @@
+package com.coopcredit.credit.application.service;
+
+import com.coopcredit.credit.application.dto.EventoSalida;
+import com.coopcredit.credit.application.port.out.EventoSalidaRepositoryPort;
+import com.coopcredit.credit.application.port.out.EventoSalidaSinkPort;
+import com.coopcredit.credit.infrastructure.metrics.CreditApplicationMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Relay de la outbox: publica en el destino configurado los eventos registrados
+ * junto con las evaluaciones.
+ *
+ * - Entrega al menos una vez: un lote se marca como publicado solo después de que el
+ *   destino lo confirma. Si la aplicación se detiene entre ambos pasos, el lote se
+ *   vuelve a entregar; los consumidores descartan duplicados por el ID del evento.
+ * - Contrapresión: se publica un lote a la vez y el siguiente se lee solo cuando el
+ *   destino confirmó el anterior. Un destino lento frena la lectura y un destino caído
+ *   espera cada vez más entre reintentos (hasta {@code espera-maxima}); los eventos
+ *   se acumulan en la tabla, no en memoria.
+ * - Mientras queden lotes completos, se publican sin esperar el intervalo.
+ * - Varias instancias pueden ejecutar el relay: cada lote se reserva durante
+ *   {@code reserva} y las demás instancias lo omiten. Si la instancia falla antes de
+ *   confirmarlo, el lote se vuelve a publicar cuando vence la reserva.
+ *
+ * El relay está deshabilitado por defecto; al habilitarlo debe configurarse un destino
+ * con {@code coopcredit.eventos.sink}, o la aplicación no inicia. Mientras tanto los
+ * eventos se conservan en la tabla.
+ */
+@Service
+public class PublicacionEventosService {
+
+    private static final Logger log = LoggerFactory.getLogger(PublicacionEventosService.class);
+
+    private final EventoSalidaRepositoryPort eventoRepository;
+    private final EventoSalidaSinkPort sink;
+    private final CreditApplicationMetrics metrics;
+    private final boolean habilitado;
+    private final Duration intervalo;
+    private final int tamanoLote;
+    private final Duration esperaMaxima;
+    private final Duration reserva;
+    private final ScheduledExecutorService programador;
+
+    private int fallosConsecutivos;
+
+    public PublicacionEventosService(EventoSalidaRepositoryPort eventoRepository,
+            @Nullable EventoSalidaSinkPort sink,
+            CreditApplicationMetrics metrics,
+            @Value("${coopcredit.eventos.relay.habilitado:false}") boolean habilitado,
+            @Value("${coopcredit.eventos.relay.intervalo:1s}") Duration intervalo,
+            @Value("${coopcredit.eventos.relay.tamano-lote:100}") int tamanoLote,
+            @Value("${coopcredit.eventos.relay.espera-maxima:1m}") Duration esperaMaxima,
+            @Value("${coopcredit.eventos.relay.reserva:5m}") Duration reserva) {
+        if (habilitado && sink == null) {
+            throw new IllegalStateException("El relay de eventos está habilitado sin destino: "
+                    + "configure coopcredit.eventos.sink (archivo | webhook)");
+        }
+        this.eventoRepository = eventoRepository;
+        this.sink = sink;
+        this.metrics = metrics;
+        this.habilitado = habilitado;
+        this.intervalo = intervalo;
+        this.tamanoLote = tamanoLote;
+        this.esperaMaxima = esperaMaxima;
+        this.reserva = reserva;
+        this.programador = Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory("relay-eventos-"));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        metrics.registrarEventosPendientes(eventoRepository::contarPendientes);
+        if (!habilitado) {
+            log.info("Relay de eventos deshabilitado");
+            return;
+        }
+        programar(Duration.ZERO);
+    }
+
+    /**
+     * Publica el siguiente lote de eventos pendientes.
+     *
+     * @return cantidad de eventos publicados (0 si no había pendientes)
+     * @throws RuntimeException si el destino rechazó el lote (queda pendiente)
+     */
+    public int publicarLote() {
+        List<EventoSalida> pendientes = eventoRepository.reservarPendientes(tamanoLote, reserva);
+        if (pendientes.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = pendientes.stream().map(EventoSalida::getId).toList();
+
+        try {
+            sink.publicar(pendientes);
+        } catch (RuntimeException e) {
+            metrics.incrementarFallosPublicacionEventos();
+            registrarIntentoFallido(ids);
+            throw e;
+        }
+
+        eventoRepository.marcarPublicados(ids);
+        metrics.incrementarEventosPublicados(ids.size());
+        log.debug("Publicados {} eventos (IDs {} a {})", ids.size(), ids.get(0), ids.get(ids.size() - 1));
+        return ids.size();
+    }
+
+    private void ejecutarCiclo() {
+        Duration espera;
+        try {
+            int publicados = publicarLote();
+            fallosConsecutivos = 0;
+            // Un lote completo indica que quedan pendientes
+            espera = publicados == tamanoLote ? Duration.ZERO : intervalo;
+        } catch (RuntimeException e) {
+            fallosConsecutivos++;
+            espera = esperaTrasFallo();
+            log.warn("No se pudieron publicar los eventos ({} fallos seguidos), reintento en {}: {}",
+                    fallosConsecutivos, espera, e.getMessage());
+        }
+        programar(espera);
+    }
+
+    /**
+     * Espera exponencial desde el intervalo, acotada por la espera máxima.
+     */
+    private Duration esperaTrasFallo() {
+        long factor = 1L << Math.min(fallosConsecutivos - 1, 20);
+        Duration espera = intervalo.multipliedBy(factor);
+        return espera.compareTo(esperaMaxima) > 0 ? esperaMaxima : espera;
+    }
+
+    private void registrarIntentoFallido(List<Long> ids) {
+        try {
+            eventoRepository.registrarIntentoFallido(ids);
+        } catch (RuntimeException e) {
+            log.warn("No se pudo registrar el intento fallido de {} eventos: {}", ids.size(), e.getMessage());
+        }
+    }
+
+    private void programar(Duration espera) {
+        try {
+            programador.schedule(this::ejecutarCiclo, espera.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // La aplicación se está deteniendo
+            log.debug("Relay de eventos detenido");
+        }
+    }
+
+    @PreDestroy
+    public void detener() {
+        programador.shutdownNow();
+    }
+}
@@ -0,0 +1,129 @@
+package com.coopcredit.credit.application.service;
+
+import com.coopcredit.credit.application.port.out.ParametrosPoliticaRepositoryPort;
+import com.coopcredit.credit.application.port.out.ReglaCreditoRepositoryPort;
+import com.coopcredit.credit.domain.policy.CreditPolicyEvaluator;
+import com.coopcredit.credit.domain.policy.PolicySnapshot;
+import com.coopcredit.credit.domain.policy.PolicySnapshotHolder;
+import com.coopcredit.credit.domain.policy.rule.CompiledRule;
+import com.coopcredit.credit.domain.policy.rule.RuleCompiler;
+import com.coopcredit.credit.domain.policy.rule.RuleDefinition;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recarga los parámetros de política y las reglas declarativas sin reiniciar la aplicación.
+ *
+ * Consulta periódicamente la última versión de {@code parametros_politica} y la
+ * publica en {@link PolicySnapshotHolder} si es más nueva que la vigente. También lee
+ * las reglas activas de {@code reglas_credito}; si cambiaron, las compila y las publica
+ * en {@link CreditPolicyEvaluator}. Un conjunto con alguna regla inválida no se publica
+ * y se conservan las reglas anteriores. Las evaluaciones en curso terminan con los
+ * parámetros y reglas que ya leyeron.
+ */
+@Service
+public class RecargaPoliticasService {
+
+    private static final Logger log = LoggerFactory.getLogger(RecargaPoliticasService.class);
+
+    private final ParametrosPoliticaRepositoryPort parametrosRepository;
+    private final ReglaCreditoRepositoryPort reglaRepository;
+    private final PolicySnapshotHolder politicas;
+    private final CreditPolicyEvaluator policyEvaluator;
+    private final RuleCompiler compilador = new RuleCompiler();
+    private final boolean habilitada;
+    private final Duration intervalo;
+    private final ScheduledExecutorService programador;
+
+    private volatile List<RuleDefinition> reglasPublicadas = List.of();
+
+    public RecargaPoliticasService(ParametrosPoliticaRepositoryPort parametrosRepository,
+            ReglaCreditoRepositoryPort reglaRepository,
+            PolicySnapshotHolder politicas,
+            CreditPolicyEvaluator policyEvaluator,
+            @Value("${coopcredit.politicas.recarga.habilitada:true}") boolean habilitada,
+            @Value("${coopcredit.politicas.recarga.intervalo:30s}") Duration intervalo) {
+        this.parametrosRepository = parametrosRepository;
+        this.reglaRepository = reglaRepository;
+        this.politicas = politicas;
+        this.policyEvaluator = policyEvaluator;
+        this.habilitada = habilitada;
+        this.intervalo = intervalo;
+        this.programador = Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory("recarga-politicas-"));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        if (!habilitada) {
+            log.info("Recarga de políticas deshabilitada. Versión vigente: {}", politicas.current().getVersion());
+            return;
+        }
+        programador.scheduleWithFixedDelay(this::recargarSinFallar, 0, intervalo.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Publica la última versión almacenada si es más nueva que la vigente.
+     *
+     * @return true si cambiaron los parámetros vigentes
+     */
+    public boolean recargar() {
+        Optional<PolicySnapshot> ultima = parametrosRepository.buscarUltimaVersion();
+        if (ultima.isEmpty() || !politicas.publish(ultima.get())) {
+            return false;
+        }
+        log.info("Parámetros de política actualizados: {}", ultima.get());
+        return true;
+    }
+
+    /**
+     * Compila y publica las reglas activas si cambiaron desde la última publicación.
+     *
+     * @return true si cambiaron las reglas evaluadas
+     * @throws IllegalArgumentException si alguna regla es inválida (no se publica ninguna)
+     */
+    public synchronized boolean recargarReglas() {
+        List<RuleDefinition> definiciones = reglaRepository.buscarActivas();
+        if (definiciones.equals(reglasPublicadas)) {
+            return false;
+        }
+        List<CompiledRule> reglas = compilador.compileAll(definiciones);
+        policyEvaluator.setRulePolicies(reglas);
+        reglasPublicadas = List.copyOf(definiciones);
+        log.info("Reglas de crédito declarativas publicadas: {}", reglas.size());
+        return true;
+    }
+
+    private void recargarSinFallar() {
+        try {
+            recargar();
+        } catch (RuntimeException e) {
+            // Se conservan los parámetros vigentes hasta la siguiente consulta
+            log.warn("No se pudieron recargar los parámetros de política: {}", e.getMessage());
+        }
+        try {
+            recargarReglas();
+        } catch (RuntimeException e) {
+            // Se conservan las reglas publicadas hasta la siguiente consulta
+            log.warn("No se pudieron recargar las reglas de crédito: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void detener() {
+        programador.shutdownNow();
+    }
+}
@@ -1,11 +1,14 @@
 package com.coopcredit.credit.application.service;
 
 import com.coopcredit.credit.application.dto.CrearSolicitudRequest;
+import com.coopcredit.credit.application.dto.OrdenSolicitudes;
+import com.coopcredit.credit.application.dto.PaginaDTO;
 import com.coopcredit.credit.application.dto.SolicitudCreditoDTO;
 import com.coopcredit.credit.application.mapper.SolicitudCreditoMapper;
 import com.coopcredit.credit.application.port.in.ConsultarSolicitudesUseCase;
 import com.coopcredit.credit.application.port.in.CrearSolicitudCreditoUseCase;
 import com.coopcredit.credit.application.port.out.AfiliadoRepositoryPort;
+import com.coopcredit.credit.application.port.out.ConsultaSolicitudesPort;
 import com.coopcredit.credit.application.port.out.SolicitudCreditoRepositoryPort;
 import com.coopcredit.credit.domain.exception.AfiliadoInactivoException;
 import com.coopcredit.credit.domain.exception.AfiliadoNoEncontradoException;
@@ -19,10 +22,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 /**
  * Servicio de aplicación para gestión de solicitudes de crédito.
+ * Los listados se leen como proyecciones ({@link ConsultaSolicitudesPort}); la creación
+ * y la consulta por ID pasan por el modelo de dominio.
  */
 @Service
 @Transactional
@@ -33,13 +38,16 @@ public class SolicitudCreditoService implements CrearSolicitudCreditoUseCase, Co
     private final SolicitudCreditoRepositoryPort solicitudRepository;
     private final AfiliadoRepositoryPort afiliadoRepository;
     private final SolicitudCreditoMapper solicitudMapper;
+    private final ConsultaSolicitudesPort consultaSolicitudes;
 
     public SolicitudCreditoService(SolicitudCreditoRepositoryPort solicitudRepository,
             AfiliadoRepositoryPort afiliadoRepository,
-            SolicitudCreditoMapper solicitudMapper) {
+            SolicitudCreditoMapper solicitudMapper,
+            ConsultaSolicitudesPort consultaSolicitudes) {
         this.solicitudRepository = solicitudRepository;
         this.afiliadoRepository = afiliadoRepository;
         this.solicitudMapper = solicitudMapper;
+        this.consultaSolicitudes = consultaSolicitudes;
     }
 
     @Override
@@ -87,9 +95,18 @@ public class SolicitudCreditoService implements CrearSolicitudCreditoUseCase, Co
     public List<SolicitudCreditoDTO> listarTodas() {
         log.debug("Listando todas las solicitudes");
 
-        return solicitudRepository.listarTodas().stream()
-                .map(solicitudMapper::toDTO)
-                .collect(Collectors.toList());
+        return consultaSolicitudes.listarTodas();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaDTO<SolicitudCreditoDTO> listarPagina(Long despuesDe, int limite, OrdenSolicitudes orden) {
+        int limiteNormalizado = PaginaDTO.normalizarLimite(limite);
+        log.debug("Listando solicitudes después de ID: {}, límite: {}, orden: {}", despuesDe, limiteNormalizado, orden);
+
+        // Una fila extra indica si existe página siguiente sin ejecutar un COUNT
+        List<SolicitudCreditoDTO> filas = consultaSolicitudes.listarPagina(despuesDe, limiteNormalizado + 1, orden);
+        return PaginaDTO.de(filas, limiteNormalizado, SolicitudCreditoDTO::getId, Function.identity());
     }
 
     @Override
@@ -97,9 +114,7 @@ public class SolicitudCreditoService implements CrearSolicitudCreditoUseCase, Co
     public List<SolicitudCreditoDTO> listarPorAfiliado(Long afiliadoId) {
         log.debug("Listando solicitudes del afiliado ID: {}", afiliadoId);
 
-        return solicitudRepository.listarPorAfiliado(afiliadoId).stream()
-                .map(solicitudMapper::toDTO)
-                .collect(Collectors.toList());
+        return consultaSolicitudes.listarPorAfiliado(afiliadoId);
     }
 
     @Override
@@ -107,8 +122,6 @@ public class SolicitudCreditoService implements CrearSolicitudCreditoUseCase, Co
     public List<SolicitudCreditoDTO> listarPorEstado(EstadoSolicitud estado) {
         log.debug("Listando solicitudes con estado: {}", estado);
 
-        return solicitudRepository.listarPorEstado(estado).stream()
-                .map(solicitudMapper::toDTO)
-                .collect(Collectors.toList());
+        return consultaSolicitudes.listarPorEstado(estado);
     }
 }
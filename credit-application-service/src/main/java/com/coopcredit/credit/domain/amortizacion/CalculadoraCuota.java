@@ -0,0 +1,184 @@
+package com.coopcredit.credit.domain.amortizacion;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Cálculo de la cuota mensual por amortización francesa: C = M * [i * (1 + i)^n] / [(1 + i)^n - 1].
+ *
+ * El resultado es idéntico, al centavo, al cálculo en {@link BigDecimal} de
+ * {@link #cuotaMensualExacta}: tasa mensual redondeada a 10 decimales, factor
+ * {@code i(1+i)^n / ((1+i)^n - 1)} redondeado a 10 decimales y cuota redondeada a 2,
+ * todo con HALF_UP. La diferencia está en cómo se obtiene el factor:
+ * <ul>
+ *   <li>La tasa mensual se calcula como entero escalado ({@code long} en unidades de 10^-10).</li>
+ *   <li>El factor se calcula en {@code double} con {@code log1p/exp/expm1} y una cota de error
+ *       conservadora. Si el valor cae tan cerca del punto medio de redondeo que la cota no
+ *       garantiza el mismo resultado, se calcula con {@code BigDecimal}.</li>
+ *   <li>Los factores de las tasas habituales (múltiplos de 0,25% hasta 50%) y plazos de hasta
+ *       360 meses se guardan en una tabla que se llena por tasa la primera vez que se usa.</li>
+ * </ul>
+ * Solo la multiplicación final por el monto y su redondeo se hacen en {@code BigDecimal}.
+ */
+public final class CalculadoraCuota {
+
+    private static final BigDecimal CIEN = BigDecimal.valueOf(100);
+    private static final BigDecimal DOCE = BigDecimal.valueOf(12);
+    private static final int ESCALA_TASA = 10;
+    private static final double UNIDAD_ESCALA = 1e10;
+
+    /**
+     * Error de redondeo unitario de double (2^-53).
+     */
+    private static final double EPSILON = 0x1p-53;
+
+    /**
+     * Exponente máximo n*ln(1+i) del cálculo en double; por encima se usa BigDecimal.
+     */
+    private static final double EXPONENTE_MAXIMO = 50;
+
+    private static final long SIN_VALOR = Long.MIN_VALUE;
+
+    private static final int PLAZO_MAXIMO_TABLA = 360;
+    private static final int PASO_TASA_TABLA = 25; // centésimas de punto porcentual (0,25%)
+    private static final int TASA_MAXIMA_TABLA = 5000; // 50,00%
+    private static final AtomicReferenceArray<long[]> TABLA_FACTORES =
+            new AtomicReferenceArray<>(TASA_MAXIMA_TABLA / PASO_TASA_TABLA + 1);
+
+    private CalculadoraCuota() {
+    }
+
+    /**
+     * Calcula la cuota mensual.
+     *
+     * @param monto      monto del crédito
+     * @param tasaAnual  tasa anual en porcentaje (15.00 = 15%)
+     * @param plazoMeses plazo en meses; con plazo 0 retorna el monto
+     */
+    public static BigDecimal cuotaMensual(BigDecimal monto, BigDecimal tasaAnual, Integer plazoMeses) {
+        if (plazoMeses == 0) {
+            return monto;
+        }
+        // tasaAnual / 100 en unidades de 10^-10: exacto si la tasa tiene hasta 8 decimales
+        long tasaAnualE10 = aEnteroEscalado(tasaAnual, 8);
+        if (plazoMeses < 0 || tasaAnualE10 < 0) {
+            return cuotaMensualExacta(monto, tasaAnual, plazoMeses);
+        }
+
+        long tasaMensualE10 = dividirHalfUp(tasaAnualE10, 12);
+        if (tasaMensualE10 == 0) {
+            return monto.divide(BigDecimal.valueOf(plazoMeses), 2, RoundingMode.HALF_UP);
+        }
+
+        long factorE10 = factorE10(tasaAnualE10, tasaMensualE10, plazoMeses);
+        return monto.multiply(BigDecimal.valueOf(factorE10, ESCALA_TASA))
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Tasa mensual redondeada a 10 decimales (HALF_UP), la misma que usa el cálculo de la cuota.
+     */
+    public static BigDecimal tasaMensual(BigDecimal tasaAnual) {
+        return tasaAnual.divide(CIEN, ESCALA_TASA, RoundingMode.HALF_UP)
+                .divide(DOCE, ESCALA_TASA, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Cálculo de referencia íntegramente en BigDecimal. Se usa para entradas fuera del
+     * rango del cálculo rápido y como referencia en las pruebas.
+     */
+    public static BigDecimal cuotaMensualExacta(BigDecimal monto, BigDecimal tasaAnual, Integer plazoMeses) {
+        if (plazoMeses == 0) {
+            return monto;
+        }
+
+        BigDecimal tasaMensual = tasaMensual(tasaAnual);
+
+        if (tasaMensual.compareTo(BigDecimal.ZERO) == 0) {
+            return monto.divide(BigDecimal.valueOf(plazoMeses), 2, RoundingMode.HALF_UP);
+        }
+
+        BigDecimal unoPlusTasa = BigDecimal.ONE.add(tasaMensual);
+        BigDecimal potencia = unoPlusTasa.pow(plazoMeses);
+        BigDecimal numerador = tasaMensual.multiply(potencia);
+        BigDecimal denominador = potencia.subtract(BigDecimal.ONE);
+
+        return monto.multiply(numerador.divide(denominador, ESCALA_TASA, RoundingMode.HALF_UP))
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static long factorE10(long tasaAnualE10, long tasaMensualE10, int plazoMeses) {
+        int fila = filaTabla(tasaAnualE10);
+        if (fila < 0 || plazoMeses > PLAZO_MAXIMO_TABLA) {
+            return calcularFactorE10(tasaMensualE10, plazoMeses);
+        }
+        long[] factores = TABLA_FACTORES.get(fila);
+        if (factores == null) {
+            factores = new long[PLAZO_MAXIMO_TABLA + 1];
+            for (int n = 1; n <= PLAZO_MAXIMO_TABLA; n++) {
+                factores[n] = calcularFactorE10(tasaMensualE10, n);
+            }
+            TABLA_FACTORES.compareAndSet(fila, null, factores);
+        }
+        return factores[plazoMeses];
+    }
+
+    /**
+     * Fila de la tabla para tasas que son múltiplo exacto de 0,25% hasta 50%, o -1.
+     */
+    private static int filaTabla(long tasaAnualE10) {
+        // tasaAnualE10 = tasa% * 10^8; en centésimas de punto porcentual: tasa% * 100
+        if (tasaAnualE10 % 1_000_000 != 0) {
+            return -1;
+        }
+        long centesimas = tasaAnualE10 / 1_000_000;
+        if (centesimas % PASO_TASA_TABLA != 0 || centesimas > TASA_MAXIMA_TABLA) {
+            return -1;
+        }
+        return (int) (centesimas / PASO_TASA_TABLA);
+    }
+
+    /**
+     * Factor i(1+i)^n / ((1+i)^n - 1) redondeado HALF_UP a 10 decimales, en unidades de 10^-10.
+     */
+    static long calcularFactorE10(long tasaMensualE10, int plazoMeses) {
+        double i = tasaMensualE10 / UNIDAD_ESCALA;
+        double x = plazoMeses * Math.log1p(i);
+        if (x <= EXPONENTE_MAXIMO) {
+            double factor = i * Math.exp(x) / Math.expm1(x) * UNIDAD_ESCALA;
+            // Cota del error relativo acumulado (tasa, log1p, producto, exp, expm1 y divisiones):
+            // crece con x porque el error absoluto de x se amplifica en exp. Se deja holgura sobre
+            // la cota analítica (~10x + 12 ulps) y se suma el redondeo del escalado.
+            double tolerancia = factor * (16 + 16 * x) * EPSILON + 2 * Math.ulp(factor);
+            double piso = Math.floor(factor);
+            double fraccion = factor - piso;
+            if (Math.abs(fraccion - 0.5) > tolerancia) {
+                return (long) piso + (fraccion > 0.5 ? 1 : 0);
+            }
+        }
+        return calcularFactorE10Exacto(tasaMensualE10, plazoMeses);
+    }
+
+    static long calcularFactorE10Exacto(long tasaMensualE10, int plazoMeses) {
+        BigDecimal tasaMensual = BigDecimal.valueOf(tasaMensualE10, ESCALA_TASA);
+        BigDecimal potencia = BigDecimal.ONE.add(tasaMensual).pow(plazoMeses);
+        return tasaMensual.multiply(potencia)
+                .divide(potencia.subtract(BigDecimal.ONE), ESCALA_TASA, RoundingMode.HALF_UP)
+                .unscaledValue().longValueExact();
+    }
+
+    /**
+     * Valor * 10^escala como long si es exacto y cabe en 18 dígitos; si no, SIN_VALOR.
+     */
+    private static long aEnteroEscalado(BigDecimal valor, int escala) {
+        if (valor.scale() > escala || valor.precision() - valor.scale() + escala > 18) {
+            return SIN_VALOR;
+        }
+        return valor.movePointRight(escala).longValue();
+    }
+
+    private static long dividirHalfUp(long dividendo, long divisor) {
+        return (dividendo + divisor / 2) / divisor;
+    }
+}
@@ -0,0 +1,85 @@
+package com.coopcredit.credit.domain.amortizacion;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Recorre las filas de un {@link PlanAmortizacion} periodo a periodo.
+ *
+ * Los importes se llevan en centavos ({@code long}) y la misma instancia representa
+ * la fila actual, de modo que recorrer un plan largo no crea una fila por periodo.
+ * El interés de cada periodo es el saldo por la tasa mensual, redondeado HALF_UP al
+ * centavo; el último periodo amortiza el saldo restante, por lo que su cuota puede
+ * diferir de la cuota fija en algunos centavos. No es seguro para uso concurrente.
+ */
+public final class CursorAmortizacion {
+
+    private static final long UNIDAD_TASA = 10_000_000_000L;
+
+    private final long cuotaFija;
+    private final long tasaMensualE10;
+    private final int plazoMeses;
+
+    private int periodo;
+    private long cuota;
+    private long interes;
+    private long capital;
+    private long saldo;
+
+    CursorAmortizacion(long montoCentavos, long cuotaCentavos, long tasaMensualE10, int plazoMeses) {
+        this.saldo = montoCentavos;
+        this.cuotaFija = cuotaCentavos;
+        this.tasaMensualE10 = tasaMensualE10;
+        this.plazoMeses = plazoMeses;
+    }
+
+    /**
+     * Avanza al siguiente periodo.
+     *
+     * @return false si ya no quedan periodos
+     */
+    public boolean avanzar() {
+        if (periodo >= plazoMeses) {
+            return false;
+        }
+        periodo++;
+        interes = interesCentavos(saldo);
+        capital = periodo == plazoMeses ? saldo : Math.max(0, Math.min(cuotaFija - interes, saldo));
+        cuota = interes + capital;
+        saldo -= capital;
+        return true;
+    }
+
+    private long interesCentavos(long saldoCentavos) {
+        if (tasaMensualE10 == 0 || saldoCentavos == 0) {
+            return 0;
+        }
+        if (saldoCentavos <= (Long.MAX_VALUE - UNIDAD_TASA / 2) / tasaMensualE10) {
+            return (saldoCentavos * tasaMensualE10 + UNIDAD_TASA / 2) / UNIDAD_TASA;
+        }
+        return BigDecimal.valueOf(saldoCentavos)
+                .multiply(BigDecimal.valueOf(tasaMensualE10, 10))
+                .setScale(0, RoundingMode.HALF_UP)
+                .longValueExact();
+    }
+
+    public int getPeriodo() {
+        return periodo;
+    }
+
+    public BigDecimal getCuota() {
+        return BigDecimal.valueOf(cuota, 2);
+    }
+
+    public BigDecimal getInteres() {
+        return BigDecimal.valueOf(interes, 2);
+    }
+
+    public BigDecimal getCapital() {
+        return BigDecimal.valueOf(capital, 2);
+    }
+
+    public BigDecimal getSaldo() {
+        return BigDecimal.valueOf(saldo, 2);
+    }
+}
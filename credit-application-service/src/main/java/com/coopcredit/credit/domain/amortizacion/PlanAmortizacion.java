@@ -0,0 +1,73 @@
+package com.coopcredit.credit.domain.amortizacion;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Plan de pagos de un crédito con cuota fija (amortización francesa).
+ *
+ * Solo guarda los términos del crédito y la cuota; las filas del plan se generan
+ * una a una con {@link #cursor()}, sin construir la lista completa.
+ */
+public final class PlanAmortizacion {
+
+    private final BigDecimal monto;
+    private final BigDecimal tasaAnual;
+    private final int plazoMeses;
+    private final BigDecimal cuotaMensual;
+    private final long tasaMensualE10;
+
+    private PlanAmortizacion(BigDecimal monto, BigDecimal tasaAnual, int plazoMeses) {
+        this.monto = monto;
+        this.tasaAnual = tasaAnual;
+        this.plazoMeses = plazoMeses;
+        this.cuotaMensual = CalculadoraCuota.cuotaMensual(monto, tasaAnual, plazoMeses)
+                .setScale(2, RoundingMode.HALF_UP);
+        this.tasaMensualE10 = CalculadoraCuota.tasaMensual(tasaAnual).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Crea el plan para los términos dados. La cuota es la misma que usan las políticas de crédito.
+     *
+     * @throws IllegalArgumentException si algún término es inválido
+     */
+    public static PlanAmortizacion de(BigDecimal monto, BigDecimal tasaAnual, int plazoMeses) {
+        if (monto == null || monto.signum() <= 0) {
+            throw new IllegalArgumentException("El monto debe ser mayor a cero");
+        }
+        if (tasaAnual == null || tasaAnual.signum() < 0) {
+            throw new IllegalArgumentException("La tasa no puede ser negativa");
+        }
+        if (plazoMeses <= 0) {
+            throw new IllegalArgumentException("El plazo debe ser mayor a cero");
+        }
+        return new PlanAmortizacion(monto, tasaAnual, plazoMeses);
+    }
+
+    /**
+     * Cursor nuevo, posicionado antes del primer periodo.
+     */
+    public CursorAmortizacion cursor() {
+        return new CursorAmortizacion(
+                monto.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact(),
+                cuotaMensual.unscaledValue().longValueExact(),
+                tasaMensualE10,
+                plazoMeses);
+    }
+
+    public BigDecimal getMonto() {
+        return monto;
+    }
+
+    public BigDecimal getTasaAnual() {
+        return tasaAnual;
+    }
+
+    public int getPlazoMeses() {
+        return plazoMeses;
+    }
+
+    public BigDecimal getCuotaMensual() {
+        return cuotaMensual;
+    }
+}
@@ -0,0 +1,26 @@
+package com.coopcredit.credit.domain.exception;
+
+/**
+ * Excepción lanzada cuando una solicitud fue modificada por otra operación
+ * mientras se evaluaba (conflicto de versión optimista).
+ * 
+ * SOLID - LSP: Puede ser sustituida por BusinessRuleViolationException.
+ * SOLID - SRP: Solo representa el conflicto de escritura concurrente.
+ */
+public class EvaluacionConcurrenteException extends BusinessRuleViolationException {
+
+    private static final String ENTITY_TYPE = "SolicitudCredito";
+    private static final String RULE_CODE = "MODIFICACION_CONCURRENTE";
+
+    private final Long solicitudId;
+
+    public EvaluacionConcurrenteException(Long solicitudId) {
+        super("La solicitud " + solicitudId + " fue modificada por otra operación durante la evaluación",
+                ENTITY_TYPE, RULE_CODE);
+        this.solicitudId = solicitudId;
+    }
+
+    public Long getSolicitudId() {
+        return solicitudId;
+    }
+}
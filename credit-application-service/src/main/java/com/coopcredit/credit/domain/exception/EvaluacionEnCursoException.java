@@ -0,0 +1,25 @@
+package com.coopcredit.credit.domain.exception;
+
+/**
+ * Excepción lanzada cuando otra evaluación de la misma solicitud ya está en curso
+ * (en esta u otra instancia de la aplicación).
+ * 
+ * SOLID - LSP: Puede ser sustituida por BusinessRuleViolationException.
+ * SOLID - SRP: Solo representa la evaluación duplicada.
+ */
+public class EvaluacionEnCursoException extends BusinessRuleViolationException {
+
+    private static final String ENTITY_TYPE = "SolicitudCredito";
+    private static final String RULE_CODE = "EVALUACION_EN_CURSO";
+
+    private final Long solicitudId;
+
+    public EvaluacionEnCursoException(Long solicitudId) {
+        super("La solicitud " + solicitudId + " ya se está evaluando", ENTITY_TYPE, RULE_CODE);
+        this.solicitudId = solicitudId;
+    }
+
+    public Long getSolicitudId() {
+        return solicitudId;
+    }
+}
@@ -0,0 +1,16 @@
+package com.coopcredit.credit.domain.exception;
+
+/**
+ * Excepción lanzada cuando no se encuentra un proceso de evaluación masiva.
+ * 
+ * SOLID - LSP: Puede ser sustituida por EntityNotFoundException.
+ * SOLID - SRP: Solo representa el error de evaluación masiva no encontrada.
+ */
+public class EvaluacionMasivaNoEncontradaException extends EntityNotFoundException {
+
+    private static final String ENTITY_TYPE = "EvaluacionMasiva";
+
+    public EvaluacionMasivaNoEncontradaException(String jobId) {
+        super("Evaluación masiva no encontrada con ID: " + jobId, ENTITY_TYPE, jobId);
+    }
+}
@@ -0,0 +1,18 @@
+package com.coopcredit.credit.domain.exception;
+
+/**
+ * Excepción lanzada cuando ya se alcanzó el máximo de evaluaciones masivas en curso.
+ * 
+ * SOLID - LSP: Puede ser sustituida por BusinessRuleViolationException.
+ * SOLID - SRP: Solo representa el límite de procesos masivos simultáneos.
+ */
+public class EvaluacionesMasivasSaturadasException extends BusinessRuleViolationException {
+
+    private static final String ENTITY_TYPE = "EvaluacionMasiva";
+    private static final String RULE_CODE = "MAX_PROCESOS_ACTIVOS";
+
+    public EvaluacionesMasivasSaturadasException(int maxProcesosActivos) {
+        super("Ya hay " + maxProcesosActivos + " evaluaciones masivas en curso; intente más tarde",
+                ENTITY_TYPE, RULE_CODE);
+    }
+}
@@ -17,9 +17,6 @@ public class Afiliado {
     private LocalDate fechaAfiliacion;
     private EstadoAfiliado estado;
 
-    // Constante de negocio: antigüedad mínima en meses
-    private static final int ANTIGUEDAD_MINIMA_MESES = 6;
-
     public Afiliado() {
     }
 
@@ -43,26 +40,46 @@ public class Afiliado {
     /**
      * Verifica si el afiliado puede recibir crédito.
      * Debe estar activo y tener la antigüedad mínima requerida.
+     *
+     * @param antiguedadMinimaMeses antigüedad mínima de los parámetros de política vigentes
+     */
+    public boolean puedeRecibirCredito(int antiguedadMinimaMeses) {
+        return puedeRecibirCredito(estado, fechaAfiliacion, antiguedadMinimaMeses);
+    }
+
+    /**
+     * Misma regla que {@link #puedeRecibirCredito(int)} a partir de los datos sueltos,
+     * para lecturas que no construyen el afiliado de dominio.
      */
-    public boolean puedeRecibirCredito() {
-        return estaActivo() && tieneAntiguedadMinima();
+    public static boolean puedeRecibirCredito(EstadoAfiliado estado, LocalDate fechaAfiliacion,
+            int antiguedadMinimaMeses) {
+        return estado == EstadoAfiliado.ACTIVO && fechaAfiliacion != null
+                && mesesAntiguedad(fechaAfiliacion) >= antiguedadMinimaMeses;
     }
 
     /**
      * Verifica si el afiliado tiene la antigüedad mínima requerida.
+     *
+     * @param antiguedadMinimaMeses antigüedad mínima de los parámetros de política vigentes
      */
-    public boolean tieneAntiguedadMinima() {
+    public boolean tieneAntiguedadMinima(int antiguedadMinimaMeses) {
         if (fechaAfiliacion == null) {
             return false;
         }
-        long mesesAfiliacion = ChronoUnit.MONTHS.between(fechaAfiliacion, LocalDate.now());
-        return mesesAfiliacion >= ANTIGUEDAD_MINIMA_MESES;
+        return mesesAntiguedad(fechaAfiliacion) >= antiguedadMinimaMeses;
     }
 
     /**
      * Obtiene los meses de antigüedad del afiliado.
      */
     public long getMesesAntiguedad() {
+        return mesesAntiguedad(fechaAfiliacion);
+    }
+
+    /**
+     * Meses completos transcurridos desde la fecha de afiliación (0 si no hay fecha).
+     */
+    public static long mesesAntiguedad(LocalDate fechaAfiliacion) {
         if (fechaAfiliacion == null) {
             return 0;
         }
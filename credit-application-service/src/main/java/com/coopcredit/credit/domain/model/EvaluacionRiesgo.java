@@ -23,6 +23,7 @@ public final class EvaluacionRiesgo {
     private final String motivo;
     private final BigDecimal relacionCuotaIngreso;
     private final LocalDateTime fechaEvaluacion;
+    private final Long versionPoliticas;
 
     /**
      * Constructor vacío para compatibilidad con JPA/frameworks.
@@ -36,6 +37,7 @@ public final class EvaluacionRiesgo {
         this.motivo = null;
         this.relacionCuotaIngreso = null;
         this.fechaEvaluacion = null;
+        this.versionPoliticas = null;
     }
 
     /**
@@ -44,6 +46,16 @@ public final class EvaluacionRiesgo {
     public EvaluacionRiesgo(Long id, Integer score, NivelRiesgo nivelRiesgo, String detalleRiesgo,
             Boolean aprobado, String motivo, BigDecimal relacionCuotaIngreso,
             LocalDateTime fechaEvaluacion) {
+        this(id, score, nivelRiesgo, detalleRiesgo, aprobado, motivo, relacionCuotaIngreso,
+                fechaEvaluacion, null);
+    }
+
+    /**
+     * Constructor con la versión de los parámetros de política usados en la evaluación.
+     */
+    public EvaluacionRiesgo(Long id, Integer score, NivelRiesgo nivelRiesgo, String detalleRiesgo,
+            Boolean aprobado, String motivo, BigDecimal relacionCuotaIngreso,
+            LocalDateTime fechaEvaluacion, Long versionPoliticas) {
         this.id = id;
         this.score = score;
         this.nivelRiesgo = nivelRiesgo;
@@ -52,6 +64,7 @@ public final class EvaluacionRiesgo {
         this.motivo = motivo;
         this.relacionCuotaIngreso = relacionCuotaIngreso;
         this.fechaEvaluacion = fechaEvaluacion;
+        this.versionPoliticas = versionPoliticas;
     }
 
     /**
@@ -83,7 +96,19 @@ public final class EvaluacionRiesgo {
     public EvaluacionRiesgo withId(Long id) {
         return new EvaluacionRiesgo(
                 id, this.score, this.nivelRiesgo, this.detalleRiesgo,
-                this.aprobado, this.motivo, this.relacionCuotaIngreso, this.fechaEvaluacion
+                this.aprobado, this.motivo, this.relacionCuotaIngreso, this.fechaEvaluacion,
+                this.versionPoliticas
+        );
+    }
+
+    /**
+     * Crea una copia que registra la versión de los parámetros de política usados.
+     */
+    public EvaluacionRiesgo withVersionPoliticas(Long versionPoliticas) {
+        return new EvaluacionRiesgo(
+                this.id, this.score, this.nivelRiesgo, this.detalleRiesgo,
+                this.aprobado, this.motivo, this.relacionCuotaIngreso, this.fechaEvaluacion,
+                versionPoliticas
         );
     }
 
@@ -125,6 +150,10 @@ public final class EvaluacionRiesgo {
         return fechaEvaluacion;
     }
 
+    public Long getVersionPoliticas() {
+        return versionPoliticas;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
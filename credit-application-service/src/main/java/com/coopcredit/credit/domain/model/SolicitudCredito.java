@@ -17,6 +17,7 @@ public class SolicitudCredito {
     private LocalDateTime fechaSolicitud;
     private EstadoSolicitud estado;
     private EvaluacionRiesgo evaluacion;
+    private Long version;
 
     public SolicitudCredito() {
         this.estado = EstadoSolicitud.PENDIENTE;
@@ -124,4 +125,12 @@ public class SolicitudCredito {
     public void setEvaluacion(EvaluacionRiesgo evaluacion) {
         this.evaluacion = evaluacion;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -21,6 +21,17 @@ public interface CreditPolicy {
      */
     PolicyEvaluationResult evaluate(SolicitudCredito solicitud, Afiliado afiliado);
 
+    /**
+     * Evalúa la política con el contexto completo de la evaluación.
+     * Las políticas que necesitan datos externos o la cuota ya calculada lo sobrescriben.
+     *
+     * @param context solicitud, afiliado y datos de riesgo externo
+     * @return resultado de la evaluación de la política
+     */
+    default PolicyEvaluationResult evaluate(PolicyEvaluationContext context) {
+        return evaluate(context.getSolicitud(), context.getAfiliado());
+    }
+
     /**
      * Obtiene el nombre de la política.
      */
@@ -2,11 +2,21 @@ package com.coopcredit.credit.domain.policy;
 
 import com.coopcredit.credit.domain.model.Afiliado;
 import com.coopcredit.credit.domain.model.SolicitudCredito;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 /**
@@ -15,21 +25,198 @@ import java.util.stream.Collectors;
  * SOLID - OCP: Nuevas políticas se agregan automáticamente via inyección de dependencias.
  * SOLID - DIP: Depende de la abstracción CreditPolicy, no de implementaciones concretas.
  * SOLID - SRP: Solo se encarga de evaluar políticas.
+ *
+ * Cada ejecución retorna un {@link PolicyEvaluationReport} inmutable con todos los
+ * resultados; el modo ({@link EvaluationMode}) define si se evalúan todas las políticas,
+ * si se detiene en el primer nivel de prioridad rechazado o si se evalúan en paralelo.
+ * El tiempo de cada política se publica en un {@link PolicyExecutionListener}.
+ * El pool propio del modo PARALLEL se crea en la primera evaluación paralela.
+ *
+ * Además de las políticas Java, evalúa las reglas declarativas compiladas que se
+ * publiquen con {@link #setRulePolicies}. El conjunto se reemplaza completo y cada
+ * ejecución lee una sola vez la lista vigente.
  */
 @Component
 public class CreditPolicyEvaluator {
 
-    private final List<CreditPolicy> policies;
+    private final List<CreditPolicy> javaPolicies;
+    private volatile List<CreditPolicy> policies;
+    private final PolicyExecutionListener listener;
+    private final EvaluationMode defaultMode;
+    private final int hilosParalelos;
+    private volatile Executor executor;
+    private boolean detenido;
+
+    /**
+     * Evaluador secuencial (modo FULL), sin métricas ni ejecución paralela.
+     */
+    public CreditPolicyEvaluator(List<CreditPolicy> policies) {
+        this(policies, PolicyExecutionListener.NO_OP, EvaluationMode.FULL, null);
+    }
+
+    /**
+     * @param executor ejecutor para el modo PARALLEL; si es null ese modo evalúa en secuencia
+     */
+    public CreditPolicyEvaluator(List<CreditPolicy> policies, PolicyExecutionListener listener,
+            EvaluationMode defaultMode, Executor executor) {
+        this(policies, listener, defaultMode, executor, 0);
+    }
 
     /**
      * Constructor que inyecta automáticamente todas las implementaciones de CreditPolicy.
      * 
      * SOLID - DIP: Spring inyecta todas las implementaciones de la interfaz.
      */
-    public CreditPolicyEvaluator(List<CreditPolicy> policies) {
-        this.policies = policies.stream()
+    @Autowired
+    public CreditPolicyEvaluator(List<CreditPolicy> policies,
+            ObjectProvider<PolicyExecutionListener> listener,
+            @Value("${coopcredit.politicas.evaluacion.modo:FULL}") EvaluationMode defaultMode,
+            @Value("${coopcredit.politicas.evaluacion.hilos-paralelos:4}") int hilosParalelos) {
+        this(policies, listener.getIfAvailable(() -> PolicyExecutionListener.NO_OP), defaultMode, hilosParalelos);
+    }
+
+    /**
+     * @param hilosParalelos hilos del pool propio del modo PARALLEL, creado en la primera
+     *                       evaluación paralela; con 0 ese modo evalúa en secuencia
+     */
+    CreditPolicyEvaluator(List<CreditPolicy> policies, PolicyExecutionListener listener,
+            EvaluationMode defaultMode, int hilosParalelos) {
+        this(policies, listener, defaultMode, null, hilosParalelos);
+    }
+
+    private CreditPolicyEvaluator(List<CreditPolicy> policies, PolicyExecutionListener listener,
+            EvaluationMode defaultMode, Executor executor, int hilosParalelos) {
+        this.javaPolicies = List.copyOf(policies);
+        this.policies = sortByPriority(javaPolicies);
+        this.listener = listener;
+        this.defaultMode = defaultMode;
+        this.executor = executor;
+        this.hilosParalelos = hilosParalelos;
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        detenido = true;
+        if (hilosParalelos > 0 && executor != null) {
+            ((ExecutorService) executor).shutdown();
+        }
+    }
+
+    /**
+     * Ejecutor del modo PARALLEL. Sin ejecutor externo, crea el pool propio la primera
+     * vez que se necesita; en modo FULL o FAIL_FAST no se crean hilos.
+     *
+     * @return ejecutor, o null si el modo PARALLEL debe evaluar en secuencia
+     */
+    private Executor executorParalelo() {
+        Executor actual = executor;
+        if (actual != null || hilosParalelos <= 0) {
+            return actual;
+        }
+        synchronized (this) {
+            if (executor == null && !detenido) {
+                executor = Executors.newFixedThreadPool(hilosParalelos,
+                        new CustomizableThreadFactory("politicas-credito-"));
+            }
+            return executor;
+        }
+    }
+
+    /**
+     * Reemplaza las reglas declarativas evaluadas junto a las políticas Java.
+     * Las ejecuciones en curso terminan con el conjunto anterior.
+     *
+     * @param rulePolicies reglas compiladas (vacía para quitar todas)
+     */
+    public void setRulePolicies(List<? extends CreditPolicy> rulePolicies) {
+        List<CreditPolicy> todas = new ArrayList<>(javaPolicies.size() + rulePolicies.size());
+        todas.addAll(javaPolicies);
+        todas.addAll(rulePolicies);
+        this.policies = sortByPriority(todas);
+    }
+
+    private static List<CreditPolicy> sortByPriority(List<CreditPolicy> policies) {
+        return policies.stream()
                 .sorted(Comparator.comparingInt(CreditPolicy::getPriority))
-                .collect(Collectors.toList());
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Evalúa las políticas con el modo configurado.
+     */
+    public PolicyEvaluationReport evaluate(PolicyEvaluationContext context) {
+        return evaluate(context, defaultMode);
+    }
+
+    /**
+     * Evalúa las políticas con el modo indicado.
+     *
+     * @param context solicitud, afiliado y datos de riesgo externo
+     * @param mode modo de ejecución
+     * @return resultados de la ejecución en orden de prioridad
+     */
+    public PolicyEvaluationReport evaluate(PolicyEvaluationContext context, EvaluationMode mode) {
+        List<CreditPolicy> policies = this.policies;
+        return switch (mode) {
+            case FULL -> evaluateSequential(policies, context, false);
+            case FAIL_FAST -> evaluateSequential(policies, context, true);
+            case PARALLEL -> {
+                Executor paralelo = policies.size() < 2 ? null : executorParalelo();
+                yield paralelo == null
+                        ? evaluateSequential(policies, context, false)
+                        : evaluateParallel(policies, context, paralelo);
+            }
+        };
+    }
+
+    private PolicyEvaluationReport evaluateSequential(List<CreditPolicy> policies,
+            PolicyEvaluationContext context, boolean failFast) {
+        List<PolicyEvaluationResult> results = new ArrayList<>(policies.size());
+        boolean failed = false;
+        int currentPriority = Integer.MIN_VALUE;
+
+        for (CreditPolicy policy : policies) {
+            if (failFast && failed && policy.getPriority() != currentPriority) {
+                return new PolicyEvaluationReport(results, false);
+            }
+            currentPriority = policy.getPriority();
+            PolicyEvaluationResult result = evaluateTimed(policy, context);
+            failed |= result.isFailed();
+            results.add(result);
+        }
+
+        return new PolicyEvaluationReport(results, true);
+    }
+
+    private PolicyEvaluationReport evaluateParallel(List<CreditPolicy> policies, PolicyEvaluationContext context,
+            Executor executor) {
+        List<CompletableFuture<PolicyEvaluationResult>> futures = new ArrayList<>(policies.size());
+        for (CreditPolicy policy : policies) {
+            futures.add(CompletableFuture.supplyAsync(() -> evaluateTimed(policy, context), executor));
+        }
+
+        List<PolicyEvaluationResult> results = new ArrayList<>(policies.size());
+        for (CompletableFuture<PolicyEvaluationResult> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException causa) {
+                    throw causa;
+                }
+                throw e;
+            }
+        }
+        return new PolicyEvaluationReport(results, true);
+    }
+
+    private PolicyEvaluationResult evaluateTimed(CreditPolicy policy, PolicyEvaluationContext context) {
+        if (listener == PolicyExecutionListener.NO_OP) {
+            return policy.evaluate(context);
+        }
+        long inicio = System.nanoTime();
+        PolicyEvaluationResult result = policy.evaluate(context);
+        listener.policyEvaluated(policy.getPolicyName(), System.nanoTime() - inicio, result.isPassed());
+        return result;
     }
 
     /**
@@ -40,40 +227,31 @@ public class CreditPolicyEvaluator {
      * @return lista de resultados de evaluación
      */
     public List<PolicyEvaluationResult> evaluateAll(SolicitudCredito solicitud, Afiliado afiliado) {
-        List<PolicyEvaluationResult> results = new ArrayList<>();
-
-        for (CreditPolicy policy : policies) {
-            PolicyEvaluationResult result = policy.evaluate(solicitud, afiliado);
-            results.add(result);
-        }
-
-        return results;
+        return evaluate(PolicyEvaluationContext.of(solicitud, afiliado), EvaluationMode.FULL).getResults();
     }
 
     /**
-     * Evalúa todas las políticas y determina si todas pasaron.
+     * Evalúa las políticas y determina si todas pasaron.
+     * Se detiene en el primer nivel de prioridad rechazado.
      * 
      * @param solicitud solicitud a evaluar
      * @param afiliado afiliado solicitante
      * @return true si todas las políticas pasaron
      */
     public boolean evaluateAndCheckApproval(SolicitudCredito solicitud, Afiliado afiliado) {
-        return evaluateAll(solicitud, afiliado).stream()
-                .allMatch(PolicyEvaluationResult::isPassed);
+        return evaluate(PolicyEvaluationContext.of(solicitud, afiliado), EvaluationMode.FAIL_FAST).isApproved();
     }
 
     /**
      * Evalúa todas las políticas y retorna los motivos de rechazo.
+     * Para obtener también la aprobación sin evaluar dos veces, usar {@link #evaluate}.
      * 
      * @param solicitud solicitud a evaluar
      * @param afiliado afiliado solicitante
      * @return lista de mensajes de rechazo (vacía si todo pasó)
      */
     public List<String> getFailureReasons(SolicitudCredito solicitud, Afiliado afiliado) {
-        return evaluateAll(solicitud, afiliado).stream()
-                .filter(PolicyEvaluationResult::isFailed)
-                .map(PolicyEvaluationResult::getMessage)
-                .collect(Collectors.toList());
+        return evaluate(PolicyEvaluationContext.of(solicitud, afiliado), EvaluationMode.FULL).getFailureReasons();
     }
 
     /**
@@ -0,0 +1,24 @@
+package com.coopcredit.credit.domain.policy;
+
+/**
+ * Modo de ejecución de las políticas en {@link CreditPolicyEvaluator}.
+ */
+public enum EvaluationMode {
+
+    /**
+     * Evalúa todas las políticas en orden de prioridad.
+     */
+    FULL,
+
+    /**
+     * Evalúa en orden de prioridad y se detiene al terminar el primer nivel de prioridad
+     * con alguna política rechazada. Las políticas de un mismo nivel se evalúan todas.
+     */
+    FAIL_FAST,
+
+    /**
+     * Evalúa todas las políticas en paralelo (útil para políticas costosas o con E/S).
+     * Los resultados se entregan en orden de prioridad.
+     */
+    PARALLEL
+}
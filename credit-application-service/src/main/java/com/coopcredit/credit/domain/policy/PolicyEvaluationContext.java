@@ -0,0 +1,117 @@
+package com.coopcredit.credit.domain.policy;
+
+import com.coopcredit.credit.domain.amortizacion.CalculadoraCuota;
+import com.coopcredit.credit.domain.model.Afiliado;
+import com.coopcredit.credit.domain.model.NivelRiesgo;
+import com.coopcredit.credit.domain.model.SolicitudCredito;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Datos disponibles para evaluar las políticas de una solicitud.
+ *
+ * Incluye el resultado del servicio externo de riesgo cuando ya se consultó, los
+ * parámetros de política con los que se evalúa ({@link PolicySnapshot}), y calcula
+ * la cuota mensual y la relación cuota/ingreso una sola vez para todas las políticas
+ * y reglas que las usan.
+ * Es seguro compartirlo entre hilos: la cuota es determinista, así que dos cálculos
+ * simultáneos producen el mismo valor.
+ */
+public final class PolicyEvaluationContext {
+
+    private final SolicitudCredito solicitud;
+    private final Afiliado afiliado;
+    private final NivelRiesgo nivelRiesgo;
+    private final Integer score;
+    private final PolicySnapshot snapshot;
+    private volatile BigDecimal cuotaMensual;
+    private volatile BigDecimal relacionCuotaIngreso;
+
+    private PolicyEvaluationContext(SolicitudCredito solicitud, Afiliado afiliado,
+            NivelRiesgo nivelRiesgo, Integer score, PolicySnapshot snapshot, BigDecimal cuotaMensual) {
+        this.solicitud = solicitud;
+        this.afiliado = afiliado;
+        this.nivelRiesgo = nivelRiesgo;
+        this.score = score;
+        this.snapshot = snapshot;
+        this.cuotaMensual = cuotaMensual;
+    }
+
+    /**
+     * Crea un contexto sin evaluación de riesgo externa.
+     */
+    public static PolicyEvaluationContext of(SolicitudCredito solicitud, Afiliado afiliado) {
+        return new PolicyEvaluationContext(solicitud, afiliado, null, null, null, null);
+    }
+
+    /**
+     * Retorna un contexto igual a este con el resultado del servicio externo de riesgo.
+     */
+    public PolicyEvaluationContext withExternalRisk(NivelRiesgo nivelRiesgo, Integer score) {
+        return new PolicyEvaluationContext(solicitud, afiliado, nivelRiesgo, score, snapshot, cuotaMensual);
+    }
+
+    /**
+     * Retorna un contexto igual a este que evalúa con los parámetros indicados.
+     */
+    public PolicyEvaluationContext withSnapshot(PolicySnapshot snapshot) {
+        return new PolicyEvaluationContext(solicitud, afiliado, nivelRiesgo, score, snapshot, cuotaMensual);
+    }
+
+    public SolicitudCredito getSolicitud() {
+        return solicitud;
+    }
+
+    public Afiliado getAfiliado() {
+        return afiliado;
+    }
+
+    public boolean hasExternalRisk() {
+        return nivelRiesgo != null;
+    }
+
+    public NivelRiesgo getNivelRiesgo() {
+        return nivelRiesgo;
+    }
+
+    public Integer getScore() {
+        return score;
+    }
+
+    /**
+     * Parámetros fijados para esta evaluación, o null si se usan los vigentes.
+     *
+     * @see PolicySnapshotHolder#snapshotFor
+     */
+    public PolicySnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Cuota mensual de la solicitud, calculada en el primer uso.
+     */
+    public BigDecimal getCuotaMensual() {
+        BigDecimal cuota = cuotaMensual;
+        if (cuota == null) {
+            cuota = CalculadoraCuota.cuotaMensual(
+                    solicitud.getMonto(), solicitud.getTasaPropuesta(), solicitud.getPlazoMeses());
+            cuotaMensual = cuota;
+        }
+        return cuota;
+    }
+
+    /**
+     * Relación cuota/ingreso (escala 4), calculada en el primer uso.
+     *
+     * @throws ArithmeticException si el salario del afiliado es cero
+     */
+    public BigDecimal getRelacionCuotaIngreso() {
+        BigDecimal relacion = relacionCuotaIngreso;
+        if (relacion == null) {
+            relacion = getCuotaMensual().divide(afiliado.getSalario(), 4, RoundingMode.HALF_UP);
+            relacionCuotaIngreso = relacion;
+        }
+        return relacion;
+    }
+}
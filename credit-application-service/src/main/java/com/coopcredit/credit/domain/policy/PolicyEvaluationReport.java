@@ -0,0 +1,62 @@
+package com.coopcredit.credit.domain.policy;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Resultado de una ejecución de {@link CreditPolicyEvaluator} (Value Object inmutable).
+ *
+ * Reúne los resultados de las políticas evaluadas en una sola pasada, para que
+ * la aprobación y los motivos de rechazo no requieran volver a evaluarlas.
+ */
+public final class PolicyEvaluationReport {
+
+    private final List<PolicyEvaluationResult> results;
+    private final List<PolicyEvaluationResult> failures;
+    private final boolean complete;
+
+    PolicyEvaluationReport(List<PolicyEvaluationResult> results, boolean complete) {
+        this.results = List.copyOf(results);
+        this.failures = this.results.stream()
+                .filter(PolicyEvaluationResult::isFailed)
+                .toList();
+        this.complete = complete;
+    }
+
+    /**
+     * Resultados en orden de prioridad.
+     */
+    public List<PolicyEvaluationResult> getResults() {
+        return results;
+    }
+
+    public List<PolicyEvaluationResult> getFailures() {
+        return failures;
+    }
+
+    public boolean isApproved() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * false si la ejecución se detuvo antes de evaluar todas las políticas (modo FAIL_FAST).
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Motivos de rechazo en orden de prioridad (vacío si todo pasó).
+     */
+    public List<String> getFailureReasons() {
+        return failures.stream()
+                .map(PolicyEvaluationResult::getMessage)
+                .toList();
+    }
+
+    public Optional<PolicyEvaluationResult> getResult(String policyName) {
+        return results.stream()
+                .filter(result -> result.getPolicyName().equals(policyName))
+                .findFirst();
+    }
+}
@@ -5,40 +5,67 @@ package com.coopcredit.credit.domain.policy;
  * 
  * SOLID - SRP: Solo representa el resultado de una evaluación.
  * SOLID - LSP: Puede ser usado polimórficamente en cualquier contexto de evaluación.
+ *
+ * El mensaje se guarda como plantilla de {@link String#format} más sus argumentos y
+ * se formatea solo la primera vez que se consulta. Los mensajes de políticas aprobadas,
+ * que normalmente nadie lee, no se formatean.
  */
 public final class PolicyEvaluationResult {
 
     private final String policyName;
     private final boolean passed;
-    private final String message;
+    private final String messageTemplate;
+    private final Object[] messageArgs;
     private final Object details;
+    private volatile String message;
 
-    private PolicyEvaluationResult(String policyName, boolean passed, String message, Object details) {
+    private PolicyEvaluationResult(String policyName, boolean passed, Object details,
+            String messageTemplate, Object... messageArgs) {
         this.policyName = policyName;
         this.passed = passed;
-        this.message = message;
         this.details = details;
+        this.messageTemplate = messageTemplate;
+        this.messageArgs = messageArgs;
+        if (messageArgs.length == 0) {
+            this.message = messageTemplate;
+        }
     }
 
     /**
      * Crea un resultado de política aprobada.
      */
     public static PolicyEvaluationResult pass(String policyName, String message) {
-        return new PolicyEvaluationResult(policyName, true, message, null);
+        return new PolicyEvaluationResult(policyName, true, null, message);
+    }
+
+    /**
+     * Crea un resultado de política aprobada cuyo mensaje se formatea al consultarlo.
+     */
+    public static PolicyEvaluationResult pass(String policyName, String messageTemplate, Object... messageArgs) {
+        return new PolicyEvaluationResult(policyName, true, null, messageTemplate, messageArgs.clone());
     }
 
     /**
      * Crea un resultado de política rechazada.
      */
     public static PolicyEvaluationResult fail(String policyName, String message) {
-        return new PolicyEvaluationResult(policyName, false, message, null);
+        return new PolicyEvaluationResult(policyName, false, null, message);
     }
 
     /**
      * Crea un resultado de política rechazada con detalles adicionales.
      */
     public static PolicyEvaluationResult fail(String policyName, String message, Object details) {
-        return new PolicyEvaluationResult(policyName, false, message, details);
+        return new PolicyEvaluationResult(policyName, false, details, message);
+    }
+
+    /**
+     * Crea un resultado de política rechazada con detalles adicionales y un mensaje
+     * que se formatea al consultarlo.
+     */
+    public static PolicyEvaluationResult fail(String policyName, Object details,
+            String messageTemplate, Object... messageArgs) {
+        return new PolicyEvaluationResult(policyName, false, details, messageTemplate, messageArgs.clone());
     }
 
     public String getPolicyName() {
@@ -53,8 +80,24 @@ public final class PolicyEvaluationResult {
         return !passed;
     }
 
+    /**
+     * Mensaje legible del resultado. Se formatea en la primera consulta.
+     */
     public String getMessage() {
-        return message;
+        String m = message;
+        if (m == null) {
+            m = String.format(messageTemplate, messageArgs);
+            message = m;
+        }
+        return m;
+    }
+
+    public String getMessageTemplate() {
+        return messageTemplate;
+    }
+
+    public Object[] getMessageArgs() {
+        return messageArgs.clone();
     }
 
     public Object getDetails() {
@@ -64,6 +107,6 @@ public final class PolicyEvaluationResult {
     @Override
     public String toString() {
         return String.format("PolicyEvaluationResult{policy='%s', passed=%s, message='%s'}",
-                policyName, passed, message);
+                policyName, passed, getMessage());
     }
 }
@@ -0,0 +1,20 @@
+package com.coopcredit.credit.domain.policy;
+
+/**
+ * Recibe el tiempo de ejecución de cada política evaluada.
+ *
+ * SOLID - DIP: El evaluador publica tiempos sin depender de la librería de métricas.
+ */
+@FunctionalInterface
+public interface PolicyExecutionListener {
+
+    PolicyExecutionListener NO_OP = (policyName, durationNanos, passed) -> {
+    };
+
+    /**
+     * @param policyName    nombre de la política
+     * @param durationNanos duración de la evaluación en nanosegundos
+     * @param passed        si la política aprobó
+     */
+    void policyEvaluated(String policyName, long durationNanos, boolean passed);
+}
@@ -0,0 +1,73 @@
+package com.coopcredit.credit.domain.policy;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Parámetros vigentes de las políticas de crédito (Value Object inmutable y versionado).
+ *
+ * SOLID - SRP: Solo agrupa los umbrales configurables de las políticas.
+ *
+ * Una evaluación lee una sola instancia y usa todos sus umbrales, de modo que un
+ * cambio publicado a mitad de la evaluación no mezcla valores de dos versiones.
+ */
+public final class PolicySnapshot {
+
+    private final long version;
+    private final BigDecimal relacionCuotaIngresoMaxima;
+    private final int multiplicadorSalarioMontoMaximo;
+    private final int antiguedadMinimaMeses;
+
+    public PolicySnapshot(long version, BigDecimal relacionCuotaIngresoMaxima,
+            int multiplicadorSalarioMontoMaximo, int antiguedadMinimaMeses) {
+        Objects.requireNonNull(relacionCuotaIngresoMaxima, "relacionCuotaIngresoMaxima");
+        if (version < 0) {
+            throw new IllegalArgumentException("La versión no puede ser negativa: " + version);
+        }
+        if (relacionCuotaIngresoMaxima.signum() <= 0 || relacionCuotaIngresoMaxima.compareTo(BigDecimal.ONE) > 0) {
+            throw new IllegalArgumentException(
+                    "La relación cuota/ingreso máxima debe estar entre 0 y 1: " + relacionCuotaIngresoMaxima);
+        }
+        if (multiplicadorSalarioMontoMaximo <= 0) {
+            throw new IllegalArgumentException(
+                    "El multiplicador de salario debe ser positivo: " + multiplicadorSalarioMontoMaximo);
+        }
+        if (antiguedadMinimaMeses < 0) {
+            throw new IllegalArgumentException(
+                    "La antigüedad mínima no puede ser negativa: " + antiguedadMinimaMeses);
+        }
+        this.version = version;
+        this.relacionCuotaIngresoMaxima = relacionCuotaIngresoMaxima;
+        this.multiplicadorSalarioMontoMaximo = multiplicadorSalarioMontoMaximo;
+        this.antiguedadMinimaMeses = antiguedadMinimaMeses;
+    }
+
+    /**
+     * Monto máximo que puede solicitar un afiliado con el salario indicado.
+     */
+    public BigDecimal montoMaximo(BigDecimal salario) {
+        return salario.multiply(BigDecimal.valueOf(multiplicadorSalarioMontoMaximo));
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public BigDecimal getRelacionCuotaIngresoMaxima() {
+        return relacionCuotaIngresoMaxima;
+    }
+
+    public int getMultiplicadorSalarioMontoMaximo() {
+        return multiplicadorSalarioMontoMaximo;
+    }
+
+    public int getAntiguedadMinimaMeses() {
+        return antiguedadMinimaMeses;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PolicySnapshot{version=%d, relacionMaxima=%s, multiplicador=%d, antiguedadMinima=%d}",
+                version, relacionCuotaIngresoMaxima, multiplicadorSalarioMontoMaximo, antiguedadMinimaMeses);
+    }
+}
@@ -0,0 +1,67 @@
+package com.coopcredit.credit.domain.policy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Referencia a los parámetros de política vigentes.
+ *
+ * Las lecturas no toman locks: cada llamada a {@link #current()} retorna un
+ * {@link PolicySnapshot} inmutable. Un cambio reemplaza la instancia completa
+ * (copy-on-write), así que los umbrales se pueden cambiar sin reiniciar la aplicación.
+ *
+ * La versión 0 corresponde a los valores de {@code coopcredit.politicas.*}; las
+ * versiones publicadas después deben ser mayores que la vigente.
+ */
+@Component
+public class PolicySnapshotHolder {
+
+    private final AtomicReference<PolicySnapshot> vigente;
+
+    public PolicySnapshotHolder(PolicySnapshot inicial) {
+        this.vigente = new AtomicReference<>(inicial);
+    }
+
+    @Autowired
+    public PolicySnapshotHolder(
+            @Value("${coopcredit.politicas.relacion-cuota-ingreso-maxima:0.40}") BigDecimal relacionCuotaIngresoMaxima,
+            @Value("${coopcredit.politicas.multiplicador-salario-monto-maximo:5}") int multiplicadorSalarioMontoMaximo,
+            @Value("${coopcredit.politicas.antiguedad-minima-meses:6}") int antiguedadMinimaMeses) {
+        this(new PolicySnapshot(0, relacionCuotaIngresoMaxima, multiplicadorSalarioMontoMaximo, antiguedadMinimaMeses));
+    }
+
+    /**
+     * Parámetros vigentes.
+     */
+    public PolicySnapshot current() {
+        return vigente.get();
+    }
+
+    /**
+     * Parámetros fijados en el contexto de evaluación o, si no tiene, los vigentes.
+     */
+    public PolicySnapshot snapshotFor(PolicyEvaluationContext context) {
+        PolicySnapshot snapshot = context.getSnapshot();
+        return snapshot != null ? snapshot : vigente.get();
+    }
+
+    /**
+     * Publica una nueva versión de los parámetros.
+     *
+     * @return true si se publicó; false si su versión no es mayor que la vigente
+     */
+    public boolean publish(PolicySnapshot nuevo) {
+        PolicySnapshot actual;
+        do {
+            actual = vigente.get();
+            if (nuevo.getVersion() <= actual.getVersion()) {
+                return false;
+            }
+        } while (!vigente.compareAndSet(actual, nuevo));
+        return true;
+    }
+}
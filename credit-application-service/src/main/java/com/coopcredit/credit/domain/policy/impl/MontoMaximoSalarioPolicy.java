@@ -3,8 +3,9 @@ package com.coopcredit.credit.domain.policy.impl;
 import com.coopcredit.credit.domain.model.Afiliado;
 import com.coopcredit.credit.domain.model.SolicitudCredito;
 import com.coopcredit.credit.domain.policy.CreditPolicy;
+import com.coopcredit.credit.domain.policy.PolicyEvaluationContext;
 import com.coopcredit.credit.domain.policy.PolicyEvaluationResult;
-import org.springframework.beans.factory.annotation.Value;
+import com.coopcredit.credit.domain.policy.PolicySnapshotHolder;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
@@ -14,29 +15,38 @@ import java.math.BigDecimal;
  * 
  * SOLID - SRP: Solo evalúa el monto máximo según salario.
  * SOLID - OCP: Implementa CreditPolicy sin modificar otras políticas.
+ *
+ * El multiplicador se lee de los parámetros de política de cada evaluación.
  */
 @Component
 public class MontoMaximoSalarioPolicy implements CreditPolicy {
 
     private static final String POLICY_NAME = "MONTO_MAXIMO_SALARIO";
 
-    @Value("${coopcredit.politicas.multiplicador-salario-monto-maximo:5}")
-    private int multiplicadorSalario;
+    private final PolicySnapshotHolder politicas;
+
+    public MontoMaximoSalarioPolicy(PolicySnapshotHolder politicas) {
+        this.politicas = politicas;
+    }
 
     @Override
     public PolicyEvaluationResult evaluate(SolicitudCredito solicitud, Afiliado afiliado) {
-        BigDecimal montoMaximo = afiliado.getSalario()
-                .multiply(BigDecimal.valueOf(multiplicadorSalario));
+        return evaluate(PolicyEvaluationContext.of(solicitud, afiliado));
+    }
+
+    @Override
+    public PolicyEvaluationResult evaluate(PolicyEvaluationContext context) {
+        SolicitudCredito solicitud = context.getSolicitud();
+        BigDecimal montoMaximo = politicas.snapshotFor(context).montoMaximo(context.getAfiliado().getSalario());
 
         if (solicitud.getMonto().compareTo(montoMaximo) <= 0) {
             return PolicyEvaluationResult.pass(POLICY_NAME,
-                    String.format("Monto solicitado: $%,.2f dentro del máximo: $%,.2f",
-                            solicitud.getMonto(), montoMaximo));
+                    "Monto solicitado: $%,.2f dentro del máximo: $%,.2f",
+                    solicitud.getMonto(), montoMaximo);
         } else {
-            return PolicyEvaluationResult.fail(POLICY_NAME,
-                    String.format("Monto solicitado excede el máximo: $%,.2f > $%,.2f",
-                            solicitud.getMonto(), montoMaximo),
-                    montoMaximo);
+            return PolicyEvaluationResult.fail(POLICY_NAME, montoMaximo,
+                    "Monto solicitado excede el máximo: $%,.2f > $%,.2f",
+                    solicitud.getMonto(), montoMaximo);
         }
     }
 
@@ -3,50 +3,51 @@ package com.coopcredit.credit.domain.policy.impl;
 import com.coopcredit.credit.domain.model.Afiliado;
 import com.coopcredit.credit.domain.model.SolicitudCredito;
 import com.coopcredit.credit.domain.policy.CreditPolicy;
+import com.coopcredit.credit.domain.policy.PolicyEvaluationContext;
 import com.coopcredit.credit.domain.policy.PolicyEvaluationResult;
-import org.springframework.beans.factory.annotation.Value;
+import com.coopcredit.credit.domain.policy.PolicySnapshotHolder;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 
 /**
  * Política de relación cuota/ingreso.
  * 
  * SOLID - SRP: Solo evalúa la relación cuota/ingreso.
  * SOLID - OCP: Implementa CreditPolicy sin modificar otras políticas.
+ *
+ * La relación máxima se lee de los parámetros de política de cada evaluación.
  */
 @Component
 public class RelacionCuotaIngresoPolicy implements CreditPolicy {
 
     private static final String POLICY_NAME = "RELACION_CUOTA_INGRESO";
 
-    @Value("${coopcredit.politicas.relacion-cuota-ingreso-maxima:0.40}")
-    private BigDecimal relacionMaxima;
+    private final PolicySnapshotHolder politicas;
+
+    public RelacionCuotaIngresoPolicy(PolicySnapshotHolder politicas) {
+        this.politicas = politicas;
+    }
 
     @Override
     public PolicyEvaluationResult evaluate(SolicitudCredito solicitud, Afiliado afiliado) {
-        BigDecimal cuotaMensual = calcularCuotaMensual(
-                solicitud.getMonto(),
-                solicitud.getTasaPropuesta(),
-                solicitud.getPlazoMeses()
-        );
+        return evaluate(PolicyEvaluationContext.of(solicitud, afiliado));
+    }
 
-        BigDecimal relacionCuotaIngreso = cuotaMensual.divide(
-                afiliado.getSalario(), 4, RoundingMode.HALF_UP
-        );
+    @Override
+    public PolicyEvaluationResult evaluate(PolicyEvaluationContext context) {
+        BigDecimal relacionMaxima = politicas.snapshotFor(context).getRelacionCuotaIngresoMaxima();
+        BigDecimal relacionCuotaIngreso = context.getRelacionCuotaIngreso();
 
+        // movePointRight(2) solo cambia la escala: el porcentaje se formatea al leer el mensaje
         if (relacionCuotaIngreso.compareTo(relacionMaxima) <= 0) {
             return PolicyEvaluationResult.pass(POLICY_NAME,
-                    String.format("Relación cuota/ingreso: %.2f%% (máx: %.2f%%)",
-                            relacionCuotaIngreso.multiply(BigDecimal.valueOf(100)),
-                            relacionMaxima.multiply(BigDecimal.valueOf(100))));
+                    "Relación cuota/ingreso: %.2f%% (máx: %.2f%%)",
+                    relacionCuotaIngreso.movePointRight(2), relacionMaxima.movePointRight(2));
         } else {
-            return PolicyEvaluationResult.fail(POLICY_NAME,
-                    String.format("Relación cuota/ingreso excede el máximo: %.2f%% > %.2f%%",
-                            relacionCuotaIngreso.multiply(BigDecimal.valueOf(100)),
-                            relacionMaxima.multiply(BigDecimal.valueOf(100))),
-                    relacionCuotaIngreso);
+            return PolicyEvaluationResult.fail(POLICY_NAME, relacionCuotaIngreso,
+                    "Relación cuota/ingreso excede el máximo: %.2f%% > %.2f%%",
+                    relacionCuotaIngreso.movePointRight(2), relacionMaxima.movePointRight(2));
         }
     }
 
@@ -59,25 +60,4 @@ public class RelacionCuotaIngresoPolicy implements CreditPolicy {
     public int getPriority() {
         return 10;
     }
-
-    private BigDecimal calcularCuotaMensual(BigDecimal monto, BigDecimal tasaAnual, Integer plazoMeses) {
-        if (plazoMeses == 0) {
-            return monto;
-        }
-
-        BigDecimal tasaMensual = tasaAnual.divide(BigDecimal.valueOf(100), 10, RoundingMode.HALF_UP)
-                .divide(BigDecimal.valueOf(12), 10, RoundingMode.HALF_UP);
-
-        if (tasaMensual.compareTo(BigDecimal.ZERO) == 0) {
-            return monto.divide(BigDecimal.valueOf(plazoMeses), 2, RoundingMode.HALF_UP);
-        }
-
-        BigDecimal unoPlusTasa = BigDecimal.ONE.add(tasaMensual);
-        BigDecimal potencia = unoPlusTasa.pow(plazoMeses);
-        BigDecimal numerador = tasaMensual.multiply(potencia);
-        BigDecimal denominador = potencia.subtract(BigDecimal.ONE);
-
-        return monto.multiply(numerador.divide(denominador, 10, RoundingMode.HALF_UP))
-                .setScale(2, RoundingMode.HALF_UP);
-    }
 }
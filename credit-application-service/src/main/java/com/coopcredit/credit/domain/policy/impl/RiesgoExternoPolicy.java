@@ -4,6 +4,7 @@ import com.coopcredit.credit.domain.model.Afiliado;
 import com.coopcredit.credit.domain.model.NivelRiesgo;
 import com.coopcredit.credit.domain.model.SolicitudCredito;
 import com.coopcredit.credit.domain.policy.CreditPolicy;
+import com.coopcredit.credit.domain.policy.PolicyEvaluationContext;
 import com.coopcredit.credit.domain.policy.PolicyEvaluationResult;
 import org.springframework.stereotype.Component;
 
@@ -14,7 +15,8 @@ import org.springframework.stereotype.Component;
  * SOLID - OCP: Implementa CreditPolicy sin modificar otras políticas.
  * 
  * Nota: Esta política requiere que la evaluación de riesgo externa
- * ya haya sido realizada y esté disponible en el contexto.
+ * ya haya sido realizada y esté disponible en el contexto
+ * ({@link PolicyEvaluationContext#withExternalRisk}).
  */
 @Component
 public class RiesgoExternoPolicy implements CreditPolicy {
@@ -29,18 +31,24 @@ public class RiesgoExternoPolicy implements CreditPolicy {
                 "Evaluación de riesgo externo pendiente o aprobada");
     }
 
+    @Override
+    public PolicyEvaluationResult evaluate(PolicyEvaluationContext context) {
+        if (!context.hasExternalRisk()) {
+            return evaluate(context.getSolicitud(), context.getAfiliado());
+        }
+        return evaluateRisk(context.getNivelRiesgo(), context.getScore());
+    }
+
     /**
      * Evalúa el nivel de riesgo externo.
      */
     public PolicyEvaluationResult evaluateRisk(NivelRiesgo nivelRiesgo, Integer score) {
         if (nivelRiesgo == NivelRiesgo.ALTO) {
-            return PolicyEvaluationResult.fail(POLICY_NAME,
-                    String.format("Score de riesgo ALTO (%d). No cumple con el perfil de riesgo aceptable.", score),
-                    nivelRiesgo);
+            return PolicyEvaluationResult.fail(POLICY_NAME, nivelRiesgo,
+                    "Score de riesgo ALTO (%d). No cumple con el perfil de riesgo aceptable.", score);
         }
 
-        String message = String.format("Nivel de riesgo: %s (Score: %d)", nivelRiesgo, score);
-        return PolicyEvaluationResult.pass(POLICY_NAME, message);
+        return PolicyEvaluationResult.pass(POLICY_NAME, "Nivel de riesgo: %s (Score: %d)", nivelRiesgo, score);
     }
 
     @Override
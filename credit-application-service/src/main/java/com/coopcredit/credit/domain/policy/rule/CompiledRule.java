@@ -0,0 +1,67 @@
+package com.coopcredit.credit.domain.policy.rule;
+
+import com.coopcredit.credit.domain.model.Afiliado;
+import com.coopcredit.credit.domain.model.SolicitudCredito;
+import com.coopcredit.credit.domain.policy.CreditPolicy;
+import com.coopcredit.credit.domain.policy.PolicyEvaluationContext;
+import com.coopcredit.credit.domain.policy.PolicyEvaluationResult;
+
+import java.util.function.Predicate;
+
+/**
+ * Regla declarativa compilada, evaluada junto a las políticas Java.
+ *
+ * SOLID - LSP: Se usa en {@code CreditPolicyEvaluator} como cualquier otra {@link CreditPolicy}.
+ *
+ * La condición y la expresión ya son predicados compuestos por {@link RuleCompiler}:
+ * evaluar la regla no vuelve a leer ni interpretar el texto.
+ */
+public final class CompiledRule implements CreditPolicy {
+
+    private final RuleDefinition definition;
+    private final Predicate<PolicyEvaluationContext> condicion;
+    private final Predicate<PolicyEvaluationContext> expresion;
+    private final boolean requiereRiesgoExterno;
+
+    CompiledRule(RuleDefinition definition, Predicate<PolicyEvaluationContext> condicion,
+            Predicate<PolicyEvaluationContext> expresion, boolean requiereRiesgoExterno) {
+        this.definition = definition;
+        this.condicion = condicion;
+        this.expresion = expresion;
+        this.requiereRiesgoExterno = requiereRiesgoExterno;
+    }
+
+    @Override
+    public PolicyEvaluationResult evaluate(SolicitudCredito solicitud, Afiliado afiliado) {
+        return evaluate(PolicyEvaluationContext.of(solicitud, afiliado));
+    }
+
+    @Override
+    public PolicyEvaluationResult evaluate(PolicyEvaluationContext context) {
+        if (requiereRiesgoExterno && !context.hasExternalRisk()) {
+            return PolicyEvaluationResult.pass(definition.getNombre(),
+                    "Regla pendiente de la evaluación de riesgo externo");
+        }
+        if (condicion != null && !condicion.test(context)) {
+            return PolicyEvaluationResult.pass(definition.getNombre(), "La regla no aplica a la solicitud");
+        }
+        if (expresion.test(context)) {
+            return PolicyEvaluationResult.pass(definition.getNombre(), "Cumple: %s", definition.getExpresion());
+        }
+        return PolicyEvaluationResult.fail(definition.getNombre(), definition.getMensaje());
+    }
+
+    @Override
+    public String getPolicyName() {
+        return definition.getNombre();
+    }
+
+    @Override
+    public int getPriority() {
+        return definition.getPrioridad();
+    }
+
+    public RuleDefinition getDefinition() {
+        return definition;
+    }
+}
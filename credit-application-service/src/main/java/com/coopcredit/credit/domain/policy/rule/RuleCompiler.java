@@ -0,0 +1,414 @@
+package com.coopcredit.credit.domain.policy.rule;
+
+import com.coopcredit.credit.domain.policy.PolicyEvaluationContext;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Compila reglas declarativas a predicados sobre {@link PolicyEvaluationContext}.
+ *
+ * El texto se analiza una sola vez al cargar la regla. Cada comparación queda como una
+ * lambda especializada por operador; las operaciones entre constantes se resuelven al
+ * compilar. Evaluar una regla solo lee los datos del contexto y compara.
+ *
+ * Gramática:
+ * <pre>
+ * expresion    := o
+ * o            := y ('or' y)*
+ * y            := negacion ('and' negacion)*
+ * negacion     := 'not' negacion | '(' expresion ')' | comparacion
+ * comparacion  := aritmetica ('&lt;' | '&lt;=' | '&gt;' | '&gt;=' | '==' | '!=') aritmetica
+ * aritmetica   := termino (('+' | '-') termino)*
+ * termino      := factor (('*' | '/') factor)*
+ * factor       := numero | dato | 'texto'
+ * </pre>
+ * Los datos disponibles están en {@link RuleFact}. Los textos solo se comparan con
+ * {@code ==} y {@code !=}. Una comparación con un dato nulo es falsa.
+ */
+public final class RuleCompiler {
+
+    private static final int ESCALA_DIVISION = 10;
+
+    /**
+     * Compila una regla.
+     *
+     * @throws IllegalArgumentException si la condición o la expresión no son válidas
+     */
+    public CompiledRule compile(RuleDefinition definition) {
+        List<RuleFact> datos = new ArrayList<>();
+        Predicate<PolicyEvaluationContext> condicion = null;
+        if (definition.getCondicion() != null && !definition.getCondicion().isBlank()) {
+            condicion = new Parser(definition.getNombre(), definition.getCondicion(), datos).parse();
+        }
+        Predicate<PolicyEvaluationContext> expresion =
+                new Parser(definition.getNombre(), definition.getExpresion(), datos).parse();
+        boolean requiereRiesgoExterno = datos.stream().anyMatch(RuleFact::isRiesgoExterno);
+        return new CompiledRule(definition, condicion, expresion, requiereRiesgoExterno);
+    }
+
+    /**
+     * Compila un conjunto de reglas; falla en la primera regla inválida.
+     */
+    public List<CompiledRule> compileAll(List<RuleDefinition> definitions) {
+        List<CompiledRule> reglas = new ArrayList<>(definitions.size());
+        for (RuleDefinition definition : definitions) {
+            reglas.add(compile(definition));
+        }
+        return List.copyOf(reglas);
+    }
+
+    private enum TipoToken { NUMERO, IDENTIFICADOR, TEXTO, SIMBOLO, FIN }
+
+    private static final class Token {
+        private final TipoToken tipo;
+        private final String texto;
+        private final int posicion;
+
+        Token(TipoToken tipo, String texto, int posicion) {
+            this.tipo = tipo;
+            this.texto = texto;
+            this.posicion = posicion;
+        }
+
+        TipoToken tipo() {
+            return tipo;
+        }
+
+        String texto() {
+            return texto;
+        }
+
+        int posicion() {
+            return posicion;
+        }
+    }
+
+    /**
+     * Operando compilado: numérico o de texto, constante o leído del contexto.
+     */
+    private static final class Operando {
+        private final Function<PolicyEvaluationContext, BigDecimal> numero;
+        private final Function<PolicyEvaluationContext, String> texto;
+        private final Object constante;
+        private final boolean esConstante;
+
+        private Operando(Function<PolicyEvaluationContext, BigDecimal> numero,
+                Function<PolicyEvaluationContext, String> texto, Object constante, boolean esConstante) {
+            this.numero = numero;
+            this.texto = texto;
+            this.constante = constante;
+            this.esConstante = esConstante;
+        }
+
+        static Operando numero(BigDecimal valor) {
+            return new Operando(ctx -> valor, null, valor, true);
+        }
+
+        static Operando numero(Function<PolicyEvaluationContext, BigDecimal> lector) {
+            return new Operando(lector, null, null, false);
+        }
+
+        static Operando texto(String valor) {
+            return new Operando(null, ctx -> valor, valor, true);
+        }
+
+        static Operando texto(Function<PolicyEvaluationContext, String> lector) {
+            return new Operando(null, lector, null, false);
+        }
+
+        boolean esNumerico() {
+            return numero != null;
+        }
+    }
+
+    private static final class Parser {
+        private final String regla;
+        private final String fuente;
+        private final List<Token> tokens;
+        private final List<RuleFact> datos;
+        private int actual;
+
+        Parser(String regla, String fuente, List<RuleFact> datos) {
+            this.regla = regla;
+            this.fuente = fuente;
+            this.datos = datos;
+            this.tokens = tokenizar();
+        }
+
+        Predicate<PolicyEvaluationContext> parse() {
+            Predicate<PolicyEvaluationContext> predicado = o();
+            if (ver().tipo() != TipoToken.FIN) {
+                throw error("símbolo inesperado '" + ver().texto() + "'", ver());
+            }
+            return predicado;
+        }
+
+        private Predicate<PolicyEvaluationContext> o() {
+            Predicate<PolicyEvaluationContext> izquierda = y();
+            while (palabra("or")) {
+                Predicate<PolicyEvaluationContext> a = izquierda;
+                Predicate<PolicyEvaluationContext> b = y();
+                izquierda = ctx -> a.test(ctx) || b.test(ctx);
+            }
+            return izquierda;
+        }
+
+        private Predicate<PolicyEvaluationContext> y() {
+            Predicate<PolicyEvaluationContext> izquierda = negacion();
+            while (palabra("and")) {
+                Predicate<PolicyEvaluationContext> a = izquierda;
+                Predicate<PolicyEvaluationContext> b = negacion();
+                izquierda = ctx -> a.test(ctx) && b.test(ctx);
+            }
+            return izquierda;
+        }
+
+        private Predicate<PolicyEvaluationContext> negacion() {
+            if (palabra("not")) {
+                Predicate<PolicyEvaluationContext> negado = negacion();
+                return ctx -> !negado.test(ctx);
+            }
+            if (simbolo("(")) {
+                Predicate<PolicyEvaluationContext> agrupado = o();
+                esperar(")");
+                return agrupado;
+            }
+            return comparacion();
+        }
+
+        private Predicate<PolicyEvaluationContext> comparacion() {
+            Operando izquierda = aritmetica();
+            Token operador = siguiente();
+            if (operador.tipo() != TipoToken.SIMBOLO || !esComparador(operador.texto())) {
+                throw error("se esperaba un operador de comparación", operador);
+            }
+            Operando derecha = aritmetica();
+            if (izquierda.esNumerico() != derecha.esNumerico()) {
+                throw error("no se puede comparar un número con un texto", operador);
+            }
+            if (izquierda.esNumerico()) {
+                return compararNumeros(izquierda, derecha, operador.texto());
+            }
+            return compararTextos(izquierda, derecha, operador);
+        }
+
+        private Operando aritmetica() {
+            Operando izquierda = termino();
+            while (ver().tipo() == TipoToken.SIMBOLO && (ver().texto().equals("+") || ver().texto().equals("-"))) {
+                Token operador = siguiente();
+                izquierda = operar(izquierda, termino(), operador);
+            }
+            return izquierda;
+        }
+
+        private Operando termino() {
+            Operando izquierda = factor();
+            while (ver().tipo() == TipoToken.SIMBOLO && (ver().texto().equals("*") || ver().texto().equals("/"))) {
+                Token operador = siguiente();
+                izquierda = operar(izquierda, factor(), operador);
+            }
+            return izquierda;
+        }
+
+        private Operando factor() {
+            Token token = siguiente();
+            return switch (token.tipo()) {
+                case NUMERO -> Operando.numero(numero(token));
+                case TEXTO -> Operando.texto(token.texto());
+                case IDENTIFICADOR -> dato(token);
+                default -> throw error("se esperaba un número, un dato o un texto", token);
+            };
+        }
+
+        private BigDecimal numero(Token token) {
+            try {
+                return new BigDecimal(token.texto());
+            } catch (NumberFormatException e) {
+                throw error("número inválido '" + token.texto() + "'", token);
+            }
+        }
+
+        private Operando dato(Token token) {
+            RuleFact dato = RuleFact.porNombre(token.texto());
+            if (dato == null) {
+                throw error("dato desconocido '" + token.texto() + "'", token);
+            }
+            datos.add(dato);
+            return dato.isNumerico()
+                    ? Operando.numero(dato::leerNumero)
+                    : Operando.texto(dato::leerTexto);
+        }
+
+        private Operando operar(Operando izquierda, Operando derecha, Token operador) {
+            if (!izquierda.esNumerico() || !derecha.esNumerico()) {
+                throw error("las operaciones aritméticas requieren números", operador);
+            }
+            if (izquierda.esConstante && derecha.esConstante) {
+                return Operando.numero(calcular((BigDecimal) izquierda.constante,
+                        (BigDecimal) derecha.constante, operador.texto()));
+            }
+            Function<PolicyEvaluationContext, BigDecimal> a = izquierda.numero;
+            Function<PolicyEvaluationContext, BigDecimal> b = derecha.numero;
+            String op = operador.texto();
+            return Operando.numero(ctx -> {
+                BigDecimal x = a.apply(ctx);
+                BigDecimal y = b.apply(ctx);
+                return x == null || y == null ? null : calcular(x, y, op);
+            });
+        }
+
+        private Predicate<PolicyEvaluationContext> compararNumeros(Operando izquierda, Operando derecha, String op) {
+            if (izquierda.esConstante && derecha.esConstante) {
+                boolean resultado = cumple(((BigDecimal) izquierda.constante)
+                        .compareTo((BigDecimal) derecha.constante), op);
+                return ctx -> resultado;
+            }
+            Function<PolicyEvaluationContext, BigDecimal> a = izquierda.numero;
+            if (derecha.esConstante) {
+                BigDecimal c = (BigDecimal) derecha.constante;
+                return switch (op) {
+                    case "<" -> ctx -> { BigDecimal x = a.apply(ctx); return x != null && x.compareTo(c) < 0; };
+                    case "<=" -> ctx -> { BigDecimal x = a.apply(ctx); return x != null && x.compareTo(c) <= 0; };
+                    case ">" -> ctx -> { BigDecimal x = a.apply(ctx); return x != null && x.compareTo(c) > 0; };
+                    case ">=" -> ctx -> { BigDecimal x = a.apply(ctx); return x != null && x.compareTo(c) >= 0; };
+                    case "==" -> ctx -> { BigDecimal x = a.apply(ctx); return x != null && x.compareTo(c) == 0; };
+                    default -> ctx -> { BigDecimal x = a.apply(ctx); return x != null && x.compareTo(c) != 0; };
+                };
+            }
+            Function<PolicyEvaluationContext, BigDecimal> b = derecha.numero;
+            return ctx -> {
+                BigDecimal x = a.apply(ctx);
+                BigDecimal y = b.apply(ctx);
+                return x != null && y != null && cumple(x.compareTo(y), op);
+            };
+        }
+
+        private Predicate<PolicyEvaluationContext> compararTextos(Operando izquierda, Operando derecha, Token operador) {
+            boolean igual = switch (operador.texto()) {
+                case "==" -> true;
+                case "!=" -> false;
+                default -> throw error("los textos solo se comparan con == o !=", operador);
+            };
+            Function<PolicyEvaluationContext, String> a = izquierda.texto;
+            Function<PolicyEvaluationContext, String> b = derecha.texto;
+            return ctx -> {
+                String x = a.apply(ctx);
+                String y = b.apply(ctx);
+                return x != null && y != null && x.equals(y) == igual;
+            };
+        }
+
+        private static boolean cumple(int comparacion, String op) {
+            return switch (op) {
+                case "<" -> comparacion < 0;
+                case "<=" -> comparacion <= 0;
+                case ">" -> comparacion > 0;
+                case ">=" -> comparacion >= 0;
+                case "==" -> comparacion == 0;
+                default -> comparacion != 0;
+            };
+        }
+
+        private static BigDecimal calcular(BigDecimal x, BigDecimal y, String op) {
+            return switch (op) {
+                case "+" -> x.add(y);
+                case "-" -> x.subtract(y);
+                case "*" -> x.multiply(y);
+                default -> y.signum() == 0 ? null : x.divide(y, ESCALA_DIVISION, RoundingMode.HALF_UP);
+            };
+        }
+
+        private static boolean esComparador(String simbolo) {
+            return switch (simbolo) {
+                case "<", "<=", ">", ">=", "==", "!=" -> true;
+                default -> false;
+            };
+        }
+
+        private boolean palabra(String palabra) {
+            Token token = ver();
+            if (token.tipo() == TipoToken.IDENTIFICADOR && token.texto().equalsIgnoreCase(palabra)) {
+                actual++;
+                return true;
+            }
+            return false;
+        }
+
+        private boolean simbolo(String simbolo) {
+            Token token = ver();
+            if (token.tipo() == TipoToken.SIMBOLO && token.texto().equals(simbolo)) {
+                actual++;
+                return true;
+            }
+            return false;
+        }
+
+        private void esperar(String simbolo) {
+            if (!simbolo(simbolo)) {
+                throw error("se esperaba '" + simbolo + "'", ver());
+            }
+        }
+
+        private Token ver() {
+            return tokens.get(actual);
+        }
+
+        private Token siguiente() {
+            Token token = tokens.get(actual);
+            if (token.tipo() != TipoToken.FIN) {
+                actual++;
+            }
+            return token;
+        }
+
+        private List<Token> tokenizar() {
+            List<Token> resultado = new ArrayList<>();
+            int i = 0;
+            while (i < fuente.length()) {
+                char c = fuente.charAt(i);
+                if (Character.isWhitespace(c)) {
+                    i++;
+                } else if (Character.isDigit(c)) {
+                    int inicio = i;
+                    while (i < fuente.length() && (Character.isDigit(fuente.charAt(i)) || fuente.charAt(i) == '.')) {
+                        i++;
+                    }
+                    resultado.add(new Token(TipoToken.NUMERO, fuente.substring(inicio, i), inicio));
+                } else if (Character.isLetter(c)) {
+                    int inicio = i;
+                    while (i < fuente.length() && Character.isLetterOrDigit(fuente.charAt(i))) {
+                        i++;
+                    }
+                    resultado.add(new Token(TipoToken.IDENTIFICADOR, fuente.substring(inicio, i), inicio));
+                } else if (c == '\'') {
+                    int cierre = fuente.indexOf('\'', i + 1);
+                    if (cierre < 0) {
+                        throw error("texto sin cerrar", new Token(TipoToken.TEXTO, "", i));
+                    }
+                    resultado.add(new Token(TipoToken.TEXTO, fuente.substring(i + 1, cierre), i));
+                    i = cierre + 1;
+                } else if (i + 1 < fuente.length() && esComparador(fuente.substring(i, i + 2))) {
+                    resultado.add(new Token(TipoToken.SIMBOLO, fuente.substring(i, i + 2), i));
+                    i += 2;
+                } else if ("<>()+-*/".indexOf(c) >= 0) {
+                    resultado.add(new Token(TipoToken.SIMBOLO, String.valueOf(c), i));
+                    i++;
+                } else {
+                    throw error("carácter inválido '" + c + "'", new Token(TipoToken.SIMBOLO, "", i));
+                }
+            }
+            resultado.add(new Token(TipoToken.FIN, "fin de la regla", fuente.length()));
+            return resultado;
+        }
+
+        private IllegalArgumentException error(String detalle, Token token) {
+            return new IllegalArgumentException(String.format("Regla '%s' inválida: %s en la posición %d de \"%s\"",
+                    regla, detalle, token.posicion(), fuente));
+        }
+    }
+}
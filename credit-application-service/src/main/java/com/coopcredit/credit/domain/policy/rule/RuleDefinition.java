@@ -0,0 +1,78 @@
+package com.coopcredit.credit.domain.policy.rule;
+
+import java.util.Objects;
+
+/**
+ * Definición declarativa de una regla de crédito (Value Object inmutable).
+ *
+ * La regla aplica a las solicitudes que cumplen {@code condicion} (o a todas si es
+ * null) y exige que se cumpla {@code expresion}. Ejemplo: condición
+ * {@code nivelRiesgo == 'MEDIO'} con expresión {@code plazoMeses <= 36}.
+ *
+ * @see RuleCompiler
+ */
+public final class RuleDefinition {
+
+    private final String nombre;
+    private final int prioridad;
+    private final String condicion;
+    private final String expresion;
+    private final String mensaje;
+
+    public RuleDefinition(String nombre, int prioridad, String condicion, String expresion, String mensaje) {
+        this.nombre = Objects.requireNonNull(nombre, "nombre");
+        this.prioridad = prioridad;
+        this.condicion = condicion;
+        this.expresion = Objects.requireNonNull(expresion, "expresion");
+        this.mensaje = Objects.requireNonNull(mensaje, "mensaje");
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public int getPrioridad() {
+        return prioridad;
+    }
+
+    /**
+     * Condición para que la regla aplique, o null si aplica siempre.
+     */
+    public String getCondicion() {
+        return condicion;
+    }
+
+    public String getExpresion() {
+        return expresion;
+    }
+
+    /**
+     * Mensaje de rechazo cuando no se cumple la expresión.
+     */
+    public String getMensaje() {
+        return mensaje;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RuleDefinition that = (RuleDefinition) o;
+        return prioridad == that.prioridad &&
+                nombre.equals(that.nombre) &&
+                Objects.equals(condicion, that.condicion) &&
+                expresion.equals(that.expresion) &&
+                mensaje.equals(that.mensaje);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(nombre, prioridad, condicion, expresion, mensaje);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RuleDefinition{nombre='%s', condicion='%s', expresion='%s'}",
+                nombre, condicion, expresion);
+    }
+}
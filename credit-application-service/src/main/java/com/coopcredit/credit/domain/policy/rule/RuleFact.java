@@ -0,0 +1,93 @@
+package com.coopcredit.credit.domain.policy.rule;
+
+import com.coopcredit.credit.domain.policy.PolicyEvaluationContext;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Datos de la evaluación que pueden usar las reglas declarativas.
+ *
+ * Cada dato lee directamente del {@link PolicyEvaluationContext}; la cuota mensual y
+ * la relación cuota/ingreso se reutilizan del contexto, que las calcula una sola vez.
+ */
+public enum RuleFact {
+
+    MONTO("monto", true, false, ctx -> ctx.getSolicitud().getMonto()),
+    PLAZO_MESES("plazoMeses", true, false, ctx -> entero(ctx.getSolicitud().getPlazoMeses())),
+    TASA_PROPUESTA("tasaPropuesta", true, false, ctx -> ctx.getSolicitud().getTasaPropuesta()),
+    SALARIO("salario", true, false, ctx -> ctx.getAfiliado().getSalario()),
+    MESES_ANTIGUEDAD("mesesAntiguedad", true, false, ctx -> BigDecimal.valueOf(ctx.getAfiliado().getMesesAntiguedad())),
+    CUOTA_MENSUAL("cuotaMensual", true, false, PolicyEvaluationContext::getCuotaMensual),
+    RELACION_CUOTA_INGRESO("relacionCuotaIngreso", true, false, RuleFact::relacionCuotaIngreso),
+    SCORE("score", true, true, ctx -> entero(ctx.getScore())),
+    NIVEL_RIESGO("nivelRiesgo", false, true, ctx -> ctx.getNivelRiesgo() != null ? ctx.getNivelRiesgo().name() : null);
+
+    private static final Map<String, RuleFact> POR_NOMBRE = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(RuleFact::getNombre, Function.identity()));
+
+    private final String nombre;
+    private final boolean numerico;
+    private final boolean riesgoExterno;
+    private final Function<PolicyEvaluationContext, ?> lector;
+
+    RuleFact(String nombre, boolean numerico, boolean riesgoExterno, Function<PolicyEvaluationContext, ?> lector) {
+        this.nombre = nombre;
+        this.numerico = numerico;
+        this.riesgoExterno = riesgoExterno;
+        this.lector = lector;
+    }
+
+    /**
+     * Busca un dato por el nombre usado en las reglas.
+     *
+     * @return el dato, o null si no existe
+     */
+    public static RuleFact porNombre(String nombre) {
+        return POR_NOMBRE.get(nombre);
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public boolean isNumerico() {
+        return numerico;
+    }
+
+    /**
+     * Indica si el dato solo está disponible después de consultar el servicio externo de riesgo.
+     */
+    public boolean isRiesgoExterno() {
+        return riesgoExterno;
+    }
+
+    /**
+     * Valor numérico del dato en el contexto (puede ser null).
+     */
+    public BigDecimal leerNumero(PolicyEvaluationContext context) {
+        return (BigDecimal) lector.apply(context);
+    }
+
+    /**
+     * Valor de texto del dato en el contexto (puede ser null).
+     */
+    public String leerTexto(PolicyEvaluationContext context) {
+        return (String) lector.apply(context);
+    }
+
+    private static BigDecimal entero(Integer valor) {
+        return valor != null ? BigDecimal.valueOf(valor) : null;
+    }
+
+    private static BigDecimal relacionCuotaIngreso(PolicyEvaluationContext context) {
+        BigDecimal salario = context.getAfiliado().getSalario();
+        if (salario == null || salario.signum() == 0) {
+            return null;
+        }
+        return context.getRelacionCuotaIngreso();
+    }
+}
@@ -3,6 +3,7 @@ package com.coopcredit.credit.domain.validation;
 import com.coopcredit.credit.domain.exception.AfiliadoInactivoException;
 import com.coopcredit.credit.domain.exception.AntiguedadInsuficienteException;
 import com.coopcredit.credit.domain.model.Afiliado;
+import com.coopcredit.credit.domain.policy.PolicySnapshotHolder;
 import org.springframework.stereotype.Component;
 
 /**
@@ -10,11 +11,17 @@ import org.springframework.stereotype.Component;
  * 
  * SOLID - SRP: Solo se encarga de validar afiliados.
  * SOLID - OCP: Se pueden agregar nuevas validaciones sin modificar las existentes.
+ *
+ * La antigüedad mínima se toma de los parámetros de política vigentes.
  */
 @Component
 public class AfiliadoValidator implements DomainValidator<Afiliado> {
 
-    private static final int ANTIGUEDAD_MINIMA_MESES = 6;
+    private final PolicySnapshotHolder politicas;
+
+    public AfiliadoValidator(PolicySnapshotHolder politicas) {
+        this.politicas = politicas;
+    }
 
     @Override
     public void validate(Afiliado afiliado) {
@@ -35,10 +42,11 @@ public class AfiliadoValidator implements DomainValidator<Afiliado> {
      * Valida solo la antigüedad mínima.
      */
     public void validateAntiguedad(Afiliado afiliado) {
-        if (!afiliado.tieneAntiguedadMinima()) {
+        int antiguedadMinimaMeses = politicas.current().getAntiguedadMinimaMeses();
+        if (!afiliado.tieneAntiguedadMinima(antiguedadMinimaMeses)) {
             throw new AntiguedadInsuficienteException(
                     afiliado.getMesesAntiguedad(),
-                    ANTIGUEDAD_MINIMA_MESES
+                    antiguedadMinimaMeses
             );
         }
     }
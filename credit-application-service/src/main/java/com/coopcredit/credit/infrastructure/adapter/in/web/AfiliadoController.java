@@ -2,9 +2,13 @@ package com.coopcredit.credit.infrastructure.adapter.in.web;
 
 import com.coopcredit.credit.application.dto.AfiliadoDTO;
 import com.coopcredit.credit.application.dto.CrearAfiliadoRequest;
+import com.coopcredit.credit.application.dto.PaginaDTO;
+import com.coopcredit.credit.application.dto.ResultadoImportacionDTO;
 import com.coopcredit.credit.application.port.in.ActualizarAfiliadoUseCase;
 import com.coopcredit.credit.application.port.in.ConsultarAfiliadoUseCase;
 import com.coopcredit.credit.application.port.in.CrearAfiliadoUseCase;
+import com.coopcredit.credit.application.port.in.ImportarAfiliadosUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -16,6 +20,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -32,13 +38,19 @@ public class AfiliadoController {
     private final CrearAfiliadoUseCase crearAfiliadoUseCase;
     private final ActualizarAfiliadoUseCase actualizarAfiliadoUseCase;
     private final ConsultarAfiliadoUseCase consultarAfiliadoUseCase;
+    private final ImportarAfiliadosUseCase importarAfiliadosUseCase;
+    private final ObjectMapper objectMapper;
 
     public AfiliadoController(CrearAfiliadoUseCase crearAfiliadoUseCase,
             ActualizarAfiliadoUseCase actualizarAfiliadoUseCase,
-            ConsultarAfiliadoUseCase consultarAfiliadoUseCase) {
+            ConsultarAfiliadoUseCase consultarAfiliadoUseCase,
+            ImportarAfiliadosUseCase importarAfiliadosUseCase,
+            ObjectMapper objectMapper) {
         this.crearAfiliadoUseCase = crearAfiliadoUseCase;
         this.actualizarAfiliadoUseCase = actualizarAfiliadoUseCase;
         this.consultarAfiliadoUseCase = consultarAfiliadoUseCase;
+        this.importarAfiliadosUseCase = importarAfiliadosUseCase;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -50,6 +62,22 @@ public class AfiliadoController {
         return ResponseEntity.status(HttpStatus.CREATED).body(afiliado);
     }
 
+    @PostMapping("/importar")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Importar afiliados", description = "Importa afiliados desde un archivo CSV o NDJSON enviado "
+            + "como cuerpo de la petición. Las filas inválidas o con documento existente se reportan sin detener la "
+            + "importación; las válidas se guardan por lotes")
+    public ResponseEntity<ResultadoImportacionDTO> importar(@RequestParam(defaultValue = "ndjson") String format,
+            InputStream cuerpo) throws IOException {
+        log.info("POST /api/afiliados/importar - format: {}", format);
+        FormatoImportacion formato = FormatoImportacion.desde(format);
+        try (cuerpo) {
+            ResultadoImportacionDTO resultado = importarAfiliadosUseCase.importar(
+                    formato.crearLector(cuerpo, objectMapper));
+            return ResponseEntity.ok(resultado);
+        }
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'ANALISTA', 'AFILIADO')")
     @Operation(summary = "Obtener afiliado por ID", description = "Consulta un afiliado por su ID")
@@ -61,11 +89,14 @@ public class AfiliadoController {
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'ANALISTA')")
-    @Operation(summary = "Listar afiliados", description = "Lista todos los afiliados")
-    public ResponseEntity<List<AfiliadoDTO>> listarTodos() {
-        log.info("GET /api/afiliados");
-        List<AfiliadoDTO> afiliados = consultarAfiliadoUseCase.listarTodos();
-        return ResponseEntity.ok(afiliados);
+    @Operation(summary = "Listar afiliados", description = "Lista los afiliados paginados por cursor: "
+            + "'after' es el ID del último afiliado recibido y la página siguiente se indica en el header Link")
+    public ResponseEntity<List<AfiliadoDTO>> listarTodos(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + PaginaDTO.LIMITE_POR_DEFECTO) int limit) {
+        log.info("GET /api/afiliados - after: {}, limit: {}", after, limit);
+        PaginaDTO<AfiliadoDTO> pagina = consultarAfiliadoUseCase.listarPagina(after, limit);
+        return RespuestaPaginada.de(pagina);
     }
 
     @PutMapping("/{id}")
@@ -41,6 +41,17 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/logout")
+    @Operation(summary = "Cerrar sesión", description = "Revoca el token JWT enviado en la cabecera Authorization")
+    public ResponseEntity<Void> logout(@RequestHeader("Authorization") String authorization) {
+        log.info("POST /auth/logout");
+        if (!authorization.startsWith("Bearer ")) {
+            throw new IllegalArgumentException("La cabecera Authorization debe contener un token Bearer");
+        }
+        autenticarUsuarioUseCase.cerrarSesion(authorization.substring(7));
+        return ResponseEntity.noContent().build();
+    }
+
     @PostMapping("/login")
     @Operation(summary = "Iniciar sesión", description = "Autentica un usuario y devuelve un token JWT")
     public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
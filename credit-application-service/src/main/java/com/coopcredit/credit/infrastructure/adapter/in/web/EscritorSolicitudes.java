@@ -0,0 +1,14 @@
+package com.coopcredit.credit.infrastructure.adapter.in.web;
+
+import com.coopcredit.credit.application.dto.SolicitudExportada;
+
+import java.io.Closeable;
+import java.util.function.Consumer;
+
+/**
+ * Escribe filas de la exportación de solicitudes directamente en la respuesta.
+ * Los errores de escritura se propagan como {@link java.io.UncheckedIOException}
+ * para detener la lectura del cursor.
+ */
+interface EscritorSolicitudes extends Consumer<SolicitudExportada>, Closeable {
+}
@@ -0,0 +1,99 @@
+package com.coopcredit.credit.infrastructure.adapter.in.web;
+
+import com.coopcredit.credit.application.dto.SolicitudExportada;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Exportación en CSV (RFC 4180) con encabezado. Los textos con separadores,
+ * comillas o saltos de línea se escriben entre comillas.
+ */
+class EscritorSolicitudesCsv implements EscritorSolicitudes {
+
+    private static final String ENCABEZADO = "id,afiliadoId,afiliadoDocumento,afiliadoNombre,monto,plazoMeses,"
+            + "tasaPropuesta,fechaSolicitud,estado,score,nivelRiesgo,aprobado,relacionCuotaIngreso,fechaEvaluacion";
+
+    private final Writer salida;
+
+    EscritorSolicitudesCsv(OutputStream salida) throws IOException {
+        this.salida = new BufferedWriter(new OutputStreamWriter(salida, StandardCharsets.UTF_8));
+        this.salida.write(ENCABEZADO);
+        this.salida.write("\r\n");
+    }
+
+    @Override
+    public void accept(SolicitudExportada fila) {
+        try {
+            salida.write(Long.toString(fila.getId()));
+            salida.write(',');
+            salida.write(Long.toString(fila.getAfiliadoId()));
+            salida.write(',');
+            escribirTexto(fila.getAfiliadoDocumento());
+            salida.write(',');
+            escribirTexto(fila.getAfiliadoNombre());
+            salida.write(',');
+            escribirDecimal(fila.getMonto());
+            salida.write(',');
+            salida.write(Integer.toString(fila.getPlazoMeses()));
+            salida.write(',');
+            escribirDecimal(fila.getTasaPropuesta());
+            salida.write(',');
+            if (fila.getFechaSolicitud() != null) {
+                salida.write(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(fila.getFechaSolicitud()));
+            }
+            salida.write(',');
+            escribirTexto(fila.getEstado());
+            salida.write(',');
+            if (fila.getScore() != null) {
+                salida.write(Integer.toString(fila.getScore()));
+            }
+            salida.write(',');
+            escribirTexto(fila.getNivelRiesgo());
+            salida.write(',');
+            if (fila.getAprobado() != null) {
+                salida.write(Boolean.toString(fila.getAprobado()));
+            }
+            salida.write(',');
+            escribirDecimal(fila.getRelacionCuotaIngreso());
+            salida.write(',');
+            if (fila.getFechaEvaluacion() != null) {
+                salida.write(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(fila.getFechaEvaluacion()));
+            }
+            salida.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void escribirDecimal(BigDecimal valor) throws IOException {
+        if (valor != null) {
+            salida.write(valor.toPlainString());
+        }
+    }
+
+    private void escribirTexto(String valor) throws IOException {
+        if (valor == null) {
+            return;
+        }
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            salida.write(valor);
+            return;
+        }
+        salida.write('"');
+        salida.write(valor.replace("\"", "\"\""));
+        salida.write('"');
+    }
+
+    @Override
+    public void close() throws IOException {
+        salida.close();
+    }
+}
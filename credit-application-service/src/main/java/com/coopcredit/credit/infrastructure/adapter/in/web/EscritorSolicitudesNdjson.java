@@ -0,0 +1,67 @@
+package com.coopcredit.credit.infrastructure.adapter.in.web;
+
+import com.coopcredit.credit.application.dto.SolicitudExportada;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Exportación en NDJSON: un objeto JSON por línea, escrito campo a campo con un
+ * único {@link JsonGenerator} para no serializar objetos intermedios.
+ */
+class EscritorSolicitudesNdjson implements EscritorSolicitudes {
+
+    private final JsonGenerator generador;
+
+    EscritorSolicitudesNdjson(OutputStream salida, JsonFactory jsonFactory) throws IOException {
+        this.generador = jsonFactory.createGenerator(salida);
+        this.generador.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void accept(SolicitudExportada fila) {
+        try {
+            generador.writeStartObject();
+            generador.writeNumberField("id", fila.getId());
+            generador.writeNumberField("afiliadoId", fila.getAfiliadoId());
+            generador.writeStringField("afiliadoDocumento", fila.getAfiliadoDocumento());
+            generador.writeStringField("afiliadoNombre", fila.getAfiliadoNombre());
+            generador.writeNumberField("monto", fila.getMonto());
+            generador.writeNumberField("plazoMeses", fila.getPlazoMeses());
+            generador.writeNumberField("tasaPropuesta", fila.getTasaPropuesta());
+            escribirFecha("fechaSolicitud", fila.getFechaSolicitud());
+            generador.writeStringField("estado", fila.getEstado());
+            if (fila.getScore() != null) {
+                generador.writeNumberField("score", fila.getScore());
+            } else {
+                generador.writeNullField("score");
+            }
+            generador.writeStringField("nivelRiesgo", fila.getNivelRiesgo());
+            if (fila.getAprobado() != null) {
+                generador.writeBooleanField("aprobado", fila.getAprobado());
+            } else {
+                generador.writeNullField("aprobado");
+            }
+            generador.writeNumberField("relacionCuotaIngreso", fila.getRelacionCuotaIngreso());
+            escribirFecha("fechaEvaluacion", fila.getFechaEvaluacion());
+            generador.writeEndObject();
+            generador.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void escribirFecha(String campo, LocalDateTime fecha) throws IOException {
+        generador.writeStringField(campo, fecha != null ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(fecha) : null);
+    }
+
+    @Override
+    public void close() throws IOException {
+        generador.close();
+    }
+}
@@ -0,0 +1,101 @@
+package com.coopcredit.credit.infrastructure.adapter.in.web;
+
+import com.coopcredit.credit.domain.amortizacion.CursorAmortizacion;
+import com.coopcredit.credit.domain.amortizacion.PlanAmortizacion;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Formatos del plan de amortización. Ambos escriben cada fila en la respuesta a
+ * medida que el cursor la genera.
+ */
+enum FormatoAmortizacion {
+
+    JSON("application/json", "json"),
+    CSV("text/csv;charset=UTF-8", "csv");
+
+    private static final String ENCABEZADO_CSV = "periodo,cuota,interes,capital,saldo";
+
+    private final String contentType;
+    private final String extension;
+
+    FormatoAmortizacion(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    String getContentType() {
+        return contentType;
+    }
+
+    String getExtension() {
+        return extension;
+    }
+
+    void escribir(PlanAmortizacion plan, OutputStream salida, JsonFactory jsonFactory) throws IOException {
+        switch (this) {
+            case JSON -> escribirJson(plan, salida, jsonFactory);
+            case CSV -> escribirCsv(plan, salida);
+        }
+    }
+
+    private static void escribirJson(PlanAmortizacion plan, OutputStream salida, JsonFactory jsonFactory)
+            throws IOException {
+        try (JsonGenerator generador = jsonFactory.createGenerator(salida)) {
+            generador.writeStartObject();
+            generador.writeNumberField("monto", plan.getMonto());
+            generador.writeNumberField("tasaAnual", plan.getTasaAnual());
+            generador.writeNumberField("plazoMeses", plan.getPlazoMeses());
+            generador.writeNumberField("cuotaMensual", plan.getCuotaMensual());
+            generador.writeArrayFieldStart("cuotas");
+            CursorAmortizacion cursor = plan.cursor();
+            while (cursor.avanzar()) {
+                generador.writeStartObject();
+                generador.writeNumberField("periodo", cursor.getPeriodo());
+                generador.writeNumberField("cuota", cursor.getCuota());
+                generador.writeNumberField("interes", cursor.getInteres());
+                generador.writeNumberField("capital", cursor.getCapital());
+                generador.writeNumberField("saldo", cursor.getSaldo());
+                generador.writeEndObject();
+            }
+            generador.writeEndArray();
+            generador.writeEndObject();
+        }
+    }
+
+    private static void escribirCsv(PlanAmortizacion plan, OutputStream salida) throws IOException {
+        try (Writer escritor = new BufferedWriter(new OutputStreamWriter(salida, StandardCharsets.UTF_8))) {
+            escritor.write(ENCABEZADO_CSV);
+            escritor.write("\r\n");
+            CursorAmortizacion cursor = plan.cursor();
+            while (cursor.avanzar()) {
+                escritor.write(Integer.toString(cursor.getPeriodo()));
+                escritor.write(',');
+                escritor.write(cursor.getCuota().toPlainString());
+                escritor.write(',');
+                escritor.write(cursor.getInteres().toPlainString());
+                escritor.write(',');
+                escritor.write(cursor.getCapital().toPlainString());
+                escritor.write(',');
+                escritor.write(cursor.getSaldo().toPlainString());
+                escritor.write("\r\n");
+            }
+        }
+    }
+
+    static FormatoAmortizacion desde(String valor) {
+        try {
+            return valueOf(valor.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Formato de amortización no soportado: " + valor);
+        }
+    }
+}
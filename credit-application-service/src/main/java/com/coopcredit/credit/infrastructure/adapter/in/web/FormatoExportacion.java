@@ -0,0 +1,47 @@
+package com.coopcredit.credit.infrastructure.adapter.in.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+
+/**
+ * Formatos soportados por la exportación de solicitudes.
+ */
+enum FormatoExportacion {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv;charset=UTF-8", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    FormatoExportacion(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    String getContentType() {
+        return contentType;
+    }
+
+    String getExtension() {
+        return extension;
+    }
+
+    EscritorSolicitudes crearEscritor(OutputStream salida, ObjectMapper objectMapper) throws IOException {
+        return switch (this) {
+            case NDJSON -> new EscritorSolicitudesNdjson(salida, objectMapper.getFactory());
+            case CSV -> new EscritorSolicitudesCsv(salida);
+        };
+    }
+
+    static FormatoExportacion desde(String valor) {
+        try {
+            return valueOf(valor.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Formato de exportación no soportado: " + valor);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.coopcredit.credit.infrastructure.adapter.in.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.InputStream;
+import java.util.Locale;
+
+/**
+ * Formatos soportados por la importación de afiliados.
+ */
+enum FormatoImportacion {
+
+    NDJSON,
+    CSV;
+
+    LectorAfiliados crearLector(InputStream entrada, ObjectMapper objectMapper) {
+        return switch (this) {
+            case NDJSON -> new LectorAfiliadosNdjson(entrada, objectMapper);
+            case CSV -> new LectorAfiliadosCsv(entrada);
+        };
+    }
+
+    static FormatoImportacion desde(String valor) {
+        try {
+            return valueOf(valor.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Formato de importación no soportado: " + valor);
+        }
+    }
+}
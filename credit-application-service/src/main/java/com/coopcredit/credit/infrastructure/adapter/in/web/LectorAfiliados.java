@@ -0,0 +1,69 @@
+package com.coopcredit.credit.infrastructure.adapter.in.web;
+
+import com.coopcredit.credit.application.dto.FilaAfiliadoImportada;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lee un archivo de importación línea por línea, sin cargarlo completo en memoria.
+ * Las líneas vacías se omiten; el número de fila es el número de línea del archivo.
+ */
+abstract class LectorAfiliados implements Iterator<FilaAfiliadoImportada> {
+
+    private final BufferedReader lector;
+    private int numeroLinea;
+    private FilaAfiliadoImportada siguiente;
+
+    LectorAfiliados(InputStream entrada) {
+        this.lector = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Convierte una línea no vacía en una fila (válida o con el error de formato).
+     */
+    abstract FilaAfiliadoImportada interpretar(int numero, String linea);
+
+    /**
+     * Lee la siguiente línea no vacía, o null al final del archivo.
+     */
+    String leerLinea() {
+        try {
+            String linea;
+            do {
+                linea = lector.readLine();
+                numeroLinea++;
+            } while (linea != null && linea.isBlank());
+            return linea;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error leyendo el archivo de importación", e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (siguiente == null) {
+            String linea = leerLinea();
+            if (linea != null) {
+                siguiente = interpretar(numeroLinea, linea);
+            }
+        }
+        return siguiente != null;
+    }
+
+    @Override
+    public FilaAfiliadoImportada next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        FilaAfiliadoImportada fila = siguiente;
+        siguiente = null;
+        return fila;
+    }
+}
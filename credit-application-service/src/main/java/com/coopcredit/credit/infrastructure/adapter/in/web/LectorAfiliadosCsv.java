@@ -0,0 +1,126 @@
+package com.coopcredit.credit.infrastructure.adapter.in.web;
+
+import com.coopcredit.credit.application.dto.CrearAfiliadoRequest;
+import com.coopcredit.credit.application.dto.FilaAfiliadoImportada;
+import com.coopcredit.credit.domain.model.EstadoAfiliado;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Importación en CSV (RFC 4180) con encabezado obligatorio:
+ * {@code documento,nombre,salario,fechaAfiliacion,estado} en cualquier orden.
+ * Los campos pueden ir entre comillas; no se admiten saltos de línea dentro de un campo.
+ */
+class LectorAfiliadosCsv extends LectorAfiliados {
+
+    private static final List<String> COLUMNAS = List.of("documento", "nombre", "salario", "fechaAfiliacion", "estado");
+
+    // Posición de cada columna de COLUMNAS en el archivo
+    private int[] posiciones;
+
+    LectorAfiliadosCsv(InputStream entrada) {
+        super(entrada);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (posiciones == null) {
+            leerEncabezado();
+        }
+        return super.hasNext();
+    }
+
+    private void leerEncabezado() {
+        String encabezado = leerLinea();
+        if (encabezado == null) {
+            posiciones = new int[0];
+            return;
+        }
+        List<String> campos = separar(encabezado.strip());
+        posiciones = new int[COLUMNAS.size()];
+        for (int i = 0; i < COLUMNAS.size(); i++) {
+            posiciones[i] = campos.indexOf(COLUMNAS.get(i));
+            if (posiciones[i] < 0) {
+                throw new IllegalArgumentException("El encabezado CSV debe incluir las columnas " + COLUMNAS
+                        + "; columna faltante: " + COLUMNAS.get(i));
+            }
+        }
+    }
+
+    @Override
+    FilaAfiliadoImportada interpretar(int numero, String linea) {
+        List<String> campos = separar(linea);
+        int requeridos = Arrays.stream(posiciones).max().orElse(-1) + 1;
+        if (campos.size() < requeridos) {
+            return FilaAfiliadoImportada.invalida(numero,
+                    "Se esperaban " + requeridos + " columnas y se encontraron " + campos.size());
+        }
+
+        CrearAfiliadoRequest datos = new CrearAfiliadoRequest();
+        datos.setDocumento(vacioComoNull(campos.get(posiciones[0])));
+        datos.setNombre(vacioComoNull(campos.get(posiciones[1])));
+        String salario = vacioComoNull(campos.get(posiciones[2]));
+        String fecha = vacioComoNull(campos.get(posiciones[3]));
+        String estado = vacioComoNull(campos.get(posiciones[4]));
+        try {
+            datos.setSalario(salario != null ? new BigDecimal(salario) : null);
+        } catch (NumberFormatException e) {
+            return FilaAfiliadoImportada.invalida(numero, "Salario inválido: '" + salario + "'");
+        }
+        try {
+            datos.setFechaAfiliacion(fecha != null ? LocalDate.parse(fecha) : null);
+        } catch (DateTimeParseException e) {
+            return FilaAfiliadoImportada.invalida(numero,
+                    "Fecha de afiliación inválida (formato AAAA-MM-DD): '" + fecha + "'");
+        }
+        try {
+            datos.setEstado(estado != null ? EstadoAfiliado.valueOf(estado.toUpperCase(Locale.ROOT)) : null);
+        } catch (IllegalArgumentException e) {
+            return FilaAfiliadoImportada.invalida(numero, "Estado inválido: '" + estado + "'");
+        }
+        return FilaAfiliadoImportada.valida(numero, datos);
+    }
+
+    private static String vacioComoNull(String valor) {
+        String limpio = valor.strip();
+        return limpio.isEmpty() ? null : limpio;
+    }
+
+    /**
+     * Separa una línea por comas respetando los campos entre comillas ("" es una comilla).
+     */
+    static List<String> separar(String linea) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreComillas = false;
+        for (int i = 0; i < linea.length(); i++) {
+            char c = linea.charAt(i);
+            if (entreComillas) {
+                if (c == '"' && i + 1 < linea.length() && linea.charAt(i + 1) == '"') {
+                    campo.append('"');
+                    i++;
+                } else if (c == '"') {
+                    entreComillas = false;
+                } else {
+                    campo.append(c);
+                }
+            } else if (c == '"') {
+                entreComillas = true;
+            } else if (c == ',') {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else {
+                campo.append(c);
+            }
+        }
+        campos.add(campo.toString());
+        return campos;
+    }
+}
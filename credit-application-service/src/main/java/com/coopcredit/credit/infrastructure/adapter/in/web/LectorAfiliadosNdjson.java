@@ -0,0 +1,32 @@
+package com.coopcredit.credit.infrastructure.adapter.in.web;
+
+import com.coopcredit.credit.application.dto.CrearAfiliadoRequest;
+import com.coopcredit.credit.application.dto.FilaAfiliadoImportada;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.InputStream;
+
+/**
+ * Importación en NDJSON: un objeto JSON por línea con los campos de
+ * {@code POST /api/afiliados}.
+ */
+class LectorAfiliadosNdjson extends LectorAfiliados {
+
+    private final ObjectReader reader;
+
+    LectorAfiliadosNdjson(InputStream entrada, ObjectMapper objectMapper) {
+        super(entrada);
+        this.reader = objectMapper.readerFor(CrearAfiliadoRequest.class);
+    }
+
+    @Override
+    FilaAfiliadoImportada interpretar(int numero, String linea) {
+        try {
+            return FilaAfiliadoImportada.valida(numero, reader.readValue(linea));
+        } catch (JsonProcessingException e) {
+            return FilaAfiliadoImportada.invalida(numero, "JSON inválido: " + e.getOriginalMessage());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.coopcredit.credit.infrastructure.adapter.in.web;
+
+import com.coopcredit.credit.application.dto.PaginaDTO;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.List;
+
+/**
+ * Construye respuestas de listados paginados por cursor.
+ * El cuerpo es el arreglo de la página; si hay página siguiente se indica en el
+ * header {@code Link} con {@code rel="next"} (RFC 8288), conservando los demás
+ * parámetros de la petición.
+ */
+final class RespuestaPaginada {
+
+    private RespuestaPaginada() {
+    }
+
+    static <T> ResponseEntity<List<T>> de(PaginaDTO<T> pagina) {
+        ResponseEntity.BodyBuilder respuesta = ResponseEntity.ok();
+        if (pagina.getSiguiente() != null) {
+            String siguiente = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", pagina.getSiguiente())
+                    .toUriString();
+            respuesta.header(HttpHeaders.LINK, "<" + siguiente + ">; rel=\"next\"");
+        }
+        return respuesta.body(pagina.getItems());
+    }
+}
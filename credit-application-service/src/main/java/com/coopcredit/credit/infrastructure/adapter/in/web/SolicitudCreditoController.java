@@ -1,22 +1,37 @@
 package com.coopcredit.credit.infrastructure.adapter.in.web;
 
 import com.coopcredit.credit.application.dto.CrearSolicitudRequest;
+import com.coopcredit.credit.application.dto.EvaluacionMasivaDTO;
+import com.coopcredit.credit.application.dto.EvaluacionMasivaRequest;
+import com.coopcredit.credit.application.dto.OrdenSolicitudes;
+import com.coopcredit.credit.application.dto.PaginaDTO;
 import com.coopcredit.credit.application.dto.SolicitudCreditoDTO;
+import com.coopcredit.credit.application.port.in.ConsultarAmortizacionUseCase;
 import com.coopcredit.credit.application.port.in.ConsultarSolicitudesUseCase;
 import com.coopcredit.credit.application.port.in.CrearSolicitudCreditoUseCase;
+import com.coopcredit.credit.application.port.in.EvaluacionMasivaUseCase;
 import com.coopcredit.credit.application.port.in.EvaluarSolicitudUseCase;
+import com.coopcredit.credit.application.port.in.ExportarSolicitudesUseCase;
+import com.coopcredit.credit.domain.amortizacion.PlanAmortizacion;
 import com.coopcredit.credit.domain.model.EstadoSolicitud;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -33,13 +48,25 @@ public class SolicitudCreditoController {
     private final CrearSolicitudCreditoUseCase crearSolicitudUseCase;
     private final ConsultarSolicitudesUseCase consultarSolicitudesUseCase;
     private final EvaluarSolicitudUseCase evaluarSolicitudUseCase;
+    private final EvaluacionMasivaUseCase evaluacionMasivaUseCase;
+    private final ExportarSolicitudesUseCase exportarSolicitudesUseCase;
+    private final ConsultarAmortizacionUseCase consultarAmortizacionUseCase;
+    private final ObjectMapper objectMapper;
 
     public SolicitudCreditoController(CrearSolicitudCreditoUseCase crearSolicitudUseCase,
             ConsultarSolicitudesUseCase consultarSolicitudesUseCase,
-            EvaluarSolicitudUseCase evaluarSolicitudUseCase) {
+            EvaluarSolicitudUseCase evaluarSolicitudUseCase,
+            EvaluacionMasivaUseCase evaluacionMasivaUseCase,
+            ExportarSolicitudesUseCase exportarSolicitudesUseCase,
+            ConsultarAmortizacionUseCase consultarAmortizacionUseCase,
+            ObjectMapper objectMapper) {
         this.crearSolicitudUseCase = crearSolicitudUseCase;
         this.consultarSolicitudesUseCase = consultarSolicitudesUseCase;
         this.evaluarSolicitudUseCase = evaluarSolicitudUseCase;
+        this.evaluacionMasivaUseCase = evaluacionMasivaUseCase;
+        this.exportarSolicitudesUseCase = exportarSolicitudesUseCase;
+        this.consultarAmortizacionUseCase = consultarAmortizacionUseCase;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -60,13 +87,64 @@ public class SolicitudCreditoController {
         return ResponseEntity.ok(solicitud);
     }
 
+    @GetMapping("/{id}/amortizacion")
+    @PreAuthorize("hasAnyRole('ADMIN', 'ANALISTA', 'AFILIADO')")
+    @Operation(summary = "Plan de amortización", description = "Plan de pagos de la solicitud (periodo, cuota, "
+            + "interés, capital y saldo) en JSON o CSV. El plan depende solo de monto, tasa y plazo, "
+            + "por lo que la respuesta lleva un ETag con esos términos y admite If-None-Match")
+    public void amortizacion(@PathVariable Long id, @RequestParam(defaultValue = "json") String format,
+            ServletWebRequest request, HttpServletResponse response) throws IOException {
+        log.info("GET /api/solicitudes/{}/amortizacion - format: {}", id, format);
+        FormatoAmortizacion formato = FormatoAmortizacion.desde(format);
+        PlanAmortizacion plan = consultarAmortizacionUseCase.obtenerPlan(id);
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                CacheControl.maxAge(Duration.ofHours(1)).cachePrivate().getHeaderValue());
+        if (request.checkNotModified(etagAmortizacion(plan, formato))) {
+            return;
+        }
+        response.setContentType(formato.getContentType());
+        if (formato == FormatoAmortizacion.CSV) {
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                    "attachment; filename=\"amortizacion-" + id + "." + formato.getExtension() + "\"");
+        }
+        formato.escribir(plan, response.getOutputStream(), objectMapper.getFactory());
+    }
+
+    private static String etagAmortizacion(PlanAmortizacion plan, FormatoAmortizacion formato) {
+        return "\"" + plan.getMonto().stripTrailingZeros().toPlainString()
+                + "-" + plan.getTasaAnual().stripTrailingZeros().toPlainString()
+                + "-" + plan.getPlazoMeses()
+                + "-" + formato.getExtension() + "\"";
+    }
+
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'ANALISTA')")
-    @Operation(summary = "Listar solicitudes", description = "Lista todas las solicitudes de crédito")
-    public ResponseEntity<List<SolicitudCreditoDTO>> listarTodas() {
-        log.info("GET /api/solicitudes");
-        List<SolicitudCreditoDTO> solicitudes = consultarSolicitudesUseCase.listarTodas();
-        return ResponseEntity.ok(solicitudes);
+    @Operation(summary = "Listar solicitudes", description = "Lista las solicitudes de crédito paginadas por cursor: "
+            + "'after' es el ID de la última solicitud recibida y la página siguiente se indica en el header Link")
+    public ResponseEntity<List<SolicitudCreditoDTO>> listarTodas(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + PaginaDTO.LIMITE_POR_DEFECTO) int limit,
+            @RequestParam(defaultValue = "ID") OrdenSolicitudes orden) {
+        log.info("GET /api/solicitudes - after: {}, limit: {}, orden: {}", after, limit, orden);
+        PaginaDTO<SolicitudCreditoDTO> pagina = consultarSolicitudesUseCase.listarPagina(after, limit, orden);
+        return RespuestaPaginada.de(pagina);
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('ADMIN', 'ANALISTA')")
+    @Operation(summary = "Exportar solicitudes", description = "Exporta todas las solicitudes en NDJSON o CSV, "
+            + "escribiendo las filas en la respuesta a medida que se leen de la base de datos")
+    public void exportar(@RequestParam(defaultValue = "ndjson") String format, HttpServletResponse response)
+            throws IOException {
+        log.info("GET /api/solicitudes/export - format: {}", format);
+        FormatoExportacion formato = FormatoExportacion.desde(format);
+        response.setContentType(formato.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"solicitudes." + formato.getExtension() + "\"");
+        try (EscritorSolicitudes escritor = formato.crearEscritor(response.getOutputStream(), objectMapper)) {
+            exportarSolicitudesUseCase.exportar(escritor);
+        }
     }
 
     @GetMapping("/afiliado/{afiliadoId}")
@@ -89,10 +167,30 @@ public class SolicitudCreditoController {
 
     @PostMapping("/{id}/evaluar")
     @PreAuthorize("hasAnyRole('ANALISTA', 'ADMIN')")
-    @Operation(summary = "Evaluar solicitud", description = "Evalúa una solicitud de crédito aplicando políticas y consultando servicio externo de riesgo")
-    public ResponseEntity<SolicitudCreditoDTO> evaluar(@PathVariable Long id) {
+    @Operation(summary = "Evaluar solicitud", description = "Evalúa una solicitud de crédito aplicando políticas y consultando servicio externo de riesgo. "
+            + "Con Idempotency-Key, un reintento con la misma clave retorna el resultado almacenado sin volver a evaluar")
+    public ResponseEntity<SolicitudCreditoDTO> evaluar(@PathVariable Long id,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         log.info("POST /api/solicitudes/{}/evaluar", id);
-        SolicitudCreditoDTO solicitud = evaluarSolicitudUseCase.evaluar(id);
+        SolicitudCreditoDTO solicitud = evaluarSolicitudUseCase.evaluar(id, idempotencyKey);
         return ResponseEntity.ok(solicitud);
     }
+
+    @PostMapping("/evaluaciones")
+    @PreAuthorize("hasAnyRole('ANALISTA', 'ADMIN')")
+    @Operation(summary = "Evaluación masiva", description = "Inicia la evaluación asíncrona de varias solicitudes (por IDs o por estado) y retorna el ID del proceso")
+    public ResponseEntity<EvaluacionMasivaDTO> evaluarMasivo(@RequestBody EvaluacionMasivaRequest request) {
+        log.info("POST /api/solicitudes/evaluaciones - estado: {}", request.getEstado());
+        EvaluacionMasivaDTO evaluacion = evaluacionMasivaUseCase.iniciar(request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(evaluacion);
+    }
+
+    @GetMapping("/evaluaciones/{jobId}")
+    @PreAuthorize("hasAnyRole('ANALISTA', 'ADMIN')")
+    @Operation(summary = "Consultar evaluación masiva", description = "Consulta el progreso y el resultado por solicitud de una evaluación masiva")
+    public ResponseEntity<EvaluacionMasivaDTO> consultarEvaluacionMasiva(@PathVariable String jobId) {
+        log.info("GET /api/solicitudes/evaluaciones/{}", jobId);
+        EvaluacionMasivaDTO evaluacion = evaluacionMasivaUseCase.consultar(jobId);
+        return ResponseEntity.ok(evaluacion);
+    }
 }
@@ -41,12 +41,39 @@ public class GlobalExceptionHandler {
         return createProblemDetail(HttpStatus.NOT_FOUND, "Solicitud no encontrada", ex.getMessage(), request);
     }
 
+    @ExceptionHandler(EvaluacionMasivaNoEncontradaException.class)
+    public ProblemDetail handleEvaluacionMasivaNoEncontrada(EvaluacionMasivaNoEncontradaException ex,
+            WebRequest request) {
+        log.warn("Evaluación masiva no encontrada: {}", ex.getMessage());
+        return createProblemDetail(HttpStatus.NOT_FOUND, "Evaluación masiva no encontrada", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(EvaluacionesMasivasSaturadasException.class)
+    public ProblemDetail handleEvaluacionesMasivasSaturadas(EvaluacionesMasivasSaturadasException ex,
+            WebRequest request) {
+        log.warn("Evaluaciones masivas saturadas: {}", ex.getMessage());
+        return createProblemDetail(HttpStatus.TOO_MANY_REQUESTS, "Demasiadas evaluaciones masivas", ex.getMessage(),
+                request);
+    }
+
     @ExceptionHandler(DocumentoDuplicadoException.class)
     public ProblemDetail handleDocumentoDuplicado(DocumentoDuplicadoException ex, WebRequest request) {
         log.warn("Documento duplicado: {}", ex.getMessage());
         return createProblemDetail(HttpStatus.CONFLICT, "Documento duplicado", ex.getMessage(), request);
     }
 
+    @ExceptionHandler(EvaluacionConcurrenteException.class)
+    public ProblemDetail handleEvaluacionConcurrente(EvaluacionConcurrenteException ex, WebRequest request) {
+        log.warn("Modificación concurrente: {}", ex.getMessage());
+        return createProblemDetail(HttpStatus.CONFLICT, "Modificación concurrente", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(EvaluacionEnCursoException.class)
+    public ProblemDetail handleEvaluacionEnCurso(EvaluacionEnCursoException ex, WebRequest request) {
+        log.warn("Evaluación en curso: {}", ex.getMessage());
+        return createProblemDetail(HttpStatus.CONFLICT, "Evaluación en curso", ex.getMessage(), request);
+    }
+
     @ExceptionHandler(AfiliadoInactivoException.class)
     public ProblemDetail handleAfiliadoInactivo(AfiliadoInactivoException ex, WebRequest request) {
         log.warn("Afiliado inactivo: {}", ex.getMessage());
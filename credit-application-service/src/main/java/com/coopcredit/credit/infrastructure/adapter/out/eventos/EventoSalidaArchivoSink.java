@@ -0,0 +1,71 @@
+package com.coopcredit.credit.infrastructure.adapter.out.eventos;
+
+import com.coopcredit.credit.application.dto.EventoSalida;
+import com.coopcredit.credit.application.port.out.EventoSalidaSinkPort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Destino que agrega los eventos a un archivo NDJSON (un evento por línea).
+ * Cada lote se escribe con una sola operación y se sincroniza con el disco antes
+ * de confirmarlo.
+ *
+ * Se activa con {@code coopcredit.eventos.sink=archivo}.
+ */
+@Component
+@ConditionalOnProperty(name = "coopcredit.eventos.sink", havingValue = "archivo")
+public class EventoSalidaArchivoSink implements EventoSalidaSinkPort {
+
+    private static final Logger log = LoggerFactory.getLogger(EventoSalidaArchivoSink.class);
+
+    private final Path ruta;
+    private final ObjectWriter writer;
+
+    public EventoSalidaArchivoSink(ObjectMapper objectMapper,
+            @Value("${coopcredit.eventos.archivo.ruta:eventos/solicitudes.ndjson}") Path ruta) {
+        this.ruta = ruta;
+        this.writer = objectMapper.writerFor(SobreEvento.class);
+        log.info("Eventos publicados en el archivo {}", ruta.toAbsolutePath());
+    }
+
+    @Override
+    public synchronized void publicar(List<EventoSalida> eventos) {
+        try {
+            ByteArrayOutputStream lote = new ByteArrayOutputStream(eventos.size() * 512);
+            for (EventoSalida evento : eventos) {
+                lote.write(writer.writeValueAsBytes(SobreEvento.de(evento)));
+                lote.write('\n');
+            }
+
+            Path directorio = ruta.toAbsolutePath().getParent();
+            if (directorio != null) {
+                Files.createDirectories(directorio);
+            }
+            try (FileChannel canal = FileChannel.open(ruta,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(lote.toByteArray());
+                while (buffer.hasRemaining()) {
+                    canal.write(buffer);
+                }
+                canal.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudieron escribir los eventos en " + ruta, e);
+        }
+    }
+}
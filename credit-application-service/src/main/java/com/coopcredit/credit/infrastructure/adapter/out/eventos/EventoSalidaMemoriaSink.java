@@ -0,0 +1,70 @@
+package com.coopcredit.credit.infrastructure.adapter.out.eventos;
+
+import com.coopcredit.credit.application.dto.EventoSalida;
+import com.coopcredit.credit.application.port.out.EventoSalidaSinkPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Broker en memoria con capacidad acotada, solo para desarrollo local y pruebas:
+ * los eventos publicados se pierden al detener la aplicación.
+ * Los consumidores del mismo proceso leen los eventos con {@link #consumir(int)}.
+ *
+ * Si la cola está llena, la publicación espera hasta {@code espera} y luego falla:
+ * el relay reintenta el lote más tarde (contrapresión hacia la outbox).
+ *
+ * Se activa con {@code coopcredit.eventos.sink=memoria}.
+ */
+@Component
+@ConditionalOnProperty(name = "coopcredit.eventos.sink", havingValue = "memoria")
+public class EventoSalidaMemoriaSink implements EventoSalidaSinkPort {
+
+    private static final Logger log = LoggerFactory.getLogger(EventoSalidaMemoriaSink.class);
+
+    private final BlockingQueue<EventoSalida> cola;
+    private final Duration espera;
+
+    public EventoSalidaMemoriaSink(@Value("${coopcredit.eventos.memoria.capacidad:10000}") int capacidad,
+            @Value("${coopcredit.eventos.memoria.espera:1s}") Duration espera) {
+        this.cola = new LinkedBlockingQueue<>(capacidad);
+        this.espera = espera;
+        log.warn("Destino de eventos en memoria: los eventos publicados se pierden al detener la aplicación");
+    }
+
+    @Override
+    public void publicar(List<EventoSalida> eventos) {
+        try {
+            for (EventoSalida evento : eventos) {
+                if (!cola.offer(evento, espera.toMillis(), TimeUnit.MILLISECONDS)) {
+                    throw new IllegalStateException("Broker de eventos en memoria lleno (" + cola.size() + " eventos)");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Publicación de eventos interrumpida", e);
+        }
+    }
+
+    /**
+     * Retira hasta {@code maximo} eventos en orden de publicación.
+     */
+    public List<EventoSalida> consumir(int maximo) {
+        List<EventoSalida> eventos = new ArrayList<>(Math.min(maximo, cola.size()));
+        cola.drainTo(eventos, maximo);
+        return eventos;
+    }
+
+    public int pendientes() {
+        return cola.size();
+    }
+}
@@ -0,0 +1,74 @@
+package com.coopcredit.credit.infrastructure.adapter.out.eventos;
+
+import com.coopcredit.credit.application.dto.EventoSalida;
+import com.coopcredit.credit.application.port.out.EventoSalidaSinkPort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Destino que envía cada lote como un arreglo JSON en un POST a un webhook.
+ * El lote se confirma solo con una respuesta 2xx; cualquier otra respuesta o
+ * error de red hace que el relay lo reintente.
+ *
+ * Se activa con {@code coopcredit.eventos.sink=webhook}.
+ */
+@Component
+@ConditionalOnProperty(name = "coopcredit.eventos.sink", havingValue = "webhook")
+public class EventoSalidaWebhookSink implements EventoSalidaSinkPort {
+
+    private final HttpClient httpClient;
+    private final URI uri;
+    private final Duration timeout;
+    private final ObjectWriter writer;
+
+    public EventoSalidaWebhookSink(ObjectMapper objectMapper,
+            @Value("${coopcredit.eventos.webhook.url}") String url,
+            @Value("${coopcredit.eventos.webhook.timeout:5s}") Duration timeout) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .build();
+        this.uri = URI.create(url);
+        this.timeout = timeout;
+        this.writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, SobreEvento.class));
+    }
+
+    @Override
+    public void publicar(List<EventoSalida> eventos) {
+        try {
+            byte[] body = writer.writeValueAsBytes(eventos.stream().map(SobreEvento::de).toList());
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                    .timeout(timeout)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                    .build();
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() < 200 || response.statusCode() >= 300) {
+                throw new IllegalStateException("El webhook de eventos respondió con estado " + response.statusCode());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudieron enviar los eventos a " + uri, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Envío de eventos interrumpido", e);
+        }
+    }
+
+    @PreDestroy
+    public void cerrar() {
+        httpClient.close();
+    }
+}
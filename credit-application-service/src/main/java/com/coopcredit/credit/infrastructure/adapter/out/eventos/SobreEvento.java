@@ -0,0 +1,52 @@
+package com.coopcredit.credit.infrastructure.adapter.out.eventos;
+
+import com.coopcredit.credit.application.dto.EventoSalida;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+
+/**
+ * Formato de un evento en los destinos externos: metadatos de la outbox más el
+ * contenido JSON tal como se guardó (sin volver a interpretarlo).
+ */
+final class SobreEvento {
+
+    private final Long id;
+    private final String tipo;
+    private final Long agregadoId;
+    private final LocalDateTime fechaCreacion;
+    private final String payload;
+
+    private SobreEvento(EventoSalida evento) {
+        this.id = evento.getId();
+        this.tipo = evento.getTipo();
+        this.agregadoId = evento.getAgregadoId();
+        this.fechaCreacion = evento.getFechaCreacion();
+        this.payload = evento.getPayload();
+    }
+
+    static SobreEvento de(EventoSalida evento) {
+        return new SobreEvento(evento);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTipo() {
+        return tipo;
+    }
+
+    public Long getAgregadoId() {
+        return agregadoId;
+    }
+
+    public LocalDateTime getFechaCreacion() {
+        return fechaCreacion;
+    }
+
+    @JsonRawValue
+    public String getPayload() {
+        return payload;
+    }
+}
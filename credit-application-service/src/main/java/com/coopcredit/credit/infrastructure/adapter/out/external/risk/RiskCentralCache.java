@@ -0,0 +1,140 @@
+package com.coopcredit.credit.infrastructure.adapter.out.external.risk;
+
+import com.coopcredit.credit.application.port.out.RiskCentralPort;
+import com.coopcredit.credit.infrastructure.metrics.CreditApplicationMetrics;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Caché acotada de respuestas de Risk Central por documento.
+ *
+ * Las entradas expiran tras un tiempo fijo desde su escritura y se expulsan al
+ * superar el tamaño máximo. Las consultas concurrentes del mismo documento
+ * comparten una única llamada en curso; las llamadas fallidas no se guardan.
+ * Se activa con {@code coopcredit.risk-central.cache.habilitado=true}.
+ *
+ * SOLID - SRP: Solo cachea respuestas; el transporte lo hace el cliente decorado
+ */
+@Component
+@ConditionalOnProperty(name = "coopcredit.risk-central.cache.habilitado", havingValue = "true")
+public class RiskCentralCache implements RiskCentralPort {
+
+    private static final Logger log = LoggerFactory.getLogger(RiskCentralCache.class);
+
+    private final RiskCentralPort riskCentralClient;
+    private final CreditApplicationMetrics metrics;
+    private final AsyncCache<String, RiskEvaluationResponse> cache;
+
+    public RiskCentralCache(@Qualifier(RiskCentralCircuitBreaker.DELEGADO) RiskCentralPort riskCentralClient,
+            ObjectProvider<RiskCentralMicroBatcher> microBatcher,
+            CreditApplicationMetrics metrics,
+            @Value("${coopcredit.risk-central.cache.max-entradas:10000}") long maxEntradas,
+            @Value("${coopcredit.risk-central.cache.ttl:10m}") Duration ttl) {
+        RiskCentralPort batcher = microBatcher.getIfAvailable();
+        this.riskCentralClient = batcher != null ? batcher : riskCentralClient;
+        this.metrics = metrics;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntradas)
+                .expireAfterWrite(ttl)
+                .removalListener((String documento, RiskEvaluationResponse response, RemovalCause causa) -> {
+                    if (causa.wasEvicted()) {
+                        metrics.incrementarExpulsionesCacheRiesgo();
+                    }
+                })
+                .buildAsync();
+        metrics.registrarTamanoCacheRiesgo(() -> cache.synchronous().estimatedSize());
+    }
+
+    @Override
+    public RiskEvaluationResponse evaluarRiesgo(String documento, BigDecimal monto, Integer plazo) {
+        try {
+            return obtener(documento, monto, plazo).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<RiskEvaluationResponse> evaluarRiesgoAsync(String documento, BigDecimal monto,
+            Integer plazo) {
+        // Copia para que un llamador no pueda completar o cancelar el futuro compartido
+        return obtener(documento, monto, plazo).copy();
+    }
+
+    @Override
+    public List<RiskEvaluationResponse> evaluarRiesgoBatch(List<RiskEvaluationRequest> solicitudes) {
+        List<RiskEvaluationResponse> respuestas = new ArrayList<>(solicitudes.size());
+        List<RiskEvaluationRequest> faltantes = new ArrayList<>();
+        List<Integer> posicionesFaltantes = new ArrayList<>();
+
+        for (int i = 0; i < solicitudes.size(); i++) {
+            CompletableFuture<RiskEvaluationResponse> enCache = cache.getIfPresent(solicitudes.get(i).getDocumento());
+            if (enCache != null && enCache.isDone() && !enCache.isCompletedExceptionally()) {
+                metrics.incrementarAciertosCacheRiesgo();
+                respuestas.add(enCache.join());
+            } else {
+                metrics.incrementarFallosCacheRiesgo();
+                respuestas.add(null);
+                faltantes.add(solicitudes.get(i));
+                posicionesFaltantes.add(i);
+            }
+        }
+
+        if (!faltantes.isEmpty()) {
+            List<RiskEvaluationResponse> consultadas = riskCentralClient.evaluarRiesgoBatch(faltantes);
+            for (int i = 0; i < faltantes.size(); i++) {
+                RiskEvaluationResponse response = consultadas.get(i);
+                cache.put(faltantes.get(i).getDocumento(), CompletableFuture.completedFuture(response));
+                respuestas.set(posicionesFaltantes.get(i), response);
+            }
+        }
+        return respuestas;
+    }
+
+    /**
+     * Retorna la respuesta cacheada o en curso para el documento; si no existe,
+     * registra un futuro nuevo y realiza la llamada fuera del mapa de la caché.
+     */
+    private CompletableFuture<RiskEvaluationResponse> obtener(String documento, BigDecimal monto, Integer plazo) {
+        CompletableFuture<RiskEvaluationResponse> nuevo = new CompletableFuture<>();
+        CompletableFuture<RiskEvaluationResponse> actual = cache.get(documento, (clave, executor) -> nuevo);
+
+        if (actual != nuevo) {
+            metrics.incrementarAciertosCacheRiesgo();
+            log.debug("Respuesta de riesgo desde caché para documento: {}", documento);
+            return actual;
+        }
+
+        metrics.incrementarFallosCacheRiesgo();
+        try {
+            riskCentralClient.evaluarRiesgoAsync(documento, monto, plazo).whenComplete((response, error) -> {
+                if (error != null) {
+                    nuevo.completeExceptionally(error);
+                } else {
+                    nuevo.complete(response);
+                }
+            });
+        } catch (RuntimeException e) {
+            nuevo.completeExceptionally(e);
+        }
+        return nuevo;
+    }
+}
@@ -5,11 +5,15 @@ import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Decorador con Circuit Breaker para el cliente de Risk Central.
@@ -17,18 +21,35 @@ import java.util.Random;
  * 
  * SOLID - SRP: Solo maneja resiliencia del servicio externo
  * SOLID - OCP: Extiende funcionalidad sin modificar RiskCentralClient
+ * SOLID - DIP: Decora el cliente HTTP seleccionado por configuración
+ * ({@code coopcredit.risk-central.cliente})
+ *
+ * Cadena de decoradores: circuit breaker → caché (opcional) → micro-batcher (opcional) → cliente HTTP.
+ * La caché queda detrás del circuit breaker para no guardar respuestas de fallback.
  */
 @Component
 @Primary
 public class RiskCentralCircuitBreaker implements RiskCentralPort {
 
+    /**
+     * Calificador del cliente HTTP decorado por este circuit breaker.
+     */
+    public static final String DELEGADO = "riskCentralDelegado";
+
     private static final Logger log = LoggerFactory.getLogger(RiskCentralCircuitBreaker.class);
 
-    private final RiskCentralClient riskCentralClient;
+    private final RiskCentralPort riskCentralClient;
     private final Random random = new Random();
 
-    public RiskCentralCircuitBreaker(RiskCentralClient riskCentralClient) {
-        this.riskCentralClient = riskCentralClient;
+    public RiskCentralCircuitBreaker(@Qualifier(DELEGADO) RiskCentralPort riskCentralClient,
+            ObjectProvider<RiskCentralMicroBatcher> microBatcher,
+            ObjectProvider<RiskCentralCache> cache) {
+        // Decorador más externo disponible: caché, micro-batcher o el cliente HTTP
+        RiskCentralPort delegado = cache.getIfAvailable();
+        if (delegado == null) {
+            delegado = microBatcher.getIfAvailable();
+        }
+        this.riskCentralClient = delegado != null ? delegado : riskCentralClient;
     }
 
     @Override
@@ -39,6 +60,23 @@ public class RiskCentralCircuitBreaker implements RiskCentralPort {
         return riskCentralClient.evaluarRiesgo(documento, monto, plazo);
     }
 
+    @Override
+    @CircuitBreaker(name = "risk-central", fallbackMethod = "evaluarRiesgoAsyncFallback")
+    @Retry(name = "risk-central")
+    public CompletableFuture<RiskEvaluationResponse> evaluarRiesgoAsync(String documento, BigDecimal monto,
+            Integer plazo) {
+        log.info("Llamando de forma asíncrona a Risk Central con circuit breaker - Documento: {}", documento);
+        return riskCentralClient.evaluarRiesgoAsync(documento, monto, plazo);
+    }
+
+    @Override
+    @CircuitBreaker(name = "risk-central", fallbackMethod = "evaluarRiesgoBatchFallback")
+    @Retry(name = "risk-central")
+    public List<RiskEvaluationResponse> evaluarRiesgoBatch(List<RiskEvaluationRequest> solicitudes) {
+        log.info("Llamando a Risk Central por lote con circuit breaker - Solicitudes: {}", solicitudes.size());
+        return riskCentralClient.evaluarRiesgoBatch(solicitudes);
+    }
+
     /**
      * Método fallback cuando el servicio no está disponible.
      * Genera una evaluación conservadora basada en reglas locales.
@@ -59,6 +97,28 @@ public class RiskCentralCircuitBreaker implements RiskCentralPort {
         );
     }
 
+    /**
+     * Método fallback de la variante asíncrona.
+     */
+    public CompletableFuture<RiskEvaluationResponse> evaluarRiesgoAsyncFallback(String documento, BigDecimal monto,
+                                                                               Integer plazo, Throwable ex) {
+        log.warn("Risk Central no disponible (asíncrono). Usando evaluación fallback. Error: {}", ex.getMessage());
+        return CompletableFuture.completedFuture(evaluarRiesgoFallback(documento, monto, plazo,
+                ex instanceof Exception e ? e : new RuntimeException(ex)));
+    }
+
+    /**
+     * Método fallback de la evaluación por lote: evaluación conservadora por solicitud.
+     */
+    public List<RiskEvaluationResponse> evaluarRiesgoBatchFallback(List<RiskEvaluationRequest> solicitudes,
+                                                                  Exception ex) {
+        log.warn("Risk Central no disponible (lote de {}). Usando evaluación fallback. Error: {}",
+                solicitudes.size(), ex.getMessage());
+        return solicitudes.stream()
+                .map(s -> evaluarRiesgoFallback(s.getDocumento(), s.getMonto(), s.getPlazo(), ex))
+                .toList();
+    }
+
     /**
      * Calcula un score conservador basado en reglas de negocio locales.
      */
@@ -3,7 +3,9 @@ package com.coopcredit.credit.infrastructure.adapter.out.external.risk;
 import com.coopcredit.credit.application.port.out.RiskCentralPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -12,13 +14,18 @@ import org.springframework.web.client.RestTemplate;
 
 import java.math.BigDecimal;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Cliente HTTP para el servicio externo de evaluación de riesgo.
  * Implementa el puerto RiskCentralPort.
+ *
+ * Cliente por defecto ({@code coopcredit.risk-central.cliente=rest-template}).
  */
 @Component
+@Qualifier(RiskCentralCircuitBreaker.DELEGADO)
+@ConditionalOnProperty(name = "coopcredit.risk-central.cliente", havingValue = "rest-template", matchIfMissing = true)
 public class RiskCentralClient implements RiskCentralPort {
 
     private static final Logger log = LoggerFactory.getLogger(RiskCentralClient.class);
@@ -76,6 +83,70 @@ public class RiskCentralClient implements RiskCentralPort {
         }
     }
 
+    @Override
+    public List<RiskEvaluationResponse> evaluarRiesgoBatch(List<RiskEvaluationRequest> solicitudes) {
+        log.info("Llamando a servicio externo de riesgo por lote: {} - Solicitudes: {}",
+                riskCentralUrl, solicitudes.size());
+
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+
+            RiskEvaluationBatchResponseDTO response = restTemplate.postForObject(
+                    riskCentralUrl + "/risk-evaluation/batch",
+                    new HttpEntity<>(new RiskEvaluationBatchRequestDTO(solicitudes), headers),
+                    RiskEvaluationBatchResponseDTO.class);
+
+            if (response == null || response.getResultados() == null
+                    || response.getResultados().size() != solicitudes.size()) {
+                throw new RuntimeException("Respuesta incompleta del servicio de riesgo por lote");
+            }
+
+            return response.getResultados().stream()
+                    .map(dto -> new RiskEvaluationResponse(
+                            dto.getDocumento(), dto.getScore(), dto.getNivelRiesgo(), dto.getDetalle()))
+                    .toList();
+
+        } catch (Exception e) {
+            log.error("Error al consultar servicio de riesgo por lote: {}", e.getMessage(), e);
+            throw new RuntimeException("Error al evaluar riesgo crediticio. Servicio no disponible", e);
+        }
+    }
+
+    /**
+     * DTO para la solicitud por lote al servicio externo. Las solicitudes del puerto
+     * se serializan tal cual (documento, monto, plazo).
+     */
+    private static class RiskEvaluationBatchRequestDTO {
+        private final List<RiskEvaluationRequest> solicitudes;
+
+        RiskEvaluationBatchRequestDTO(List<RiskEvaluationRequest> solicitudes) {
+            this.solicitudes = solicitudes;
+        }
+
+        public List<RiskEvaluationRequest> getSolicitudes() {
+            return solicitudes;
+        }
+    }
+
+    /**
+     * DTO para la respuesta por lote del servicio externo.
+     */
+    private static class RiskEvaluationBatchResponseDTO {
+        private List<RiskEvaluationResponseDTO> resultados;
+
+        public RiskEvaluationBatchResponseDTO() {
+        }
+
+        public List<RiskEvaluationResponseDTO> getResultados() {
+            return resultados;
+        }
+
+        public void setResultados(List<RiskEvaluationResponseDTO> resultados) {
+            this.resultados = resultados;
+        }
+    }
+
     /**
      * DTO para la respuesta del servicio externo.
      */
@@ -0,0 +1,294 @@
+package com.coopcredit.credit.infrastructure.adapter.out.external.risk;
+
+import com.coopcredit.credit.application.port.out.RiskCentralPort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Cliente HTTP no bloqueante para el servicio externo de evaluación de riesgo.
+ * Basado en el {@link HttpClient} del JDK: reutiliza conexiones (keep-alive),
+ * aplica timeouts de conexión y de respuesta, y negocia HTTP/2 cuando el servidor lo soporta.
+ *
+ * Se activa con {@code coopcredit.risk-central.cliente=http-client}.
+ */
+@Component
+@Qualifier(RiskCentralCircuitBreaker.DELEGADO)
+@ConditionalOnProperty(name = "coopcredit.risk-central.cliente", havingValue = "http-client")
+public class RiskCentralHttpClient implements RiskCentralPort {
+
+    private static final Logger log = LoggerFactory.getLogger(RiskCentralHttpClient.class);
+
+    private final HttpClient httpClient;
+    private final URI evaluacionUri;
+    private final URI evaluacionLoteUri;
+    private final Duration readTimeout;
+    private final ObjectWriter requestWriter;
+    private final ObjectReader responseReader;
+    private final ObjectWriter batchRequestWriter;
+    private final ObjectReader batchResponseReader;
+
+    public RiskCentralHttpClient(ObjectMapper objectMapper,
+            @Value("${coopcredit.risk-central.url}") String riskCentralUrl,
+            @Value("${coopcredit.risk-central.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${coopcredit.risk-central.read-timeout:5s}") Duration readTimeout,
+            @Value("${coopcredit.risk-central.http-version:HTTP_2}") HttpClient.Version httpVersion) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(httpVersion)
+                .connectTimeout(connectTimeout)
+                .build();
+        this.evaluacionUri = URI.create(riskCentralUrl + "/risk-evaluation");
+        this.evaluacionLoteUri = URI.create(riskCentralUrl + "/risk-evaluation/batch");
+        this.readTimeout = readTimeout;
+        this.requestWriter = objectMapper.writerFor(RiskEvaluationRequestDTO.class);
+        this.responseReader = objectMapper.readerFor(RiskEvaluationResponseDTO.class);
+        this.batchRequestWriter = objectMapper.writerFor(RiskEvaluationBatchRequestDTO.class);
+        this.batchResponseReader = objectMapper.readerFor(RiskEvaluationBatchResponseDTO.class);
+    }
+
+    @Override
+    public RiskEvaluationResponse evaluarRiesgo(String documento, BigDecimal monto, Integer plazo) {
+        log.info("Llamando a servicio externo de riesgo: {}", evaluacionUri);
+
+        try {
+            HttpResponse<byte[]> response = httpClient.send(
+                    crearRequest(documento, monto, plazo), HttpResponse.BodyHandlers.ofByteArray());
+            return convertirRespuesta(response);
+        } catch (IOException e) {
+            log.error("Error al consultar servicio de riesgo: {}", e.getMessage(), e);
+            throw new UncheckedIOException("Error al evaluar riesgo crediticio. Servicio no disponible", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Evaluación de riesgo interrumpida", e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<RiskEvaluationResponse> evaluarRiesgoAsync(String documento, BigDecimal monto,
+            Integer plazo) {
+        log.info("Llamando de forma asíncrona a servicio externo de riesgo: {}", evaluacionUri);
+
+        return httpClient.sendAsync(crearRequest(documento, monto, plazo), HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(this::convertirRespuesta)
+                .exceptionallyCompose(error -> {
+                    Throwable causa = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause()
+                            : error;
+                    log.error("Error al consultar servicio de riesgo: {}", causa.getMessage(), causa);
+                    if (causa instanceof IOException io) {
+                        return CompletableFuture.failedFuture(new UncheckedIOException(
+                                "Error al evaluar riesgo crediticio. Servicio no disponible", io));
+                    }
+                    return CompletableFuture.failedFuture(causa);
+                });
+    }
+
+    @Override
+    public List<RiskEvaluationResponse> evaluarRiesgoBatch(List<RiskEvaluationRequest> solicitudes) {
+        log.info("Llamando a servicio externo de riesgo por lote: {} - Solicitudes: {}",
+                evaluacionLoteUri, solicitudes.size());
+
+        List<RiskEvaluationRequestDTO> items = solicitudes.stream()
+                .map(s -> new RiskEvaluationRequestDTO(s.getDocumento(), s.getMonto(), s.getPlazo()))
+                .toList();
+
+        try {
+            HttpRequest request = crearRequest(evaluacionLoteUri,
+                    batchRequestWriter.writeValueAsBytes(new RiskEvaluationBatchRequestDTO(items)));
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            validarEstado(response);
+
+            RiskEvaluationBatchResponseDTO dto = batchResponseReader.readValue(response.body());
+            if (dto.getResultados() == null || dto.getResultados().size() != solicitudes.size()) {
+                throw new RuntimeException("Respuesta incompleta del servicio de riesgo por lote");
+            }
+            return dto.getResultados().stream()
+                    .map(this::convertirDTO)
+                    .toList();
+        } catch (IOException e) {
+            log.error("Error al consultar servicio de riesgo por lote: {}", e.getMessage(), e);
+            throw new UncheckedIOException("Error al evaluar riesgo crediticio. Servicio no disponible", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Evaluación de riesgo interrumpida", e);
+        }
+    }
+
+    @PreDestroy
+    public void cerrar() {
+        httpClient.close();
+    }
+
+    private HttpRequest crearRequest(String documento, BigDecimal monto, Integer plazo) {
+        byte[] body;
+        try {
+            body = requestWriter.writeValueAsBytes(new RiskEvaluationRequestDTO(documento, monto, plazo));
+        } catch (IOException e) {
+            throw new UncheckedIOException("No fue posible serializar la solicitud de riesgo", e);
+        }
+        return crearRequest(evaluacionUri, body);
+    }
+
+    private HttpRequest crearRequest(URI uri, byte[] body) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(readTimeout)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+    }
+
+    private void validarEstado(HttpResponse<byte[]> response) {
+        if (response.statusCode() < 200 || response.statusCode() >= 300) {
+            throw new RuntimeException(
+                    "Error al evaluar riesgo crediticio. Servicio respondió con estado " + response.statusCode());
+        }
+        if (response.body() == null || response.body().length == 0) {
+            throw new RuntimeException("Respuesta nula del servicio de riesgo");
+        }
+    }
+
+    private RiskEvaluationResponse convertirRespuesta(HttpResponse<byte[]> response) {
+        validarEstado(response);
+
+        RiskEvaluationResponseDTO dto;
+        try {
+            dto = responseReader.readValue(response.body());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Respuesta inválida del servicio de riesgo", e);
+        }
+
+        log.info("Respuesta recibida ({}) - Score: {}, Nivel: {}",
+                response.version(), dto.getScore(), dto.getNivelRiesgo());
+
+        return convertirDTO(dto);
+    }
+
+    private RiskEvaluationResponse convertirDTO(RiskEvaluationResponseDTO dto) {
+        return new RiskEvaluationResponse(dto.getDocumento(), dto.getScore(), dto.getNivelRiesgo(), dto.getDetalle());
+    }
+
+    /**
+     * DTO para la solicitud al servicio externo.
+     */
+    private static class RiskEvaluationRequestDTO {
+        private final String documento;
+        private final BigDecimal monto;
+        private final Integer plazo;
+
+        RiskEvaluationRequestDTO(String documento, BigDecimal monto, Integer plazo) {
+            this.documento = documento;
+            this.monto = monto;
+            this.plazo = plazo;
+        }
+
+        public String getDocumento() {
+            return documento;
+        }
+
+        public BigDecimal getMonto() {
+            return monto;
+        }
+
+        public Integer getPlazo() {
+            return plazo;
+        }
+    }
+
+    /**
+     * DTO para la solicitud por lote al servicio externo.
+     */
+    private static class RiskEvaluationBatchRequestDTO {
+        private final List<RiskEvaluationRequestDTO> solicitudes;
+
+        RiskEvaluationBatchRequestDTO(List<RiskEvaluationRequestDTO> solicitudes) {
+            this.solicitudes = solicitudes;
+        }
+
+        public List<RiskEvaluationRequestDTO> getSolicitudes() {
+            return solicitudes;
+        }
+    }
+
+    /**
+     * DTO para la respuesta por lote del servicio externo.
+     */
+    private static class RiskEvaluationBatchResponseDTO {
+        private List<RiskEvaluationResponseDTO> resultados;
+
+        public RiskEvaluationBatchResponseDTO() {
+        }
+
+        public List<RiskEvaluationResponseDTO> getResultados() {
+            return resultados;
+        }
+
+        public void setResultados(List<RiskEvaluationResponseDTO> resultados) {
+            this.resultados = resultados;
+        }
+    }
+
+    /**
+     * DTO para la respuesta del servicio externo.
+     */
+    private static class RiskEvaluationResponseDTO {
+        private String documento;
+        private Integer score;
+        private String nivelRiesgo;
+        private String detalle;
+
+        public RiskEvaluationResponseDTO() {
+        }
+
+        public String getDocumento() {
+            return documento;
+        }
+
+        public void setDocumento(String documento) {
+            this.documento = documento;
+        }
+
+        public Integer getScore() {
+            return score;
+        }
+
+        public void setScore(Integer score) {
+            this.score = score;
+        }
+
+        public String getNivelRiesgo() {
+            return nivelRiesgo;
+        }
+
+        public void setNivelRiesgo(String nivelRiesgo) {
+            this.nivelRiesgo = nivelRiesgo;
+        }
+
+        public String getDetalle() {
+            return detalle;
+        }
+
+        public void setDetalle(String detalle) {
+            this.detalle = detalle;
+        }
+    }
+}
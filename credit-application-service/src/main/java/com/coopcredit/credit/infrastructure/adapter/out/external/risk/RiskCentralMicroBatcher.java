@@ -0,0 +1,217 @@
+package com.coopcredit.credit.infrastructure.adapter.out.external.risk;
+
+import com.coopcredit.credit.application.port.out.RiskCentralPort;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Agrupa en una sola consulta por lote las evaluaciones individuales que llegan
+ * dentro de una ventana de pocos milisegundos.
+ *
+ * Cada llamada individual se encola con su futuro; al cerrar la ventana (o al
+ * alcanzar el tamaño máximo) se envía un lote al cliente HTTP y se completa cada
+ * futuro con su resultado. Se activa con
+ * {@code coopcredit.risk-central.micro-batch.habilitado=true}.
+ *
+ * Las respuestas del lote se asignan por documento, no por posición. Una llamada sin
+ * respuesta falla en lugar de recibir la de otra solicitud. Los lotes esperan envío en
+ * una cola acotada ({@code cola-envios}); si está llena, las llamadas del lote fallan
+ * de inmediato en lugar de acumularse en memoria.
+ *
+ * SOLID - SRP: Solo agrupa llamadas; el transporte lo hace el cliente decorado
+ */
+@Component
+@ConditionalOnProperty(name = "coopcredit.risk-central.micro-batch.habilitado", havingValue = "true")
+public class RiskCentralMicroBatcher implements RiskCentralPort {
+
+    private static final Logger log = LoggerFactory.getLogger(RiskCentralMicroBatcher.class);
+
+    private final RiskCentralPort riskCentralClient;
+    private final long ventanaMs;
+    private final int tamanoMaximo;
+    private final ScheduledExecutorService programador;
+    private final ExecutorService envios;
+
+    private final Queue<Pendiente> cola = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean envioProgramado = new AtomicBoolean(false);
+
+    public RiskCentralMicroBatcher(@Qualifier(RiskCentralCircuitBreaker.DELEGADO) RiskCentralPort riskCentralClient,
+            @Value("${coopcredit.risk-central.micro-batch.ventana-ms:5}") long ventanaMs,
+            @Value("${coopcredit.risk-central.micro-batch.tamano-maximo:50}") int tamanoMaximo,
+            @Value("${coopcredit.risk-central.micro-batch.envios-concurrentes:4}") int enviosConcurrentes,
+            @Value("${coopcredit.risk-central.micro-batch.cola-envios:100}") int colaEnvios) {
+        this.riskCentralClient = riskCentralClient;
+        this.ventanaMs = ventanaMs;
+        this.tamanoMaximo = tamanoMaximo;
+        this.programador = Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory("risk-micro-batch-"));
+        this.envios = new ThreadPoolExecutor(enviosConcurrentes, enviosConcurrentes, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(colaEnvios), new CustomizableThreadFactory("risk-micro-batch-envio-"),
+                (tarea, executor) -> ((EnvioLote) tarea).rechazar());
+    }
+
+    @Override
+    public RiskEvaluationResponse evaluarRiesgo(String documento, BigDecimal monto, Integer plazo) {
+        try {
+            return evaluarRiesgoAsync(documento, monto, plazo).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<RiskEvaluationResponse> evaluarRiesgoAsync(String documento, BigDecimal monto,
+            Integer plazo) {
+        Pendiente pendiente = new Pendiente(new RiskEvaluationRequest(documento, monto, plazo));
+        cola.add(pendiente);
+
+        if (cola.size() >= tamanoMaximo) {
+            programador.execute(this::enviarPendientes);
+        } else if (envioProgramado.compareAndSet(false, true)) {
+            programador.schedule(this::enviarPendientes, ventanaMs, TimeUnit.MILLISECONDS);
+        }
+        return pendiente.futuro;
+    }
+
+    @Override
+    public List<RiskEvaluationResponse> evaluarRiesgoBatch(List<RiskEvaluationRequest> solicitudes) {
+        return riskCentralClient.evaluarRiesgoBatch(solicitudes);
+    }
+
+    @PreDestroy
+    public void detener() {
+        programador.shutdown();
+        envios.shutdown();
+    }
+
+    /**
+     * Vacía la cola en lotes de como máximo {@code tamanoMaximo} solicitudes.
+     */
+    private void enviarPendientes() {
+        envioProgramado.set(false);
+
+        List<Pendiente> lote = drenar();
+        while (!lote.isEmpty()) {
+            List<Pendiente> enviado = lote;
+            envios.execute(new EnvioLote(enviado));
+            lote = drenar();
+        }
+    }
+
+    private List<Pendiente> drenar() {
+        List<Pendiente> lote = new ArrayList<>();
+        Pendiente pendiente;
+        while (lote.size() < tamanoMaximo && (pendiente = cola.poll()) != null) {
+            lote.add(pendiente);
+        }
+        return lote;
+    }
+
+    private void enviar(List<Pendiente> lote) {
+        try {
+            if (lote.size() == 1) {
+                RiskEvaluationRequest solicitud = lote.get(0).solicitud;
+                lote.get(0).futuro.complete(riskCentralClient.evaluarRiesgo(
+                        solicitud.getDocumento(), solicitud.getMonto(), solicitud.getPlazo()));
+                return;
+            }
+
+            log.debug("Enviando lote de {} evaluaciones a Risk Central", lote.size());
+            List<RiskEvaluationResponse> respuestas = riskCentralClient.evaluarRiesgoBatch(
+                    lote.stream().map(p -> p.solicitud).toList());
+            if (respuestas.size() != lote.size()) {
+                log.warn("Risk Central respondió {} evaluaciones para un lote de {}", respuestas.size(), lote.size());
+            }
+            asignarRespuestas(lote, respuestas);
+        } catch (RuntimeException e) {
+            lote.forEach(p -> p.futuro.completeExceptionally(e));
+        }
+    }
+
+    /**
+     * Completa cada llamada con la respuesta de su documento. Si un documento se repite
+     * en el lote, sus respuestas se asignan en el orden de las solicitudes.
+     */
+    private void asignarRespuestas(List<Pendiente> lote, List<RiskEvaluationResponse> respuestas) {
+        Map<String, Deque<RiskEvaluationResponse>> porDocumento = new HashMap<>();
+        for (RiskEvaluationResponse respuesta : respuestas) {
+            porDocumento.computeIfAbsent(respuesta.getDocumento(), d -> new ArrayDeque<>()).add(respuesta);
+        }
+        for (Pendiente pendiente : lote) {
+            String documento = pendiente.solicitud.getDocumento();
+            Deque<RiskEvaluationResponse> disponibles = porDocumento.get(documento);
+            RiskEvaluationResponse respuesta = disponibles != null ? disponibles.poll() : null;
+            if (respuesta != null) {
+                pendiente.futuro.complete(respuesta);
+            } else {
+                pendiente.futuro.completeExceptionally(new IllegalStateException(
+                        "Respuesta por lote de Risk Central sin evaluación para el documento " + documento));
+            }
+        }
+    }
+
+    /**
+     * Envío de un lote al pool. Si la cola de envíos está llena, el lote se rechaza
+     * y sus llamadas fallan.
+     */
+    private final class EnvioLote implements Runnable {
+        private final List<Pendiente> lote;
+
+        EnvioLote(List<Pendiente> lote) {
+            this.lote = lote;
+        }
+
+        @Override
+        public void run() {
+            enviar(lote);
+        }
+
+        void rechazar() {
+            log.warn("Cola de envíos a Risk Central llena: se rechaza un lote de {} evaluaciones", lote.size());
+            RejectedExecutionException error = new RejectedExecutionException(
+                    "Cola de envíos por lote a Risk Central llena");
+            lote.forEach(p -> p.futuro.completeExceptionally(error));
+        }
+    }
+
+    /**
+     * Solicitud encolada a la espera de su lote.
+     */
+    private static final class Pendiente {
+        private final RiskEvaluationRequest solicitud;
+        private final CompletableFuture<RiskEvaluationResponse> futuro = new CompletableFuture<>();
+
+        Pendiente(RiskEvaluationRequest solicitud) {
+            this.solicitud = solicitud;
+        }
+    }
+}
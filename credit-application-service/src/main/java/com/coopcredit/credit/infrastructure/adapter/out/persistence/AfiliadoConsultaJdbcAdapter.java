@@ -0,0 +1,58 @@
+package com.coopcredit.credit.infrastructure.adapter.out.persistence;
+
+import com.coopcredit.credit.application.dto.AfiliadoDTO;
+import com.coopcredit.credit.application.port.out.ConsultaAfiliadosPort;
+import com.coopcredit.credit.domain.model.EstadoAfiliado;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Adaptador JDBC para los listados de afiliados: cada fila se lee directamente en el
+ * {@link AfiliadoDTO}, sin entidades JPA ni contexto de persistencia.
+ */
+@Component
+public class AfiliadoConsultaJdbcAdapter implements ConsultaAfiliadosPort {
+
+    private static final String SQL_SELECT =
+            "SELECT id, documento, nombre, salario, fecha_afiliacion, estado FROM afiliados ";
+
+    private static final String SQL_TODOS = SQL_SELECT + "ORDER BY id";
+
+    private static final String SQL_PAGINA = SQL_SELECT + "WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final RowMapper<AfiliadoDTO> ROW_MAPPER = AfiliadoConsultaJdbcAdapter::leerFila;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AfiliadoConsultaJdbcAdapter(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public List<AfiliadoDTO> listarTodos() {
+        return jdbcTemplate.query(SQL_TODOS, ROW_MAPPER);
+    }
+
+    @Override
+    public List<AfiliadoDTO> listarPagina(Long despuesDe, int limite) {
+        return jdbcTemplate.query(SQL_PAGINA, ROW_MAPPER, despuesDe != null ? despuesDe : 0L, limite);
+    }
+
+    private static AfiliadoDTO leerFila(ResultSet rs, int numeroFila) throws SQLException {
+        AfiliadoDTO afiliado = new AfiliadoDTO();
+        afiliado.setId(rs.getLong(1));
+        afiliado.setDocumento(rs.getString(2));
+        afiliado.setNombre(rs.getString(3));
+        afiliado.setSalario(rs.getBigDecimal(4));
+        afiliado.setFechaAfiliacion(rs.getObject(5, LocalDate.class));
+        afiliado.setEstado(EstadoAfiliado.valueOf(rs.getString(6)));
+        return afiliado;
+    }
+}
@@ -0,0 +1,69 @@
+package com.coopcredit.credit.infrastructure.adapter.out.persistence;
+
+import com.coopcredit.credit.application.port.out.ImportacionAfiliadosPort;
+import com.coopcredit.credit.domain.model.Afiliado;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Adaptador JDBC para la importación masiva de afiliados.
+ *
+ * Inserta con {@code JdbcTemplate.batchUpdate} en lugar de {@code save} por entidad,
+ * sin pasar por el contexto de persistencia ni el mapeo a entidades.
+ * Con {@code reWriteBatchedInserts=true} en la URL, el driver de PostgreSQL envía
+ * cada lote como INSERT de varias filas.
+ *
+ * El ID se toma de la misma secuencia que usa Hibernate: cada nextval consume un
+ * rango completo del optimizador pooled-lo, por lo que no choca con los IDs que
+ * Hibernate tiene reservados.
+ */
+@Component
+public class AfiliadoImportacionJdbcAdapter implements ImportacionAfiliadosPort {
+
+    private static final String SQL_DOCUMENTOS_EXISTENTES =
+            "SELECT documento FROM afiliados WHERE documento IN (:documentos)";
+
+    private static final String SQL_INSERTAR = """
+            INSERT INTO afiliados (id, documento, nombre, salario, fecha_afiliacion, estado)
+            VALUES (nextval('afiliados_id_seq'), ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public AfiliadoImportacionJdbcAdapter(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @Override
+    public Set<String> buscarDocumentosExistentes(Collection<String> documentos) {
+        if (documentos.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedJdbcTemplate.queryForList(SQL_DOCUMENTOS_EXISTENTES,
+                new MapSqlParameterSource("documentos", documentos), String.class));
+    }
+
+    @Override
+    @Transactional
+    public void insertarLote(List<Afiliado> afiliados) {
+        jdbcTemplate.batchUpdate(SQL_INSERTAR, afiliados, afiliados.size(), (ps, afiliado) -> {
+            ps.setString(1, afiliado.getDocumento());
+            ps.setString(2, afiliado.getNombre());
+            ps.setBigDecimal(3, afiliado.getSalario());
+            ps.setDate(4, Date.valueOf(afiliado.getFechaAfiliacion()));
+            ps.setString(5, afiliado.getEstado().name());
+        });
+    }
+}
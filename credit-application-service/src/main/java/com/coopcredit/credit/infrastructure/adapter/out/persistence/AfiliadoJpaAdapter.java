@@ -25,7 +25,9 @@ public class AfiliadoJpaAdapter implements AfiliadoRepositoryPort {
     @Override
     public Afiliado guardar(Afiliado afiliado) {
         AfiliadoEntity entity = mapper.toEntity(afiliado);
-        AfiliadoEntity savedEntity = repository.save(entity);
+        // Con IDs de secuencia el INSERT se difiere hasta el flush; se escribe ya para que
+        // las lecturas JDBC de la misma transacción (importación, exportación) lo vean
+        AfiliadoEntity savedEntity = repository.saveAndFlush(entity);
         return mapper.toDomain(savedEntity);
     }
 
@@ -0,0 +1,28 @@
+package com.coopcredit.credit.infrastructure.adapter.out.persistence;
+
+import com.coopcredit.credit.application.port.out.ClaveIdempotenciaRepositoryPort;
+import com.coopcredit.credit.infrastructure.adapter.out.persistence.entity.ClaveIdempotenciaEntity;
+import com.coopcredit.credit.infrastructure.adapter.out.persistence.repository.ClaveIdempotenciaJpaRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+public class ClaveIdempotenciaJpaAdapter implements ClaveIdempotenciaRepositoryPort {
+
+    private final ClaveIdempotenciaJpaRepository repository;
+
+    public ClaveIdempotenciaJpaAdapter(ClaveIdempotenciaJpaRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public Optional<Long> buscarSolicitud(String clave) {
+        return repository.findById(clave).map(ClaveIdempotenciaEntity::getSolicitudId);
+    }
+
+    @Override
+    public void registrar(String clave, Long solicitudId) {
+        repository.insertarSiNoExiste(clave, solicitudId);
+    }
+}
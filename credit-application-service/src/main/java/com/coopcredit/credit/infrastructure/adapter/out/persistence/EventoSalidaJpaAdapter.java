@@ -0,0 +1,78 @@
+package com.coopcredit.credit.infrastructure.adapter.out.persistence;
+
+import com.coopcredit.credit.application.dto.EventoSalida;
+import com.coopcredit.credit.application.port.out.EventoSalidaRepositoryPort;
+import com.coopcredit.credit.infrastructure.adapter.out.persistence.repository.EventoSalidaJpaRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+@Component
+public class EventoSalidaJpaAdapter implements EventoSalidaRepositoryPort {
+
+    /**
+     * Reserva el lote en una sola sentencia. SKIP LOCKED omite las filas que otro relay
+     * está reservando en ese momento, y la condición sobre {@code reservado_hasta}, las
+     * que ya reservó: dos instancias no reciben el mismo evento mientras la reserva dure.
+     */
+    private static final String SQL_RESERVAR_PENDIENTES = """
+            UPDATE eventos_salida SET reservado_hasta = ?
+            WHERE id IN (
+                SELECT id FROM eventos_salida
+                WHERE fecha_publicacion IS NULL AND (reservado_hasta IS NULL OR reservado_hasta < ?)
+                ORDER BY id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED)
+            RETURNING id, tipo, agregado_id, payload, fecha_creacion, intentos
+            """;
+
+    private static final RowMapper<EventoSalida> EVENTO_MAPPER = (rs, fila) -> EventoSalida.builder()
+            .id(rs.getLong("id"))
+            .tipo(rs.getString("tipo"))
+            .agregadoId(rs.getLong("agregado_id"))
+            .payload(rs.getString("payload"))
+            .fechaCreacion(rs.getTimestamp("fecha_creacion").toLocalDateTime())
+            .intentos(rs.getInt("intentos"))
+            .build();
+
+    private final EventoSalidaJpaRepository repository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public EventoSalidaJpaAdapter(EventoSalidaJpaRepository repository, DataSource dataSource) {
+        this.repository = repository;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public List<EventoSalida> reservarPendientes(int limite, Duration duracion) {
+        LocalDateTime ahora = LocalDateTime.now();
+        List<EventoSalida> reservados = jdbcTemplate.query(SQL_RESERVAR_PENDIENTES, EVENTO_MAPPER,
+                Timestamp.valueOf(ahora.plus(duracion)), Timestamp.valueOf(ahora), limite);
+        // RETURNING no garantiza el orden de las filas
+        return reservados.stream()
+                .sorted(Comparator.comparing(EventoSalida::getId))
+                .toList();
+    }
+
+    @Override
+    public void marcarPublicados(List<Long> ids) {
+        repository.marcarPublicados(ids, LocalDateTime.now());
+    }
+
+    @Override
+    public void registrarIntentoFallido(List<Long> ids) {
+        repository.incrementarIntentos(ids);
+    }
+
+    @Override
+    public long contarPendientes() {
+        return repository.countPendientes();
+    }
+}
@@ -0,0 +1,32 @@
+package com.coopcredit.credit.infrastructure.adapter.out.persistence;
+
+import com.coopcredit.credit.application.port.out.ParametrosPoliticaRepositoryPort;
+import com.coopcredit.credit.domain.policy.PolicySnapshot;
+import com.coopcredit.credit.infrastructure.adapter.out.persistence.entity.ParametrosPoliticaEntity;
+import com.coopcredit.credit.infrastructure.adapter.out.persistence.repository.ParametrosPoliticaJpaRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+public class ParametrosPoliticaJpaAdapter implements ParametrosPoliticaRepositoryPort {
+
+    private final ParametrosPoliticaJpaRepository repository;
+
+    public ParametrosPoliticaJpaAdapter(ParametrosPoliticaJpaRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public Optional<PolicySnapshot> buscarUltimaVersion() {
+        return repository.findFirstByOrderByVersionDesc().map(this::toSnapshot);
+    }
+
+    private PolicySnapshot toSnapshot(ParametrosPoliticaEntity entity) {
+        return new PolicySnapshot(
+                entity.getVersion(),
+                entity.getRelacionCuotaIngresoMaxima(),
+                entity.getMultiplicadorSalarioMontoMaximo(),
+                entity.getAntiguedadMinimaMeses());
+    }
+}
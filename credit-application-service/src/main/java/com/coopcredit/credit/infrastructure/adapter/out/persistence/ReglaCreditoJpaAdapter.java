@@ -0,0 +1,35 @@
+package com.coopcredit.credit.infrastructure.adapter.out.persistence;
+
+import com.coopcredit.credit.application.port.out.ReglaCreditoRepositoryPort;
+import com.coopcredit.credit.domain.policy.rule.RuleDefinition;
+import com.coopcredit.credit.infrastructure.adapter.out.persistence.entity.ReglaCreditoEntity;
+import com.coopcredit.credit.infrastructure.adapter.out.persistence.repository.ReglaCreditoJpaRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class ReglaCreditoJpaAdapter implements ReglaCreditoRepositoryPort {
+
+    private final ReglaCreditoJpaRepository repository;
+
+    public ReglaCreditoJpaAdapter(ReglaCreditoJpaRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public List<RuleDefinition> buscarActivas() {
+        return repository.findByActivaTrueOrderByPrioridadAscIdAsc().stream()
+                .map(this::toDefinition)
+                .toList();
+    }
+
+    private RuleDefinition toDefinition(ReglaCreditoEntity entity) {
+        return new RuleDefinition(
+                entity.getNombre(),
+                entity.getPrioridad(),
+                entity.getCondicion(),
+                entity.getExpresion(),
+                entity.getMensaje());
+    }
+}
@@ -0,0 +1,121 @@
+package com.coopcredit.credit.infrastructure.adapter.out.persistence;
+
+import com.coopcredit.credit.application.dto.EvaluacionRiesgoDTO;
+import com.coopcredit.credit.application.dto.OrdenSolicitudes;
+import com.coopcredit.credit.application.dto.SolicitudCreditoDTO;
+import com.coopcredit.credit.application.port.out.ConsultaSolicitudesPort;
+import com.coopcredit.credit.domain.model.EstadoSolicitud;
+import com.coopcredit.credit.domain.model.NivelRiesgo;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Adaptador JDBC para los listados de solicitudes.
+ *
+ * Cada fila se lee directamente en el {@link SolicitudCreditoDTO} de respuesta, con el
+ * afiliado y la evaluación en la misma consulta. Con JPA cada fila producía la entidad
+ * (más la consulta extra del lado inverso de la evaluación), el objeto de dominio y el
+ * DTO, y las entidades quedaban en el contexto de persistencia hasta el final de la
+ * transacción.
+ */
+@Component
+public class SolicitudCreditoConsultaJdbcAdapter implements ConsultaSolicitudesPort {
+
+    private static final String SQL_SELECT = """
+            SELECT s.id, s.afiliado_id, a.nombre, a.documento, s.monto, s.plazo_meses,
+                   s.tasa_propuesta, s.fecha_solicitud, s.estado,
+                   e.id, e.score, e.nivel_riesgo, e.detalle_riesgo, e.aprobado, e.motivo,
+                   e.relacion_cuota_ingreso, e.fecha_evaluacion, e.version_politicas
+            FROM solicitudes_credito s
+            JOIN afiliados a ON a.id = s.afiliado_id
+            LEFT JOIN evaluaciones_riesgo e ON e.id = s.evaluacion_id
+            """;
+
+    private static final String SQL_TODAS = SQL_SELECT + "ORDER BY s.id";
+
+    private static final String SQL_POR_AFILIADO = SQL_SELECT + "WHERE s.afiliado_id = ? ORDER BY s.id";
+
+    private static final String SQL_POR_ESTADO = SQL_SELECT + "WHERE s.estado = ? ORDER BY s.id";
+
+    private static final String SQL_PAGINA_POR_ID = SQL_SELECT + "WHERE s.id > ? ORDER BY s.id LIMIT ?";
+
+    private static final String SQL_PRIMERA_PAGINA_POR_FECHA = SQL_SELECT
+            + "ORDER BY s.fecha_solicitud DESC, s.id DESC LIMIT ?";
+
+    // El cursor es un ID: su fecha de solicitud completa la clave (fecha, id) del índice.
+    // Si la solicitud del cursor no existe, la comparación con NULL no retorna filas.
+    private static final String SQL_PAGINA_POR_FECHA = SQL_SELECT + """
+            WHERE (s.fecha_solicitud, s.id) < ((SELECT c.fecha_solicitud FROM solicitudes_credito c WHERE c.id = ?), ?)
+            ORDER BY s.fecha_solicitud DESC, s.id DESC LIMIT ?
+            """;
+
+    private static final RowMapper<SolicitudCreditoDTO> ROW_MAPPER = SolicitudCreditoConsultaJdbcAdapter::leerFila;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SolicitudCreditoConsultaJdbcAdapter(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public List<SolicitudCreditoDTO> listarTodas() {
+        return jdbcTemplate.query(SQL_TODAS, ROW_MAPPER);
+    }
+
+    @Override
+    public List<SolicitudCreditoDTO> listarPagina(Long despuesDe, int limite, OrdenSolicitudes orden) {
+        if (orden == OrdenSolicitudes.ID) {
+            return jdbcTemplate.query(SQL_PAGINA_POR_ID, ROW_MAPPER, despuesDe != null ? despuesDe : 0L, limite);
+        }
+        if (despuesDe == null) {
+            return jdbcTemplate.query(SQL_PRIMERA_PAGINA_POR_FECHA, ROW_MAPPER, limite);
+        }
+        return jdbcTemplate.query(SQL_PAGINA_POR_FECHA, ROW_MAPPER, despuesDe, despuesDe, limite);
+    }
+
+    @Override
+    public List<SolicitudCreditoDTO> listarPorAfiliado(Long afiliadoId) {
+        return jdbcTemplate.query(SQL_POR_AFILIADO, ROW_MAPPER, afiliadoId);
+    }
+
+    @Override
+    public List<SolicitudCreditoDTO> listarPorEstado(EstadoSolicitud estado) {
+        return jdbcTemplate.query(SQL_POR_ESTADO, ROW_MAPPER, estado.name());
+    }
+
+    private static SolicitudCreditoDTO leerFila(ResultSet rs, int numeroFila) throws SQLException {
+        SolicitudCreditoDTO solicitud = new SolicitudCreditoDTO();
+        solicitud.setId(rs.getLong(1));
+        solicitud.setAfiliadoId(rs.getLong(2));
+        solicitud.setAfiliadoNombre(rs.getString(3));
+        solicitud.setAfiliadoDocumento(rs.getString(4));
+        solicitud.setMonto(rs.getBigDecimal(5));
+        solicitud.setPlazoMeses(rs.getInt(6));
+        solicitud.setTasaPropuesta(rs.getBigDecimal(7));
+        solicitud.setFechaSolicitud(rs.getObject(8, LocalDateTime.class));
+        solicitud.setEstado(EstadoSolicitud.valueOf(rs.getString(9)));
+
+        Long evaluacionId = rs.getObject(10, Long.class);
+        if (evaluacionId != null) {
+            solicitud.setEvaluacion(EvaluacionRiesgoDTO.builder()
+                    .id(evaluacionId)
+                    .score(rs.getObject(11, Integer.class))
+                    .nivelRiesgo(NivelRiesgo.valueOf(rs.getString(12)))
+                    .detalleRiesgo(rs.getString(13))
+                    .aprobado(rs.getObject(14, Boolean.class))
+                    .motivo(rs.getString(15))
+                    .relacionCuotaIngreso(rs.getBigDecimal(16))
+                    .fechaEvaluacion(rs.getObject(17, LocalDateTime.class))
+                    .versionPoliticas(rs.getObject(18, Long.class))
+                    .build());
+        }
+        return solicitud;
+    }
+}
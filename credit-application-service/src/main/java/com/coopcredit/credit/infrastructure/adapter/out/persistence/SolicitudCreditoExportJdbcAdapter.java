@@ -0,0 +1,70 @@
+package com.coopcredit.credit.infrastructure.adapter.out.persistence;
+
+import com.coopcredit.credit.application.dto.SolicitudExportada;
+import com.coopcredit.credit.application.port.out.ExportacionSolicitudesPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * Adaptador JDBC para la exportación de solicitudes.
+ *
+ * Lee con un cursor del servidor ({@code fetchSize}) y entrega cada fila al
+ * consumidor sin pasar por entidades JPA ni el contexto de persistencia, de modo
+ * que la memoria usada no depende del tamaño de la tabla. Requiere una
+ * transacción activa: sin ella el driver de PostgreSQL carga todo el resultado.
+ */
+@Component
+public class SolicitudCreditoExportJdbcAdapter implements ExportacionSolicitudesPort {
+
+    private static final String SQL_EXPORTACION = """
+            SELECT s.id, s.afiliado_id, a.documento, a.nombre, s.monto, s.plazo_meses,
+                   s.tasa_propuesta, s.fecha_solicitud, s.estado,
+                   e.score, e.nivel_riesgo, e.aprobado, e.relacion_cuota_ingreso, e.fecha_evaluacion
+            FROM solicitudes_credito s
+            JOIN afiliados a ON a.id = s.afiliado_id
+            LEFT JOIN evaluaciones_riesgo e ON e.id = s.evaluacion_id
+            ORDER BY s.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SolicitudCreditoExportJdbcAdapter(DataSource dataSource,
+            @Value("${coopcredit.exportacion.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    @Override
+    public void recorrerTodas(Consumer<SolicitudExportada> consumidor) {
+        SolicitudExportada fila = new SolicitudExportada();
+        jdbcTemplate.query(SQL_EXPORTACION, (RowCallbackHandler) rs -> {
+            leerFila(rs, fila);
+            consumidor.accept(fila);
+        });
+    }
+
+    private void leerFila(ResultSet rs, SolicitudExportada fila) throws SQLException {
+        fila.setId(rs.getLong(1));
+        fila.setAfiliadoId(rs.getLong(2));
+        fila.setAfiliadoDocumento(rs.getString(3));
+        fila.setAfiliadoNombre(rs.getString(4));
+        fila.setMonto(rs.getBigDecimal(5));
+        fila.setPlazoMeses(rs.getInt(6));
+        fila.setTasaPropuesta(rs.getBigDecimal(7));
+        fila.setFechaSolicitud(rs.getObject(8, LocalDateTime.class));
+        fila.setEstado(rs.getString(9));
+        fila.setScore(rs.getObject(10, Integer.class));
+        fila.setNivelRiesgo(rs.getString(11));
+        fila.setAprobado(rs.getObject(12, Boolean.class));
+        fila.setRelacionCuotaIngreso(rs.getBigDecimal(13));
+        fila.setFechaEvaluacion(rs.getObject(14, LocalDateTime.class));
+    }
+}
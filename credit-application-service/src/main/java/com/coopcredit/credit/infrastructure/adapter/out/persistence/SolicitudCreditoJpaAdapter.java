@@ -1,59 +1,213 @@
 package com.coopcredit.credit.infrastructure.adapter.out.persistence;
 
+import com.coopcredit.credit.application.dto.EventoSolicitudEvaluada;
 import com.coopcredit.credit.application.port.out.SolicitudCreditoRepositoryPort;
+import com.coopcredit.credit.domain.exception.EvaluacionConcurrenteException;
 import com.coopcredit.credit.domain.model.EstadoSolicitud;
+import com.coopcredit.credit.domain.model.EvaluacionRiesgo;
 import com.coopcredit.credit.domain.model.SolicitudCredito;
+import com.coopcredit.credit.infrastructure.adapter.out.persistence.entity.EvaluacionRiesgoEntity;
+import com.coopcredit.credit.infrastructure.adapter.out.persistence.entity.EventoSalidaEntity;
 import com.coopcredit.credit.infrastructure.adapter.out.persistence.entity.SolicitudCreditoEntity;
 import com.coopcredit.credit.infrastructure.adapter.out.persistence.mapper.PersistenceMapper;
+import com.coopcredit.credit.infrastructure.adapter.out.persistence.repository.ClaveIdempotenciaJpaRepository;
+import com.coopcredit.credit.infrastructure.adapter.out.persistence.repository.EvaluacionRiesgoJpaRepository;
+import com.coopcredit.credit.infrastructure.adapter.out.persistence.repository.EventoSalidaJpaRepository;
 import com.coopcredit.credit.infrastructure.adapter.out.persistence.repository.SolicitudCreditoJpaRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.sql.DataSource;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Component
 public class SolicitudCreditoJpaAdapter implements SolicitudCreditoRepositoryPort {
 
+    /**
+     * Transición a evaluada: solo las columnas que cambian, protegida por la versión
+     * leída. También libera la reserva de la evaluación.
+     */
+    private static final String SQL_REGISTRAR_EVALUACION = """
+            UPDATE solicitudes_credito
+            SET estado = ?, evaluacion_id = ?, evaluacion_iniciada_en = NULL, version = version + 1
+            WHERE id = ? AND version = ?
+            """;
+
     private final SolicitudCreditoJpaRepository repository;
     private final PersistenceMapper mapper;
+    private final EvaluacionRiesgoJpaRepository evaluacionRepository;
+    private final EventoSalidaJpaRepository eventoRepository;
+    private final ClaveIdempotenciaJpaRepository claveRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectWriter eventoWriter;
 
-    public SolicitudCreditoJpaAdapter(SolicitudCreditoJpaRepository repository, PersistenceMapper mapper) {
+    public SolicitudCreditoJpaAdapter(SolicitudCreditoJpaRepository repository, PersistenceMapper mapper,
+            EvaluacionRiesgoJpaRepository evaluacionRepository, EventoSalidaJpaRepository eventoRepository,
+            ClaveIdempotenciaJpaRepository claveRepository, DataSource dataSource, ObjectMapper objectMapper) {
         this.repository = repository;
         this.mapper = mapper;
+        this.evaluacionRepository = evaluacionRepository;
+        this.eventoRepository = eventoRepository;
+        this.claveRepository = claveRepository;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.eventoWriter = objectMapper.writerFor(EventoSolicitudEvaluada.class);
     }
 
     @Override
     public SolicitudCredito guardar(SolicitudCredito solicitud) {
         SolicitudCreditoEntity entity = mapper.toEntity(solicitud);
-        SolicitudCreditoEntity savedEntity = repository.save(entity);
-        return mapper.toDomain(savedEntity);
+        try {
+            // El flush escribe el INSERT diferido por los IDs de secuencia y detecta aquí
+            // el conflicto de versión, dentro del try
+            SolicitudCreditoEntity savedEntity = repository.saveAndFlush(entity);
+            return mapper.toDomain(savedEntity);
+        } catch (OptimisticLockingFailureException e) {
+            throw new EvaluacionConcurrenteException(solicitud.getId());
+        }
+    }
+
+    /**
+     * Guarda la solicitud evaluada y su evento de resultado en la misma transacción:
+     * el evento existe si y solo si el resultado quedó guardado.
+     */
+    @Override
+    @Transactional
+    public SolicitudCredito guardarEvaluada(SolicitudCredito solicitud) {
+        return guardarEvaluadas(List.of(solicitud)).get(0);
+    }
+
+    /**
+     * Como {@link #guardarEvaluada(SolicitudCredito)}, con la clave de idempotencia
+     * en la misma transacción.
+     */
+    @Override
+    @Transactional
+    public SolicitudCredito guardarEvaluada(SolicitudCredito solicitud, String claveIdempotencia) {
+        SolicitudCredito guardada = guardarEvaluadas(List.of(solicitud)).get(0);
+        // Si el UPDATE falla por versión, la clave se revierte con la evaluación
+        claveRepository.insertarSiNoExiste(claveIdempotencia, solicitud.getId());
+        return guardada;
+    }
+
+    /**
+     * Escritura dirigida, sin {@code merge}: un {@code save} de la entidad reconstruida
+     * consultaría la solicitud, el afiliado y la evaluación antes de actualizar.
+     * Las evaluaciones y los eventos se insertan en lote (los IDs salen de la secuencia
+     * sin ir a la base de datos) y las solicitudes se actualizan en otro lote,
+     * comparando la versión leída.
+     */
+    @Override
+    @Transactional
+    public List<SolicitudCredito> guardarEvaluadas(List<SolicitudCredito> solicitudes) {
+        List<EvaluacionRiesgoEntity> evaluaciones = solicitudes.stream()
+                .map(solicitud -> mapper.toEntity(solicitud.getEvaluacion()))
+                .toList();
+        evaluacionRepository.saveAll(evaluaciones);
+        eventoRepository.saveAll(solicitudes.stream().map(this::crearEvento).toList());
+        // Las evaluaciones deben existir antes del UPDATE que las referencia
+        evaluacionRepository.flush();
+
+        int[] actualizadas = registrarEvaluaciones(solicitudes, evaluaciones);
+        for (int i = 0; i < actualizadas.length; i++) {
+            if (actualizadas[i] == 0) {
+                // Otra evaluación la modificó después de leerla: se revierte toda la transacción
+                throw new EvaluacionConcurrenteException(solicitudes.get(i).getId());
+            }
+        }
+
+        // Las solicitudes recibidas se actualizan solo si todas se guardaron: ante un
+        // conflicto pueden reintentarse sin IDs ni versiones de la transacción revertida
+        List<SolicitudCredito> guardadas = new ArrayList<>(solicitudes.size());
+        for (int i = 0; i < solicitudes.size(); i++) {
+            SolicitudCredito solicitud = solicitudes.get(i);
+            solicitud.getEvaluacion().setId(evaluaciones.get(i).getId());
+            solicitud.setVersion(solicitud.getVersion() + 1);
+            guardadas.add(solicitud);
+        }
+        return guardadas;
+    }
+
+    private int[] registrarEvaluaciones(List<SolicitudCredito> solicitudes,
+            List<EvaluacionRiesgoEntity> evaluaciones) {
+        return jdbcTemplate.batchUpdate(SQL_REGISTRAR_EVALUACION, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                SolicitudCredito solicitud = solicitudes.get(i);
+                ps.setString(1, solicitud.getEstado().name());
+                ps.setLong(2, evaluaciones.get(i).getId());
+                ps.setLong(3, solicitud.getId());
+                ps.setLong(4, solicitud.getVersion());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return solicitudes.size();
+            }
+        });
+    }
+
+    private EventoSalidaEntity crearEvento(SolicitudCredito solicitud) {
+        EvaluacionRiesgo evaluacion = solicitud.getEvaluacion();
+        EventoSolicitudEvaluada evento = EventoSolicitudEvaluada.builder()
+                .solicitudId(solicitud.getId())
+                .afiliadoId(solicitud.getAfiliado().getId())
+                .afiliadoDocumento(solicitud.getAfiliado().getDocumento())
+                .estado(solicitud.getEstado())
+                .monto(solicitud.getMonto())
+                .plazoMeses(solicitud.getPlazoMeses())
+                .tasaPropuesta(solicitud.getTasaPropuesta())
+                .score(evaluacion.getScore())
+                .nivelRiesgo(evaluacion.getNivelRiesgo().name())
+                .motivo(evaluacion.getMotivo())
+                .versionPoliticas(evaluacion.getVersionPoliticas())
+                .fechaEvaluacion(evaluacion.getFechaEvaluacion())
+                .build();
+        try {
+            return EventoSalidaEntity.builder()
+                    .tipo(EventoSolicitudEvaluada.TIPO)
+                    .agregadoId(solicitud.getId())
+                    .payload(eventoWriter.writeValueAsString(evento))
+                    .fechaCreacion(LocalDateTime.now())
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("No se pudo serializar el evento de la solicitud " + solicitud.getId(), e);
+        }
     }
 
     @Override
     public Optional<SolicitudCredito> buscarPorId(Long id) {
-        return repository.findById(id).map(mapper::toDomain);
+        // Carga afiliado y evaluación en la misma consulta: la lectura no depende
+        // de una transacción abierta para inicializar relaciones LAZY
+        return repository.findByIdWithDetails(id).map(mapper::toDomain);
     }
 
     @Override
-    public List<SolicitudCredito> listarTodas() {
-        return repository.findAllWithDetails().stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+    public List<Long> listarIdsPorEstado(EstadoSolicitud estado) {
+        return repository.findIdsByEstado(estado);
     }
 
     @Override
-    public List<SolicitudCredito> listarPorAfiliado(Long afiliadoId) {
-        return repository.findByAfiliadoId(afiliadoId).stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+    public boolean reservarEvaluacion(Long id, Duration duracion) {
+        LocalDateTime ahora = LocalDateTime.now();
+        return repository.reservarEvaluacion(id, EstadoSolicitud.PENDIENTE, ahora, ahora.minus(duracion)) == 1;
     }
 
     @Override
-    public List<SolicitudCredito> listarPorEstado(EstadoSolicitud estado) {
-        return repository.findByEstado(estado).stream()
-                .map(mapper::toDomain)
-                .collect(Collectors.toList());
+    public void liberarEvaluacion(Long id) {
+        repository.liberarEvaluacion(id, EstadoSolicitud.PENDIENTE);
     }
 
     @Override
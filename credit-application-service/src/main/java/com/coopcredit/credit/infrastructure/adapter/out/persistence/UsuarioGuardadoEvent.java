@@ -0,0 +1,18 @@
+package com.coopcredit.credit.infrastructure.adapter.out.persistence;
+
+/**
+ * Evento publicado cada vez que se guarda un usuario (registro, cambio de roles o
+ * de contraseña), para que las cachés que dependen de él se invaliden.
+ */
+public class UsuarioGuardadoEvent {
+
+    private final String username;
+
+    public UsuarioGuardadoEvent(String username) {
+        this.username = username;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+}
@@ -5,6 +5,7 @@ import com.coopcredit.credit.domain.model.Usuario;
 import com.coopcredit.credit.infrastructure.adapter.out.persistence.entity.UsuarioEntity;
 import com.coopcredit.credit.infrastructure.adapter.out.persistence.mapper.PersistenceMapper;
 import com.coopcredit.credit.infrastructure.adapter.out.persistence.repository.UsuarioJpaRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
@@ -14,16 +15,20 @@ public class UsuarioJpaAdapter implements UsuarioRepositoryPort {
 
     private final UsuarioJpaRepository repository;
     private final PersistenceMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UsuarioJpaAdapter(UsuarioJpaRepository repository, PersistenceMapper mapper) {
+    public UsuarioJpaAdapter(UsuarioJpaRepository repository, PersistenceMapper mapper,
+            ApplicationEventPublisher eventPublisher) {
         this.repository = repository;
         this.mapper = mapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     public Usuario guardar(Usuario usuario) {
         UsuarioEntity entity = mapper.toEntity(usuario);
         UsuarioEntity savedEntity = repository.save(entity);
+        eventPublisher.publishEvent(new UsuarioGuardadoEvent(savedEntity.getUsername()));
         return mapper.toDomain(savedEntity);
     }
 
@@ -19,7 +19,8 @@ import java.time.LocalDate;
 public class AfiliadoEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "afiliados_id_seq")
+    @SequenceGenerator(name = "afiliados_id_seq", sequenceName = "afiliados_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false, length = 15)
@@ -0,0 +1,29 @@
+package com.coopcredit.credit.infrastructure.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "claves_idempotencia")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClaveIdempotenciaEntity {
+
+    @Id
+    @Column(length = 100)
+    private String clave;
+
+    @Column(name = "solicitud_id", nullable = false)
+    private Long solicitudId;
+
+    @Column(name = "fecha_creacion", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
+    private LocalDateTime fechaCreacion;
+}
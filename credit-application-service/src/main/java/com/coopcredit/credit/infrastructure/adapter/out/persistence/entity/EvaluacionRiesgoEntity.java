@@ -19,7 +19,8 @@ import java.time.LocalDateTime;
 public class EvaluacionRiesgoEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "evaluaciones_riesgo_id_seq")
+    @SequenceGenerator(name = "evaluaciones_riesgo_id_seq", sequenceName = "evaluaciones_riesgo_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -44,6 +45,9 @@ public class EvaluacionRiesgoEntity {
     @Column(name = "fecha_evaluacion", nullable = false)
     private LocalDateTime fechaEvaluacion;
 
+    @Column(name = "version_politicas")
+    private Long versionPoliticas;
+
     @OneToOne(mappedBy = "evaluacion")
     private SolicitudCreditoEntity solicitud;
 }
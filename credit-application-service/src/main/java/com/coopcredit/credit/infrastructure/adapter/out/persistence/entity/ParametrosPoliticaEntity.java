@@ -0,0 +1,35 @@
+package com.coopcredit.credit.infrastructure.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "parametros_politica")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ParametrosPoliticaEntity {
+
+    @Id
+    private Long version;
+
+    @Column(name = "relacion_cuota_ingreso_maxima", nullable = false, precision = 5, scale = 4)
+    private BigDecimal relacionCuotaIngresoMaxima;
+
+    @Column(name = "multiplicador_salario_monto_maximo", nullable = false)
+    private Integer multiplicadorSalarioMontoMaximo;
+
+    @Column(name = "antiguedad_minima_meses", nullable = false)
+    private Integer antiguedadMinimaMeses;
+
+    @Column(name = "fecha_creacion", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
+    private LocalDateTime fechaCreacion;
+}
@@ -0,0 +1,39 @@
+package com.coopcredit.credit.infrastructure.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "reglas_credito")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReglaCreditoEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reglas_credito_id_seq")
+    @SequenceGenerator(name = "reglas_credito_id_seq", sequenceName = "reglas_credito_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(unique = true, nullable = false, length = 50)
+    private String nombre;
+
+    @Column(nullable = false)
+    private Integer prioridad;
+
+    @Column(columnDefinition = "TEXT")
+    private String condicion;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String expresion;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String mensaje;
+
+    @Column(nullable = false)
+    private Boolean activa;
+}
@@ -19,7 +19,8 @@ import java.time.LocalDateTime;
 public class SolicitudCreditoEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "solicitudes_credito_id_seq")
+    @SequenceGenerator(name = "solicitudes_credito_id_seq", sequenceName = "solicitudes_credito_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -45,4 +46,15 @@ public class SolicitudCreditoEntity {
     @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JoinColumn(name = "evaluacion_id")
     private EvaluacionRiesgoEntity evaluacion;
+
+    /**
+     * Inicio de la evaluación en curso (reserva). No se mapea al dominio: al guardar
+     * la solicitud evaluada queda en null.
+     */
+    @Column(name = "evaluacion_iniciada_en")
+    private LocalDateTime evaluacionIniciadaEn;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
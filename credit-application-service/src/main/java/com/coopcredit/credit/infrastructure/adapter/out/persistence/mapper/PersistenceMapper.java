@@ -58,6 +58,7 @@ public class PersistenceMapper {
                 .motivo(evaluacion.getMotivo())
                 .relacionCuotaIngreso(evaluacion.getRelacionCuotaIngreso())
                 .fechaEvaluacion(evaluacion.getFechaEvaluacion())
+                .versionPoliticas(evaluacion.getVersionPoliticas())
                 .build();
     }
 
@@ -73,7 +74,8 @@ public class PersistenceMapper {
                 entity.getAprobado(),
                 entity.getMotivo(),
                 entity.getRelacionCuotaIngreso(),
-                entity.getFechaEvaluacion());
+                entity.getFechaEvaluacion(),
+                entity.getVersionPoliticas());
     }
 
     // SolicitudCredito mappings
@@ -90,6 +92,7 @@ public class PersistenceMapper {
                 .fechaSolicitud(solicitud.getFechaSolicitud())
                 .estado(solicitud.getEstado())
                 .evaluacion(toEntity(solicitud.getEvaluacion()))
+                .version(solicitud.getVersion())
                 .build();
     }
 
@@ -97,7 +100,7 @@ public class PersistenceMapper {
         if (entity == null)
             return null;
 
-        return new SolicitudCredito(
+        SolicitudCredito solicitud = new SolicitudCredito(
                 entity.getId(),
                 toDomain(entity.getAfiliado()),
                 entity.getMonto(),
@@ -106,6 +109,8 @@ public class PersistenceMapper {
                 entity.getFechaSolicitud(),
                 entity.getEstado(),
                 toDomain(entity.getEvaluacion()));
+        solicitud.setVersion(entity.getVersion());
+        return solicitud;
     }
 
     // Usuario mappings
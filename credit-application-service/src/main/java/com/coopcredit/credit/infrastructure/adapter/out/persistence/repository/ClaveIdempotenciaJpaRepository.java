@@ -0,0 +1,23 @@
+package com.coopcredit.credit.infrastructure.adapter.out.persistence.repository;
+
+import com.coopcredit.credit.infrastructure.adapter.out.persistence.entity.ClaveIdempotenciaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface ClaveIdempotenciaJpaRepository extends JpaRepository<ClaveIdempotenciaEntity, String> {
+
+    /**
+     * Inserta la clave sin consultarla antes ({@code save} con ID asignado hace un merge:
+     * SELECT + INSERT). Si otra petición ya la registró, se conserva la existente.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO claves_idempotencia (clave, solicitud_id) VALUES (:clave, :solicitudId) "
+            + "ON CONFLICT (clave) DO NOTHING", nativeQuery = true)
+    int insertarSiNoExiste(@Param("clave") String clave, @Param("solicitudId") Long solicitudId);
+}
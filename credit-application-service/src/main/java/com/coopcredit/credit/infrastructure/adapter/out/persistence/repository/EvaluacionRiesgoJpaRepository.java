@@ -0,0 +1,9 @@
+package com.coopcredit.credit.infrastructure.adapter.out.persistence.repository;
+
+import com.coopcredit.credit.infrastructure.adapter.out.persistence.entity.EvaluacionRiesgoEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EvaluacionRiesgoJpaRepository extends JpaRepository<EvaluacionRiesgoEntity, Long> {
+}
@@ -0,0 +1,31 @@
+package com.coopcredit.credit.infrastructure.adapter.out.persistence.repository;
+
+import com.coopcredit.credit.infrastructure.adapter.out.persistence.entity.EventoSalidaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EventoSalidaJpaRepository extends JpaRepository<EventoSalidaEntity, Long> {
+
+    @Query("SELECT COUNT(e) FROM EventoSalidaEntity e WHERE e.fechaPublicacion IS NULL")
+    long countPendientes();
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE EventoSalidaEntity e SET e.fechaPublicacion = :fecha, e.intentos = e.intentos + 1 "
+            + "WHERE e.id IN :ids AND e.fechaPublicacion IS NULL")
+    int marcarPublicados(@Param("ids") List<Long> ids, @Param("fecha") LocalDateTime fecha);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE EventoSalidaEntity e SET e.intentos = e.intentos + 1, e.reservadoHasta = NULL "
+            + "WHERE e.id IN :ids")
+    int incrementarIntentos(@Param("ids") List<Long> ids);
+}
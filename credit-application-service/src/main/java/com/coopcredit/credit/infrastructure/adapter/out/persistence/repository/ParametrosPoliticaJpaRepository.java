@@ -0,0 +1,13 @@
+package com.coopcredit.credit.infrastructure.adapter.out.persistence.repository;
+
+import com.coopcredit.credit.infrastructure.adapter.out.persistence.entity.ParametrosPoliticaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ParametrosPoliticaJpaRepository extends JpaRepository<ParametrosPoliticaEntity, Long> {
+
+    Optional<ParametrosPoliticaEntity> findFirstByOrderByVersionDesc();
+}
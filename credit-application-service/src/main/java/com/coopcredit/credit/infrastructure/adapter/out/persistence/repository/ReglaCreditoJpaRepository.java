@@ -0,0 +1,13 @@
+package com.coopcredit.credit.infrastructure.adapter.out.persistence.repository;
+
+import com.coopcredit.credit.infrastructure.adapter.out.persistence.entity.ReglaCreditoEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ReglaCreditoJpaRepository extends JpaRepository<ReglaCreditoEntity, Long> {
+
+    List<ReglaCreditoEntity> findByActivaTrueOrderByPrioridadAscIdAsc();
+}
@@ -3,21 +3,40 @@ package com.coopcredit.credit.infrastructure.adapter.out.persistence.repository;
 import com.coopcredit.credit.domain.model.EstadoSolicitud;
 import com.coopcredit.credit.infrastructure.adapter.out.persistence.entity.SolicitudCreditoEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface SolicitudCreditoJpaRepository extends JpaRepository<SolicitudCreditoEntity, Long> {
 
-    @Query("SELECT s FROM SolicitudCreditoEntity s LEFT JOIN FETCH s.afiliado LEFT JOIN FETCH s.evaluacion WHERE s.afiliado.id = :afiliadoId")
-    List<SolicitudCreditoEntity> findByAfiliadoId(@Param("afiliadoId") Long afiliadoId);
+    @Query("SELECT s FROM SolicitudCreditoEntity s LEFT JOIN FETCH s.afiliado LEFT JOIN FETCH s.evaluacion WHERE s.id = :id")
+    Optional<SolicitudCreditoEntity> findByIdWithDetails(@Param("id") Long id);
 
-    @Query("SELECT s FROM SolicitudCreditoEntity s LEFT JOIN FETCH s.afiliado LEFT JOIN FETCH s.evaluacion WHERE s.estado = :estado")
-    List<SolicitudCreditoEntity> findByEstado(@Param("estado") EstadoSolicitud estado);
+    @Query("SELECT s.id FROM SolicitudCreditoEntity s WHERE s.estado = :estado ORDER BY s.id")
+    List<Long> findIdsByEstado(@Param("estado") EstadoSolicitud estado);
 
-    @Query("SELECT s FROM SolicitudCreditoEntity s LEFT JOIN FETCH s.afiliado LEFT JOIN FETCH s.evaluacion")
-    List<SolicitudCreditoEntity> findAllWithDetails();
+    /**
+     * Reserva una solicitud pendiente sin reserva vigente. No incrementa la versión:
+     * la escritura final sigue protegida por la versión leída.
+     *
+     * @return 1 si se reservó, 0 si no está pendiente o ya está reservada
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE SolicitudCreditoEntity s SET s.evaluacionIniciadaEn = :ahora WHERE s.id = :id "
+            + "AND s.estado = :estado AND (s.evaluacionIniciadaEn IS NULL OR s.evaluacionIniciadaEn < :vencidaAntesDe)")
+    int reservarEvaluacion(@Param("id") Long id, @Param("estado") EstadoSolicitud estado,
+            @Param("ahora") LocalDateTime ahora, @Param("vencidaAntesDe") LocalDateTime vencidaAntesDe);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE SolicitudCreditoEntity s SET s.evaluacionIniciadaEn = NULL WHERE s.id = :id AND s.estado = :estado")
+    int liberarEvaluacion(@Param("id") Long id, @Param("estado") EstadoSolicitud estado);
 }
@@ -0,0 +1,126 @@
+package com.coopcredit.credit.infrastructure.config;
+
+import com.coopcredit.credit.infrastructure.metrics.CreditApplicationMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * DataSource que envía las transacciones de solo lectura a la réplica y el resto a la primaria.
+ *
+ * - La decisión se toma al abrir la conexión. Debe usarse detrás de un
+ *   {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: así la
+ *   conexión se abre con el primer statement, cuando la transacción ya marcó si es
+ *   {@code readOnly}.
+ * - Una transacción de solo lectura que se une a una de escritura usa la conexión de
+ *   esta última (primaria).
+ * - Si la réplica no entrega una conexión, la lectura se hace en la primaria y la réplica
+ *   no se vuelve a intentar hasta que pase {@code reintento}.
+ * - Tras confirmar una escritura, las lecturas del mismo usuario van a la primaria
+ *   durante la ventana de {@link EscriturasRecientes}.
+ */
+public class EnrutadorDataSource extends AbstractDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(EnrutadorDataSource.class);
+
+    private final DataSource primaria;
+    private final DataSource replica;
+    private final EscriturasRecientes escrituras;
+    private final CreditApplicationMetrics metrics;
+    private final long reintentoMs;
+
+    private volatile long replicaNoDisponibleHasta;
+
+    public EnrutadorDataSource(DataSource primaria, DataSource replica, EscriturasRecientes escrituras,
+            CreditApplicationMetrics metrics, Duration reintento) {
+        this.primaria = primaria;
+        this.replica = replica;
+        this.escrituras = escrituras;
+        this.metrics = metrics;
+        this.reintentoMs = reintento.toMillis();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return conectar(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return conectar(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection conectar(Apertura apertura) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            Connection conexion = apertura.abrir(primaria);
+            registrarEscrituraAlConfirmar();
+            return conexion;
+        }
+
+        String usuario = usuarioActual();
+        if (usuario != null && escrituras.esReciente(usuario)) {
+            metrics.incrementarLecturasPrimaria();
+            return apertura.abrir(primaria);
+        }
+        if (System.currentTimeMillis() < replicaNoDisponibleHasta) {
+            metrics.incrementarLecturasPrimaria();
+            return apertura.abrir(primaria);
+        }
+
+        try {
+            Connection conexion = apertura.abrir(replica);
+            metrics.incrementarLecturasReplica();
+            return conexion;
+        } catch (SQLException | RuntimeException e) {
+            // RuntimeException: Hikari informa con PoolInitializationException si el pool no pudo iniciar
+            replicaNoDisponibleHasta = System.currentTimeMillis() + reintentoMs;
+            metrics.incrementarFallosReplica();
+            log.warn("Réplica no disponible, lecturas en la primaria durante {} ms: {}", reintentoMs, e.getMessage());
+            metrics.incrementarLecturasPrimaria();
+            return apertura.abrir(primaria);
+        }
+    }
+
+    /**
+     * En una transacción de escritura, recuerda al usuario cuando la transacción se confirma.
+     */
+    private void registrarEscrituraAlConfirmar() {
+        if (!escrituras.habilitado() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        String usuario = usuarioActual();
+        if (usuario == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                escrituras.registrar(usuario);
+            }
+        });
+    }
+
+    private static String usuarioActual() {
+        Authentication autenticacion = SecurityContextHolder.getContext().getAuthentication();
+        if (autenticacion == null || !autenticacion.isAuthenticated()
+                || autenticacion instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return autenticacion.getName();
+    }
+
+    @FunctionalInterface
+    private interface Apertura {
+        Connection abrir(DataSource dataSource) throws SQLException;
+    }
+}
@@ -0,0 +1,41 @@
+package com.coopcredit.credit.infrastructure.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * Usuarios que confirmaron una escritura hace menos de {@code ventana}.
+ *
+ * Mientras un usuario figura aquí, sus lecturas van a la primaria aunque la transacción
+ * sea de solo lectura: la réplica puede no haber aplicado todavía su propia escritura
+ * (lectura de las propias escrituras). Con ventana 0 no se registra nada.
+ */
+public class EscriturasRecientes {
+
+    private final Cache<String, Boolean> usuarios;
+
+    public EscriturasRecientes(Duration ventana, long maxUsuarios) {
+        this.usuarios = ventana.isZero() || ventana.isNegative()
+                ? null
+                : Caffeine.newBuilder()
+                        .maximumSize(maxUsuarios)
+                        .expireAfterWrite(ventana)
+                        .build();
+    }
+
+    public boolean habilitado() {
+        return usuarios != null;
+    }
+
+    public void registrar(String usuario) {
+        if (usuarios != null) {
+            usuarios.put(usuario, Boolean.TRUE);
+        }
+    }
+
+    public boolean esReciente(String usuario) {
+        return usuarios != null && usuarios.getIfPresent(usuario) != null;
+    }
+}
@@ -1,11 +1,14 @@
 package com.coopcredit.credit.infrastructure.config;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -14,20 +17,34 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * Filtro de autenticación JWT.
  * Valida tokens en cada request y establece el contexto de seguridad.
+ * Cada request verifica el token una sola vez (firma y expiración) con {@link JwtService#validarToken}.
+ *
+ * Los tokens con claim de roles se autentican sin consultar la base de datos; los
+ * emitidos antes de incluir ese claim se resuelven con {@link UserDetailsService}
+ * (con caché). Con {@code coopcredit.jwt.verificar-usuario=true} todos los tokens
+ * se validan contra el usuario almacenado.
+ * Los tokens revocados en {@link TokenDenylist} no autentican.
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final TokenDenylist tokenDenylist;
+    private final boolean verificarUsuario;
 
-    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService,
+            TokenDenylist tokenDenylist,
+            @Value("${coopcredit.jwt.verificar-usuario:false}") boolean verificarUsuario) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.tokenDenylist = tokenDenylist;
+        this.verificarUsuario = verificarUsuario;
     }
 
     @Override
@@ -43,12 +60,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         final String jwt = authHeader.substring(7);
-        final String username = jwtService.extractUsername(jwt);
+        final Claims claims = jwtService.validarToken(jwt);
+        final String username = claims.getSubject();
+
+        if (tokenDenylist.estaRevocado(claims.getId())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
 
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+            UserDetails userDetails = cargarUsuario(claims, username);
 
-            if (jwtService.isTokenValid(jwt, userDetails.getUsername())) {
+            if (username.equals(userDetails.getUsername())) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -59,4 +82,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
+
+    private UserDetails cargarUsuario(Claims claims, String username) {
+        List<String> roles = jwtService.extractRoles(claims);
+        if (roles == null || verificarUsuario) {
+            return this.userDetailsService.loadUserByUsername(username);
+        }
+        return new UsuarioAutenticado(
+                username,
+                roles.stream().map(SimpleGrantedAuthority::new).toList(),
+                jwtService.extractAfiliadoId(claims));
+    }
 }
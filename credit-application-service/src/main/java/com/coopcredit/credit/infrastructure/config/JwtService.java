@@ -1,6 +1,10 @@
 package com.coopcredit.credit.infrastructure.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -8,23 +12,42 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 /**
  * Servicio para gestión de tokens JWT.
+ *
+ * La clave de firma y el parser se construyen una sola vez. Los tokens verificados
+ * se guardan en una caché acotada hasta su expiración, de modo que las peticiones
+ * repetidas con el mismo token no vuelven a verificar la firma ni a parsear el JSON.
+ *
+ * Los tokens emitidos incluyen los roles y el afiliado del usuario, para que cada
+ * request se autentique solo con los claims verificados.
  */
 @Service
 public class JwtService {
 
+    public static final String CLAIM_ROLES = "roles";
+    public static final String CLAIM_AFILIADO_ID = "afiliadoId";
+
     @Value("${coopcredit.jwt.secret}")
     private String secret;
 
     @Value("${coopcredit.jwt.expiration}")
     private long jwtExpiration;
 
+    @Value("${coopcredit.jwt.cache-max-entradas:10000}")
+    private long cacheMaxEntradas;
+
+    private volatile Verificador verificador;
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -42,39 +65,122 @@ public class JwtService {
         return buildToken(extraClaims, username, jwtExpiration);
     }
 
+    /**
+     * Genera un token con los roles y el afiliado del usuario como claims.
+     */
+    public String generateToken(String username, Collection<String> roles, Long afiliadoId) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_ROLES, List.copyOf(roles));
+        if (afiliadoId != null) {
+            claims.put(CLAIM_AFILIADO_ID, afiliadoId);
+        }
+        return generateToken(claims, username);
+    }
+
+    /**
+     * Roles del token, o null si fue emitido sin el claim de roles.
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> extractRoles(Claims claims) {
+        return claims.get(CLAIM_ROLES, List.class);
+    }
+
+    public Long extractAfiliadoId(Claims claims) {
+        Number afiliadoId = claims.get(CLAIM_AFILIADO_ID, Number.class);
+        return afiliadoId != null ? afiliadoId.longValue() : null;
+    }
+
     private String buildToken(Map<String, Object> extraClaims, String username, long expiration) {
         return Jwts.builder()
                 .claims(extraClaims)
                 .subject(username)
+                .id(UUID.randomUUID().toString())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey())
+                .signWith(getVerificador().key)
                 .compact();
     }
 
-    public boolean isTokenValid(String token, String username) {
-        final String tokenUsername = extractUsername(token);
-        return (tokenUsername.equals(username)) && !isTokenExpired(token);
+    /**
+     * Verifica firma y expiración del token y retorna sus claims.
+     * Un token ya verificado se resuelve desde la caché sin volver a parsearlo.
+     *
+     * @throws io.jsonwebtoken.JwtException si el token es inválido o está expirado
+     */
+    public Claims validarToken(String token) {
+        Verificador v = getVerificador();
+        if (v.tokensVerificados == null) {
+            return v.parser.parseSignedClaims(token).getPayload();
+        }
+        return v.tokensVerificados.get(token, t -> v.parser.parseSignedClaims(t).getPayload());
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public boolean isTokenValid(String token, String username) {
+        final Claims claims = extractAllClaims(token);
+        return claims.getSubject().equals(username) && !isTokenExpired(claims);
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSignInKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return validarToken(token);
+    }
+
+    private Verificador getVerificador() {
+        Verificador v = verificador;
+        if (v == null) {
+            synchronized (this) {
+                v = verificador;
+                if (v == null) {
+                    v = new Verificador(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret)), cacheMaxEntradas);
+                    verificador = v;
+                }
+            }
+        }
+        return v;
+    }
+
+    /**
+     * Clave, parser y caché de tokens verificados, construidos una sola vez.
+     */
+    private static final class Verificador {
+        private final SecretKey key;
+        private final JwtParser parser;
+        private final Cache<String, Claims> tokensVerificados;
+
+        Verificador(SecretKey key, long cacheMaxEntradas) {
+            this.key = key;
+            this.parser = Jwts.parser().verifyWith(key).build();
+            this.tokensVerificados = cacheMaxEntradas > 0
+                    ? Caffeine.newBuilder()
+                            .maximumSize(cacheMaxEntradas)
+                            .expireAfter(new ExpiracionToken())
+                            .build()
+                    : null;
+        }
     }
 
-    private SecretKey getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    /**
+     * Mantiene cada token en caché solo hasta su propia expiración.
+     */
+    private static final class ExpiracionToken implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String token, Claims claims, long currentTime) {
+            long restanteMs = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, restanteMs));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
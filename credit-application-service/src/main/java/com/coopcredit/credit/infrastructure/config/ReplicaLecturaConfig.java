@@ -0,0 +1,88 @@
+package com.coopcredit.credit.infrastructure.config;
+
+import com.coopcredit.credit.infrastructure.metrics.CreditApplicationMetrics;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+
+/**
+ * Réplica de lectura para las transacciones {@code @Transactional(readOnly = true)}.
+ *
+ * Reemplaza el DataSource de Spring Boot por dos pools Hikari ({@code primaria} y
+ * {@code replica}) y un {@link EnrutadorDataSource} que elige entre ambos. JPA, Flyway
+ * y los adaptadores JDBC reciben el mismo DataSource principal, por lo que comparten
+ * la conexión de la transacción en curso.
+ *
+ * Cada pool es un bean propio: Spring Boot publica sus métricas {@code hikaricp.*}
+ * con la etiqueta {@code pool}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "coopcredit.replica.habilitada", havingValue = "true")
+public class ReplicaLecturaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSourcePrimaria(DataSourceProperties propiedades,
+            ObjectProvider<JdbcConnectionDetails> conexion) {
+        // JdbcConnectionDetails existe cuando la conexión la aporta el entorno (p. ej. Testcontainers)
+        JdbcConnectionDetails detalles = conexion.getIfAvailable();
+        DataSourceBuilder<?> builder = detalles != null
+                ? DataSourceBuilder.create(propiedades.getClassLoader())
+                        .url(detalles.getJdbcUrl())
+                        .username(detalles.getUsername())
+                        .password(detalles.getPassword())
+                        .driverClassName(detalles.getDriverClassName())
+                : propiedades.initializeDataSourceBuilder();
+        HikariDataSource dataSource = builder.type(HikariDataSource.class).build();
+        dataSource.setPoolName("primaria");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("coopcredit.replica.datasource")
+    public HikariDataSource dataSourceReplica() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        // Una réplica caída no debe impedir el arranque ni demorar las lecturas
+        dataSource.setInitializationFailTimeout(-1);
+        dataSource.setConnectionTimeout(1000);
+        return dataSource;
+    }
+
+    @Bean
+    public EscriturasRecientes escriturasRecientes(
+            @Value("${coopcredit.replica.ventana-lectura-propia:5s}") Duration ventana,
+            @Value("${coopcredit.replica.max-usuarios:10000}") long maxUsuarios) {
+        return new EscriturasRecientes(ventana, maxUsuarios);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("dataSourcePrimaria") DataSource primaria,
+            @Qualifier("dataSourceReplica") DataSource replica,
+            EscriturasRecientes escrituras,
+            CreditApplicationMetrics metrics,
+            @Value("${coopcredit.replica.reintento:30s}") Duration reintento) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy();
+        dataSource.setTargetDataSource(new EnrutadorDataSource(primaria, replica, escrituras, metrics, reintento));
+        // Evita abrir una conexión al iniciar solo para leer estos valores
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return dataSource;
+    }
+}
@@ -0,0 +1,56 @@
+package com.coopcredit.credit.infrastructure.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lista en memoria de tokens revocados (por su identificador {@code jti}).
+ * Cada entrada se conserva solo hasta la expiración del token: después el propio
+ * token deja de ser válido y no hace falta recordarlo.
+ */
+@Component
+public class TokenDenylist {
+
+    private final Cache<String, Date> revocados;
+
+    public TokenDenylist(@Value("${coopcredit.jwt.denylist.max-entradas:10000}") long maxEntradas) {
+        this.revocados = Caffeine.newBuilder()
+                .maximumSize(maxEntradas)
+                .expireAfter(new Expiry<String, Date>() {
+                    @Override
+                    public long expireAfterCreate(String jti, Date expiracion, long currentTime) {
+                        long restanteMs = expiracion.getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, restanteMs));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String jti, Date expiracion, long currentTime,
+                            long currentDuration) {
+                        return expireAfterCreate(jti, expiracion, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String jti, Date expiracion, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public void revocar(String jti, Date expiracion) {
+        if (jti != null && expiracion != null) {
+            revocados.put(jti, expiracion);
+        }
+    }
+
+    public boolean estaRevocado(String jti) {
+        return jti != null && revocados.getIfPresent(jti) != null;
+    }
+}
@@ -2,6 +2,11 @@ package com.coopcredit.credit.infrastructure.config;
 
 import com.coopcredit.credit.application.port.out.UsuarioRepositoryPort;
 import com.coopcredit.credit.domain.model.Usuario;
+import com.coopcredit.credit.infrastructure.adapter.out.persistence.UsuarioGuardadoEvent;
+import com.coopcredit.credit.infrastructure.metrics.CreditApplicationMetrics;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
@@ -9,25 +14,57 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * Implementación de UserDetailsService para Spring Security.
  * Carga usuarios desde el repositorio.
+ *
+ * Los usuarios cargados se guardan en una caché acotada con expiración; la entrada
+ * de un usuario se invalida cuando se confirma una transacción que lo guarda.
  */
 @Service
 public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final UsuarioRepositoryPort usuarioRepository;
+    private final Cache<String, UserDetails> usuarios;
 
-    public UserDetailsServiceImpl(UsuarioRepositoryPort usuarioRepository) {
+    public UserDetailsServiceImpl(UsuarioRepositoryPort usuarioRepository,
+            CreditApplicationMetrics metrics,
+            @Value("${coopcredit.usuarios.cache.max-entradas:1000}") long maxEntradas,
+            @Value("${coopcredit.usuarios.cache.ttl:5m}") Duration ttl) {
         this.usuarioRepository = usuarioRepository;
+        this.usuarios = Caffeine.newBuilder()
+                .maximumSize(maxEntradas)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        metrics.registrarCacheUsuarios(
+                usuarios::estimatedSize,
+                () -> usuarios.stats().hitRate());
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        UserDetails userDetails = usuarios.get(username, this::cargarUsuario);
+        // Copia: Spring Security borra la contraseña del principal tras autenticar
+        return User.withUserDetails(userDetails).build();
+    }
+
+    /**
+     * Invalida el usuario guardado una vez confirmada la transacción, para que
+     * una lectura concurrente no vuelva a cachear los datos anteriores.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUsuarioGuardado(UsuarioGuardadoEvent event) {
+        usuarios.invalidate(event.getUsername());
+    }
+
+    private UserDetails cargarUsuario(String username) {
         Usuario usuario = usuarioRepository.buscarPorUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("Usuario no encontrado: " + username));
 
@@ -0,0 +1,27 @@
+package com.coopcredit.credit.infrastructure.config;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * Usuario autenticado construido a partir de los claims de un JWT verificado,
+ * sin consultar la base de datos. No conserva contraseña.
+ */
+public class UsuarioAutenticado extends User {
+
+    private final Long afiliadoId;
+
+    public UsuarioAutenticado(String username, Collection<? extends GrantedAuthority> authorities, Long afiliadoId) {
+        super(username, "", authorities);
+        this.afiliadoId = afiliadoId;
+    }
+
+    /**
+     * ID del afiliado asociado, o null para analistas y administradores.
+     */
+    public Long getAfiliadoId() {
+        return afiliadoId;
+    }
+}
@@ -1,5 +1,6 @@
 package com.coopcredit.credit.infrastructure.metrics;
 
+import com.coopcredit.credit.domain.policy.PolicyExecutionListener;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -7,7 +8,11 @@ import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Métricas personalizadas para la aplicación de crédito.
@@ -16,7 +21,7 @@ import java.util.concurrent.atomic.AtomicInteger;
  * SOLID - OCP: Fácil agregar nuevas métricas sin modificar las existentes
  */
 @Component
-public class CreditApplicationMetrics {
+public class CreditApplicationMetrics implements PolicyExecutionListener {
 
     private final MeterRegistry meterRegistry;
     
@@ -27,11 +32,22 @@ public class CreditApplicationMetrics {
     private Counter errorAutenticacion;
     private Counter llamadasRiskCentral;
     private Counter fallosRiskCentral;
+    private Counter aciertosCacheRiesgo;
+    private Counter fallosCacheRiesgo;
+    private Counter expulsionesCacheRiesgo;
+    private Counter eventosPublicados;
+    private Counter fallosPublicacionEventos;
+    private Counter lecturasReplica;
+    private Counter lecturasPrimaria;
+    private Counter fallosReplica;
     
     // Timers
     private Timer tiempoEvaluacion;
     private Timer tiempoRiskCentral;
     
+    // Timers por política y resultado (clave: nombre + "|" + resultado)
+    private final Map<String, Timer> tiemposPolitica = new ConcurrentHashMap<>();
+    
     // Gauges
     private final AtomicInteger solicitudesPendientes = new AtomicInteger(0);
     private final AtomicInteger afiliadosActivos = new AtomicInteger(0);
@@ -63,6 +79,31 @@ public class CreditApplicationMetrics {
                 .tag("type", "authentication")
                 .register(meterRegistry);
         
+        this.eventosPublicados = Counter.builder("credit.eventos.publicados")
+                .description("Eventos de la outbox confirmados por el destino")
+                .tag("type", "outbox")
+                .register(meterRegistry);
+        
+        this.fallosPublicacionEventos = Counter.builder("credit.eventos.fallos")
+                .description("Lotes de eventos rechazados por el destino (se reintentan)")
+                .tag("type", "outbox")
+                .register(meterRegistry);
+        
+        this.lecturasReplica = Counter.builder("credit.datasource.lecturas")
+                .description("Transacciones de solo lectura por base de datos atendida")
+                .tag("destino", "replica")
+                .register(meterRegistry);
+        
+        this.lecturasPrimaria = Counter.builder("credit.datasource.lecturas")
+                .description("Transacciones de solo lectura por base de datos atendida")
+                .tag("destino", "primaria")
+                .register(meterRegistry);
+        
+        this.fallosReplica = Counter.builder("credit.datasource.replica.fallos")
+                .description("Conexiones a la réplica fallidas (la lectura pasa a la primaria)")
+                .tag("destino", "replica")
+                .register(meterRegistry);
+        
         this.llamadasRiskCentral = Counter.builder("credit.risk.central.calls")
                 .description("Llamadas a Risk Central")
                 .tag("service", "risk-central")
@@ -73,6 +114,21 @@ public class CreditApplicationMetrics {
                 .tag("service", "risk-central")
                 .register(meterRegistry);
         
+        this.aciertosCacheRiesgo = Counter.builder("credit.risk.cache")
+                .description("Consultas de riesgo resueltas desde la caché")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        
+        this.fallosCacheRiesgo = Counter.builder("credit.risk.cache")
+                .description("Consultas de riesgo que requirieron llamar a Risk Central")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        
+        this.expulsionesCacheRiesgo = Counter.builder("credit.risk.cache.evictions")
+                .description("Entradas expulsadas de la caché de riesgo por tamaño o expiración")
+                .tag("service", "risk-central")
+                .register(meterRegistry);
+        
         // Inicializar timers
         this.tiempoEvaluacion = Timer.builder("credit.evaluacion.tiempo")
                 .description("Tiempo de evaluación de solicitudes")
@@ -125,6 +181,88 @@ public class CreditApplicationMetrics {
         fallosRiskCentral.increment();
     }
     
+    public void incrementarAciertosCacheRiesgo() {
+        aciertosCacheRiesgo.increment();
+    }
+    
+    public void incrementarFallosCacheRiesgo() {
+        fallosCacheRiesgo.increment();
+    }
+    
+    public void incrementarExpulsionesCacheRiesgo() {
+        expulsionesCacheRiesgo.increment();
+    }
+    
+    public void incrementarEventosPublicados(int cantidad) {
+        eventosPublicados.increment(cantidad);
+    }
+    
+    public void incrementarFallosPublicacionEventos() {
+        fallosPublicacionEventos.increment();
+    }
+    
+    public void incrementarLecturasReplica() {
+        lecturasReplica.increment();
+    }
+    
+    public void incrementarLecturasPrimaria() {
+        lecturasPrimaria.increment();
+    }
+    
+    public void incrementarFallosReplica() {
+        fallosReplica.increment();
+    }
+    
+    /**
+     * Registra un gauge con el número de eventos pendientes en la outbox.
+     */
+    public void registrarEventosPendientes(Supplier<Number> pendientes) {
+        Gauge.builder("credit.eventos.pendientes", pendientes)
+                .description("Eventos de la outbox pendientes de publicar")
+                .tag("type", "outbox")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Registra un gauge con el número de entradas de la caché de riesgo.
+     */
+    public void registrarTamanoCacheRiesgo(Supplier<Number> tamano) {
+        Gauge.builder("credit.risk.cache.size", tamano)
+                .description("Entradas en la caché de riesgo")
+                .tag("service", "risk-central")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Registra gauges con el tamaño y la tasa de aciertos de la caché de usuarios.
+     */
+    public void registrarCacheUsuarios(Supplier<Number> tamano, Supplier<Number> tasaAciertos) {
+        Gauge.builder("credit.auth.usuarios.cache.size", tamano)
+                .description("Usuarios en la caché de autenticación")
+                .tag("type", "authentication")
+                .register(meterRegistry);
+        
+        Gauge.builder("credit.auth.usuarios.cache.hit.ratio", tasaAciertos)
+                .description("Tasa de aciertos de la caché de usuarios")
+                .tag("type", "authentication")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Registra el tiempo de evaluación de una política de crédito, por nombre y resultado.
+     */
+    @Override
+    public void policyEvaluated(String policyName, long durationNanos, boolean passed) {
+        String resultado = passed ? "pass" : "fail";
+        tiemposPolitica.computeIfAbsent(policyName + "|" + resultado,
+                clave -> Timer.builder("credit.politicas.tiempo")
+                        .description("Tiempo de evaluación por política de crédito")
+                        .tag("policy", policyName)
+                        .tag("result", resultado)
+                        .register(meterRegistry))
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+    
     public void registrarTiempoEvaluacion(Runnable task) {
         tiempoEvaluacion.record(task);
     }
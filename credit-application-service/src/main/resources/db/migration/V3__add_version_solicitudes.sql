@@ -0,0 +1,6 @@
+-- V3__add_version_solicitudes.sql
+-- Columna de versión para control de concurrencia optimista en solicitudes
+
+ALTER TABLE solicitudes_credito ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN solicitudes_credito.version IS 'Versión para bloqueo optimista (evaluaciones concurrentes)';
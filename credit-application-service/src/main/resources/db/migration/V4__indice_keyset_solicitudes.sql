@@ -0,0 +1,7 @@
+-- V4__indice_keyset_solicitudes.sql
+-- Índice compuesto para la paginación keyset por fecha de solicitud:
+-- el ID desempata solicitudes con la misma fecha y permite recorrer el índice
+-- desde el cursor (fecha_solicitud, id) sin ordenar en memoria
+
+DROP INDEX IF EXISTS idx_solicitudes_fecha;
+CREATE INDEX idx_solicitudes_fecha ON solicitudes_credito(fecha_solicitud DESC, id DESC);
@@ -0,0 +1,18 @@
+-- V5__parametros_politica.sql
+-- Parámetros versionados de las políticas de crédito. La aplicación publica la fila
+-- de mayor versión sin reiniciar; para cambiar un umbral se inserta una versión nueva.
+-- Sin filas se usan los valores de coopcredit.politicas.* (versión 0).
+
+CREATE TABLE parametros_politica (
+    version BIGINT PRIMARY KEY CHECK (version > 0),
+    relacion_cuota_ingreso_maxima DECIMAL(5, 4) NOT NULL
+        CHECK (relacion_cuota_ingreso_maxima > 0 AND relacion_cuota_ingreso_maxima <= 1),
+    multiplicador_salario_monto_maximo INTEGER NOT NULL CHECK (multiplicador_salario_monto_maximo > 0),
+    antiguedad_minima_meses INTEGER NOT NULL CHECK (antiguedad_minima_meses >= 0),
+    fecha_creacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+ALTER TABLE evaluaciones_riesgo ADD COLUMN version_politicas BIGINT;
+
+COMMENT ON TABLE parametros_politica IS 'Versiones de los umbrales de las políticas de crédito';
+COMMENT ON COLUMN evaluaciones_riesgo.version_politicas IS 'Versión de parametros_politica usada en la evaluación (0 = configuración)';
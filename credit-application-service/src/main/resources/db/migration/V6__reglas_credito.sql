@@ -0,0 +1,18 @@
+-- V6__reglas_credito.sql
+-- Reglas de crédito declarativas. Se compilan al cargarlas y se evalúan junto a las
+-- políticas Java; agregar o desactivar una regla no requiere redespliegue.
+-- Ejemplo: condicion = 'nivelRiesgo == ''MEDIO''', expresion = 'plazoMeses <= 36'
+
+CREATE TABLE reglas_credito (
+    id BIGSERIAL PRIMARY KEY,
+    nombre VARCHAR(50) UNIQUE NOT NULL,
+    prioridad INTEGER NOT NULL DEFAULT 100,
+    condicion TEXT,
+    expresion TEXT NOT NULL,
+    mensaje TEXT NOT NULL,
+    activa BOOLEAN NOT NULL DEFAULT TRUE
+);
+
+COMMENT ON TABLE reglas_credito IS 'Reglas de crédito declarativas (ver RuleCompiler para la sintaxis)';
+COMMENT ON COLUMN reglas_credito.condicion IS 'La regla aplica solo si se cumple; NULL = siempre';
+COMMENT ON COLUMN reglas_credito.expresion IS 'Debe cumplirse para aprobar; si no, se rechaza con el mensaje';
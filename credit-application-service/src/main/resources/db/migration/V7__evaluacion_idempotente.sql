@@ -0,0 +1,15 @@
+-- V7__evaluacion_idempotente.sql
+-- Reserva de la evaluación en curso y claves de idempotencia de POST /api/solicitudes/{id}/evaluar.
+
+-- Una evaluación reserva la solicitud PENDIENTE antes de consultar Risk Central.
+-- La reserva vence (coopcredit.evaluacion-solicitud.reserva) si la instancia falla sin liberarla.
+ALTER TABLE solicitudes_credito ADD COLUMN evaluacion_iniciada_en TIMESTAMP;
+
+CREATE TABLE claves_idempotencia (
+    clave VARCHAR(100) PRIMARY KEY,
+    solicitud_id BIGINT NOT NULL REFERENCES solicitudes_credito(id) ON DELETE CASCADE,
+    fecha_creacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON COLUMN solicitudes_credito.evaluacion_iniciada_en IS 'Inicio de la evaluación en curso (null = sin reserva)';
+COMMENT ON TABLE claves_idempotencia IS 'Idempotency-Key de evaluaciones ya completadas y la solicitud evaluada';
@@ -0,0 +1,23 @@
+-- V8__eventos_salida.sql
+-- Outbox transaccional: los eventos se insertan en la misma transacción que el cambio
+-- de la solicitud y un relay en segundo plano los publica por lotes (al menos una vez).
+
+CREATE TABLE eventos_salida (
+    id BIGSERIAL PRIMARY KEY,
+    tipo VARCHAR(50) NOT NULL,
+    agregado_id BIGINT NOT NULL,
+    payload TEXT NOT NULL,
+    fecha_creacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    intentos INTEGER NOT NULL DEFAULT 0,
+    fecha_publicacion TIMESTAMP,
+    -- Un relay reserva el lote (SELECT ... FOR UPDATE SKIP LOCKED) antes de publicarlo.
+    -- La reserva vence (coopcredit.eventos.relay.reserva) si la instancia falla sin confirmar el lote.
+    reservado_hasta TIMESTAMP
+);
+
+-- El relay solo recorre los pendientes, en orden de inserción
+CREATE INDEX idx_eventos_salida_pendientes ON eventos_salida (id) WHERE fecha_publicacion IS NULL;
+
+COMMENT ON TABLE eventos_salida IS 'Outbox de eventos para sistemas externos (desembolso, notificaciones)';
+COMMENT ON COLUMN eventos_salida.fecha_publicacion IS 'Momento en que el destino confirmó el evento (null = pendiente)';
+COMMENT ON COLUMN eventos_salida.reservado_hasta IS 'Fin de la reserva del relay que publica el evento (null = sin reserva)';
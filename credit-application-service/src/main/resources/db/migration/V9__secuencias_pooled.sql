@@ -0,0 +1,16 @@
+-- V9__secuencias_pooled.sql
+-- IDs por secuencia con optimizador pooled-lo: Hibernate reserva 50 IDs por cada nextval
+-- y puede agrupar los INSERT en lotes JDBC (con IDENTITY ejecuta cada INSERT al persistir
+-- para conocer el ID).
+--
+-- Se reutilizan las secuencias de las columnas BIGSERIAL. Cada valor v que entrega la
+-- secuencia reserva el rango [v, v + 50): un INSERT que usa el DEFAULT de la columna
+-- (scripts, importación por JDBC) consume un valor completo y no choca con los rangos
+-- que Hibernate tiene en memoria. El incremento debe coincidir con allocationSize.
+
+ALTER SEQUENCE afiliados_id_seq INCREMENT BY 50;
+ALTER SEQUENCE usuarios_id_seq INCREMENT BY 50;
+ALTER SEQUENCE evaluaciones_riesgo_id_seq INCREMENT BY 50;
+ALTER SEQUENCE solicitudes_credito_id_seq INCREMENT BY 50;
+ALTER SEQUENCE reglas_credito_id_seq INCREMENT BY 50;
+ALTER SEQUENCE eventos_salida_id_seq INCREMENT BY 50;
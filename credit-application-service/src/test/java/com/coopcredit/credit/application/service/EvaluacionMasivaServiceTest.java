@@ -0,0 +1,231 @@
+package com.coopcredit.credit.application.service;
+
+import com.coopcredit.credit.application.dto.EvaluacionMasivaDTO;
+import com.coopcredit.credit.application.dto.EvaluacionMasivaRequest;
+import com.coopcredit.credit.application.port.out.SolicitudCreditoRepositoryPort;
+import com.coopcredit.credit.domain.exception.EvaluacionMasivaNoEncontradaException;
+import com.coopcredit.credit.domain.exception.EvaluacionesMasivasSaturadasException;
+import com.coopcredit.credit.domain.exception.SolicitudNoEncontradaException;
+import com.coopcredit.credit.domain.model.*;
+import com.coopcredit.credit.infrastructure.metrics.CreditApplicationMetrics;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para EvaluacionMasivaService.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("EvaluacionMasivaService Tests")
+class EvaluacionMasivaServiceTest {
+
+    @Mock
+    private EvaluarSolicitudService evaluarSolicitudService;
+
+    @Mock
+    private SolicitudCreditoRepositoryPort solicitudRepository;
+
+    @Mock
+    private CreditApplicationMetrics metrics;
+
+    private EvaluacionMasivaService evaluacionMasivaService;
+
+    @BeforeEach
+    void setUp() {
+        // Concurrencia 2, lotes de 2 solicitudes, un proceso a la vez
+        evaluacionMasivaService = new EvaluacionMasivaService(
+                evaluarSolicitudService, solicitudRepository, metrics, 2, 2, 100, 60, 1);
+        when(solicitudRepository.guardarEvaluadas(anyList())).thenAnswer(inv -> inv.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        evaluacionMasivaService.detener();
+    }
+
+    @Nested
+    @DisplayName("Tests para iniciar()")
+    class IniciarTests {
+
+        @Test
+        @DisplayName("Debe evaluar las solicitudes indicadas y escribir por lotes")
+        void iniciar_DebeEvaluarSolicitudesPorIds() throws Exception {
+            // Given
+            when(evaluarSolicitudService.prepararEvaluacion(1L)).thenReturn(solicitudEvaluada(1L, true));
+            when(evaluarSolicitudService.prepararEvaluacion(2L)).thenReturn(solicitudEvaluada(2L, false));
+            when(evaluarSolicitudService.prepararEvaluacion(3L)).thenReturn(solicitudEvaluada(3L, true));
+
+            // When
+            EvaluacionMasivaDTO inicial = evaluacionMasivaService.iniciar(
+                    new EvaluacionMasivaRequest(List.of(1L, 2L, 3L, 2L), null));
+            EvaluacionMasivaDTO resultado = esperarFinalizacion(inicial.getJobId());
+
+            // Then
+            assertThat(resultado.getTotal()).isEqualTo(3); // IDs duplicados se ignoran
+            assertThat(resultado.getProcesadas()).isEqualTo(3);
+            assertThat(resultado.getAprobadas()).isEqualTo(2);
+            assertThat(resultado.getRechazadas()).isEqualTo(1);
+            assertThat(resultado.getFallidas()).isZero();
+            assertThat(resultado.getResultados())
+                    .extracting("solicitudId")
+                    .containsExactly(1L, 2L, 3L);
+            verify(solicitudRepository, atLeast(2)).guardarEvaluadas(anyList());
+            verify(metrics, times(2)).incrementarSolicitudesAprobadas();
+            verify(metrics).incrementarSolicitudesRechazadas();
+        }
+
+        @Test
+        @DisplayName("Debe medir el tiempo de evaluación de cada solicitud guardada")
+        void iniciar_DebeMedirTiempoDeEvaluacion() throws Exception {
+            // Given
+            Timer.Sample medicion = mock(Timer.Sample.class);
+            when(metrics.iniciarMedicionTiempo()).thenReturn(medicion);
+            when(evaluarSolicitudService.prepararEvaluacion(1L)).thenReturn(solicitudEvaluada(1L, true));
+            when(evaluarSolicitudService.prepararEvaluacion(2L)).thenReturn(solicitudEvaluada(2L, false));
+            when(evaluarSolicitudService.prepararEvaluacion(99L)).thenThrow(new SolicitudNoEncontradaException(99L));
+
+            // When
+            EvaluacionMasivaDTO inicial = evaluacionMasivaService.iniciar(
+                    new EvaluacionMasivaRequest(List.of(1L, 2L, 99L), null));
+            esperarFinalizacion(inicial.getJobId());
+
+            // Then: solo las solicitudes guardadas cuentan en el timer, como en la evaluación individual
+            verify(metrics, times(3)).iniciarMedicionTiempo();
+            verify(metrics, times(2)).finalizarMedicionEvaluacion(medicion);
+        }
+
+        @Test
+        @DisplayName("Debe rechazar un proceso cuando se alcanzó el máximo de procesos en curso")
+        void iniciar_DebeRechazarCuandoHayDemasiadosProcesos() throws Exception {
+            // Given: el primer proceso queda bloqueado en la evaluación
+            CountDownLatch liberar = new CountDownLatch(1);
+            when(evaluarSolicitudService.prepararEvaluacion(1L)).thenAnswer(inv -> {
+                liberar.await(5, TimeUnit.SECONDS);
+                return solicitudEvaluada(1L, true);
+            });
+            when(evaluarSolicitudService.prepararEvaluacion(2L)).thenReturn(solicitudEvaluada(2L, true));
+            EvaluacionMasivaDTO primero = evaluacionMasivaService.iniciar(
+                    new EvaluacionMasivaRequest(List.of(1L), null));
+
+            // When / Then
+            assertThatThrownBy(() -> evaluacionMasivaService.iniciar(new EvaluacionMasivaRequest(List.of(2L), null)))
+                    .isInstanceOf(EvaluacionesMasivasSaturadasException.class);
+
+            liberar.countDown();
+            esperarFinalizacion(primero.getJobId());
+            EvaluacionMasivaDTO segundo = evaluacionMasivaService.iniciar(
+                    new EvaluacionMasivaRequest(List.of(2L), null));
+            assertThat(esperarFinalizacion(segundo.getJobId()).getAprobadas()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Debe registrar error por solicitud sin detener el proceso")
+        void iniciar_DebeRegistrarErrorPorSolicitud() throws Exception {
+            // Given
+            when(evaluarSolicitudService.prepararEvaluacion(1L)).thenReturn(solicitudEvaluada(1L, true));
+            when(evaluarSolicitudService.prepararEvaluacion(99L)).thenThrow(new SolicitudNoEncontradaException(99L));
+
+            // When
+            EvaluacionMasivaDTO inicial = evaluacionMasivaService.iniciar(
+                    new EvaluacionMasivaRequest(List.of(1L, 99L), null));
+            EvaluacionMasivaDTO resultado = esperarFinalizacion(inicial.getJobId());
+
+            // Then
+            assertThat(resultado.getAprobadas()).isEqualTo(1);
+            assertThat(resultado.getFallidas()).isEqualTo(1);
+            assertThat(resultado.getResultados().get(1).getResultado()).isEqualTo("ERROR");
+            assertThat(resultado.getResultados().get(1).getDetalle()).contains("99");
+        }
+
+        @Test
+        @DisplayName("Debe seleccionar las solicitudes pendientes cuando se indica estado")
+        void iniciar_DebeSeleccionarPorEstado() throws Exception {
+            // Given
+            when(solicitudRepository.listarIdsPorEstado(EstadoSolicitud.PENDIENTE)).thenReturn(List.of(5L));
+            when(evaluarSolicitudService.prepararEvaluacion(5L)).thenReturn(solicitudEvaluada(5L, true));
+
+            // When
+            EvaluacionMasivaDTO inicial = evaluacionMasivaService.iniciar(
+                    new EvaluacionMasivaRequest(null, EstadoSolicitud.PENDIENTE));
+            EvaluacionMasivaDTO resultado = esperarFinalizacion(inicial.getJobId());
+
+            // Then
+            assertThat(resultado.getTotal()).isEqualTo(1);
+            assertThat(resultado.getAprobadas()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Debe lanzar excepción cuando no se indican solicitudes ni estado")
+        void iniciar_DebeLanzarExcepcionSinCriterio() {
+            assertThatThrownBy(() -> evaluacionMasivaService.iniciar(new EvaluacionMasivaRequest()))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Debe lanzar excepción cuando se excede el máximo de solicitudes")
+        void iniciar_DebeLanzarExcepcionCuandoExcedeMaximo() {
+            List<Long> ids = LongStream.rangeClosed(1, 101).boxed().toList();
+
+            assertThatThrownBy(() -> evaluacionMasivaService.iniciar(new EvaluacionMasivaRequest(ids, null)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("máximo");
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests para consultar()")
+    class ConsultarTests {
+
+        @Test
+        @DisplayName("Debe lanzar excepción cuando el proceso no existe")
+        void consultar_DebeLanzarExcepcionCuandoNoExiste() {
+            assertThatThrownBy(() -> evaluacionMasivaService.consultar("no-existe"))
+                    .isInstanceOf(EvaluacionMasivaNoEncontradaException.class);
+        }
+    }
+
+    private EvaluacionMasivaDTO esperarFinalizacion(String jobId) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            EvaluacionMasivaDTO dto = evaluacionMasivaService.consultar(jobId);
+            if ("COMPLETADO".equals(dto.getEstado())) {
+                return dto;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("La evaluación masiva no finalizó a tiempo");
+    }
+
+    private SolicitudCredito solicitudEvaluada(Long id, boolean aprobada) {
+        SolicitudCredito solicitud = new SolicitudCredito(id, null, new BigDecimal("5000000"), 24,
+                new BigDecimal("15.00"), LocalDateTime.now(), EstadoSolicitud.PENDIENTE, null);
+        if (aprobada) {
+            solicitud.aprobar(EvaluacionRiesgo.aprobada(750, NivelRiesgo.BAJO, "Score favorable",
+                    new BigDecimal("0.08")));
+        } else {
+            solicitud.rechazar(EvaluacionRiesgo.rechazada(400, NivelRiesgo.ALTO, "Score desfavorable",
+                    "Score de riesgo crediticio ALTO", new BigDecimal("0.08")));
+        }
+        return solicitud;
+    }
+}
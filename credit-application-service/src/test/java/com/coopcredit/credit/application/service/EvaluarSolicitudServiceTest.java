@@ -2,13 +2,22 @@ package com.coopcredit.credit.application.service;
 
 import com.coopcredit.credit.application.dto.SolicitudCreditoDTO;
 import com.coopcredit.credit.application.mapper.SolicitudCreditoMapper;
+import com.coopcredit.credit.application.port.out.ClaveIdempotenciaRepositoryPort;
 import com.coopcredit.credit.application.port.out.RiskCentralPort;
 import com.coopcredit.credit.application.port.out.RiskCentralPort.RiskEvaluationResponse;
 import com.coopcredit.credit.application.port.out.SolicitudCreditoRepositoryPort;
 import com.coopcredit.credit.domain.exception.AfiliadoInactivoException;
 import com.coopcredit.credit.domain.exception.AntiguedadInsuficienteException;
+import com.coopcredit.credit.domain.exception.EvaluacionConcurrenteException;
+import com.coopcredit.credit.domain.exception.EvaluacionEnCursoException;
 import com.coopcredit.credit.domain.exception.SolicitudNoEncontradaException;
 import com.coopcredit.credit.domain.model.*;
+import com.coopcredit.credit.domain.policy.CreditPolicyEvaluator;
+import com.coopcredit.credit.domain.policy.PolicySnapshot;
+import com.coopcredit.credit.domain.policy.PolicySnapshotHolder;
+import com.coopcredit.credit.domain.policy.impl.MontoMaximoSalarioPolicy;
+import com.coopcredit.credit.domain.policy.impl.RelacionCuotaIngresoPolicy;
+import com.coopcredit.credit.domain.policy.impl.RiesgoExternoPolicy;
 import com.coopcredit.credit.infrastructure.metrics.CreditApplicationMetrics;
 import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,20 +26,27 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 /**
@@ -57,8 +73,11 @@ class EvaluarSolicitudServiceTest {
     @Mock
     private CreditApplicationMetrics metrics;
 
-    @InjectMocks
+    @Mock
+    private ClaveIdempotenciaRepositoryPort claveRepository;
+
     private EvaluarSolicitudService evaluarSolicitudService;
+    private PolicySnapshotHolder politicas;
 
     private Afiliado afiliadoActivo;
     private Afiliado afiliadoInactivo;
@@ -116,6 +135,19 @@ class EvaluarSolicitudServiceTest {
                 .estado(EstadoSolicitud.APROBADO)
                 .build();
 
+        // Políticas reales evaluadas por CreditPolicyEvaluator
+        politicas = new PolicySnapshotHolder(new PolicySnapshot(1, new BigDecimal("0.40"), 5, 6));
+        CreditPolicyEvaluator policyEvaluator = new CreditPolicyEvaluator(List.of(
+                new RelacionCuotaIngresoPolicy(politicas),
+                new MontoMaximoSalarioPolicy(politicas),
+                new RiesgoExternoPolicy()));
+
+        evaluarSolicitudService = new EvaluarSolicitudService(solicitudRepository, riskCentralPort,
+                politicasService, policyEvaluator, politicas, solicitudMapper, metrics,
+                claveRepository, Duration.ofMinutes(2));
+
+        when(solicitudRepository.reservarEvaluacion(anyLong(), any(Duration.class))).thenReturn(true);
+
         // Configurar mock de metrics
         Timer.Sample mockSample = mock(Timer.Sample.class);
         when(metrics.iniciarMedicionTiempo()).thenReturn(mockSample);
@@ -138,17 +170,10 @@ class EvaluarSolicitudServiceTest {
                     .thenReturn(riskResponse);
 
             // Configurar políticas
-            when(politicasService.getAntiguedadMinimaMeses()).thenReturn(6);
-            when(politicasService.calcularCuotaMensual(any(), any(), anyInt()))
-                    .thenReturn(new BigDecimal("250000"));
             when(politicasService.calcularRelacionCuotaIngreso(any(), any()))
                     .thenReturn(new BigDecimal("0.08")); // 8% < 40%
-            when(politicasService.cumpleRelacionCuotaIngreso(any())).thenReturn(true);
-            when(politicasService.cumpleMontoMaximo(any(), any())).thenReturn(true);
-            when(politicasService.getRelacionCuotaIngresoMaxima()).thenReturn(new BigDecimal("0.40"));
-            when(politicasService.getMultiplicadorSalarioMontoMaximo()).thenReturn(5);
 
-            when(solicitudRepository.guardar(any(SolicitudCredito.class))).thenReturn(solicitudPendiente);
+            when(solicitudRepository.guardarEvaluada(any(SolicitudCredito.class))).thenReturn(solicitudPendiente);
             when(solicitudMapper.toDTO(any(SolicitudCredito.class))).thenReturn(solicitudDTO);
 
             // When
@@ -158,7 +183,7 @@ class EvaluarSolicitudServiceTest {
             assertThat(resultado).isNotNull();
             
             ArgumentCaptor<SolicitudCredito> captor = ArgumentCaptor.forClass(SolicitudCredito.class);
-            verify(solicitudRepository).guardar(captor.capture());
+            verify(solicitudRepository).guardarEvaluada(captor.capture());
             
             SolicitudCredito solicitudGuardada = captor.getValue();
             assertThat(solicitudGuardada.getEstado()).isEqualTo(EstadoSolicitud.APROBADO);
@@ -179,15 +204,10 @@ class EvaluarSolicitudServiceTest {
                     .thenReturn(riskResponse);
 
             // Configurar políticas (todas cumplen excepto el riesgo)
-            when(politicasService.getAntiguedadMinimaMeses()).thenReturn(6);
-            when(politicasService.calcularCuotaMensual(any(), any(), anyInt()))
-                    .thenReturn(new BigDecimal("250000"));
             when(politicasService.calcularRelacionCuotaIngreso(any(), any()))
                     .thenReturn(new BigDecimal("0.08"));
-            when(politicasService.cumpleRelacionCuotaIngreso(any())).thenReturn(true);
-            when(politicasService.cumpleMontoMaximo(any(), any())).thenReturn(true);
 
-            when(solicitudRepository.guardar(any(SolicitudCredito.class))).thenReturn(solicitudPendiente);
+            when(solicitudRepository.guardarEvaluada(any(SolicitudCredito.class))).thenReturn(solicitudPendiente);
             when(solicitudMapper.toDTO(any(SolicitudCredito.class))).thenReturn(solicitudDTO);
 
             // When
@@ -195,7 +215,7 @@ class EvaluarSolicitudServiceTest {
 
             // Then
             ArgumentCaptor<SolicitudCredito> captor = ArgumentCaptor.forClass(SolicitudCredito.class);
-            verify(solicitudRepository).guardar(captor.capture());
+            verify(solicitudRepository).guardarEvaluada(captor.capture());
             
             SolicitudCredito solicitudGuardada = captor.getValue();
             assertThat(solicitudGuardada.getEstado()).isEqualTo(EstadoSolicitud.RECHAZADO);
@@ -215,17 +235,13 @@ class EvaluarSolicitudServiceTest {
             when(riskCentralPort.evaluarRiesgo(anyString(), any(BigDecimal.class), anyInt()))
                     .thenReturn(riskResponse);
 
-            // Configurar políticas - relación cuota/ingreso excede
-            when(politicasService.getAntiguedadMinimaMeses()).thenReturn(6);
-            when(politicasService.calcularCuotaMensual(any(), any(), anyInt()))
-                    .thenReturn(new BigDecimal("1500000"));
+            // Configurar políticas - relación cuota/ingreso excede (cuota a 6 meses ≈ 79% del salario)
+            afiliadoActivo.setSalario(new BigDecimal("1100000"));
+            solicitudPendiente.setPlazoMeses(6);
             when(politicasService.calcularRelacionCuotaIngreso(any(), any()))
                     .thenReturn(new BigDecimal("0.50")); // 50% > 40%
-            when(politicasService.cumpleRelacionCuotaIngreso(any())).thenReturn(false);
-            when(politicasService.cumpleMontoMaximo(any(), any())).thenReturn(true);
-            when(politicasService.getRelacionCuotaIngresoMaxima()).thenReturn(new BigDecimal("0.40"));
 
-            when(solicitudRepository.guardar(any(SolicitudCredito.class))).thenReturn(solicitudPendiente);
+            when(solicitudRepository.guardarEvaluada(any(SolicitudCredito.class))).thenReturn(solicitudPendiente);
             when(solicitudMapper.toDTO(any(SolicitudCredito.class))).thenReturn(solicitudDTO);
 
             // When
@@ -233,11 +249,14 @@ class EvaluarSolicitudServiceTest {
 
             // Then
             ArgumentCaptor<SolicitudCredito> captor = ArgumentCaptor.forClass(SolicitudCredito.class);
-            verify(solicitudRepository).guardar(captor.capture());
+            verify(solicitudRepository).guardarEvaluada(captor.capture());
             
             SolicitudCredito solicitudGuardada = captor.getValue();
             assertThat(solicitudGuardada.getEstado()).isEqualTo(EstadoSolicitud.RECHAZADO);
             assertThat(solicitudGuardada.getEvaluacion().getAprobado()).isFalse();
+            assertThat(solicitudGuardada.getEvaluacion().getMotivo())
+                    .startsWith("Relación cuota/ingreso excede el máximo")
+                    .doesNotContain("|");
         }
 
         @Test
@@ -252,17 +271,13 @@ class EvaluarSolicitudServiceTest {
             when(riskCentralPort.evaluarRiesgo(anyString(), any(BigDecimal.class), anyInt()))
                     .thenReturn(riskResponse);
 
-            // Configurar políticas - monto excede máximo
-            when(politicasService.getAntiguedadMinimaMeses()).thenReturn(6);
-            when(politicasService.calcularCuotaMensual(any(), any(), anyInt()))
-                    .thenReturn(new BigDecimal("250000"));
+            // Configurar políticas - monto excede máximo (salario x 5 = 4.500.000 < 5.000.000)
+            afiliadoActivo.setSalario(new BigDecimal("900000"));
+            solicitudPendiente.setPlazoMeses(60);
             when(politicasService.calcularRelacionCuotaIngreso(any(), any()))
                     .thenReturn(new BigDecimal("0.08"));
-            when(politicasService.cumpleRelacionCuotaIngreso(any())).thenReturn(true);
-            when(politicasService.cumpleMontoMaximo(any(), any())).thenReturn(false);
-            when(politicasService.getMultiplicadorSalarioMontoMaximo()).thenReturn(5);
 
-            when(solicitudRepository.guardar(any(SolicitudCredito.class))).thenReturn(solicitudPendiente);
+            when(solicitudRepository.guardarEvaluada(any(SolicitudCredito.class))).thenReturn(solicitudPendiente);
             when(solicitudMapper.toDTO(any(SolicitudCredito.class))).thenReturn(solicitudDTO);
 
             // When
@@ -270,10 +285,36 @@ class EvaluarSolicitudServiceTest {
 
             // Then
             ArgumentCaptor<SolicitudCredito> captor = ArgumentCaptor.forClass(SolicitudCredito.class);
-            verify(solicitudRepository).guardar(captor.capture());
+            verify(solicitudRepository).guardarEvaluada(captor.capture());
             
             SolicitudCredito solicitudGuardada = captor.getValue();
             assertThat(solicitudGuardada.getEstado()).isEqualTo(EstadoSolicitud.RECHAZADO);
+            assertThat(solicitudGuardada.getEvaluacion().getMotivo()).startsWith("Monto solicitado excede el máximo");
+        }
+
+        @Test
+        @DisplayName("Debe reunir los motivos de todas las políticas rechazadas en orden de prioridad")
+        void evaluar_DebeReunirMotivosDeRechazo() {
+            // Given
+            afiliadoActivo.setSalario(new BigDecimal("500000"));
+            when(solicitudRepository.buscarPorId(1L)).thenReturn(Optional.of(solicitudPendiente));
+            when(riskCentralPort.evaluarRiesgo(anyString(), any(BigDecimal.class), anyInt()))
+                    .thenReturn(new RiskEvaluationResponse("123456789", 400, "ALTO", "Score desfavorable"));
+            when(solicitudRepository.guardarEvaluada(any(SolicitudCredito.class))).thenReturn(solicitudPendiente);
+
+            // When
+            evaluarSolicitudService.evaluar(1L);
+
+            // Then
+            ArgumentCaptor<SolicitudCredito> captor = ArgumentCaptor.forClass(SolicitudCredito.class);
+            verify(solicitudRepository).guardarEvaluada(captor.capture());
+
+            assertThat(captor.getValue().getEvaluacion().getMotivo().split(" \\| "))
+                    .hasSize(3)
+                    .satisfiesExactly(
+                            motivo -> assertThat(motivo).startsWith("Relación cuota/ingreso"),
+                            motivo -> assertThat(motivo).startsWith("Monto solicitado"),
+                            motivo -> assertThat(motivo).contains("ALTO"));
         }
     }
 
@@ -329,7 +370,6 @@ class EvaluarSolicitudServiceTest {
             // Given
             solicitudPendiente.setAfiliado(afiliadoSinAntiguedad);
             when(solicitudRepository.buscarPorId(1L)).thenReturn(Optional.of(solicitudPendiente));
-            when(politicasService.getAntiguedadMinimaMeses()).thenReturn(6);
 
             // When/Then
             assertThatThrownBy(() -> evaluarSolicitudService.evaluar(1L))
@@ -355,17 +395,10 @@ class EvaluarSolicitudServiceTest {
             when(riskCentralPort.evaluarRiesgo(anyString(), any(BigDecimal.class), anyInt()))
                     .thenReturn(riskResponse);
 
-            when(politicasService.getAntiguedadMinimaMeses()).thenReturn(6);
-            when(politicasService.calcularCuotaMensual(any(), any(), anyInt()))
-                    .thenReturn(new BigDecimal("250000"));
             when(politicasService.calcularRelacionCuotaIngreso(any(), any()))
                     .thenReturn(new BigDecimal("0.08"));
-            when(politicasService.cumpleRelacionCuotaIngreso(any())).thenReturn(true);
-            when(politicasService.cumpleMontoMaximo(any(), any())).thenReturn(true);
-            when(politicasService.getRelacionCuotaIngresoMaxima()).thenReturn(new BigDecimal("0.40"));
-            when(politicasService.getMultiplicadorSalarioMontoMaximo()).thenReturn(5);
 
-            when(solicitudRepository.guardar(any(SolicitudCredito.class))).thenReturn(solicitudPendiente);
+            when(solicitudRepository.guardarEvaluada(any(SolicitudCredito.class))).thenReturn(solicitudPendiente);
             when(solicitudMapper.toDTO(any(SolicitudCredito.class))).thenReturn(solicitudDTO);
 
             // When
@@ -379,4 +412,235 @@ class EvaluarSolicitudServiceTest {
             );
         }
     }
+
+    @Nested
+    @DisplayName("Tests de parámetros de política")
+    class ParametrosPoliticaTests {
+
+        @Test
+        @DisplayName("Debe registrar la versión de parámetros usada en la evaluación")
+        void evaluar_DebeRegistrarVersionPoliticas() {
+            // Given
+            when(solicitudRepository.buscarPorId(1L)).thenReturn(Optional.of(solicitudPendiente));
+            when(riskCentralPort.evaluarRiesgo(anyString(), any(BigDecimal.class), anyInt()))
+                    .thenReturn(new RiskEvaluationResponse("123456789", 750, "BAJO", "Score favorable"));
+
+            // When
+            SolicitudCredito solicitud = evaluarSolicitudService.prepararEvaluacion(1L);
+
+            // Then
+            assertThat(solicitud.getEstado()).isEqualTo(EstadoSolicitud.APROBADO);
+            assertThat(solicitud.getEvaluacion().getVersionPoliticas()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("Debe aplicar una versión publicada sin reconstruir el servicio")
+        void evaluar_DebeAplicarVersionPublicada() {
+            // Given
+            when(solicitudRepository.buscarPorId(1L)).thenReturn(Optional.of(solicitudPendiente));
+            when(riskCentralPort.evaluarRiesgo(anyString(), any(BigDecimal.class), anyInt()))
+                    .thenReturn(new RiskEvaluationResponse("123456789", 750, "BAJO", "Score favorable"));
+            politicas.publish(new PolicySnapshot(2, new BigDecimal("0.05"), 5, 6));
+
+            // When
+            SolicitudCredito solicitud = evaluarSolicitudService.prepararEvaluacion(1L);
+
+            // Then
+            assertThat(solicitud.getEstado()).isEqualTo(EstadoSolicitud.RECHAZADO);
+            assertThat(solicitud.getEvaluacion().getMotivo()).contains("> 5.00%");
+            assertThat(solicitud.getEvaluacion().getVersionPoliticas()).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("Debe exigir la antigüedad mínima de la versión vigente")
+        void evaluar_DebeUsarAntiguedadMinimaVigente() {
+            // Given
+            solicitudPendiente.setAfiliado(afiliadoSinAntiguedad);
+            when(solicitudRepository.buscarPorId(1L)).thenReturn(Optional.of(solicitudPendiente));
+            when(riskCentralPort.evaluarRiesgo(anyString(), any(BigDecimal.class), anyInt()))
+                    .thenReturn(new RiskEvaluationResponse("555555555", 750, "BAJO", "Score favorable"));
+            politicas.publish(new PolicySnapshot(2, new BigDecimal("0.40"), 5, 1));
+
+            // When
+            SolicitudCredito solicitud = evaluarSolicitudService.prepararEvaluacion(1L);
+
+            // Then
+            assertThat(solicitud.getEvaluacion()).isNotNull();
+            verify(riskCentralPort).evaluarRiesgo(eq("555555555"), any(BigDecimal.class), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests de modificación concurrente")
+    class ConcurrenciaTests {
+
+        @Test
+        @DisplayName("Debe propagar el conflicto de versión sin registrar métricas de resultado")
+        void evaluar_DebePropagarConflictoDeVersion() {
+            // Given
+            when(solicitudRepository.buscarPorId(1L)).thenReturn(Optional.of(solicitudPendiente));
+            when(riskCentralPort.evaluarRiesgo(anyString(), any(BigDecimal.class), anyInt()))
+                    .thenReturn(new RiskEvaluationResponse("123456789", 750, "BAJO", "Score favorable"));
+
+            when(politicasService.calcularRelacionCuotaIngreso(any(), any()))
+                    .thenReturn(new BigDecimal("0.08"));
+
+            when(solicitudRepository.guardarEvaluada(any(SolicitudCredito.class)))
+                    .thenThrow(new EvaluacionConcurrenteException(1L));
+
+            // When & Then
+            assertThatThrownBy(() -> evaluarSolicitudService.evaluar(1L))
+                    .isInstanceOf(EvaluacionConcurrenteException.class)
+                    .hasMessageContaining("1");
+
+            verify(metrics, never()).incrementarSolicitudesAprobadas();
+            verify(metrics, never()).incrementarSolicitudesRechazadas();
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests de evaluación duplicada")
+    class EvaluacionDuplicadaTests {
+
+        @Test
+        @DisplayName("No debe consultar Risk Central si otra evaluación ya reservó la solicitud")
+        void evaluar_NoDebeConsultarRiesgoSinReserva() {
+            // Given
+            when(solicitudRepository.buscarPorId(1L)).thenReturn(Optional.of(solicitudPendiente));
+            when(solicitudRepository.reservarEvaluacion(eq(1L), any(Duration.class))).thenReturn(false);
+
+            // When/Then
+            assertThatThrownBy(() -> evaluarSolicitudService.evaluar(1L))
+                    .isInstanceOf(EvaluacionEnCursoException.class);
+
+            verify(riskCentralPort, never()).evaluarRiesgo(anyString(), any(), anyInt());
+            verify(solicitudRepository, never()).guardarEvaluada(any());
+        }
+
+        @Test
+        @DisplayName("Debe liberar la reserva cuando falla la consulta de riesgo")
+        void evaluar_DebeLiberarReservaCuandoFallaRiesgo() {
+            // Given
+            when(solicitudRepository.buscarPorId(1L)).thenReturn(Optional.of(solicitudPendiente));
+            when(riskCentralPort.evaluarRiesgo(anyString(), any(BigDecimal.class), anyInt()))
+                    .thenThrow(new IllegalStateException("Risk Central no disponible"));
+
+            // When/Then
+            assertThatThrownBy(() -> evaluarSolicitudService.evaluar(1L))
+                    .isInstanceOf(IllegalStateException.class);
+
+            verify(solicitudRepository).liberarEvaluacion(1L);
+        }
+
+        @Test
+        @DisplayName("Debe compartir una sola evaluación entre peticiones simultáneas")
+        void evaluar_DebeCompartirEvaluacionSimultanea() throws Exception {
+            // Given
+            CountDownLatch riesgoIniciado = new CountDownLatch(1);
+            CountDownLatch continuar = new CountDownLatch(1);
+            when(solicitudRepository.buscarPorId(1L)).thenReturn(Optional.of(solicitudPendiente));
+            when(riskCentralPort.evaluarRiesgo(anyString(), any(BigDecimal.class), anyInt())).thenAnswer(invocation -> {
+                riesgoIniciado.countDown();
+                continuar.await(5, TimeUnit.SECONDS);
+                return new RiskEvaluationResponse("123456789", 750, "BAJO", "Score favorable");
+            });
+            when(solicitudRepository.guardarEvaluada(any(SolicitudCredito.class))).thenReturn(solicitudPendiente);
+            when(solicitudMapper.toDTO(any(SolicitudCredito.class))).thenReturn(solicitudDTO);
+
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                // When
+                Future<SolicitudCreditoDTO> primera = executor.submit(() -> evaluarSolicitudService.evaluar(1L));
+                assertThat(riesgoIniciado.await(5, TimeUnit.SECONDS)).isTrue();
+                Future<SolicitudCreditoDTO> segunda = executor.submit(() -> evaluarSolicitudService.evaluar(1L));
+                Thread.sleep(100);
+                continuar.countDown();
+
+                // Then
+                assertThat(primera.get(5, TimeUnit.SECONDS)).isSameAs(solicitudDTO);
+                assertThat(segunda.get(5, TimeUnit.SECONDS)).isSameAs(solicitudDTO);
+                verify(riskCentralPort, times(1)).evaluarRiesgo(anyString(), any(BigDecimal.class), anyInt());
+                verify(solicitudRepository, times(1)).guardarEvaluada(any(SolicitudCredito.class));
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests de clave de idempotencia")
+    class IdempotenciaTests {
+
+        @Test
+        @DisplayName("Debe guardar la clave junto con el resultado de la evaluación")
+        void evaluar_DebeRegistrarClave() {
+            // Given
+            when(claveRepository.buscarSolicitud("clave-1")).thenReturn(Optional.empty());
+            when(solicitudRepository.buscarPorId(1L)).thenReturn(Optional.of(solicitudPendiente));
+            when(riskCentralPort.evaluarRiesgo(anyString(), any(BigDecimal.class), anyInt()))
+                    .thenReturn(new RiskEvaluationResponse("123456789", 750, "BAJO", "Score favorable"));
+            when(solicitudRepository.guardarEvaluada(any(SolicitudCredito.class), eq("clave-1")))
+                    .thenReturn(solicitudPendiente);
+            when(solicitudMapper.toDTO(any(SolicitudCredito.class))).thenReturn(solicitudDTO);
+
+            // When
+            SolicitudCreditoDTO resultado = evaluarSolicitudService.evaluar(1L, "clave-1");
+
+            // Then
+            assertThat(resultado).isSameAs(solicitudDTO);
+            verify(solicitudRepository).guardarEvaluada(solicitudPendiente, "clave-1");
+            verify(claveRepository, never()).registrar(anyString(), anyLong());
+        }
+
+        @Test
+        @DisplayName("No debe registrar la clave si el resultado no se pudo guardar")
+        void evaluar_NoDebeRegistrarClaveSiFallaElGuardado() {
+            // Given
+            when(claveRepository.buscarSolicitud("clave-1")).thenReturn(Optional.empty());
+            when(solicitudRepository.buscarPorId(1L)).thenReturn(Optional.of(solicitudPendiente));
+            when(riskCentralPort.evaluarRiesgo(anyString(), any(BigDecimal.class), anyInt()))
+                    .thenReturn(new RiskEvaluationResponse("123456789", 750, "BAJO", "Score favorable"));
+            when(solicitudRepository.guardarEvaluada(any(SolicitudCredito.class), eq("clave-1")))
+                    .thenThrow(new EvaluacionConcurrenteException(1L));
+
+            // When/Then
+            assertThatThrownBy(() -> evaluarSolicitudService.evaluar(1L, "clave-1"))
+                    .isInstanceOf(EvaluacionConcurrenteException.class);
+            verify(claveRepository, never()).registrar(anyString(), anyLong());
+            verify(solicitudRepository).liberarEvaluacion(1L);
+        }
+
+        @Test
+        @DisplayName("Debe retornar el resultado almacenado sin volver a evaluar")
+        void evaluar_DebeRetornarResultadoAlmacenado() {
+            // Given
+            solicitudPendiente.setEstado(EstadoSolicitud.APROBADO);
+            when(claveRepository.buscarSolicitud("clave-1")).thenReturn(Optional.of(1L));
+            when(solicitudRepository.buscarPorId(1L)).thenReturn(Optional.of(solicitudPendiente));
+            when(solicitudMapper.toDTO(solicitudPendiente)).thenReturn(solicitudDTO);
+
+            // When
+            SolicitudCreditoDTO resultado = evaluarSolicitudService.evaluar(1L, "clave-1");
+
+            // Then
+            assertThat(resultado).isSameAs(solicitudDTO);
+            verify(riskCentralPort, never()).evaluarRiesgo(anyString(), any(), anyInt());
+            verify(solicitudRepository, never()).reservarEvaluacion(anyLong(), any());
+            verify(solicitudRepository, never()).guardarEvaluada(any());
+        }
+
+        @Test
+        @DisplayName("Debe rechazar una clave usada para otra solicitud")
+        void evaluar_DebeRechazarClaveDeOtraSolicitud() {
+            // Given
+            when(claveRepository.buscarSolicitud("clave-1")).thenReturn(Optional.of(2L));
+
+            // When/Then
+            assertThatThrownBy(() -> evaluarSolicitudService.evaluar(1L, "clave-1"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("solicitud 2");
+
+            verify(riskCentralPort, never()).evaluarRiesgo(anyString(), any(), anyInt());
+        }
+    }
 }
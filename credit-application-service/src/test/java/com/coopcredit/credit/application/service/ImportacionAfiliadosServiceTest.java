@@ -0,0 +1,177 @@
+package com.coopcredit.credit.application.service;
+
+import com.coopcredit.credit.application.dto.CrearAfiliadoRequest;
+import com.coopcredit.credit.application.dto.ErrorImportacionDTO;
+import com.coopcredit.credit.application.dto.FilaAfiliadoImportada;
+import com.coopcredit.credit.application.dto.ResultadoImportacionDTO;
+import com.coopcredit.credit.application.mapper.AfiliadoMapper;
+import com.coopcredit.credit.application.port.out.ImportacionAfiliadosPort;
+import com.coopcredit.credit.domain.model.Afiliado;
+import com.coopcredit.credit.domain.model.EstadoAfiliado;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para ImportacionAfiliadosService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportacionAfiliadosService Tests")
+class ImportacionAfiliadosServiceTest {
+
+    private static Validator validator;
+
+    @Mock
+    private ImportacionAfiliadosPort importacionPort;
+
+    @Mock
+    private AfiliadoMapper afiliadoMapper;
+
+    private ImportacionAfiliadosService service;
+
+    @BeforeAll
+    static void crearValidator() {
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+    }
+
+    @BeforeEach
+    void setUp() {
+        service = new ImportacionAfiliadosService(importacionPort, afiliadoMapper, validator, 2, 10);
+        lenient().when(importacionPort.buscarDocumentosExistentes(anyCollection())).thenReturn(Set.of());
+        lenient().when(afiliadoMapper.toDomain(any(CrearAfiliadoRequest.class))).thenAnswer(invocation -> {
+            CrearAfiliadoRequest request = invocation.getArgument(0);
+            return new Afiliado(null, request.getDocumento(), request.getNombre(), request.getSalario(),
+                    request.getFechaAfiliacion(), request.getEstado());
+        });
+    }
+
+    private FilaAfiliadoImportada fila(int numero, String documento) {
+        return FilaAfiliadoImportada.valida(numero, new CrearAfiliadoRequest(documento, "Afiliado " + documento,
+                new BigDecimal("2500000"), LocalDate.now().minusMonths(12), EstadoAfiliado.ACTIVO));
+    }
+
+    @Nested
+    @DisplayName("Procesamiento por lotes")
+    class LotesTests {
+
+        @Test
+        @DisplayName("Debe consultar e insertar una vez por lote")
+        void importar_DebeAgruparFilasEnLotes() {
+            // Given
+            List<FilaAfiliadoImportada> filas = IntStream.rangeClosed(1, 5)
+                    .mapToObj(i -> fila(i, "10000000" + i))
+                    .toList();
+
+            // When
+            ResultadoImportacionDTO resultado = service.importar(filas.iterator());
+
+            // Then
+            assertThat(resultado.getTotalFilas()).isEqualTo(5);
+            assertThat(resultado.getImportadas()).isEqualTo(5);
+            assertThat(resultado.getRechazadas()).isZero();
+            verify(importacionPort, times(3)).buscarDocumentosExistentes(anyCollection());
+            verify(importacionPort, times(3)).insertarLote(anyList());
+        }
+
+        @Test
+        @DisplayName("Debe omitir los documentos ya registrados")
+        void importar_DebeRechazarDocumentosExistentes() {
+            // Given
+            when(importacionPort.buscarDocumentosExistentes(anyCollection())).thenReturn(Set.of("100000001"));
+
+            // When
+            ResultadoImportacionDTO resultado = service.importar(
+                    List.of(fila(2, "100000001"), fila(3, "100000002")).iterator());
+
+            // Then
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Afiliado>> captor = ArgumentCaptor.forClass(List.class);
+            verify(importacionPort).insertarLote(captor.capture());
+            assertThat(captor.getValue()).extracting(Afiliado::getDocumento).containsExactly("100000002");
+            assertThat(resultado.getImportadas()).isEqualTo(1);
+            assertThat(resultado.getErrores()).extracting(ErrorImportacionDTO::getFila).containsExactly(2);
+        }
+
+        @Test
+        @DisplayName("Debe reportar todas las filas de un lote que no se pudo guardar y continuar")
+        void importar_DebeContinuarCuandoFallaUnLote() {
+            // Given
+            doThrow(new IllegalStateException("duplicate key")).doNothing()
+                    .when(importacionPort).insertarLote(anyList());
+
+            // When
+            ResultadoImportacionDTO resultado = service.importar(List.of(
+                    fila(1, "100000001"), fila(2, "100000002"), fila(3, "100000003")).iterator());
+
+            // Then
+            assertThat(resultado.getImportadas()).isEqualTo(1);
+            assertThat(resultado.getRechazadas()).isEqualTo(2);
+            assertThat(resultado.getErrores()).extracting(ErrorImportacionDTO::getFila).containsExactly(1, 2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Validación de filas")
+    class ValidacionTests {
+
+        @Test
+        @DisplayName("Debe rechazar filas inválidas, con error de formato o repetidas sin detener la importación")
+        void importar_DebeRechazarFilasInvalidas() {
+            // Given
+            FilaAfiliadoImportada invalida = fila(2, "12");
+            FilaAfiliadoImportada malFormada = FilaAfiliadoImportada.invalida(3, "Salario inválido: 'abc'");
+            List<FilaAfiliadoImportada> filas = List.of(invalida, malFormada, fila(4, "100000001"),
+                    fila(5, "100000001"));
+
+            // When
+            ResultadoImportacionDTO resultado = service.importar(filas.iterator());
+
+            // Then
+            assertThat(resultado.getImportadas()).isEqualTo(1);
+            assertThat(resultado.getRechazadas()).isEqualTo(3);
+            assertThat(resultado.getErrores()).extracting(ErrorImportacionDTO::getMensaje).containsExactly(
+                    "El documento debe contener entre 6 y 15 dígitos",
+                    "Salario inválido: 'abc'",
+                    "Documento repetido en el archivo");
+        }
+
+        @Test
+        @DisplayName("Debe limitar los errores detallados y contar los omitidos")
+        void importar_DebeLimitarErroresDetallados() {
+            // Given
+            List<FilaAfiliadoImportada> filas = new ArrayList<>();
+            for (int i = 1; i <= 15; i++) {
+                filas.add(FilaAfiliadoImportada.invalida(i, "JSON inválido"));
+            }
+
+            // When
+            ResultadoImportacionDTO resultado = service.importar(filas.iterator());
+
+            // Then
+            assertThat(resultado.getRechazadas()).isEqualTo(15);
+            assertThat(resultado.getErrores()).hasSize(10);
+            assertThat(resultado.getErroresOmitidos()).isEqualTo(5);
+            verifyNoInteractions(importacionPort);
+        }
+    }
+}
@@ -1,10 +1,11 @@
 package com.coopcredit.credit.application.service;
 
+import com.coopcredit.credit.domain.policy.PolicySnapshot;
+import com.coopcredit.credit.domain.policy.PolicySnapshotHolder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 
@@ -21,12 +22,8 @@ class PoliticasCreditoServiceTest {
 
     @BeforeEach
     void setUp() {
-        politicasService = new PoliticasCreditoService();
-        
-        // Inyectar valores de configuración usando ReflectionTestUtils
-        ReflectionTestUtils.setField(politicasService, "relacionCuotaIngresoMaxima", new BigDecimal("0.40"));
-        ReflectionTestUtils.setField(politicasService, "multiplicadorSalarioMontoMaximo", 5);
-        ReflectionTestUtils.setField(politicasService, "antiguedadMinimaMeses", 6);
+        politicasService = new PoliticasCreditoService(
+                new PolicySnapshotHolder(new PolicySnapshot(0, new BigDecimal("0.40"), 5, 6)));
     }
 
     @Nested
@@ -0,0 +1,121 @@
+package com.coopcredit.credit.application.service;
+
+import com.coopcredit.credit.application.dto.EventoSalida;
+import com.coopcredit.credit.application.port.out.EventoSalidaRepositoryPort;
+import com.coopcredit.credit.application.port.out.EventoSalidaSinkPort;
+import com.coopcredit.credit.infrastructure.metrics.CreditApplicationMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para PublicacionEventosService.
+ * Verifica la entrega al menos una vez: un lote solo se marca como publicado
+ * después de que el destino lo confirma.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PublicacionEventosService Tests")
+class PublicacionEventosServiceTest {
+
+    @Mock
+    private EventoSalidaRepositoryPort eventoRepository;
+
+    @Mock
+    private EventoSalidaSinkPort sink;
+
+    @Mock
+    private CreditApplicationMetrics metrics;
+
+    private PublicacionEventosService publicacionService;
+
+    @BeforeEach
+    void setUp() {
+        publicacionService = new PublicacionEventosService(eventoRepository, sink, metrics,
+                false, Duration.ofSeconds(1), 2, Duration.ofMinutes(1), Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        publicacionService.detener();
+    }
+
+    private EventoSalida evento(long id) {
+        return EventoSalida.builder()
+                .id(id)
+                .tipo("SOLICITUD_EVALUADA")
+                .agregadoId(id)
+                .payload("{\"solicitudId\":" + id + "}")
+                .fechaCreacion(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Debe publicar el lote y marcarlo como publicado")
+    void publicarLote_DebeMarcarPublicados() {
+        // Given
+        List<EventoSalida> pendientes = List.of(evento(1), evento(2));
+        when(eventoRepository.reservarPendientes(2, Duration.ofMinutes(5))).thenReturn(pendientes);
+
+        // When
+        int publicados = publicacionService.publicarLote();
+
+        // Then
+        assertThat(publicados).isEqualTo(2);
+        verify(sink).publicar(pendientes);
+        verify(eventoRepository).marcarPublicados(List.of(1L, 2L));
+        verify(metrics).incrementarEventosPublicados(2);
+    }
+
+    @Test
+    @DisplayName("No debe llamar al destino si no hay pendientes")
+    void publicarLote_SinPendientes() {
+        // Given
+        when(eventoRepository.reservarPendientes(2, Duration.ofMinutes(5))).thenReturn(List.of());
+
+        // When
+        int publicados = publicacionService.publicarLote();
+
+        // Then
+        assertThat(publicados).isZero();
+        verifyNoInteractions(sink);
+        verify(eventoRepository, never()).marcarPublicados(any());
+    }
+
+    @Test
+    @DisplayName("No debe iniciar con el relay habilitado y sin destino")
+    void constructor_DebeFallarSinDestino() {
+        assertThatThrownBy(() -> new PublicacionEventosService(eventoRepository, null, metrics,
+                true, Duration.ofSeconds(1), 2, Duration.ofMinutes(1), Duration.ofMinutes(5)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("coopcredit.eventos.sink");
+    }
+
+    @Test
+    @DisplayName("Debe dejar el lote pendiente cuando el destino falla")
+    void publicarLote_DebeConservarPendientesSiDestinoFalla() {
+        // Given
+        when(eventoRepository.reservarPendientes(2, Duration.ofMinutes(5))).thenReturn(List.of(evento(1)));
+        doThrow(new IllegalStateException("Destino no disponible")).when(sink).publicar(any());
+
+        // When/Then
+        assertThatThrownBy(() -> publicacionService.publicarLote())
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(eventoRepository, never()).marcarPublicados(any());
+        verify(eventoRepository).registrarIntentoFallido(List.of(1L));
+        verify(metrics).incrementarFallosPublicacionEventos();
+    }
+}
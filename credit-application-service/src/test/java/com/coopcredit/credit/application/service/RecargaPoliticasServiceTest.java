@@ -0,0 +1,144 @@
+package com.coopcredit.credit.application.service;
+
+import com.coopcredit.credit.application.port.out.ParametrosPoliticaRepositoryPort;
+import com.coopcredit.credit.application.port.out.ReglaCreditoRepositoryPort;
+import com.coopcredit.credit.domain.policy.CreditPolicy;
+import com.coopcredit.credit.domain.policy.CreditPolicyEvaluator;
+import com.coopcredit.credit.domain.policy.PolicySnapshot;
+import com.coopcredit.credit.domain.policy.PolicySnapshotHolder;
+import com.coopcredit.credit.domain.policy.impl.RiesgoExternoPolicy;
+import com.coopcredit.credit.domain.policy.rule.RuleDefinition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para RecargaPoliticasService.
+ * Verifica la publicación de la última versión almacenada y de las reglas declarativas.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecargaPoliticasService Tests")
+class RecargaPoliticasServiceTest {
+
+    @Mock
+    private ParametrosPoliticaRepositoryPort parametrosRepository;
+
+    @Mock
+    private ReglaCreditoRepositoryPort reglaRepository;
+
+    private PolicySnapshotHolder politicas;
+    private CreditPolicyEvaluator policyEvaluator;
+    private RecargaPoliticasService recargaService;
+
+    @BeforeEach
+    void setUp() {
+        politicas = new PolicySnapshotHolder(new PolicySnapshot(0, new BigDecimal("0.40"), 5, 6));
+        policyEvaluator = new CreditPolicyEvaluator(List.of(new RiesgoExternoPolicy()));
+        recargaService = new RecargaPoliticasService(parametrosRepository, reglaRepository, politicas,
+                policyEvaluator, false, Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        recargaService.detener();
+    }
+
+    @Test
+    @DisplayName("Debe publicar una versión almacenada más nueva")
+    void recargar_DebePublicarVersionNueva() {
+        // Given
+        PolicySnapshot v3 = new PolicySnapshot(3, new BigDecimal("0.35"), 4, 12);
+        when(parametrosRepository.buscarUltimaVersion()).thenReturn(Optional.of(v3));
+
+        // When
+        boolean cambio = recargaService.recargar();
+
+        // Then
+        assertThat(cambio).isTrue();
+        assertThat(politicas.current()).isSameAs(v3);
+    }
+
+    @Test
+    @DisplayName("No debe cambiar los parámetros cuando la versión almacenada ya está vigente")
+    void recargar_NoDebeRepublicarVersionVigente() {
+        // Given
+        PolicySnapshot v3 = new PolicySnapshot(3, new BigDecimal("0.35"), 4, 12);
+        politicas.publish(v3);
+        when(parametrosRepository.buscarUltimaVersion())
+                .thenReturn(Optional.of(new PolicySnapshot(3, new BigDecimal("0.35"), 4, 12)));
+
+        // When
+        boolean cambio = recargaService.recargar();
+
+        // Then
+        assertThat(cambio).isFalse();
+        assertThat(politicas.current()).isSameAs(v3);
+    }
+
+    @Test
+    @DisplayName("Debe conservar la configuración cuando no hay versiones almacenadas")
+    void recargar_DebeConservarConfiguracionSinVersiones() {
+        // Given
+        when(parametrosRepository.buscarUltimaVersion()).thenReturn(Optional.empty());
+
+        // When
+        boolean cambio = recargaService.recargar();
+
+        // Then
+        assertThat(cambio).isFalse();
+        assertThat(politicas.current().getVersion()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe publicar las reglas activas en el evaluador una sola vez")
+    void recargarReglas_DebePublicarReglasCambiadas() {
+        // Given
+        RuleDefinition regla = new RuleDefinition("PLAZO_MAXIMO", 40, null, "plazoMeses <= 60",
+                "El plazo excede 60 meses");
+        when(reglaRepository.buscarActivas()).thenReturn(List.of(regla));
+
+        // When
+        boolean primera = recargaService.recargarReglas();
+        boolean segunda = recargaService.recargarReglas();
+
+        // Then
+        assertThat(primera).isTrue();
+        assertThat(segunda).isFalse();
+        assertThat(policyEvaluator.getPolicies())
+                .extracting(CreditPolicy::getPolicyName)
+                .containsExactly("RIESGO_EXTERNO", "PLAZO_MAXIMO");
+    }
+
+    @Test
+    @DisplayName("Debe conservar las reglas publicadas cuando alguna regla es inválida")
+    void recargarReglas_DebeConservarReglasConReglaInvalida() {
+        // Given
+        RuleDefinition valida = new RuleDefinition("PLAZO_MAXIMO", 40, null, "plazoMeses <= 60", "Plazo");
+        RuleDefinition invalida = new RuleDefinition("ROTA", 50, null, "saldoPendiente <= 1", "Rota");
+        when(reglaRepository.buscarActivas())
+                .thenReturn(List.of(valida))
+                .thenReturn(List.of(valida, invalida));
+        recargaService.recargarReglas();
+
+        // When/Then
+        assertThatThrownBy(() -> recargaService.recargarReglas())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("saldoPendiente");
+        assertThat(policyEvaluator.getPolicies())
+                .extracting(CreditPolicy::getPolicyName)
+                .containsExactly("RIESGO_EXTERNO", "PLAZO_MAXIMO");
+    }
+}
@@ -1,9 +1,12 @@
 package com.coopcredit.credit.application.service;
 
 import com.coopcredit.credit.application.dto.CrearSolicitudRequest;
+import com.coopcredit.credit.application.dto.OrdenSolicitudes;
+import com.coopcredit.credit.application.dto.PaginaDTO;
 import com.coopcredit.credit.application.dto.SolicitudCreditoDTO;
 import com.coopcredit.credit.application.mapper.SolicitudCreditoMapper;
 import com.coopcredit.credit.application.port.out.AfiliadoRepositoryPort;
+import com.coopcredit.credit.application.port.out.ConsultaSolicitudesPort;
 import com.coopcredit.credit.application.port.out.SolicitudCreditoRepositoryPort;
 import com.coopcredit.credit.domain.exception.AfiliadoInactivoException;
 import com.coopcredit.credit.domain.exception.AfiliadoNoEncontradoException;
@@ -50,6 +53,9 @@ class SolicitudCreditoServiceTest {
     @Mock
     private SolicitudCreditoMapper solicitudMapper;
 
+    @Mock
+    private ConsultaSolicitudesPort consultaSolicitudes;
+
     @InjectMocks
     private SolicitudCreditoService solicitudCreditoService;
 
@@ -211,31 +217,27 @@ class SolicitudCreditoServiceTest {
     class ListarTodasTests {
 
         @Test
-        @DisplayName("Debe retornar lista de solicitudes")
+        @DisplayName("Debe retornar la proyección de solicitudes sin pasar por el dominio")
         void listarTodas_DebeRetornarListaDeSolicitudes() {
             // Given
-            SolicitudCredito solicitud2 = new SolicitudCredito();
-            solicitud2.setId(2L);
-            solicitud2.setAfiliado(afiliadoActivo);
-            solicitud2.setMonto(new BigDecimal("3000000"));
-            solicitud2.setEstado(EstadoSolicitud.APROBADO);
+            SolicitudCreditoDTO fila2 = SolicitudCreditoDTO.builder().id(2L).estado(EstadoSolicitud.APROBADO).build();
 
-            when(solicitudRepository.listarTodas()).thenReturn(Arrays.asList(solicitudPendiente, solicitud2));
-            when(solicitudMapper.toDTO(any(SolicitudCredito.class))).thenReturn(solicitudDTO);
+            when(consultaSolicitudes.listarTodas()).thenReturn(Arrays.asList(solicitudDTO, fila2));
 
             // When
             List<SolicitudCreditoDTO> resultado = solicitudCreditoService.listarTodas();
 
             // Then
-            assertThat(resultado).hasSize(2);
-            verify(solicitudRepository).listarTodas();
+            assertThat(resultado).containsExactly(solicitudDTO, fila2);
+            verify(consultaSolicitudes).listarTodas();
+            verifyNoInteractions(solicitudRepository, solicitudMapper);
         }
 
         @Test
         @DisplayName("Debe retornar lista vacía cuando no hay solicitudes")
         void listarTodas_DebeRetornarListaVacia() {
             // Given
-            when(solicitudRepository.listarTodas()).thenReturn(List.of());
+            when(consultaSolicitudes.listarTodas()).thenReturn(List.of());
 
             // When
             List<SolicitudCreditoDTO> resultado = solicitudCreditoService.listarTodas();
@@ -245,6 +247,60 @@ class SolicitudCreditoServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Tests para listarPagina()")
+    class ListarPaginaTests {
+
+        @Test
+        @DisplayName("Debe pedir una fila extra y retornar el cursor de la página siguiente")
+        void listarPagina_DebeRetornarCursorCuandoHayMasFilas() {
+            // Given
+            SolicitudCreditoDTO fila1 = SolicitudCreditoDTO.builder().id(1L).build();
+            SolicitudCreditoDTO fila2 = SolicitudCreditoDTO.builder().id(2L).build();
+            SolicitudCreditoDTO fila3 = SolicitudCreditoDTO.builder().id(3L).build();
+
+            when(consultaSolicitudes.listarPagina(null, 3, OrdenSolicitudes.ID))
+                    .thenReturn(List.of(fila1, fila2, fila3));
+
+            // When
+            PaginaDTO<SolicitudCreditoDTO> pagina = solicitudCreditoService.listarPagina(null, 2, OrdenSolicitudes.ID);
+
+            // Then
+            assertThat(pagina.getItems()).containsExactly(fila1, fila2);
+            assertThat(pagina.getSiguiente()).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("Debe retornar cursor null en la última página")
+        void listarPagina_DebeRetornarCursorNullEnUltimaPagina() {
+            // Given
+            when(consultaSolicitudes.listarPagina(1L, 3, OrdenSolicitudes.FECHA_SOLICITUD))
+                    .thenReturn(List.of(solicitudDTO));
+
+            // When
+            PaginaDTO<SolicitudCreditoDTO> pagina = solicitudCreditoService.listarPagina(1L, 2, OrdenSolicitudes.FECHA_SOLICITUD);
+
+            // Then
+            assertThat(pagina.getItems()).containsExactly(solicitudDTO);
+            assertThat(pagina.getSiguiente()).isNull();
+        }
+
+        @Test
+        @DisplayName("Debe acotar el límite al máximo permitido")
+        void listarPagina_DebeAcotarLimite() {
+            // Given
+            when(consultaSolicitudes.listarPagina(null, PaginaDTO.LIMITE_MAXIMO + 1, OrdenSolicitudes.ID))
+                    .thenReturn(List.of());
+
+            // When
+            PaginaDTO<SolicitudCreditoDTO> pagina = solicitudCreditoService.listarPagina(null, 100_000, OrdenSolicitudes.ID);
+
+            // Then
+            assertThat(pagina.getItems()).isEmpty();
+            verify(consultaSolicitudes).listarPagina(null, PaginaDTO.LIMITE_MAXIMO + 1, OrdenSolicitudes.ID);
+        }
+    }
+
     @Nested
     @DisplayName("Tests para listarPorAfiliado()")
     class ListarPorAfiliadoTests {
@@ -253,15 +309,14 @@ class SolicitudCreditoServiceTest {
         @DisplayName("Debe retornar solicitudes del afiliado")
         void listarPorAfiliado_DebeRetornarSolicitudesDelAfiliado() {
             // Given
-            when(solicitudRepository.listarPorAfiliado(1L)).thenReturn(List.of(solicitudPendiente));
-            when(solicitudMapper.toDTO(any(SolicitudCredito.class))).thenReturn(solicitudDTO);
+            when(consultaSolicitudes.listarPorAfiliado(1L)).thenReturn(List.of(solicitudDTO));
 
             // When
             List<SolicitudCreditoDTO> resultado = solicitudCreditoService.listarPorAfiliado(1L);
 
             // Then
-            assertThat(resultado).hasSize(1);
-            verify(solicitudRepository).listarPorAfiliado(1L);
+            assertThat(resultado).containsExactly(solicitudDTO);
+            verify(consultaSolicitudes).listarPorAfiliado(1L);
         }
     }
 
@@ -273,23 +328,22 @@ class SolicitudCreditoServiceTest {
         @DisplayName("Debe retornar solicitudes por estado PENDIENTE")
         void listarPorEstado_DebeRetornarSolicitudesPendientes() {
             // Given
-            when(solicitudRepository.listarPorEstado(EstadoSolicitud.PENDIENTE))
-                    .thenReturn(List.of(solicitudPendiente));
-            when(solicitudMapper.toDTO(any(SolicitudCredito.class))).thenReturn(solicitudDTO);
+            when(consultaSolicitudes.listarPorEstado(EstadoSolicitud.PENDIENTE))
+                    .thenReturn(List.of(solicitudDTO));
 
             // When
             List<SolicitudCreditoDTO> resultado = solicitudCreditoService.listarPorEstado(EstadoSolicitud.PENDIENTE);
 
             // Then
             assertThat(resultado).hasSize(1);
-            verify(solicitudRepository).listarPorEstado(EstadoSolicitud.PENDIENTE);
+            verify(consultaSolicitudes).listarPorEstado(EstadoSolicitud.PENDIENTE);
         }
 
         @Test
         @DisplayName("Debe retornar lista vacía cuando no hay solicitudes con el estado")
         void listarPorEstado_DebeRetornarListaVaciaCuandoNoHay() {
             // Given
-            when(solicitudRepository.listarPorEstado(EstadoSolicitud.RECHAZADO))
+            when(consultaSolicitudes.listarPorEstado(EstadoSolicitud.RECHAZADO))
                     .thenReturn(List.of());
 
             // When
@@ -0,0 +1,371 @@
+package com.coopcredit.credit.carga;
+
+import com.coopcredit.credit.TestcontainersConfiguration;
+import com.coopcredit.credit.domain.model.Rol;
+import com.coopcredit.credit.infrastructure.adapter.out.persistence.entity.UsuarioEntity;
+import com.coopcredit.credit.infrastructure.adapter.out.persistence.repository.UsuarioJpaRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Prueba de carga end-to-end: la aplicación completa sobre PostgreSQL (Testcontainers)
+ * y un Risk Central en proceso, con tráfico mixto de login, creación de afiliados y
+ * solicitudes, evaluación y listado.
+ *
+ * No se ejecuta en el build normal. Para lanzarla (solo requiere Docker con la imagen
+ * postgres:16-alpine disponible localmente):
+ * {@code mvn test -Dtest=PruebaCargaTest -Dcarga.habilitada=true}
+ *
+ * Parámetros opcionales:
+ * <ul>
+ *   <li>{@code carga.concurrencia} (16): clientes simultáneos.</li>
+ *   <li>{@code carga.duracion-segundos} (60) y {@code carga.calentamiento-segundos} (10).</li>
+ *   <li>{@code carga.mezcla}: pesos por operación, por defecto
+ *       {@code login=10,crear-afiliado=10,crear-solicitud=30,evaluar=20,listar=30}.</li>
+ *   <li>{@code carga.importacion-filas} (500): filas NDJSON por petición de la operación {@code importar},
+ *       que no está en la mezcla por defecto.</li>
+ *   <li>{@code carga.reporte-dir} (target/carga): destino de reporte-carga.json y reporte-carga.html.</li>
+ * </ul>
+ */
+@EnabledIfSystemProperty(named = "carga.habilitada", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.root=WARN",
+        "logging.level.com.coopcredit.credit=WARN"
+})
+@Import(TestcontainersConfiguration.class)
+@ActiveProfiles("test")
+@DisplayName("Prueba de carga end-to-end")
+class PruebaCargaTest {
+
+    private static final String USUARIO = "carga-admin";
+    private static final String PASSWORD = "carga123";
+    private static final String MEZCLA_POR_DEFECTO = "login=10,crear-afiliado=10,crear-solicitud=30,evaluar=20,listar=30";
+
+    private static RiskCentralMockEmbebido riskCentral;
+
+    private final int concurrencia = Integer.getInteger("carga.concurrencia", 16);
+    private final int duracionSegundos = Integer.getInteger("carga.duracion-segundos", 60);
+    private final int calentamientoSegundos = Integer.getInteger("carga.calentamiento-segundos", 10);
+    private final int importacionFilas = Integer.getInteger("carga.importacion-filas", 500);
+    private final Path reporteDir = Path.of(System.getProperty("carga.reporte-dir", "target/carga"));
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final RegistroLatencias registro = new RegistroLatencias();
+    private final List<Long> afiliados = Collections.synchronizedList(new ArrayList<>());
+    private final Queue<Long> solicitudesPendientes = new ConcurrentLinkedQueue<>();
+    private final AtomicLong documentos = new AtomicLong(System.currentTimeMillis() * 100);
+
+    @LocalServerPort
+    private int puerto;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UsuarioJpaRepository usuarioRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private Map<Operacion, Integer> mezcla;
+    private int pesoTotal;
+    private volatile String token;
+
+    @DynamicPropertySource
+    static void propiedadesRiskCentral(DynamicPropertyRegistry registry) {
+        riskCentral = RiskCentralMockEmbebido.iniciar();
+        registry.add("coopcredit.risk-central.url", riskCentral::getUrl);
+    }
+
+    @AfterAll
+    static void detenerRiskCentral() {
+        if (riskCentral != null) {
+            riskCentral.detener();
+        }
+    }
+
+    @Test
+    @DisplayName("Tráfico mixto con concurrencia configurable y reporte de latencias por endpoint")
+    void cargaMixta() throws Exception {
+        // Given
+        mezcla = leerMezcla(System.getProperty("carga.mezcla", MEZCLA_POR_DEFECTO));
+        pesoTotal = mezcla.values().stream().mapToInt(Integer::intValue).sum();
+        crearUsuario();
+        token = login();
+        assertThat(token).as("login inicial").isNotBlank();
+
+        ejecutarFase(calentamientoSegundos);
+        registro.reiniciar();
+
+        // When
+        long inicio = System.nanoTime();
+        ejecutarFase(duracionSegundos);
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+
+        // Then
+        ReporteCarga reporte = new ReporteCarga(registro.resumir(segundos), concurrencia, segundos);
+        reporte.escribir(reporteDir, objectMapper);
+        System.out.println(reporte.resumenTexto());
+        System.out.println("Reporte en " + reporteDir.toAbsolutePath());
+
+        assertThat(reporte.totalPeticiones()).isPositive();
+    }
+
+    private void ejecutarFase(int segundos) throws InterruptedException {
+        long fin = System.nanoTime() + TimeUnit.SECONDS.toNanos(segundos);
+        ExecutorService clientes = Executors.newFixedThreadPool(concurrencia);
+        for (int i = 0; i < concurrencia; i++) {
+            clientes.execute(() -> {
+                while (System.nanoTime() < fin && !Thread.currentThread().isInterrupted()) {
+                    ejecutar(elegirOperacion());
+                }
+            });
+        }
+        clientes.shutdown();
+        if (!clientes.awaitTermination(segundos + 60L, TimeUnit.SECONDS)) {
+            clientes.shutdownNow();
+        }
+    }
+
+    private Operacion elegirOperacion() {
+        int valor = ThreadLocalRandom.current().nextInt(pesoTotal);
+        for (Map.Entry<Operacion, Integer> entrada : mezcla.entrySet()) {
+            valor -= entrada.getValue();
+            if (valor < 0) {
+                return entrada.getKey();
+            }
+        }
+        return Operacion.LISTAR;
+    }
+
+    private void ejecutar(Operacion operacion) {
+        switch (operacion) {
+            case LOGIN -> login();
+            case CREAR_AFILIADO -> crearAfiliado();
+            case IMPORTAR -> importar();
+            case CREAR_SOLICITUD -> crearSolicitud();
+            case EVALUAR -> evaluar();
+            case LISTAR -> listar();
+        }
+    }
+
+    private String login() {
+        JsonNode response = enviar(Operacion.LOGIN, post("/auth/login",
+                Map.of("username", USUARIO, "password", PASSWORD), false));
+        return response != null ? response.path("token").asText() : null;
+    }
+
+    private void crearAfiliado() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("documento", String.valueOf(documentos.incrementAndGet()));
+        body.put("nombre", "Afiliado Carga");
+        body.put("salario", BigDecimal.valueOf(1_500_000 + random.nextInt(8_500_000)));
+        body.put("fechaAfiliacion", LocalDate.now().minusMonths(6 + random.nextInt(120)).toString());
+        body.put("estado", "ACTIVO");
+
+        JsonNode response = enviar(Operacion.CREAR_AFILIADO, post("/api/afiliados", body, true));
+        if (response != null) {
+            afiliados.add(response.path("id").asLong());
+        }
+    }
+
+    private void importar() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder ndjson = new StringBuilder();
+        try {
+            for (int i = 0; i < importacionFilas; i++) {
+                Map<String, Object> fila = new LinkedHashMap<>();
+                fila.put("documento", String.valueOf(documentos.incrementAndGet()));
+                fila.put("nombre", "Afiliado Importado");
+                fila.put("salario", BigDecimal.valueOf(1_500_000 + random.nextInt(8_500_000)));
+                fila.put("fechaAfiliacion", LocalDate.now().minusMonths(6 + random.nextInt(120)).toString());
+                fila.put("estado", "ACTIVO");
+                ndjson.append(objectMapper.writeValueAsString(fila)).append('\n');
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        enviar(Operacion.IMPORTAR, request("/api/afiliados/importar?format=ndjson", true)
+                .header("Content-Type", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofString(ndjson.toString()))
+                .build());
+    }
+
+    private void crearSolicitud() {
+        Long afiliadoId = afiliadoAleatorio();
+        if (afiliadoId == null) {
+            crearAfiliado();
+            return;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int[] plazos = {12, 24, 36, 48, 60};
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("afiliadoId", afiliadoId);
+        body.put("monto", BigDecimal.valueOf((1 + random.nextInt(300)) * 100_000L));
+        body.put("plazoMeses", plazos[random.nextInt(plazos.length)]);
+        body.put("tasaPropuesta", BigDecimal.valueOf(8 + random.nextDouble() * 20).setScale(2, RoundingMode.HALF_UP));
+
+        JsonNode response = enviar(Operacion.CREAR_SOLICITUD, post("/api/solicitudes", body, true));
+        if (response != null) {
+            solicitudesPendientes.offer(response.path("id").asLong());
+        }
+    }
+
+    private void evaluar() {
+        Long solicitudId = solicitudesPendientes.poll();
+        if (solicitudId == null) {
+            crearSolicitud();
+            return;
+        }
+        enviar(Operacion.EVALUAR, post("/api/solicitudes/" + solicitudId + "/evaluar", null, true));
+    }
+
+    private void listar() {
+        String orden = ThreadLocalRandom.current().nextBoolean() ? "ID" : "FECHA_SOLICITUD";
+        enviar(Operacion.LISTAR, request("/api/solicitudes?limit=50&orden=" + orden, true).GET().build());
+    }
+
+    private Long afiliadoAleatorio() {
+        synchronized (afiliados) {
+            return afiliados.isEmpty() ? null : afiliados.get(ThreadLocalRandom.current().nextInt(afiliados.size()));
+        }
+    }
+
+    private HttpRequest post(String ruta, Object body, boolean autenticado) {
+        try {
+            HttpRequest.BodyPublisher publisher = body != null
+                    ? HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body))
+                    : HttpRequest.BodyPublishers.noBody();
+            return request(ruta, autenticado)
+                    .header("Content-Type", "application/json")
+                    .POST(publisher)
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest.Builder request(String ruta, boolean autenticado) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + puerto + ruta))
+                .timeout(Duration.ofSeconds(30));
+        if (autenticado) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    /**
+     * Envía la petición y registra su latencia. Retorna el cuerpo JSON si fue
+     * exitosa, o null si falló.
+     */
+    private JsonNode enviar(Operacion operacion, HttpRequest request) {
+        long inicio = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            boolean exitosa = response.statusCode() < 400;
+            registro.registrar(operacion.endpoint, System.nanoTime() - inicio, exitosa);
+            return exitosa ? objectMapper.readTree(response.body()) : null;
+        } catch (IOException e) {
+            registro.registrar(operacion.endpoint, System.nanoTime() - inicio, false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private void crearUsuario() {
+        if (usuarioRepository.findByUsername(USUARIO).isEmpty()) {
+            usuarioRepository.save(UsuarioEntity.builder()
+                    .username(USUARIO)
+                    .password(passwordEncoder.encode(PASSWORD))
+                    .email("carga@test.com")
+                    .roles(Set.of(Rol.ROLE_ADMIN))
+                    .build());
+        }
+    }
+
+    private static Map<Operacion, Integer> leerMezcla(String valor) {
+        Map<Operacion, Integer> mezcla = new LinkedHashMap<>();
+        for (String entrada : valor.split(",")) {
+            String[] partes = entrada.trim().split("=");
+            int peso = Integer.parseInt(partes[1].trim());
+            if (peso > 0) {
+                mezcla.put(Operacion.desde(partes[0].trim()), peso);
+            }
+        }
+        if (mezcla.isEmpty()) {
+            throw new IllegalArgumentException("carga.mezcla no tiene operaciones con peso: " + valor);
+        }
+        return mezcla;
+    }
+
+    private enum Operacion {
+        LOGIN("login", "POST /auth/login"),
+        CREAR_AFILIADO("crear-afiliado", "POST /api/afiliados"),
+        IMPORTAR("importar", "POST /api/afiliados/importar"),
+        CREAR_SOLICITUD("crear-solicitud", "POST /api/solicitudes"),
+        EVALUAR("evaluar", "POST /api/solicitudes/{id}/evaluar"),
+        LISTAR("listar", "GET /api/solicitudes");
+
+        private final String clave;
+        private final String endpoint;
+
+        Operacion(String clave, String endpoint) {
+            this.clave = clave;
+            this.endpoint = endpoint;
+        }
+
+        static Operacion desde(String clave) {
+            for (Operacion operacion : values()) {
+                if (operacion.clave.equals(clave)) {
+                    return operacion;
+                }
+            }
+            throw new IllegalArgumentException("Operación de carga desconocida: " + clave);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.coopcredit.credit.carga;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registra latencias y errores por endpoint durante una prueba de carga.
+ */
+final class RegistroLatencias {
+
+    private final Map<String, Serie> series = new ConcurrentHashMap<>();
+
+    void registrar(String endpoint, long nanos, boolean exitosa) {
+        series.computeIfAbsent(endpoint, e -> new Serie()).agregar(nanos, exitosa);
+    }
+
+    void reiniciar() {
+        series.clear();
+    }
+
+    /**
+     * Resumen por endpoint, ordenado por nombre.
+     */
+    Map<String, Resumen> resumir(double duracionSegundos) {
+        Map<String, Resumen> resumen = new TreeMap<>();
+        series.forEach((endpoint, serie) -> resumen.put(endpoint, serie.resumir(duracionSegundos)));
+        return resumen;
+    }
+
+    private static final class Serie {
+        private long[] latencias = new long[1024];
+        private int total;
+        private int errores;
+
+        synchronized void agregar(long nanos, boolean exitosa) {
+            if (total == latencias.length) {
+                latencias = Arrays.copyOf(latencias, total * 2);
+            }
+            latencias[total++] = nanos;
+            if (!exitosa) {
+                errores++;
+            }
+        }
+
+        synchronized Resumen resumir(double duracionSegundos) {
+            long[] ordenadas = Arrays.copyOf(latencias, total);
+            Arrays.sort(ordenadas);
+            double suma = 0;
+            for (long latencia : ordenadas) {
+                suma += latencia;
+            }
+            return new Resumen(total, errores, total / duracionSegundos,
+                    milisegundos(percentil(ordenadas, 50)),
+                    milisegundos(percentil(ordenadas, 95)),
+                    milisegundos(percentil(ordenadas, 99)),
+                    milisegundos(total > 0 ? ordenadas[total - 1] : 0),
+                    total > 0 ? milisegundos(suma / total) : 0);
+        }
+
+        private static long percentil(long[] ordenadas, double percentil) {
+            if (ordenadas.length == 0) {
+                return 0;
+            }
+            int indice = (int) Math.ceil(percentil / 100 * ordenadas.length) - 1;
+            return ordenadas[Math.max(0, indice)];
+        }
+
+        private static double milisegundos(double nanos) {
+            return Math.round(nanos / 10_000) / 100.0;
+        }
+    }
+
+    /**
+     * Métricas de un endpoint; latencias en milisegundos y throughput en peticiones por segundo.
+     */
+    static final class Resumen {
+        private final int peticiones;
+        private final int errores;
+        private final double throughput;
+        private final double p50;
+        private final double p95;
+        private final double p99;
+        private final double max;
+        private final double media;
+
+        Resumen(int peticiones, int errores, double throughput,
+                double p50, double p95, double p99, double max, double media) {
+            this.peticiones = peticiones;
+            this.errores = errores;
+            this.throughput = Math.round(throughput * 100) / 100.0;
+            this.p50 = p50;
+            this.p95 = p95;
+            this.p99 = p99;
+            this.max = max;
+            this.media = media;
+        }
+
+        public int getPeticiones() {
+            return peticiones;
+        }
+
+        public int getErrores() {
+            return errores;
+        }
+
+        public double getThroughput() {
+            return throughput;
+        }
+
+        public double getP50() {
+            return p50;
+        }
+
+        public double getP95() {
+            return p95;
+        }
+
+        public double getP99() {
+            return p99;
+        }
+
+        public double getMax() {
+            return max;
+        }
+
+        public double getMedia() {
+            return media;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.coopcredit.credit.carga;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Escribe el resultado de una prueba de carga en JSON (para comparar corridas) y HTML.
+ */
+final class ReporteCarga {
+
+    private final Map<String, RegistroLatencias.Resumen> endpoints;
+    private final int concurrencia;
+    private final double duracionSegundos;
+
+    ReporteCarga(Map<String, RegistroLatencias.Resumen> endpoints, int concurrencia, double duracionSegundos) {
+        this.endpoints = endpoints;
+        this.concurrencia = concurrencia;
+        this.duracionSegundos = duracionSegundos;
+    }
+
+    int totalPeticiones() {
+        return endpoints.values().stream().mapToInt(RegistroLatencias.Resumen::getPeticiones).sum();
+    }
+
+    int totalErrores() {
+        return endpoints.values().stream().mapToInt(RegistroLatencias.Resumen::getErrores).sum();
+    }
+
+    void escribir(Path directorio, ObjectMapper objectMapper) throws IOException {
+        Files.createDirectories(directorio);
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("fecha", LocalDateTime.now().toString());
+        json.put("concurrencia", concurrencia);
+        json.put("duracionSegundos", duracionSegundos);
+        json.put("peticiones", totalPeticiones());
+        json.put("errores", totalErrores());
+        json.put("throughput", Math.round(totalPeticiones() / duracionSegundos * 100) / 100.0);
+        json.put("endpoints", endpoints);
+        objectMapper.writerWithDefaultPrettyPrinter()
+                .writeValue(directorio.resolve("reporte-carga.json").toFile(), json);
+
+        Files.writeString(directorio.resolve("reporte-carga.html"), html(), StandardCharsets.UTF_8);
+    }
+
+    String resumenTexto() {
+        StringBuilder texto = new StringBuilder(String.format("%-40s %8s %7s %9s %9s %9s %9s%n",
+                "Endpoint", "Total", "Errores", "req/s", "p50 ms", "p95 ms", "p99 ms"));
+        endpoints.forEach((endpoint, r) -> texto.append(String.format("%-40s %8d %7d %9.1f %9.2f %9.2f %9.2f%n",
+                endpoint, r.getPeticiones(), r.getErrores(), r.getThroughput(), r.getP50(), r.getP95(), r.getP99())));
+        return texto.toString();
+    }
+
+    private String html() {
+        StringBuilder filas = new StringBuilder();
+        endpoints.forEach((endpoint, r) -> filas.append(String.format(
+                "<tr><td>%s</td><td>%d</td><td>%d</td><td>%.1f</td><td>%.2f</td><td>%.2f</td><td>%.2f</td><td>%.2f</td><td>%.2f</td></tr>%n",
+                endpoint, r.getPeticiones(), r.getErrores(), r.getThroughput(),
+                r.getP50(), r.getP95(), r.getP99(), r.getMax(), r.getMedia())));
+        return """
+                <!DOCTYPE html>
+                <html lang="es">
+                <head>
+                <meta charset="UTF-8">
+                <title>Prueba de carga - CoopCredit</title>
+                <style>
+                body { font-family: sans-serif; margin: 2rem; }
+                table { border-collapse: collapse; }
+                th, td { border: 1px solid #ccc; padding: 0.4rem 0.8rem; text-align: right; }
+                th:first-child, td:first-child { text-align: left; }
+                </style>
+                </head>
+                <body>
+                <h1>Prueba de carga</h1>
+                <p>Concurrencia: %d &middot; Duración: %.0f s &middot; Peticiones: %d &middot; Errores: %d &middot; Throughput: %.1f req/s</p>
+                <table>
+                <tr><th>Endpoint</th><th>Peticiones</th><th>Errores</th><th>req/s</th><th>p50 ms</th><th>p95 ms</th><th>p99 ms</th><th>máx ms</th><th>media ms</th></tr>
+                %s</table>
+                </body>
+                </html>
+                """.formatted(concurrencia, duracionSegundos, totalPeticiones(), totalErrores(),
+                totalPeticiones() / duracionSegundos, filas);
+    }
+}
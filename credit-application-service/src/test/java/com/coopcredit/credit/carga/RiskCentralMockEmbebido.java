@@ -0,0 +1,105 @@
+package com.coopcredit.credit.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Risk Central en proceso para las pruebas de carga.
+ *
+ * Reproduce el contrato y el cálculo determinístico de risk-central-mock-service
+ * (score por hash del documento, niveles BAJO >= 701, MEDIO >= 501, ALTO) en
+ * {@code POST /risk-evaluation} y {@code POST /risk-evaluation/batch}, sin
+ * levantar un segundo proceso ni depender de la red.
+ */
+final class RiskCentralMockEmbebido {
+
+    private static final int MIN_SCORE = 300;
+    private static final int MAX_SCORE = 950;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private RiskCentralMockEmbebido() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 256);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/risk-evaluation/batch", this::evaluarLote);
+        server.createContext("/risk-evaluation", this::evaluar);
+        server.start();
+    }
+
+    static RiskCentralMockEmbebido iniciar() {
+        try {
+            return new RiskCentralMockEmbebido();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    String getUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    void detener() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    private void evaluar(HttpExchange exchange) throws IOException {
+        JsonNode request = leer(exchange);
+        responder(exchange, respuesta(request));
+    }
+
+    private void evaluarLote(HttpExchange exchange) throws IOException {
+        JsonNode request = leer(exchange);
+        ObjectNode response = objectMapper.createObjectNode();
+        ArrayNode resultados = response.putArray("resultados");
+        for (JsonNode solicitud : request.path("solicitudes")) {
+            resultados.add(respuesta(solicitud));
+        }
+        responder(exchange, response);
+    }
+
+    private ObjectNode respuesta(JsonNode request) {
+        String documento = request.path("documento").asText();
+        int seed = Math.abs(documento.hashCode()) % 1000;
+        int score = MIN_SCORE + (seed * (MAX_SCORE - MIN_SCORE)) / 1000;
+        String nivel = score >= 701 ? "BAJO" : score >= 501 ? "MEDIO" : "ALTO";
+
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("documento", documento);
+        response.put("score", score);
+        response.put("nivelRiesgo", nivel);
+        response.put("detalle", String.format("Evaluación simulada (Score: %d) para monto de $%,.2f a %d meses.",
+                score, request.path("monto").decimalValue(), request.path("plazo").asInt()));
+        return response;
+    }
+
+    private JsonNode leer(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            return objectMapper.readTree(body);
+        }
+    }
+
+    private void responder(HttpExchange exchange, JsonNode body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
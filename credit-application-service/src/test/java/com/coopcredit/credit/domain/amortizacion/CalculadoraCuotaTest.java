@@ -0,0 +1,126 @@
+package com.coopcredit.credit.domain.amortizacion;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitarios para CalculadoraCuota.
+ * Verifica con entradas aleatorias (semilla fija) que el cálculo rápido coincide
+ * al centavo con el cálculo de referencia en BigDecimal.
+ */
+@DisplayName("CalculadoraCuota Tests")
+class CalculadoraCuotaTest {
+
+    private static final long SEMILLA = 20240615L;
+    private static final int[] PLAZOS_HABITUALES = {6, 12, 18, 24, 36, 48, 60, 72, 120, 240, 360};
+
+    @Nested
+    @DisplayName("Coincidencia con el cálculo en BigDecimal")
+    class CoincidenciaTests {
+
+        @Test
+        @DisplayName("Debe coincidir al centavo con tasas y plazos aleatorios")
+        void cuotaMensual_DebeCoincidirConReferencia() {
+            Random random = new Random(SEMILLA);
+            for (int caso = 0; caso < 5_000; caso++) {
+                // Given
+                BigDecimal monto = BigDecimal.valueOf(10_000_000L + (long) (random.nextDouble() * 50_000_000_000L), 2);
+                BigDecimal tasaAnual = BigDecimal.valueOf(random.nextInt(6_001), 2);
+                int plazoMeses = random.nextInt(4) == 0
+                        ? 1 + random.nextInt(360)
+                        : PLAZOS_HABITUALES[random.nextInt(PLAZOS_HABITUALES.length)];
+
+                // When/Then
+                assertMismaCuota(monto, tasaAnual, plazoMeses);
+            }
+        }
+
+        @Test
+        @DisplayName("Debe coincidir al centavo con todas las tasas de la tabla precalculada")
+        void cuotaMensual_DebeCoincidirEnTablaPrecalculada() {
+            BigDecimal monto = new BigDecimal("12345678.91");
+            for (int centesimas = 0; centesimas <= 5_000; centesimas += 25) {
+                for (int plazoMeses : PLAZOS_HABITUALES) {
+                    assertMismaCuota(monto, BigDecimal.valueOf(centesimas, 2), plazoMeses);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Debe coincidir al centavo con factores cercanos al punto medio de redondeo")
+        void calcularFactorE10_DebeCoincidirConReferencia() {
+            Random random = new Random(SEMILLA);
+            for (int caso = 0; caso < 20_000; caso++) {
+                // Given
+                long tasaMensualE10 = 1 + random.nextInt(50_000_000);
+                int plazoMeses = 1 + random.nextInt(120);
+
+                // When/Then
+                assertThat(CalculadoraCuota.calcularFactorE10(tasaMensualE10, plazoMeses))
+                        .as("tasaMensualE10=%d, plazo=%d", tasaMensualE10, plazoMeses)
+                        .isEqualTo(CalculadoraCuota.calcularFactorE10Exacto(tasaMensualE10, plazoMeses));
+            }
+        }
+
+        @Test
+        @DisplayName("Debe coincidir con montos sin decimales, tasas con más de dos decimales y plazos largos")
+        void cuotaMensual_DebeCoincidirEnCasosBorde() {
+            assertMismaCuota(new BigDecimal("10000000"), new BigDecimal("12.00"), 12);
+            assertMismaCuota(new BigDecimal("5000000.00"), new BigDecimal("16.375"), 36);
+            assertMismaCuota(new BigDecimal("5000000.00"), new BigDecimal("0.000000001"), 24);
+            assertMismaCuota(new BigDecimal("5000000.00"), new BigDecimal("0.0000001"), 24);
+            assertMismaCuota(new BigDecimal("999999999999.99"), new BigDecimal("29.99"), 1);
+            assertMismaCuota(new BigDecimal("250000000.00"), new BigDecimal("18.00"), 480);
+            assertMismaCuota(new BigDecimal("1000000.00"), new BigDecimal("250.00"), 600);
+        }
+    }
+
+    @Nested
+    @DisplayName("Casos especiales")
+    class CasosEspecialesTests {
+
+        @Test
+        @DisplayName("Debe retornar el monto cuando el plazo es cero")
+        void cuotaMensual_DebeRetornarMontoCuandoPlazoEsCero() {
+            // Given
+            BigDecimal monto = new BigDecimal("5000000");
+
+            // When
+            BigDecimal cuota = CalculadoraCuota.cuotaMensual(monto, new BigDecimal("15.00"), 0);
+
+            // Then
+            assertThat(cuota).isSameAs(monto);
+        }
+
+        @Test
+        @DisplayName("Debe dividir el monto entre el plazo cuando la tasa es cero")
+        void cuotaMensual_DebeDividirMontoCuandoTasaEsCero() {
+            // When
+            BigDecimal cuota = CalculadoraCuota.cuotaMensual(new BigDecimal("12000000"), BigDecimal.ZERO, 12);
+
+            // Then
+            assertThat(cuota).isEqualTo(new BigDecimal("1000000.00"));
+        }
+
+        @Test
+        @DisplayName("Debe lanzar la misma excepción que el cálculo de referencia con plazo negativo")
+        void cuotaMensual_DebeLanzarExcepcionConPlazoNegativo() {
+            assertThatThrownBy(() -> CalculadoraCuota.cuotaMensual(
+                    new BigDecimal("1000000"), new BigDecimal("12.00"), -1))
+                    .isInstanceOf(ArithmeticException.class);
+        }
+    }
+
+    private static void assertMismaCuota(BigDecimal monto, BigDecimal tasaAnual, int plazoMeses) {
+        assertThat(CalculadoraCuota.cuotaMensual(monto, tasaAnual, plazoMeses))
+                .as("monto=%s, tasa=%s, plazo=%d", monto, tasaAnual, plazoMeses)
+                .isEqualTo(CalculadoraCuota.cuotaMensualExacta(monto, tasaAnual, plazoMeses));
+    }
+}
@@ -0,0 +1,101 @@
+package com.coopcredit.credit.domain.amortizacion;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitarios para PlanAmortizacion y CursorAmortizacion.
+ */
+@DisplayName("PlanAmortizacion Tests")
+class PlanAmortizacionTest {
+
+    @Test
+    @DisplayName("Debe generar un periodo por mes y amortizar exactamente el monto")
+    void cursor_DebeAmortizarElMonto() {
+        // Given
+        PlanAmortizacion plan = PlanAmortizacion.de(new BigDecimal("5000000"), new BigDecimal("15.00"), 24);
+
+        // When
+        CursorAmortizacion cursor = plan.cursor();
+        int periodos = 0;
+        BigDecimal capitalTotal = BigDecimal.ZERO;
+        while (cursor.avanzar()) {
+            periodos++;
+            capitalTotal = capitalTotal.add(cursor.getCapital());
+            assertThat(cursor.getCuota()).isEqualByComparingTo(cursor.getInteres().add(cursor.getCapital()));
+        }
+
+        // Then
+        assertThat(periodos).isEqualTo(24);
+        assertThat(capitalTotal).isEqualByComparingTo("5000000.00");
+        assertThat(cursor.getSaldo()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(cursor.avanzar()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe usar la cuota de las políticas y el interés del saldo en el primer periodo")
+    void cursor_DebeCalcularPrimerPeriodo() {
+        // Given
+        PlanAmortizacion plan = PlanAmortizacion.de(new BigDecimal("5000000"), new BigDecimal("15.00"), 24);
+
+        // When
+        CursorAmortizacion cursor = plan.cursor();
+        cursor.avanzar();
+
+        // Then
+        assertThat(plan.getCuotaMensual())
+                .isEqualTo(CalculadoraCuota.cuotaMensual(new BigDecimal("5000000"), new BigDecimal("15.00"), 24));
+        assertThat(cursor.getPeriodo()).isEqualTo(1);
+        assertThat(cursor.getCuota()).isEqualTo(new BigDecimal("242433.24"));
+        assertThat(cursor.getInteres()).isEqualTo(new BigDecimal("62500.00"));
+        assertThat(cursor.getCapital()).isEqualTo(new BigDecimal("179933.24"));
+        assertThat(cursor.getSaldo()).isEqualTo(new BigDecimal("4820066.76"));
+    }
+
+    @Test
+    @DisplayName("Debe ajustar en el último periodo los centavos del redondeo cuando la tasa es cero")
+    void cursor_DebeAjustarUltimoPeriodoSinInteres() {
+        // Given
+        CursorAmortizacion cursor = PlanAmortizacion.de(new BigDecimal("1000000"), BigDecimal.ZERO, 3).cursor();
+
+        // When
+        cursor.avanzar();
+        cursor.avanzar();
+        cursor.avanzar();
+
+        // Then
+        assertThat(cursor.getInteres()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(cursor.getCuota()).isEqualTo(new BigDecimal("333333.34"));
+        assertThat(cursor.getSaldo()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("Debe generar planes largos de montos altos sin desbordar")
+    void cursor_DebeGenerarPlanLargo() {
+        // Given
+        CursorAmortizacion cursor = PlanAmortizacion.de(
+                new BigDecimal("9999999999999.99"), new BigDecimal("36.00"), 360).cursor();
+
+        // When
+        BigDecimal capitalTotal = BigDecimal.ZERO;
+        while (cursor.avanzar()) {
+            capitalTotal = capitalTotal.add(cursor.getCapital());
+        }
+
+        // Then
+        assertThat(cursor.getPeriodo()).isEqualTo(360);
+        assertThat(capitalTotal).isEqualByComparingTo("9999999999999.99");
+    }
+
+    @Test
+    @DisplayName("Debe rechazar plazos no positivos")
+    void de_DebeRechazarPlazoInvalido() {
+        assertThatThrownBy(() -> PlanAmortizacion.de(new BigDecimal("1000000"), new BigDecimal("12.00"), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
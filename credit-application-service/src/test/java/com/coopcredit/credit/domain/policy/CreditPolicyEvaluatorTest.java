@@ -0,0 +1,310 @@
+package com.coopcredit.credit.domain.policy;
+
+import com.coopcredit.credit.domain.model.Afiliado;
+import com.coopcredit.credit.domain.model.EstadoAfiliado;
+import com.coopcredit.credit.domain.model.NivelRiesgo;
+import com.coopcredit.credit.domain.model.SolicitudCredito;
+import com.coopcredit.credit.domain.policy.impl.RiesgoExternoPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitarios para CreditPolicyEvaluator.
+ * Verifica los modos de evaluación, el contexto de riesgo externo y la medición por política.
+ */
+@DisplayName("CreditPolicyEvaluator Tests")
+class CreditPolicyEvaluatorTest {
+
+    private ExecutorService executor;
+    private PolicyEvaluationContext contexto;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(3);
+        Afiliado afiliado = new Afiliado(1L, "123456789", "Juan Pérez", new BigDecimal("3000000"),
+                LocalDate.now().minusMonths(12), EstadoAfiliado.ACTIVO);
+        SolicitudCredito solicitud = new SolicitudCredito();
+        solicitud.setAfiliado(afiliado);
+        solicitud.setMonto(new BigDecimal("5000000"));
+        solicitud.setPlazoMeses(24);
+        solicitud.setTasaPropuesta(new BigDecimal("15.00"));
+        contexto = PolicyEvaluationContext.of(solicitud, afiliado);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("Modos de evaluación")
+    class ModosTests {
+
+        @Test
+        @DisplayName("FULL debe evaluar todas las políticas una sola vez y reunir los motivos")
+        void evaluate_FullDebeEvaluarTodas() {
+            // Given
+            PoliticaFija falla10 = new PoliticaFija("A", 10, false);
+            PoliticaFija pasa20 = new PoliticaFija("B", 20, true);
+            PoliticaFija falla30 = new PoliticaFija("C", 30, false);
+            CreditPolicyEvaluator evaluator = new CreditPolicyEvaluator(List.of(falla30, pasa20, falla10));
+
+            // When
+            PolicyEvaluationReport reporte = evaluator.evaluate(contexto, EvaluationMode.FULL);
+
+            // Then
+            assertThat(reporte.isApproved()).isFalse();
+            assertThat(reporte.isComplete()).isTrue();
+            assertThat(reporte.getResults()).extracting(PolicyEvaluationResult::getPolicyName)
+                    .containsExactly("A", "B", "C");
+            assertThat(reporte.getFailureReasons()).containsExactly("A rechazada", "C rechazada");
+            assertThat(falla10.llamadas.get() + pasa20.llamadas.get() + falla30.llamadas.get()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("FAIL_FAST debe detenerse al terminar el primer nivel de prioridad rechazado")
+        void evaluate_FailFastDebeDetenerse() {
+            // Given
+            PoliticaFija falla10 = new PoliticaFija("A", 10, false);
+            PoliticaFija pasa10 = new PoliticaFija("B", 10, true);
+            PoliticaFija pasa20 = new PoliticaFija("C", 20, true);
+            CreditPolicyEvaluator evaluator = new CreditPolicyEvaluator(List.of(falla10, pasa10, pasa20));
+
+            // When
+            PolicyEvaluationReport reporte = evaluator.evaluate(contexto, EvaluationMode.FAIL_FAST);
+
+            // Then
+            assertThat(reporte.isApproved()).isFalse();
+            assertThat(reporte.isComplete()).isFalse();
+            assertThat(reporte.getResults()).extracting(PolicyEvaluationResult::getPolicyName)
+                    .containsExactly("A", "B");
+            assertThat(pasa20.llamadas.get()).isZero();
+        }
+
+        @Test
+        @DisplayName("PARALLEL debe evaluar las políticas simultáneamente y respetar el orden de prioridad")
+        void evaluate_ParallelDebeEvaluarEnParalelo() {
+            // Given: cada política espera a que las tres hayan comenzado
+            CountDownLatch iniciadas = new CountDownLatch(3);
+            List<CreditPolicy> politicas = List.of(
+                    new PoliticaConEspera("C", 30, iniciadas),
+                    new PoliticaConEspera("A", 10, iniciadas),
+                    new PoliticaConEspera("B", 20, iniciadas));
+            CreditPolicyEvaluator evaluator = new CreditPolicyEvaluator(
+                    politicas, PolicyExecutionListener.NO_OP, EvaluationMode.PARALLEL, executor);
+
+            // When
+            PolicyEvaluationReport reporte = evaluator.evaluate(contexto);
+
+            // Then
+            assertThat(reporte.isApproved()).isTrue();
+            assertThat(reporte.getResults()).extracting(PolicyEvaluationResult::getPolicyName)
+                    .containsExactly("A", "B", "C");
+        }
+
+        @Test
+        @DisplayName("PARALLEL debe propagar la excepción de una política")
+        void evaluate_ParallelDebePropagarExcepcion() {
+            // Given
+            CreditPolicy conError = new PoliticaFija("X", 10, true) {
+                @Override
+                public PolicyEvaluationResult evaluate(SolicitudCredito solicitud, Afiliado afiliado) {
+                    throw new IllegalStateException("fallo en política");
+                }
+            };
+            CreditPolicyEvaluator evaluator = new CreditPolicyEvaluator(
+                    List.of(conError, new PoliticaFija("Y", 20, true)),
+                    PolicyExecutionListener.NO_OP, EvaluationMode.PARALLEL, executor);
+
+            // When/Then
+            assertThatThrownBy(() -> evaluator.evaluate(contexto))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("fallo en política");
+        }
+    }
+
+    @Nested
+    @DisplayName("Pool del modo PARALLEL")
+    class PoolParaleloTests {
+
+        @Test
+        @DisplayName("No debe crear el pool propio mientras no se evalúe en PARALLEL")
+        void evaluate_NoDebeCrearPoolSinModoParalelo() {
+            // Given
+            CreditPolicyEvaluator evaluator = new CreditPolicyEvaluator(
+                    List.of(new PoliticaFija("A", 10, true), new PoliticaFija("B", 20, true)),
+                    PolicyExecutionListener.NO_OP, EvaluationMode.FULL, 2);
+
+            // When
+            evaluator.evaluate(contexto);
+            evaluator.evaluate(contexto, EvaluationMode.FAIL_FAST);
+
+            // Then
+            assertThat(ReflectionTestUtils.getField(evaluator, "executor")).isNull();
+            evaluator.shutdown();
+        }
+
+        @Test
+        @DisplayName("Debe crear el pool propio en la primera evaluación PARALLEL")
+        void evaluate_DebeCrearPoolEnPrimeraEvaluacionParalela() {
+            // Given
+            Map<String, String> hilos = new ConcurrentHashMap<>();
+            CreditPolicyEvaluator evaluator = new CreditPolicyEvaluator(
+                    List.of(new PoliticaConHilo("A", 10, hilos), new PoliticaConHilo("B", 20, hilos)),
+                    PolicyExecutionListener.NO_OP, EvaluationMode.PARALLEL, 2);
+
+            // When
+            PolicyEvaluationReport reporte = evaluator.evaluate(contexto);
+            evaluator.shutdown();
+
+            // Then
+            assertThat(reporte.isApproved()).isTrue();
+            assertThat(hilos.values()).hasSize(2).allMatch(hilo -> hilo.startsWith("politicas-credito-"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Contexto y métricas")
+    class ContextoTests {
+
+        @Test
+        @DisplayName("Debe evaluar el riesgo externo del contexto con RiesgoExternoPolicy")
+        void evaluate_DebeUsarRiesgoExterno() {
+            // Given
+            CreditPolicyEvaluator evaluator = new CreditPolicyEvaluator(List.of(new RiesgoExternoPolicy()));
+
+            // When
+            PolicyEvaluationReport sinRiesgo = evaluator.evaluate(contexto);
+            PolicyEvaluationReport riesgoAlto = evaluator.evaluate(contexto.withExternalRisk(NivelRiesgo.ALTO, 400));
+
+            // Then
+            assertThat(sinRiesgo.isApproved()).isTrue();
+            assertThat(riesgoAlto.isApproved()).isFalse();
+            assertThat(riesgoAlto.getFailureReasons()).singleElement().asString().contains("ALTO (400)");
+        }
+
+        @Test
+        @DisplayName("Debe publicar el tiempo de cada política por nombre")
+        void evaluate_DebePublicarTiempoPorPolitica() {
+            // Given
+            Map<String, Boolean> publicadas = new ConcurrentHashMap<>();
+            PolicyExecutionListener listener = (nombre, nanos, aprobada) -> {
+                assertThat(nanos).isNotNegative();
+                publicadas.put(nombre, aprobada);
+            };
+            CreditPolicyEvaluator evaluator = new CreditPolicyEvaluator(
+                    List.of(new PoliticaFija("A", 10, true), new PoliticaFija("B", 20, false)),
+                    listener, EvaluationMode.FULL, null);
+
+            // When
+            evaluator.evaluate(contexto);
+
+            // Then
+            assertThat(publicadas).containsExactlyInAnyOrderEntriesOf(Map.of("A", true, "B", false));
+        }
+
+        @Test
+        @DisplayName("El reporte debe ser inmutable")
+        void evaluate_ReporteInmutable() {
+            // Given
+            CreditPolicyEvaluator evaluator = new CreditPolicyEvaluator(List.of(new PoliticaFija("A", 10, true)));
+
+            // When
+            PolicyEvaluationReport reporte = evaluator.evaluate(contexto);
+
+            // Then
+            assertThatThrownBy(() -> reporte.getResults().clear())
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
+    private static class PoliticaFija implements CreditPolicy {
+
+        private final String nombre;
+        private final int prioridad;
+        private final boolean aprueba;
+        final AtomicInteger llamadas = new AtomicInteger();
+
+        PoliticaFija(String nombre, int prioridad, boolean aprueba) {
+            this.nombre = nombre;
+            this.prioridad = prioridad;
+            this.aprueba = aprueba;
+        }
+
+        @Override
+        public PolicyEvaluationResult evaluate(SolicitudCredito solicitud, Afiliado afiliado) {
+            llamadas.incrementAndGet();
+            return aprueba
+                    ? PolicyEvaluationResult.pass(nombre, nombre + " aprobada")
+                    : PolicyEvaluationResult.fail(nombre, nombre + " rechazada");
+        }
+
+        @Override
+        public String getPolicyName() {
+            return nombre;
+        }
+
+        @Override
+        public int getPriority() {
+            return prioridad;
+        }
+    }
+
+    private static class PoliticaConEspera extends PoliticaFija {
+
+        private final CountDownLatch iniciadas;
+
+        PoliticaConEspera(String nombre, int prioridad, CountDownLatch iniciadas) {
+            super(nombre, prioridad, true);
+            this.iniciadas = iniciadas;
+        }
+
+        @Override
+        public PolicyEvaluationResult evaluate(SolicitudCredito solicitud, Afiliado afiliado) {
+            iniciadas.countDown();
+            try {
+                if (!iniciadas.await(5, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Las políticas no se evaluaron en paralelo");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            return super.evaluate(solicitud, afiliado);
+        }
+    }
+
+    private static class PoliticaConHilo extends PoliticaFija {
+
+        private final Map<String, String> hilos;
+
+        PoliticaConHilo(String nombre, int prioridad, Map<String, String> hilos) {
+            super(nombre, prioridad, true);
+            this.hilos = hilos;
+        }
+
+        @Override
+        public PolicyEvaluationResult evaluate(SolicitudCredito solicitud, Afiliado afiliado) {
+            hilos.put(getPolicyName(), Thread.currentThread().getName());
+            return super.evaluate(solicitud, afiliado);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.coopcredit.credit.domain.policy;
+
+import com.coopcredit.credit.domain.model.NivelRiesgo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitarios para PolicyEvaluationResult.
+ * Verifica el formateo diferido de mensajes.
+ */
+@DisplayName("PolicyEvaluationResult Tests")
+class PolicyEvaluationResultTest {
+
+    @Test
+    @DisplayName("Debe formatear el mensaje igual que String.format")
+    void getMessage_DebeFormatearPlantilla() {
+        // Given
+        BigDecimal monto = new BigDecimal("6000000");
+        BigDecimal maximo = new BigDecimal("5000000");
+        PolicyEvaluationResult result = PolicyEvaluationResult.fail("MONTO", maximo,
+                "Monto solicitado excede el máximo: $%,.2f > $%,.2f", monto, maximo);
+
+        // When
+        String message = result.getMessage();
+
+        // Then
+        assertThat(message).isEqualTo(String.format(
+                "Monto solicitado excede el máximo: $%,.2f > $%,.2f", monto, maximo));
+        assertThat(result.getDetails()).isEqualTo(maximo);
+        assertThat(result.getMessageArgs()).containsExactly(monto, maximo);
+    }
+
+    @Test
+    @DisplayName("Debe formatear el mensaje una sola vez")
+    void getMessage_DebeReutilizarMensaje() {
+        // Given
+        PolicyEvaluationResult result = PolicyEvaluationResult.pass("RIESGO",
+                "Nivel de riesgo: %s (Score: %d)", NivelRiesgo.BAJO, 750);
+
+        // When
+        String primero = result.getMessage();
+        String segundo = result.getMessage();
+
+        // Then
+        assertThat(primero).isEqualTo("Nivel de riesgo: BAJO (Score: 750)");
+        assertThat(segundo).isSameAs(primero);
+    }
+
+    @Test
+    @DisplayName("Debe retornar el mensaje sin argumentos tal cual")
+    void getMessage_SinArgumentos_DebeRetornarTexto() {
+        // Given
+        PolicyEvaluationResult result = PolicyEvaluationResult.fail("X", "Relación al 100%", null);
+
+        // When/Then
+        assertThat(result.getMessage()).isEqualTo("Relación al 100%");
+        assertThat(result.getMessageTemplate()).isEqualTo("Relación al 100%");
+        assertThat(result.getMessageArgs()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("No debe verse afectado por cambios en el arreglo de argumentos")
+    void getMessage_DebeCopiarArgumentos() {
+        // Given
+        Object[] args = {NivelRiesgo.ALTO, 200};
+        PolicyEvaluationResult result = PolicyEvaluationResult.pass("RIESGO",
+                "Nivel de riesgo: %s (Score: %d)", args);
+
+        // When
+        args[1] = 999;
+
+        // Then
+        assertThat(result.getMessage()).isEqualTo("Nivel de riesgo: ALTO (Score: 200)");
+    }
+}
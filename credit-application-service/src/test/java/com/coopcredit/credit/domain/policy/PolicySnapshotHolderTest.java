@@ -0,0 +1,82 @@
+package com.coopcredit.credit.domain.policy;
+
+import com.coopcredit.credit.domain.model.Afiliado;
+import com.coopcredit.credit.domain.model.SolicitudCredito;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitarios para PolicySnapshotHolder.
+ * Verifica la publicación de versiones y la lectura desde el contexto de evaluación.
+ */
+@DisplayName("PolicySnapshotHolder Tests")
+class PolicySnapshotHolderTest {
+
+    private PolicySnapshotHolder holder;
+
+    @BeforeEach
+    void setUp() {
+        holder = new PolicySnapshotHolder(new BigDecimal("0.40"), 5, 6);
+    }
+
+    @Test
+    @DisplayName("Debe iniciar con la configuración como versión 0")
+    void current_DebeRetornarConfiguracionInicial() {
+        // When
+        PolicySnapshot vigente = holder.current();
+
+        // Then
+        assertThat(vigente.getVersion()).isZero();
+        assertThat(vigente.getRelacionCuotaIngresoMaxima()).isEqualByComparingTo("0.40");
+        assertThat(vigente.montoMaximo(new BigDecimal("1000000"))).isEqualByComparingTo("5000000");
+    }
+
+    @Test
+    @DisplayName("Debe publicar solo versiones más nuevas que la vigente")
+    void publish_DebeIgnorarVersionesAnteriores() {
+        // Given
+        PolicySnapshot v2 = new PolicySnapshot(2, new BigDecimal("0.35"), 4, 12);
+        PolicySnapshot v1 = new PolicySnapshot(1, new BigDecimal("0.30"), 3, 3);
+
+        // When
+        boolean publicadaV2 = holder.publish(v2);
+        boolean publicadaV1 = holder.publish(v1);
+        boolean republicadaV2 = holder.publish(v2);
+
+        // Then
+        assertThat(publicadaV2).isTrue();
+        assertThat(publicadaV1).isFalse();
+        assertThat(republicadaV2).isFalse();
+        assertThat(holder.current()).isSameAs(v2);
+    }
+
+    @Test
+    @DisplayName("Debe preferir los parámetros fijados en el contexto")
+    void snapshotFor_DebeUsarParametrosDelContexto() {
+        // Given
+        PolicyEvaluationContext contexto = PolicyEvaluationContext.of(new SolicitudCredito(), new Afiliado());
+        PolicySnapshot fijado = holder.current();
+        holder.publish(new PolicySnapshot(1, new BigDecimal("0.30"), 3, 3));
+
+        // When/Then
+        assertThat(holder.snapshotFor(contexto.withSnapshot(fijado))).isSameAs(fijado);
+        assertThat(holder.snapshotFor(contexto)).isSameAs(holder.current());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar parámetros fuera de rango")
+    void policySnapshot_DebeValidarRangos() {
+        assertThatThrownBy(() -> new PolicySnapshot(1, new BigDecimal("1.5"), 5, 6))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PolicySnapshot(1, new BigDecimal("0.40"), 0, 6))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PolicySnapshot(1, new BigDecimal("0.40"), 5, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,138 @@
+package com.coopcredit.credit.domain.policy.rule;
+
+import com.coopcredit.credit.domain.model.Afiliado;
+import com.coopcredit.credit.domain.model.EstadoAfiliado;
+import com.coopcredit.credit.domain.model.NivelRiesgo;
+import com.coopcredit.credit.domain.model.SolicitudCredito;
+import com.coopcredit.credit.domain.policy.PolicyEvaluationContext;
+import com.coopcredit.credit.domain.policy.PolicyEvaluationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitarios para RuleCompiler.
+ * Verifica la sintaxis de las reglas y el resultado de las reglas compiladas.
+ */
+@DisplayName("RuleCompiler Tests")
+class RuleCompilerTest {
+
+    private final RuleCompiler compiler = new RuleCompiler();
+    private PolicyEvaluationContext contexto;
+
+    @BeforeEach
+    void setUp() {
+        Afiliado afiliado = new Afiliado(1L, "123456789", "Juan Pérez", new BigDecimal("3000000"),
+                LocalDate.now().minusMonths(12), EstadoAfiliado.ACTIVO);
+        SolicitudCredito solicitud = new SolicitudCredito();
+        solicitud.setAfiliado(afiliado);
+        solicitud.setMonto(new BigDecimal("5000000"));
+        solicitud.setPlazoMeses(24);
+        solicitud.setTasaPropuesta(new BigDecimal("15.00"));
+        contexto = PolicyEvaluationContext.of(solicitud, afiliado).withExternalRisk(NivelRiesgo.MEDIO, 650);
+    }
+
+    private PolicyEvaluationResult evaluar(String condicion, String expresion) {
+        return compiler.compile(new RuleDefinition("REGLA", 100, condicion, expresion, "Rechazada"))
+                .evaluate(contexto);
+    }
+
+    @Nested
+    @DisplayName("Expresiones")
+    class ExpresionesTests {
+
+        @ParameterizedTest
+        @CsvSource(delimiter = ';', value = {
+                "plazoMeses <= 24; true",
+                "plazoMeses < 24; false",
+                "monto <= salario * 2; true",
+                "monto <= salario * 1.5; false",
+                "monto / salario < 1.7; true",
+                "monto - salario == 2000000; true",
+                "cuotaMensual + 100 > 242433.24; true",
+                "relacionCuotaIngreso <= 0.0809; true",
+                "score >= 600 and nivelRiesgo != 'ALTO'; true",
+                "nivelRiesgo == 'BAJO' or plazoMeses > 36; false",
+                "not (plazoMeses > 12 and mesesAntiguedad < 6); true",
+                "tasaPropuesta >= 15 AND mesesAntiguedad >= 12; true",
+                "2 * 3 == 6; true"
+        })
+        @DisplayName("Debe evaluar comparaciones, aritmética y operadores lógicos")
+        void compile_DebeEvaluarExpresiones(String expresion, boolean esperado) {
+            assertThat(evaluar(null, expresion).isPassed()).isEqualTo(esperado);
+        }
+
+        @Test
+        @DisplayName("Debe rechazar con el mensaje de la regla")
+        void compile_DebeRechazarConMensaje() {
+            // When
+            PolicyEvaluationResult resultado = evaluar(null, "plazoMeses <= 12");
+
+            // Then
+            assertThat(resultado.isFailed()).isTrue();
+            assertThat(resultado.getPolicyName()).isEqualTo("REGLA");
+            assertThat(resultado.getMessage()).isEqualTo("Rechazada");
+        }
+    }
+
+    @Nested
+    @DisplayName("Condiciones")
+    class CondicionesTests {
+
+        @Test
+        @DisplayName("No debe aplicar la regla cuando no se cumple la condición")
+        void compile_NoDebeAplicarSinCondicion() {
+            assertThat(evaluar("nivelRiesgo == 'BAJO'", "plazoMeses <= 12").isPassed()).isTrue();
+            assertThat(evaluar("nivelRiesgo == 'MEDIO'", "plazoMeses <= 12").isPassed()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Debe aprobar las reglas de riesgo externo cuando aún no hay evaluación")
+        void compile_DebeAprobarSinRiesgoExterno() {
+            // Given
+            CompiledRule regla = compiler.compile(
+                    new RuleDefinition("SCORE_MINIMO", 100, null, "score >= 700", "Score insuficiente"));
+            PolicyEvaluationContext sinRiesgo = PolicyEvaluationContext.of(
+                    contexto.getSolicitud(), contexto.getAfiliado());
+
+            // When/Then
+            assertThat(regla.evaluate(sinRiesgo).isPassed()).isTrue();
+            assertThat(regla.evaluate(contexto).isPassed()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Errores de sintaxis")
+    class ErroresTests {
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "saldo <= 5",
+                "plazoMeses <= ",
+                "plazoMeses 24",
+                "nivelRiesgo > 'ALTO'",
+                "nivelRiesgo == 5",
+                "(plazoMeses <= 24",
+                "plazoMeses <= 24 extra",
+                "plazoMeses = 24",
+                "nivelRiesgo == 'ALTO",
+                "monto <= 1.2.3"
+        })
+        @DisplayName("Debe rechazar reglas inválidas al compilar")
+        void compile_DebeRechazarReglasInvalidas(String expresion) {
+            assertThatThrownBy(() -> compiler.compile(new RuleDefinition("REGLA", 100, null, expresion, "x")))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Regla 'REGLA' inválida");
+        }
+    }
+}
@@ -43,7 +43,7 @@ class AfiliadoControllerIntegrationTest extends BaseIntegrationTest {
         afiliadoExistente.setSalario(new BigDecimal("2500000"));
         afiliadoExistente.setFechaAfiliacion(LocalDate.now().minusMonths(12));
         afiliadoExistente.setEstado(EstadoAfiliado.ACTIVO);
-        afiliadoExistente = afiliadoRepository.save(afiliadoExistente);
+        afiliadoExistente = afiliadoRepository.saveAndFlush(afiliadoExistente);
     }
 
     @Nested
@@ -182,6 +182,34 @@ class AfiliadoControllerIntegrationTest extends BaseIntegrationTest {
                     .andExpect(jsonPath("$[0].documento", notNullValue()));
         }
 
+        @Test
+        @DisplayName("Debe paginar por cursor con header Link")
+        void listarTodos_DebePaginarPorCursor() throws Exception {
+            AfiliadoEntity otro = new AfiliadoEntity();
+            otro.setDocumento("333333333");
+            otro.setNombre("Otro Afiliado");
+            otro.setSalario(new BigDecimal("2000000"));
+            otro.setFechaAfiliacion(LocalDate.now().minusMonths(8));
+            otro.setEstado(EstadoAfiliado.ACTIVO);
+            otro = afiliadoRepository.saveAndFlush(otro);
+
+            mockMvc.perform(get("/api/afiliados")
+                            .param("limit", "1")
+                            .header("Authorization", "Bearer " + generateAdminToken()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0].documento", is("111111111")))
+                    .andExpect(header().string("Link", containsString("after=" + afiliadoExistente.getId())));
+
+            mockMvc.perform(get("/api/afiliados")
+                            .param("after", afiliadoExistente.getId().toString())
+                            .param("limit", "1")
+                            .header("Authorization", "Bearer " + generateAdminToken()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].id", is(otro.getId().intValue())))
+                    .andExpect(header().doesNotExist("Link"));
+        }
+
         @Test
         @DisplayName("Debe retornar 403 para AFILIADO")
         void listarTodos_DebeRetornar403ParaAfiliado() throws Exception {
@@ -247,4 +275,77 @@ class AfiliadoControllerIntegrationTest extends BaseIntegrationTest {
                     .andExpect(status().isForbidden());
         }
     }
+
+    @Nested
+    @DisplayName("POST /api/afiliados/importar - Importar afiliados")
+    class ImportarAfiliadosTests {
+
+        @Test
+        @DisplayName("Debe importar filas CSV válidas y reportar las rechazadas")
+        void importar_DebeImportarCsvYReportarRechazadas() throws Exception {
+            String csv = """
+                    documento,nombre,salario,fechaAfiliacion,estado
+                    444444444,"Pérez, Ana",3000000,2023-01-15,ACTIVO
+                    111111111,Documento Existente,2000000,2023-01-15,ACTIVO
+
+                    555555555,Salario Inválido,abc,2023-01-15,ACTIVO
+                    444444444,Repetido,3000000,2023-01-15,ACTIVO
+                    """;
+
+            mockMvc.perform(post("/api/afiliados/importar?format=csv")
+                            .header("Authorization", "Bearer " + generateAdminToken())
+                            .contentType("text/csv")
+                            .content(csv))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalFilas", is(4)))
+                    .andExpect(jsonPath("$.importadas", is(1)))
+                    .andExpect(jsonPath("$.rechazadas", is(3)))
+                    .andExpect(jsonPath("$.errores[*].fila", containsInAnyOrder(3, 5, 6)));
+
+            mockMvc.perform(get("/api/afiliados/" + afiliadoRepository.findByDocumento("444444444")
+                                    .orElseThrow().getId())
+                            .header("Authorization", "Bearer " + generateAdminToken()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.nombre", is("Pérez, Ana")));
+        }
+
+        @Test
+        @DisplayName("Debe importar filas NDJSON")
+        void importar_DebeImportarNdjson() throws Exception {
+            String ndjson = """
+                    {"documento":"666666666","nombre":"Afiliado Uno","salario":2500000,"fechaAfiliacion":"2022-05-01","estado":"ACTIVO"}
+                    {"documento":"777777777","nombre":"Afiliado Dos","salario":2800000,"fechaAfiliacion":"2022-05-01","estado":"INACTIVO"}
+                    {no es json}
+                    """;
+
+            mockMvc.perform(post("/api/afiliados/importar?format=ndjson")
+                            .header("Authorization", "Bearer " + generateAdminToken())
+                            .contentType("application/x-ndjson")
+                            .content(ndjson))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.importadas", is(2)))
+                    .andExpect(jsonPath("$.rechazadas", is(1)))
+                    .andExpect(jsonPath("$.errores[0].fila", is(3)));
+        }
+
+        @Test
+        @DisplayName("Debe retornar 400 cuando el encabezado CSV está incompleto")
+        void importar_DebeRetornar400CuandoFaltaColumna() throws Exception {
+            mockMvc.perform(post("/api/afiliados/importar?format=csv")
+                            .header("Authorization", "Bearer " + generateAdminToken())
+                            .contentType("text/csv")
+                            .content("documento,nombre\n888888888,Sin Salario\n"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Debe retornar 403 cuando usuario no es ADMIN")
+        void importar_DebeRetornar403CuandoNoEsAdmin() throws Exception {
+            mockMvc.perform(post("/api/afiliados/importar?format=csv")
+                            .header("Authorization", "Bearer " + generateAnalistaToken())
+                            .contentType("text/csv")
+                            .content("documento,nombre,salario,fechaAfiliacion,estado\n"))
+                    .andExpect(status().isForbidden());
+        }
+    }
 }
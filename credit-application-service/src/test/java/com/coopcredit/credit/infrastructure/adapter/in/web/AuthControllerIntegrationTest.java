@@ -16,6 +16,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import java.util.Set;
 
 import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -254,5 +255,36 @@ class AuthControllerIntegrationTest extends BaseIntegrationTest {
                     .isNotEmpty()
                     .contains(".");
         }
+
+        @Test
+        @DisplayName("El token emitido debe autenticar sin consultar usuarios y dejar de hacerlo tras logout")
+        void logout_DebeRevocarToken() throws Exception {
+            LoginRequest loginRequest = new LoginRequest("testuser", "password123");
+
+            String responseBody = mockMvc.perform(post("/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(toJson(loginRequest)))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+            String token = objectMapper.readTree(responseBody).get("token").asText();
+
+            // El token lleva los roles como claims
+            org.assertj.core.api.Assertions.assertThat(jwtService.extractRoles(jwtService.validarToken(token)))
+                    .containsExactly("ROLE_AFILIADO");
+
+            mockMvc.perform(get("/api/solicitudes/afiliado/999")
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk());
+
+            mockMvc.perform(post("/auth/logout")
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isNoContent());
+
+            mockMvc.perform(get("/api/solicitudes/afiliado/999")
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isForbidden());
+        }
     }
 }
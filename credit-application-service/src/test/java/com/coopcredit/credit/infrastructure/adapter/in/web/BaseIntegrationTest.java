@@ -16,6 +16,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -80,25 +81,26 @@ public abstract class BaseIntegrationTest {
      * Genera un token JWT para un usuario con rol ADMIN.
      */
     protected String generateAdminToken() {
-        return jwtService.generateToken("admin");
+        return jwtService.generateToken("admin", List.of(Rol.ROLE_ADMIN.name()), null);
     }
 
     /**
      * Genera un token JWT para un usuario con rol ANALISTA.
      */
     protected String generateAnalistaToken() {
-        return jwtService.generateToken("analista");
+        return jwtService.generateToken("analista", List.of(Rol.ROLE_ANALISTA.name()), null);
     }
 
     /**
      * Genera un token JWT para un usuario con rol AFILIADO.
      */
     protected String generateAfiliadoToken() {
-        return jwtService.generateToken("juanperez");
+        return jwtService.generateToken("juanperez", List.of(Rol.ROLE_AFILIADO.name()), null);
     }
 
     /**
-     * Genera un token JWT para un usuario específico.
+     * Genera un token JWT sin claims de roles para un usuario específico.
+     * Los roles se cargan desde la base de datos al autenticar.
      */
     protected String generateTokenForUser(String username) {
         return jwtService.generateToken(username);
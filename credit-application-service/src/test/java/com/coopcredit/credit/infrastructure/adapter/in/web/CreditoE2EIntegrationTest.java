@@ -115,7 +115,7 @@ class CreditoE2EIntegrationTest extends BaseIntegrationTest {
         afiliadoInactivo.setSalario(new BigDecimal("3000000"));
         afiliadoInactivo.setFechaAfiliacion(LocalDate.now().minusMonths(24));
         afiliadoInactivo.setEstado(EstadoAfiliado.INACTIVO);
-        afiliadoInactivo = afiliadoRepository.save(afiliadoInactivo);
+        afiliadoInactivo = afiliadoRepository.saveAndFlush(afiliadoInactivo);
 
         // 2. Intentar crear solicitud para afiliado inactivo
         CrearSolicitudRequest crearSolicitud = new CrearSolicitudRequest(
@@ -228,7 +228,7 @@ class CreditoE2EIntegrationTest extends BaseIntegrationTest {
         afiliado.setSalario(new BigDecimal("5000000"));
         afiliado.setFechaAfiliacion(LocalDate.now().minusMonths(18));
         afiliado.setEstado(EstadoAfiliado.ACTIVO);
-        afiliado = afiliadoRepository.save(afiliado);
+        afiliado = afiliadoRepository.saveAndFlush(afiliado);
 
         // 2. Crear múltiples solicitudes
         for (int i = 0; i < 3; i++) {
@@ -265,7 +265,7 @@ class CreditoE2EIntegrationTest extends BaseIntegrationTest {
         afiliado.setSalario(new BigDecimal("2000000"));
         afiliado.setFechaAfiliacion(LocalDate.now().minusMonths(12));
         afiliado.setEstado(EstadoAfiliado.ACTIVO);
-        afiliado = afiliadoRepository.save(afiliado);
+        afiliado = afiliadoRepository.saveAndFlush(afiliado);
 
         // 2. Actualizar afiliado
         String actualizacion = """
@@ -13,11 +13,14 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -51,7 +54,7 @@ class SolicitudCreditoControllerIntegrationTest extends BaseIntegrationTest {
         afiliadoActivo.setSalario(new BigDecimal("3000000"));
         afiliadoActivo.setFechaAfiliacion(LocalDate.now().minusMonths(12));
         afiliadoActivo.setEstado(EstadoAfiliado.ACTIVO);
-        afiliadoActivo = afiliadoRepository.save(afiliadoActivo);
+        afiliadoActivo = afiliadoRepository.saveAndFlush(afiliadoActivo);
 
         // Crear afiliado inactivo
         afiliadoInactivo = new AfiliadoEntity();
@@ -60,7 +63,7 @@ class SolicitudCreditoControllerIntegrationTest extends BaseIntegrationTest {
         afiliadoInactivo.setSalario(new BigDecimal("2500000"));
         afiliadoInactivo.setFechaAfiliacion(LocalDate.now().minusMonths(24));
         afiliadoInactivo.setEstado(EstadoAfiliado.INACTIVO);
-        afiliadoInactivo = afiliadoRepository.save(afiliadoInactivo);
+        afiliadoInactivo = afiliadoRepository.saveAndFlush(afiliadoInactivo);
 
         // Crear solicitud pendiente
         solicitudPendiente = new SolicitudCreditoEntity();
@@ -70,7 +73,7 @@ class SolicitudCreditoControllerIntegrationTest extends BaseIntegrationTest {
         solicitudPendiente.setTasaPropuesta(new BigDecimal("15.00"));
         solicitudPendiente.setFechaSolicitud(LocalDateTime.now());
         solicitudPendiente.setEstado(EstadoSolicitud.PENDIENTE);
-        solicitudPendiente = solicitudRepository.save(solicitudPendiente);
+        solicitudPendiente = solicitudRepository.saveAndFlush(solicitudPendiente);
     }
 
     @Nested
@@ -210,6 +213,60 @@ class SolicitudCreditoControllerIntegrationTest extends BaseIntegrationTest {
                     .andExpect(status().isOk());
         }
 
+        @Test
+        @DisplayName("Debe paginar por cursor con header Link")
+        void listarTodas_DebePaginarPorCursor() throws Exception {
+            crearSolicitudDePrueba(LocalDateTime.now().minusDays(1));
+
+            String siguiente = obtenerSiguientePagina(get("/api/solicitudes").param("limit", "1"));
+
+            mockMvc.perform(get(siguiente)
+                            .header("Authorization", "Bearer " + generateAdminToken()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0].id", not(solicitudPendiente.getId().intValue())))
+                    .andExpect(header().doesNotExist("Link"));
+        }
+
+        @Test
+        @DisplayName("Debe paginar por cursor ordenando por fecha de solicitud")
+        void listarTodas_DebePaginarPorFecha() throws Exception {
+            SolicitudCreditoEntity anterior = crearSolicitudDePrueba(LocalDateTime.now().minusDays(1));
+
+            String siguiente = obtenerSiguientePagina(get("/api/solicitudes")
+                    .param("limit", "1")
+                    .param("orden", "FECHA_SOLICITUD"));
+
+            mockMvc.perform(get(siguiente)
+                            .header("Authorization", "Bearer " + generateAdminToken()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0].id", is(anterior.getId().intValue())))
+                    .andExpect(header().doesNotExist("Link"));
+        }
+
+        private String obtenerSiguientePagina(MockHttpServletRequestBuilder request) throws Exception {
+            String link = mockMvc.perform(request
+                            .header("Authorization", "Bearer " + generateAdminToken()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0].id", is(solicitudPendiente.getId().intValue())))
+                    .andExpect(header().string("Link", containsString("rel=\"next\"")))
+                    .andReturn().getResponse().getHeader("Link");
+            return link.substring(link.indexOf('<') + 1, link.indexOf('>'));
+        }
+
+        private SolicitudCreditoEntity crearSolicitudDePrueba(LocalDateTime fecha) {
+            SolicitudCreditoEntity solicitud = new SolicitudCreditoEntity();
+            solicitud.setAfiliado(afiliadoActivo);
+            solicitud.setMonto(new BigDecimal("2000000"));
+            solicitud.setPlazoMeses(12);
+            solicitud.setTasaPropuesta(new BigDecimal("12.00"));
+            solicitud.setFechaSolicitud(fecha);
+            solicitud.setEstado(EstadoSolicitud.PENDIENTE);
+            return solicitudRepository.saveAndFlush(solicitud);
+        }
+
         @Test
         @DisplayName("Debe retornar 403 para AFILIADO")
         void listarTodas_DebeRetornar403ParaAfiliado() throws Exception {
@@ -219,6 +276,128 @@ class SolicitudCreditoControllerIntegrationTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/solicitudes/{id}/amortizacion - Plan de amortización")
+    class AmortizacionTests {
+
+        @Test
+        @DisplayName("Debe retornar el plan en JSON con un periodo por mes")
+        void amortizacion_DebeRetornarPlanJson() throws Exception {
+            mockMvc.perform(get("/api/solicitudes/" + solicitudPendiente.getId() + "/amortizacion")
+                            .header("Authorization", "Bearer " + generateAfiliadoToken()))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(header().exists("ETag"))
+                    .andExpect(header().string("Cache-Control", containsString("private")))
+                    .andExpect(jsonPath("$.plazoMeses").value(24))
+                    .andExpect(jsonPath("$.cuotaMensual").value(242433.24))
+                    .andExpect(jsonPath("$.cuotas", hasSize(24)))
+                    .andExpect(jsonPath("$.cuotas[0].interes").value(62500.00))
+                    .andExpect(jsonPath("$.cuotas[23].saldo").value(0.00));
+        }
+
+        @Test
+        @DisplayName("Debe retornar el plan en CSV")
+        void amortizacion_DebeRetornarPlanCsv() throws Exception {
+            String contenido = mockMvc.perform(get("/api/solicitudes/" + solicitudPendiente.getId() + "/amortizacion")
+                            .param("format", "csv")
+                            .header("Authorization", "Bearer " + generateAnalistaToken()))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                    .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+            String[] lineas = contenido.split("\r\n");
+            assertThat(lineas).hasSize(25);
+            assertThat(lineas[0]).isEqualTo("periodo,cuota,interes,capital,saldo");
+            assertThat(lineas[1]).isEqualTo("1,242433.24,62500.00,179933.24,4820066.76");
+        }
+
+        @Test
+        @DisplayName("Debe retornar 304 cuando el ETag coincide")
+        void amortizacion_DebeRetornar304ConEtag() throws Exception {
+            String url = "/api/solicitudes/" + solicitudPendiente.getId() + "/amortizacion";
+            String etag = mockMvc.perform(get(url)
+                            .header("Authorization", "Bearer " + generateAdminToken()))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader("ETag");
+
+            mockMvc.perform(get(url)
+                            .header("Authorization", "Bearer " + generateAdminToken())
+                            .header("If-None-Match", etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("Debe retornar 404 cuando la solicitud no existe")
+        void amortizacion_DebeRetornar404CuandoNoExiste() throws Exception {
+            mockMvc.perform(get("/api/solicitudes/99999/amortizacion")
+                            .header("Authorization", "Bearer " + generateAdminToken()))
+                    .andExpect(status().isNotFound());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/solicitudes/export - Exportar solicitudes")
+    class ExportarSolicitudesTests {
+
+        @Test
+        @DisplayName("Debe exportar una línea NDJSON por solicitud")
+        void exportar_DebeExportarNdjson() throws Exception {
+            String contenido = mockMvc.perform(get("/api/solicitudes/export")
+                            .header("Authorization", "Bearer " + generateAnalistaToken()))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                    .andReturn().getResponse().getContentAsString();
+
+            String[] lineas = contenido.split("\n");
+            assertThat(lineas).hasSize(1);
+            assertThat(lineas[0])
+                    .contains("\"id\":" + solicitudPendiente.getId())
+                    .contains("\"afiliadoDocumento\":\"123456789\"")
+                    .contains("\"estado\":\"PENDIENTE\"")
+                    .contains("\"score\":null");
+        }
+
+        @Test
+        @DisplayName("Debe exportar CSV con encabezado y textos escapados")
+        void exportar_DebeExportarCsv() throws Exception {
+            afiliadoActivo.setNombre("Pérez, \"Juan\"");
+            afiliadoRepository.saveAndFlush(afiliadoActivo);
+
+            String contenido = mockMvc.perform(get("/api/solicitudes/export")
+                            .param("format", "csv")
+                            .header("Authorization", "Bearer " + generateAdminToken()))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                    .andExpect(header().string("Content-Disposition", containsString("solicitudes.csv")))
+                    .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+            String[] lineas = contenido.split("\r\n");
+            assertThat(lineas).hasSize(2);
+            assertThat(lineas[0]).startsWith("id,afiliadoId,afiliadoDocumento,afiliadoNombre,monto");
+            assertThat(lineas[1]).startsWith(solicitudPendiente.getId() + "," + afiliadoActivo.getId()
+                    + ",123456789,\"Pérez, \"\"Juan\"\"\",5000000.00,24,15.00,");
+        }
+
+        @Test
+        @DisplayName("Debe retornar 400 para formato no soportado")
+        void exportar_DebeRetornar400ParaFormatoNoSoportado() throws Exception {
+            mockMvc.perform(get("/api/solicitudes/export")
+                            .param("format", "xml")
+                            .header("Authorization", "Bearer " + generateAdminToken()))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Debe retornar 403 para AFILIADO")
+        void exportar_DebeRetornar403ParaAfiliado() throws Exception {
+            mockMvc.perform(get("/api/solicitudes/export")
+                            .header("Authorization", "Bearer " + generateAfiliadoToken()))
+                    .andExpect(status().isForbidden());
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/solicitudes/afiliado/{afiliadoId} - Listar por afiliado")
     class ListarPorAfiliadoTests {
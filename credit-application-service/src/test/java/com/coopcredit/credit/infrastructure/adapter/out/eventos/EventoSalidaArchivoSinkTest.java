@@ -0,0 +1,64 @@
+package com.coopcredit.credit.infrastructure.adapter.out.eventos;
+
+import com.coopcredit.credit.application.dto.EventoSalida;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitarios para EventoSalidaArchivoSink.
+ */
+@DisplayName("EventoSalidaArchivoSink Tests")
+class EventoSalidaArchivoSinkTest {
+
+    @TempDir
+    Path directorio;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private EventoSalida evento(long id) {
+        return EventoSalida.builder()
+                .id(id)
+                .tipo("SOLICITUD_EVALUADA")
+                .agregadoId(10 + id)
+                .payload("{\"solicitudId\":" + (10 + id) + ",\"estado\":\"APROBADO\"}")
+                .fechaCreacion(LocalDateTime.of(2024, 1, 15, 10, 30))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Debe agregar una línea JSON por evento, conservando el contenido original")
+    void publicar_DebeAgregarLineasNdjson() throws Exception {
+        // Given
+        Path ruta = directorio.resolve("eventos/solicitudes.ndjson");
+        EventoSalidaArchivoSink sink = new EventoSalidaArchivoSink(objectMapper, ruta);
+
+        // When
+        sink.publicar(List.of(evento(1), evento(2)));
+        sink.publicar(List.of(evento(3)));
+
+        // Then
+        List<String> lineas = Files.readAllLines(ruta);
+        assertThat(lineas).hasSize(3);
+
+        JsonNode primera = objectMapper.readTree(lineas.get(0));
+        assertThat(primera.get("id").asLong()).isEqualTo(1L);
+        assertThat(primera.get("tipo").asText()).isEqualTo("SOLICITUD_EVALUADA");
+        assertThat(primera.get("payload").get("solicitudId").asLong()).isEqualTo(11L);
+        assertThat(primera.get("payload").get("estado").asText()).isEqualTo("APROBADO");
+        assertThat(objectMapper.readTree(lineas.get(2)).get("id").asLong()).isEqualTo(3L);
+    }
+}
@@ -0,0 +1,128 @@
+package com.coopcredit.credit.infrastructure.adapter.out.external.risk;
+
+import com.coopcredit.credit.application.port.out.RiskCentralPort;
+import com.coopcredit.credit.application.port.out.RiskCentralPort.RiskEvaluationRequest;
+import com.coopcredit.credit.application.port.out.RiskCentralPort.RiskEvaluationResponse;
+import com.coopcredit.credit.infrastructure.metrics.CreditApplicationMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para RiskCentralCache.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("RiskCentralCache Tests")
+class RiskCentralCacheTest {
+
+    private static final BigDecimal MONTO = new BigDecimal("5000000");
+
+    @Mock
+    private RiskCentralPort riskCentralClient;
+
+    @Mock
+    private CreditApplicationMetrics metrics;
+
+    private RiskCentralCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RiskCentralCache(riskCentralClient,
+                new StaticListableBeanFactory().getBeanProvider(RiskCentralMicroBatcher.class),
+                metrics, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("Debe consultar Risk Central una sola vez por documento")
+    void evaluarRiesgo_DebeResponderDesdeCache() {
+        // Given
+        when(riskCentralClient.evaluarRiesgoAsync("123", MONTO, 24))
+                .thenReturn(CompletableFuture.completedFuture(respuesta("123")));
+
+        // When
+        RiskEvaluationResponse primera = cache.evaluarRiesgo("123", MONTO, 24);
+        RiskEvaluationResponse segunda = cache.evaluarRiesgo("123", MONTO, 24);
+
+        // Then
+        assertThat(segunda).isSameAs(primera);
+        verify(riskCentralClient, times(1)).evaluarRiesgoAsync(anyString(), any(), any());
+        verify(metrics).incrementarFallosCacheRiesgo();
+        verify(metrics).incrementarAciertosCacheRiesgo();
+    }
+
+    @Test
+    @DisplayName("Debe compartir la llamada en curso entre consultas concurrentes del mismo documento")
+    void evaluarRiesgoAsync_DebeCompartirLlamadaEnCurso() {
+        // Given
+        CompletableFuture<RiskEvaluationResponse> enCurso = new CompletableFuture<>();
+        when(riskCentralClient.evaluarRiesgoAsync("123", MONTO, 24)).thenReturn(enCurso);
+
+        // When
+        CompletableFuture<RiskEvaluationResponse> primera = cache.evaluarRiesgoAsync("123", MONTO, 24);
+        CompletableFuture<RiskEvaluationResponse> segunda = cache.evaluarRiesgoAsync("123", MONTO, 24);
+        enCurso.complete(respuesta("123"));
+
+        // Then
+        assertThat(primera.join().getScore()).isEqualTo(720);
+        assertThat(segunda.join().getScore()).isEqualTo(720);
+        verify(riskCentralClient, times(1)).evaluarRiesgoAsync(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("No debe guardar en caché las llamadas fallidas")
+    void evaluarRiesgo_NoDebeCachearErrores() {
+        // Given
+        when(riskCentralClient.evaluarRiesgoAsync("123", MONTO, 24))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Servicio no disponible")))
+                .thenReturn(CompletableFuture.completedFuture(respuesta("123")));
+
+        // When & Then
+        assertThatThrownBy(() -> cache.evaluarRiesgo("123", MONTO, 24))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Servicio no disponible");
+        assertThat(cache.evaluarRiesgo("123", MONTO, 24).getScore()).isEqualTo(720);
+        verify(riskCentralClient, times(2)).evaluarRiesgoAsync(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Debe consultar por lote solo los documentos que no están en caché")
+    void evaluarRiesgoBatch_DebeConsultarSoloFaltantes() {
+        // Given
+        when(riskCentralClient.evaluarRiesgoAsync("1", MONTO, 24))
+                .thenReturn(CompletableFuture.completedFuture(respuesta("1")));
+        when(riskCentralClient.evaluarRiesgoBatch(anyList())).thenReturn(List.of(respuesta("2")));
+        cache.evaluarRiesgo("1", MONTO, 24);
+
+        // When
+        List<RiskEvaluationResponse> respuestas = cache.evaluarRiesgoBatch(List.of(
+                new RiskEvaluationRequest("1", MONTO, 24),
+                new RiskEvaluationRequest("2", MONTO, 24)));
+
+        // Then
+        assertThat(respuestas).extracting(RiskEvaluationResponse::getDocumento).containsExactly("1", "2");
+        verify(riskCentralClient).evaluarRiesgoBatch(argThat(lote ->
+                lote.size() == 1 && lote.get(0).getDocumento().equals("2")));
+    }
+
+    private RiskEvaluationResponse respuesta(String documento) {
+        return new RiskEvaluationResponse(documento, 720, "BAJO", "Score favorable");
+    }
+}
@@ -0,0 +1,151 @@
+package com.coopcredit.credit.infrastructure.adapter.out.external.risk;
+
+import com.coopcredit.credit.application.port.out.RiskCentralPort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigDecimal;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark comparativo de los clientes de Risk Central contra el
+ * risk-central-mock-service local.
+ *
+ * No se ejecuta en el build normal. Para lanzarlo, levantar el mock (puerto 8081) y ejecutar:
+ * {@code mvn test -Dtest=RiskCentralClientBenchmarkTest -Drisk-central.benchmark.url=http://localhost:8081}
+ * Parámetros opcionales: {@code risk-central.benchmark.llamadas} (2000) y
+ * {@code risk-central.benchmark.concurrencia} (10).
+ */
+@EnabledIfSystemProperty(named = "risk-central.benchmark.url", matches = ".+")
+@DisplayName("RiskCentral Client Benchmark")
+class RiskCentralClientBenchmarkTest {
+
+    private static final BigDecimal MONTO = new BigDecimal("5000000");
+
+    private final String url = System.getProperty("risk-central.benchmark.url");
+    private final int llamadas = Integer.getInteger("risk-central.benchmark.llamadas", 2000);
+    private final int concurrencia = Integer.getInteger("risk-central.benchmark.concurrencia", 10);
+
+    private RiskCentralClient restTemplateClient;
+    private RiskCentralHttpClient httpClient;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        restTemplateClient = new RiskCentralClient(new RestTemplate());
+        ReflectionTestUtils.setField(restTemplateClient, "riskCentralUrl", url);
+
+        httpClient = new RiskCentralHttpClient(new ObjectMapper(), url,
+                Duration.ofSeconds(2), Duration.ofSeconds(5), HttpClient.Version.HTTP_2);
+
+        executor = Executors.newFixedThreadPool(concurrencia);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+        httpClient.cerrar();
+    }
+
+    @Test
+    @DisplayName("Compara RestTemplate, HttpClient bloqueante y HttpClient asíncrono")
+    void compararClientes() {
+        // Calentamiento de conexiones y JIT
+        medirBloqueante(restTemplateClient, llamadas / 10);
+        medirBloqueante(httpClient, llamadas / 10);
+        medirAsincrono(httpClient, llamadas / 10);
+
+        Resultado restTemplate = medirBloqueante(restTemplateClient, llamadas);
+        Resultado bloqueante = medirBloqueante(httpClient, llamadas);
+        Resultado asincrono = medirAsincrono(httpClient, llamadas);
+
+        System.out.println(restTemplate.formatear("rest-template"));
+        System.out.println(bloqueante.formatear("http-client (bloqueante)"));
+        System.out.println(asincrono.formatear("http-client (asíncrono)"));
+
+        assertThat(restTemplate.latenciasMs).hasSize(llamadas);
+        assertThat(bloqueante.latenciasMs).hasSize(llamadas);
+        assertThat(asincrono.latenciasMs).hasSize(llamadas);
+    }
+
+    /**
+     * Llamadas bloqueantes repartidas en {@code concurrencia} hilos.
+     */
+    private Resultado medirBloqueante(RiskCentralPort cliente, int total) {
+        long inicio = System.nanoTime();
+        List<CompletableFuture<Double>> futuros = new ArrayList<>(total);
+        for (int i = 0; i < total; i++) {
+            String documento = documento(i);
+            futuros.add(CompletableFuture.supplyAsync(() -> {
+                long t0 = System.nanoTime();
+                cliente.evaluarRiesgo(documento, MONTO, 24);
+                return (System.nanoTime() - t0) / 1_000_000.0;
+            }, executor));
+        }
+        return new Resultado(futuros.stream().mapToDouble(CompletableFuture::join).toArray(),
+                System.nanoTime() - inicio);
+    }
+
+    /**
+     * Llamadas asíncronas con como máximo {@code concurrencia} en vuelo, sin bloquear hilos por llamada.
+     */
+    private Resultado medirAsincrono(RiskCentralPort cliente, int total) {
+        long inicio = System.nanoTime();
+        double[] latencias = new double[total];
+        for (int desde = 0; desde < total; desde += concurrencia) {
+            int hasta = Math.min(total, desde + concurrencia);
+            CompletableFuture<?>[] ventana = new CompletableFuture<?>[hasta - desde];
+            for (int i = desde; i < hasta; i++) {
+                int indice = i;
+                long t0 = System.nanoTime();
+                ventana[i - desde] = cliente.evaluarRiesgoAsync(documento(i), MONTO, 24)
+                        .thenRun(() -> latencias[indice] = (System.nanoTime() - t0) / 1_000_000.0);
+            }
+            CompletableFuture.allOf(ventana).join();
+        }
+        return new Resultado(latencias, System.nanoTime() - inicio);
+    }
+
+    private String documento(int i) {
+        return String.valueOf(100_000_000 + i);
+    }
+
+    private static final class Resultado {
+        private final double[] latenciasMs;
+        private final long duracionNanos;
+
+        Resultado(double[] latenciasMs, long duracionNanos) {
+            this.latenciasMs = latenciasMs;
+            this.duracionNanos = duracionNanos;
+        }
+
+        String formatear(String nombre) {
+            double[] ordenadas = latenciasMs.clone();
+            Arrays.sort(ordenadas);
+            double segundos = duracionNanos / 1_000_000_000.0;
+            return String.format("%-26s %8.1f req/s  p50=%6.2f ms  p95=%6.2f ms  p99=%6.2f ms",
+                    nombre, latenciasMs.length / segundos,
+                    percentil(ordenadas, 0.50), percentil(ordenadas, 0.95), percentil(ordenadas, 0.99));
+        }
+
+        private static double percentil(double[] ordenadas, double p) {
+            int indice = (int) Math.ceil(p * ordenadas.length) - 1;
+            return ordenadas[Math.max(0, Math.min(indice, ordenadas.length - 1))];
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.coopcredit.credit.infrastructure.adapter.out.external.risk;
+
+import com.coopcredit.credit.application.port.out.RiskCentralPort.RiskEvaluationResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitarios para RiskCentralHttpClient.
+ * Usa un servidor HTTP embebido del JDK en lugar del servicio de riesgo real.
+ */
+@DisplayName("RiskCentralHttpClient Tests")
+class RiskCentralHttpClientTest {
+
+    private static final String RESPUESTA_OK =
+            "{\"documento\":\"123456789\",\"score\":750,\"nivelRiesgo\":\"BAJO\",\"detalle\":\"Score favorable\"}";
+
+    private HttpServer server;
+    private RiskCentralHttpClient client;
+    private final AtomicReference<String> bodyRecibido = new AtomicReference<>();
+    private volatile int estadoRespuesta = 200;
+    private volatile long demoraMs = 0;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/risk-evaluation", exchange -> {
+            bodyRecibido.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            if (demoraMs > 0) {
+                try {
+                    Thread.sleep(demoraMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            byte[] respuesta = RESPUESTA_OK.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(estadoRespuesta, respuesta.length);
+            exchange.getResponseBody().write(respuesta);
+            exchange.close();
+        });
+        server.start();
+
+        client = new RiskCentralHttpClient(new ObjectMapper(),
+                "http://localhost:" + server.getAddress().getPort(),
+                Duration.ofSeconds(1), Duration.ofMillis(500), HttpClient.Version.HTTP_1_1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.cerrar();
+        server.stop(0);
+    }
+
+    @Nested
+    @DisplayName("Tests para evaluarRiesgo()")
+    class EvaluarRiesgoTests {
+
+        @Test
+        @DisplayName("Debe enviar documento, monto y plazo y convertir la respuesta")
+        void evaluarRiesgo_DebeConvertirRespuesta() {
+            // When
+            RiskEvaluationResponse response = client.evaluarRiesgo("123456789", new BigDecimal("5000000"), 24);
+
+            // Then
+            assertThat(response.getScore()).isEqualTo(750);
+            assertThat(response.getNivelRiesgo()).isEqualTo("BAJO");
+            assertThat(bodyRecibido.get())
+                    .contains("\"documento\":\"123456789\"")
+                    .contains("\"monto\":5000000")
+                    .contains("\"plazo\":24");
+        }
+
+        @Test
+        @DisplayName("Debe lanzar excepción cuando el servicio responde con error")
+        void evaluarRiesgo_DebeLanzarExcepcionCuandoEstadoError() {
+            // Given
+            estadoRespuesta = 503;
+
+            // When & Then
+            assertThatThrownBy(() -> client.evaluarRiesgo("123456789", new BigDecimal("5000000"), 24))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessageContaining("503");
+        }
+
+        @Test
+        @DisplayName("Debe lanzar excepción de E/S cuando se excede el timeout de respuesta")
+        void evaluarRiesgo_DebeRespetarTimeout() {
+            // Given
+            demoraMs = 1500;
+
+            // When & Then
+            assertThatThrownBy(() -> client.evaluarRiesgo("123456789", new BigDecimal("5000000"), 24))
+                    .isInstanceOf(UncheckedIOException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests para evaluarRiesgoAsync()")
+    class EvaluarRiesgoAsyncTests {
+
+        @Test
+        @DisplayName("Debe completar el futuro con la respuesta del servicio")
+        void evaluarRiesgoAsync_DebeCompletarConRespuesta() {
+            // When
+            RiskEvaluationResponse response = client
+                    .evaluarRiesgoAsync("123456789", new BigDecimal("5000000"), 24)
+                    .join();
+
+            // Then
+            assertThat(response.getDocumento()).isEqualTo("123456789");
+            assertThat(response.getDetalle()).isEqualTo("Score favorable");
+        }
+
+        @Test
+        @DisplayName("Debe completar el futuro con excepción de E/S cuando se excede el timeout")
+        void evaluarRiesgoAsync_DebeFallarPorTimeout() {
+            // Given
+            demoraMs = 1500;
+
+            // When & Then
+            assertThatThrownBy(() -> client.evaluarRiesgoAsync("123456789", new BigDecimal("5000000"), 24).join())
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(UncheckedIOException.class);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.coopcredit.credit.infrastructure.adapter.out.external.risk;
+
+import com.coopcredit.credit.application.port.out.RiskCentralPort;
+import com.coopcredit.credit.application.port.out.RiskCentralPort.RiskEvaluationRequest;
+import com.coopcredit.credit.application.port.out.RiskCentralPort.RiskEvaluationResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para RiskCentralMicroBatcher.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RiskCentralMicroBatcher Tests")
+class RiskCentralMicroBatcherTest {
+
+    @Mock
+    private RiskCentralPort riskCentralClient;
+
+    private RiskCentralMicroBatcher microBatcher;
+
+    @BeforeEach
+    void setUp() {
+        // Ventana amplia para que todas las llamadas del test caigan en el mismo lote
+        microBatcher = new RiskCentralMicroBatcher(riskCentralClient, 100, 50, 2, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        microBatcher.detener();
+    }
+
+    @Test
+    @DisplayName("Debe agrupar llamadas concurrentes en una sola consulta por lote")
+    void evaluarRiesgoAsync_DebeAgruparLlamadasConcurrentes() {
+        // Given
+        when(riskCentralClient.evaluarRiesgoBatch(anyList())).thenAnswer(inv -> {
+            List<RiskEvaluationRequest> solicitudes = inv.getArgument(0);
+            return solicitudes.stream()
+                    .map(s -> new RiskEvaluationResponse(s.getDocumento(), 700, "MEDIO", "Lote"))
+                    .toList();
+        });
+
+        // When
+        List<CompletableFuture<RiskEvaluationResponse>> futuros = IntStream.range(0, 5)
+                .mapToObj(i -> microBatcher.evaluarRiesgoAsync("doc-" + i, new BigDecimal("1000000"), 12))
+                .toList();
+
+        // Then
+        for (int i = 0; i < futuros.size(); i++) {
+            assertThat(futuros.get(i).join().getDocumento()).isEqualTo("doc-" + i);
+        }
+        verify(riskCentralClient, times(1)).evaluarRiesgoBatch(anyList());
+        verify(riskCentralClient, never()).evaluarRiesgo(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Debe usar la consulta individual cuando el lote tiene una sola solicitud")
+    void evaluarRiesgo_DebeUsarConsultaIndividualParaUnaSolicitud() {
+        // Given
+        when(riskCentralClient.evaluarRiesgo("123", new BigDecimal("1000000"), 12))
+                .thenReturn(new RiskEvaluationResponse("123", 800, "BAJO", "Individual"));
+
+        // When
+        RiskEvaluationResponse response = microBatcher.evaluarRiesgo("123", new BigDecimal("1000000"), 12);
+
+        // Then
+        assertThat(response.getScore()).isEqualTo(800);
+        verify(riskCentralClient, never()).evaluarRiesgoBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("Debe propagar el error del lote a todas las llamadas agrupadas")
+    void evaluarRiesgoAsync_DebePropagarErrorDelLote() {
+        // Given
+        when(riskCentralClient.evaluarRiesgoBatch(anyList()))
+                .thenThrow(new RuntimeException("Servicio no disponible"));
+
+        // When
+        CompletableFuture<RiskEvaluationResponse> primero =
+                microBatcher.evaluarRiesgoAsync("1", new BigDecimal("1000000"), 12);
+        CompletableFuture<RiskEvaluationResponse> segundo =
+                microBatcher.evaluarRiesgoAsync("2", new BigDecimal("1000000"), 12);
+
+        // Then
+        assertThatThrownBy(primero::join)
+                .isInstanceOf(CompletionException.class)
+                .hasMessageContaining("Servicio no disponible");
+        assertThatThrownBy(segundo::join)
+                .isInstanceOf(CompletionException.class)
+                .hasMessageContaining("Servicio no disponible");
+    }
+
+    @Test
+    @DisplayName("Debe asignar las respuestas por documento aunque lleguen en otro orden")
+    void evaluarRiesgoAsync_DebeAsignarRespuestasPorDocumento() {
+        // Given
+        when(riskCentralClient.evaluarRiesgoBatch(anyList())).thenAnswer(inv -> {
+            List<RiskEvaluationRequest> solicitudes = inv.getArgument(0);
+            return solicitudes.stream()
+                    .map(s -> new RiskEvaluationResponse(s.getDocumento(), 700, "MEDIO", "Lote"))
+                    .toList()
+                    .reversed();
+        });
+
+        // When
+        List<CompletableFuture<RiskEvaluationResponse>> futuros = IntStream.range(0, 3)
+                .mapToObj(i -> microBatcher.evaluarRiesgoAsync("doc-" + i, new BigDecimal("1000000"), 12))
+                .toList();
+
+        // Then
+        for (int i = 0; i < futuros.size(); i++) {
+            assertThat(futuros.get(i).join().getDocumento()).isEqualTo("doc-" + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Debe fallar las llamadas sin respuesta en el lote")
+    void evaluarRiesgoAsync_DebeFallarLlamadasSinRespuesta() {
+        // Given
+        when(riskCentralClient.evaluarRiesgoBatch(anyList()))
+                .thenReturn(List.of(new RiskEvaluationResponse("1", 700, "MEDIO", "Lote")));
+
+        // When
+        CompletableFuture<RiskEvaluationResponse> primero =
+                microBatcher.evaluarRiesgoAsync("1", new BigDecimal("1000000"), 12);
+        CompletableFuture<RiskEvaluationResponse> segundo =
+                microBatcher.evaluarRiesgoAsync("2", new BigDecimal("1000000"), 12);
+
+        // Then
+        assertThat(primero.join().getDocumento()).isEqualTo("1");
+        assertThatThrownBy(segundo::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("2");
+    }
+
+    @Test
+    @DisplayName("Debe fallar las llamadas del lote cuando la cola de envíos está llena")
+    void evaluarRiesgoAsync_DebeRechazarLoteConColaLlena() throws InterruptedException {
+        // Given: un envío concurrente ocupado, un lote en cola y lotes de una solicitud
+        microBatcher.detener();
+        microBatcher = new RiskCentralMicroBatcher(riskCentralClient, 100, 1, 1, 1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(riskCentralClient.evaluarRiesgo(anyString(), any(), any())).thenAnswer(inv -> {
+            liberar.await(5, TimeUnit.SECONDS);
+            return new RiskEvaluationResponse(inv.getArgument(0), 700, "MEDIO", "Individual");
+        });
+
+        // When
+        CompletableFuture<RiskEvaluationResponse> enCurso =
+                microBatcher.evaluarRiesgoAsync("1", new BigDecimal("1000000"), 12);
+        CompletableFuture<RiskEvaluationResponse> enCola =
+                microBatcher.evaluarRiesgoAsync("2", new BigDecimal("1000000"), 12);
+        CompletableFuture<RiskEvaluationResponse> rechazado =
+                microBatcher.evaluarRiesgoAsync("3", new BigDecimal("1000000"), 12);
+
+        // Then
+        assertThatThrownBy(rechazado::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+        liberar.countDown();
+        assertThat(enCurso.join().getDocumento()).isEqualTo("1");
+        assertThat(enCola.join().getDocumento()).isEqualTo("2");
+    }
+}
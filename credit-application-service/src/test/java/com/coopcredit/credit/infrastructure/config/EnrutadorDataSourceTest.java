@@ -0,0 +1,225 @@
+package com.coopcredit.credit.infrastructure.config;
+
+import com.coopcredit.credit.infrastructure.metrics.CreditApplicationMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para EnrutadorDataSource.
+ * Verifica el destino según la transacción, el fallo de la réplica y la ventana de lectura propia,
+ * incluida su expiración y las lecturas que se unen a una transacción de escritura.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EnrutadorDataSource Tests")
+class EnrutadorDataSourceTest {
+
+    @Mock
+    private DataSource primaria;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private Connection conexionPrimaria;
+
+    @Mock
+    private Connection conexionReplica;
+
+    @Mock
+    private CreditApplicationMetrics metrics;
+
+    private EnrutadorDataSource enrutador;
+
+    @BeforeEach
+    void setUp() {
+        enrutador = new EnrutadorDataSource(primaria, replica, new EscriturasRecientes(Duration.ofSeconds(5), 100),
+                metrics, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Debe usar la primaria fuera de transacciones de solo lectura")
+    void getConnection_DebeUsarPrimariaSinSoloLectura() throws SQLException {
+        // Given
+        when(primaria.getConnection()).thenReturn(conexionPrimaria);
+
+        // When
+        Connection conexion = enrutador.getConnection();
+
+        // Then
+        assertThat(conexion).isSameAs(conexionPrimaria);
+        verifyNoInteractions(replica);
+    }
+
+    @Test
+    @DisplayName("Debe usar la réplica en transacciones de solo lectura")
+    void getConnection_DebeUsarReplicaEnSoloLectura() throws SQLException {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replica.getConnection()).thenReturn(conexionReplica);
+
+        // When
+        Connection conexion = enrutador.getConnection();
+
+        // Then
+        assertThat(conexion).isSameAs(conexionReplica);
+        verify(metrics).incrementarLecturasReplica();
+        verifyNoInteractions(primaria);
+    }
+
+    @Test
+    @DisplayName("Debe leer de la primaria si la réplica falla y no reintentarla durante el periodo de reintento")
+    void getConnection_DebeCaerAPrimariaSiReplicaFalla() throws SQLException {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replica.getConnection()).thenThrow(new SQLException("Connection refused"));
+        when(primaria.getConnection()).thenReturn(conexionPrimaria);
+
+        // When
+        Connection primera = enrutador.getConnection();
+        Connection segunda = enrutador.getConnection();
+
+        // Then
+        assertThat(primera).isSameAs(conexionPrimaria);
+        assertThat(segunda).isSameAs(conexionPrimaria);
+        verify(replica, times(1)).getConnection();
+        verify(metrics).incrementarFallosReplica();
+        verify(metrics, times(2)).incrementarLecturasPrimaria();
+    }
+
+    @Test
+    @DisplayName("Debe leer de la primaria solo para el usuario que confirmó una escritura")
+    void getConnection_DebeRespetarVentanaDeLecturaPropia() throws SQLException {
+        // Given: el usuario admin confirma una transacción de escritura
+        autenticar("admin");
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        when(primaria.getConnection()).thenReturn(conexionPrimaria);
+        when(replica.getConnection()).thenReturn(conexionReplica);
+
+        enrutador.getConnection();
+        List<TransactionSynchronization> sincronizaciones = TransactionSynchronizationManager.getSynchronizations();
+        sincronizaciones.forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clear();
+
+        // When
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        Connection lecturaAdmin = enrutador.getConnection();
+        autenticar("analista");
+        Connection lecturaAnalista = enrutador.getConnection();
+
+        // Then
+        assertThat(sincronizaciones).hasSize(1);
+        assertThat(lecturaAdmin).isSameAs(conexionPrimaria);
+        assertThat(lecturaAnalista).isSameAs(conexionReplica);
+    }
+
+    @Test
+    @DisplayName("No debe registrar la escritura si la transacción no se confirma")
+    void getConnection_NoDebeRegistrarEscrituraSinCommit() throws SQLException {
+        // Given
+        autenticar("admin");
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        when(primaria.getConnection()).thenReturn(conexionPrimaria);
+        when(replica.getConnection()).thenReturn(conexionReplica);
+
+        enrutador.getConnection();
+        TransactionSynchronizationManager.clear();
+
+        // When
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        Connection lectura = enrutador.getConnection();
+
+        // Then
+        assertThat(lectura).isSameAs(conexionReplica);
+    }
+
+    @Test
+    @DisplayName("Debe volver a leer de la réplica cuando expira la ventana de lectura propia")
+    void getConnection_DebeUsarReplicaAlExpirarVentana() throws SQLException, InterruptedException {
+        // Given: ventana corta y el usuario admin confirma una escritura
+        enrutador = new EnrutadorDataSource(primaria, replica, new EscriturasRecientes(Duration.ofMillis(50), 100),
+                metrics, Duration.ofMinutes(1));
+        autenticar("admin");
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        when(primaria.getConnection()).thenReturn(conexionPrimaria);
+        when(replica.getConnection()).thenReturn(conexionReplica);
+
+        enrutador.getConnection();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clear();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        Connection dentroDeVentana = enrutador.getConnection();
+
+        // When
+        Thread.sleep(200);
+        Connection trasVentana = enrutador.getConnection();
+
+        // Then
+        assertThat(dentroDeVentana).isSameAs(conexionPrimaria);
+        assertThat(trasVentana).isSameAs(conexionReplica);
+    }
+
+    @Test
+    @DisplayName("Una transacción de solo lectura unida a una de escritura debe usar la primaria")
+    void getConnection_SoloLecturaUnidaAEscrituraDebeUsarPrimaria() throws SQLException {
+        // Given: la misma configuración que ReplicaLecturaConfig
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy();
+        dataSource.setTargetDataSource(enrutador);
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        TransactionTemplate escritura = new TransactionTemplate(transactionManager);
+        TransactionTemplate lectura = new TransactionTemplate(transactionManager);
+        lectura.setReadOnly(true);
+        when(primaria.getConnection()).thenReturn(conexionPrimaria);
+
+        // When
+        escritura.executeWithoutResult(estadoEscritura -> lectura.executeWithoutResult(estadoLectura -> {
+            try {
+                DataSourceUtils.getConnection(dataSource).createStatement();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }));
+
+        // Then
+        verify(conexionPrimaria).createStatement();
+        verify(conexionPrimaria).commit();
+        verifyNoInteractions(replica);
+    }
+
+    private void autenticar(String usuario) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(usuario, null, List.of()));
+    }
+}
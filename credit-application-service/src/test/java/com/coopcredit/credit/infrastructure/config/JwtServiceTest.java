@@ -257,4 +257,59 @@ class JwtServiceTest {
             assertThat(issuedAt).isBeforeOrEqualTo(new java.util.Date());
         }
     }
+
+    @Nested
+    @DisplayName("Tests para validarToken()")
+    class ValidarTokenTests {
+
+        @Test
+        @DisplayName("Debe retornar los claims del token verificado")
+        void validarToken_DebeRetornarClaims() {
+            // Given
+            String token = jwtService.generateToken(Map.of("role", "ADMIN"), "admin");
+
+            // When
+            io.jsonwebtoken.Claims claims = jwtService.validarToken(token);
+
+            // Then
+            assertThat(claims.getSubject()).isEqualTo("admin");
+            assertThat(claims.get("role", String.class)).isEqualTo("ADMIN");
+        }
+
+        @Test
+        @DisplayName("Debe reutilizar los claims de un token ya verificado")
+        void validarToken_DebeReutilizarClaimsCacheados() {
+            // Given
+            JwtService cachedJwtService = new JwtService();
+            ReflectionTestUtils.setField(cachedJwtService, "secret", TEST_SECRET);
+            ReflectionTestUtils.setField(cachedJwtService, "jwtExpiration", TEST_EXPIRATION);
+            ReflectionTestUtils.setField(cachedJwtService, "cacheMaxEntradas", 100L);
+            String token = cachedJwtService.generateToken("testuser");
+
+            // When
+            io.jsonwebtoken.Claims primera = cachedJwtService.validarToken(token);
+            io.jsonwebtoken.Claims segunda = cachedJwtService.validarToken(token);
+
+            // Then
+            assertThat(segunda).isSameAs(primera);
+        }
+
+        @Test
+        @DisplayName("No debe cachear tokens con firma inválida")
+        void validarToken_DebeRechazarTokenAlteradoConCache() {
+            // Given
+            JwtService cachedJwtService = new JwtService();
+            ReflectionTestUtils.setField(cachedJwtService, "secret", TEST_SECRET);
+            ReflectionTestUtils.setField(cachedJwtService, "jwtExpiration", TEST_EXPIRATION);
+            ReflectionTestUtils.setField(cachedJwtService, "cacheMaxEntradas", 100L);
+            String token = cachedJwtService.generateToken("testuser");
+            String alterado = token.substring(0, token.length() - 2) + "xx";
+
+            // When/Then
+            assertThatThrownBy(() -> cachedJwtService.validarToken(alterado))
+                    .isInstanceOf(Exception.class);
+            assertThatThrownBy(() -> cachedJwtService.validarToken(alterado))
+                    .isInstanceOf(Exception.class);
+        }
+    }
 }
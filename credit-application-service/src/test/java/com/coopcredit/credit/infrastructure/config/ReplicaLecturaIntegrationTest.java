@@ -0,0 +1,161 @@
+package com.coopcredit.credit.infrastructure.config;
+
+import com.coopcredit.credit.TestcontainersConfiguration;
+import com.coopcredit.credit.application.dto.AfiliadoDTO;
+import com.coopcredit.credit.application.dto.CrearAfiliadoRequest;
+import com.coopcredit.credit.application.service.AfiliadoService;
+import com.coopcredit.credit.domain.model.EstadoAfiliado;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de integración del enrutamiento a la réplica de lectura.
+ *
+ * La "réplica" es un segundo PostgreSQL sin replicación: una fila que existe solo allí
+ * permite saber qué base atendió cada lectura.
+ */
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@ActiveProfiles("test")
+@Testcontainers
+@DisplayName("Réplica de lectura Integration Tests")
+class ReplicaLecturaIntegrationTest {
+
+    private static final String DOCUMENTO_SOLO_REPLICA = "REPLICA-1";
+
+    @Container
+    static final PostgreSQLContainer<?> REPLICA = new PostgreSQLContainer<>(DockerImageName.parse("postgres:16-alpine"))
+            .withDatabaseName("coopcredit_replica")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void propiedadesReplica(DynamicPropertyRegistry registry) {
+        registry.add("coopcredit.replica.habilitada", () -> "true");
+        registry.add("coopcredit.replica.ventana-lectura-propia", () -> "1m");
+        registry.add("coopcredit.replica.datasource.jdbc-url", REPLICA::getJdbcUrl);
+        registry.add("coopcredit.replica.datasource.username", REPLICA::getUsername);
+        registry.add("coopcredit.replica.datasource.password", REPLICA::getPassword);
+    }
+
+    @Autowired
+    private AfiliadoService afiliadoService;
+
+    @Autowired
+    @Qualifier("dataSourcePrimaria")
+    private DataSource dataSourcePrimaria;
+
+    @Autowired
+    @Qualifier("dataSourceReplica")
+    private DataSource dataSourceReplica;
+
+    private JdbcTemplate primaria;
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        primaria = new JdbcTemplate(dataSourcePrimaria);
+        replica = new JdbcTemplate(dataSourceReplica);
+
+        // Hibernate crea el esquema solo en la primaria (ddl-auto del perfil test)
+        replica.execute("""
+                CREATE TABLE IF NOT EXISTS afiliados (
+                    id BIGINT PRIMARY KEY, documento VARCHAR(20) NOT NULL UNIQUE, nombre VARCHAR(100) NOT NULL,
+                    salario NUMERIC(15, 2) NOT NULL, fecha_afiliacion DATE NOT NULL, estado VARCHAR(20) NOT NULL)
+                """);
+        replica.update("DELETE FROM afiliados");
+        replica.update("INSERT INTO afiliados VALUES (9001, ?, 'Solo en réplica', 3000000, ?, 'ACTIVO')",
+                DOCUMENTO_SOLO_REPLICA, LocalDate.now().minusYears(1));
+
+        primaria.update("DELETE FROM afiliados WHERE documento LIKE 'PRIMARIA-%'");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Las lecturas de solo lectura sin escrituras recientes se atienden en la réplica")
+    void listarTodos_DebeLeerDeLaReplica() {
+        // Given
+        autenticar("analista");
+
+        // When
+        List<AfiliadoDTO> afiliados = afiliadoService.listarTodos();
+
+        // Then
+        assertThat(afiliados).extracting(AfiliadoDTO::getDocumento).containsExactly(DOCUMENTO_SOLO_REPLICA);
+    }
+
+    @Test
+    @DisplayName("Las escrituras van a la primaria")
+    void crear_DebeEscribirEnLaPrimaria() {
+        // Given
+        autenticar("admin");
+
+        // When
+        afiliadoService.crear(request("PRIMARIA-1"));
+
+        // Then
+        assertThat(contar(primaria, "PRIMARIA-1")).isEqualTo(1);
+        assertThat(contar(replica, "PRIMARIA-1")).isZero();
+    }
+
+    @Test
+    @DisplayName("El usuario que escribió lee de la primaria durante la ventana; los demás, de la réplica")
+    void listarTodos_DebeLeerPropiasEscriturasDesdeLaPrimaria() {
+        // Given
+        autenticar("admin");
+        afiliadoService.crear(request("PRIMARIA-2"));
+
+        // When
+        List<AfiliadoDTO> leidosPorAdmin = afiliadoService.listarTodos();
+        autenticar("analista");
+        List<AfiliadoDTO> leidosPorAnalista = afiliadoService.listarTodos();
+
+        // Then
+        assertThat(leidosPorAdmin).extracting(AfiliadoDTO::getDocumento)
+                .contains("PRIMARIA-2")
+                .doesNotContain(DOCUMENTO_SOLO_REPLICA);
+        assertThat(leidosPorAnalista).extracting(AfiliadoDTO::getDocumento).containsExactly(DOCUMENTO_SOLO_REPLICA);
+    }
+
+    private static CrearAfiliadoRequest request(String documento) {
+        return new CrearAfiliadoRequest(documento, "Afiliado " + documento, new BigDecimal("3000000"),
+                LocalDate.now().minusMonths(12), EstadoAfiliado.ACTIVO);
+    }
+
+    private static int contar(JdbcTemplate jdbcTemplate, String documento) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM afiliados WHERE documento = ?", Integer.class,
+                documento);
+    }
+
+    private static void autenticar(String usuario) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(usuario, null, List.of()));
+    }
+}
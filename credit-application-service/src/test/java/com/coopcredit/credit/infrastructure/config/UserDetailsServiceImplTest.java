@@ -0,0 +1,109 @@
+package com.coopcredit.credit.infrastructure.config;
+
+import com.coopcredit.credit.application.port.out.UsuarioRepositoryPort;
+import com.coopcredit.credit.domain.model.Rol;
+import com.coopcredit.credit.domain.model.Usuario;
+import com.coopcredit.credit.infrastructure.adapter.out.persistence.UsuarioGuardadoEvent;
+import com.coopcredit.credit.infrastructure.metrics.CreditApplicationMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para UserDetailsServiceImpl.
+ * Verifica la caché de usuarios y su invalidación.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserDetailsServiceImpl Tests")
+class UserDetailsServiceImplTest {
+
+    @Mock
+    private UsuarioRepositoryPort usuarioRepository;
+
+    @Mock
+    private CreditApplicationMetrics metrics;
+
+    private UserDetailsServiceImpl userDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        userDetailsService = new UserDetailsServiceImpl(usuarioRepository, metrics, 100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("Debe consultar el repositorio una sola vez por username")
+    void loadUserByUsername_DebeUsarCache() {
+        // Given
+        when(usuarioRepository.buscarPorUsername("admin")).thenReturn(Optional.of(usuario("admin", Rol.ROLE_ADMIN)));
+
+        // When
+        UserDetails primero = userDetailsService.loadUserByUsername("admin");
+        UserDetails segundo = userDetailsService.loadUserByUsername("admin");
+
+        // Then
+        assertThat(segundo.getAuthorities()).extracting("authority").containsExactly("ROLE_ADMIN");
+        assertThat(segundo).isNotSameAs(primero);
+        verify(usuarioRepository, times(1)).buscarPorUsername("admin");
+    }
+
+    @Test
+    @DisplayName("Debe conservar la contraseña en caché aunque se borre la del usuario retornado")
+    void loadUserByUsername_DebeRetornarCopias() {
+        // Given
+        when(usuarioRepository.buscarPorUsername("admin")).thenReturn(Optional.of(usuario("admin", Rol.ROLE_ADMIN)));
+
+        // When
+        ((User) userDetailsService.loadUserByUsername("admin")).eraseCredentials();
+        UserDetails siguiente = userDetailsService.loadUserByUsername("admin");
+
+        // Then
+        assertThat(siguiente.getPassword()).isEqualTo("hash");
+    }
+
+    @Test
+    @DisplayName("Debe recargar el usuario después de guardarlo")
+    void onUsuarioGuardado_DebeInvalidarUsuario() {
+        // Given
+        when(usuarioRepository.buscarPorUsername("juan"))
+                .thenReturn(Optional.of(usuario("juan", Rol.ROLE_AFILIADO)))
+                .thenReturn(Optional.of(usuario("juan", Rol.ROLE_ANALISTA)));
+        userDetailsService.loadUserByUsername("juan");
+
+        // When
+        userDetailsService.onUsuarioGuardado(new UsuarioGuardadoEvent("juan"));
+        UserDetails recargado = userDetailsService.loadUserByUsername("juan");
+
+        // Then
+        assertThat(recargado.getAuthorities()).extracting("authority").containsExactly("ROLE_ANALISTA");
+        verify(usuarioRepository, times(2)).buscarPorUsername("juan");
+    }
+
+    @Test
+    @DisplayName("Debe lanzar excepción cuando el usuario no existe")
+    void loadUserByUsername_DebeLanzarExcepcionCuandoNoExiste() {
+        // Given
+        when(usuarioRepository.buscarPorUsername("nadie")).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThatThrownBy(() -> userDetailsService.loadUserByUsername("nadie"))
+                .isInstanceOf(UsernameNotFoundException.class);
+    }
+
+    private Usuario usuario(String username, Rol rol) {
+        return new Usuario(1L, username, "hash", username + "@test.com", Set.of(rol), null);
+    }
+}
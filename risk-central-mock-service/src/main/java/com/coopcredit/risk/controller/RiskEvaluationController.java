@@ -1,5 +1,7 @@
 package com.coopcredit.risk.controller;
 
+import com.coopcredit.risk.model.RiskEvaluationBatchRequest;
+import com.coopcredit.risk.model.RiskEvaluationBatchResponse;
 import com.coopcredit.risk.model.RiskEvaluationRequest;
 import com.coopcredit.risk.model.RiskEvaluationResponse;
 import com.coopcredit.risk.service.RiskEvaluationService;
@@ -41,6 +43,22 @@ public class RiskEvaluationController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Endpoint para evaluar riesgo crediticio de varias solicitudes en una sola petición.
+     * 
+     * @param request lote de solicitudes con documento, monto y plazo
+     * @return evaluaciones en el mismo orden de las solicitudes
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<RiskEvaluationBatchResponse> evaluateRiskBatch(
+            @Valid @RequestBody RiskEvaluationBatchRequest request) {
+
+        log.info("POST /risk-evaluation/batch - Solicitudes: {}", request.getSolicitudes().size());
+
+        return ResponseEntity.ok(new RiskEvaluationBatchResponse(
+                riskEvaluationService.evaluateRiskBatch(request.getSolicitudes())));
+    }
+
     /**
      * Health check endpoint.
      */
@@ -0,0 +1,20 @@
+package com.coopcredit.risk.model;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RiskEvaluationBatchRequest {
+
+    @NotEmpty(message = "Debe enviar al menos una solicitud")
+    @Size(max = 500, message = "El lote admite máximo 500 solicitudes")
+    private List<@Valid RiskEvaluationRequest> solicitudes;
+}
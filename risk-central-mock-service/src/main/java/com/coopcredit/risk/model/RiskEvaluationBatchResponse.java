@@ -0,0 +1,18 @@
+package com.coopcredit.risk.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Resultados de una evaluación por lote, en el mismo orden de las solicitudes recibidas.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RiskEvaluationBatchResponse {
+
+    private List<RiskEvaluationResponse> resultados;
+}
@@ -8,6 +8,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 /**
  * Servicio de evaluación de riesgo crediticio.
@@ -55,6 +56,20 @@ public class RiskEvaluationService {
         return response;
     }
 
+    /**
+     * Evalúa el riesgo de varias solicitudes en una sola operación.
+     * Los resultados conservan el orden de las solicitudes recibidas.
+     *
+     * @param requests solicitudes con documento, monto y plazo
+     * @return respuestas con score, nivel de riesgo y detalle
+     */
+    public List<RiskEvaluationResponse> evaluateRiskBatch(List<RiskEvaluationRequest> requests) {
+        log.info("Evaluando riesgo por lote - Solicitudes: {}", requests.size());
+        return requests.stream()
+                .map(this::evaluateRisk)
+                .toList();
+    }
+
     /**
      * Genera un seed numérico a partir del documento.
      * Usa el hashCode del documento para asegurar consistencia.